@@ -36,6 +36,17 @@ public class Constants {
 
         public static final String LAST = "last";
         public static final String STATE = "state";
+        public static final String OFFSET = "offset";
+        public static final String PAGE_SIZE = "page_size";
+        public static final String CONTINUATION_TOKEN = "continuation_token";
+    }
+
+    public static class Headers {
+
+        private Headers() {
+        }
+
+        public static final String CONTINUATION_TOKEN = "X-Continuation-Token";
     }
 
     public static class Resources {
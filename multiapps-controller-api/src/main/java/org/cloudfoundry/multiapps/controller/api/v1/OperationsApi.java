@@ -10,7 +10,9 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.Authorization;
 import jakarta.inject.Inject;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.cloudfoundry.multiapps.controller.api.Constants.Endpoints;
+import org.cloudfoundry.multiapps.controller.api.Constants.Headers;
 import org.cloudfoundry.multiapps.controller.api.Constants.PathVariables;
 import org.cloudfoundry.multiapps.controller.api.Constants.QueryVariables;
 import org.cloudfoundry.multiapps.controller.api.Constants.RequestVariables;
@@ -78,10 +80,12 @@ public class OperationsApi {
 
         }) }, tags = {})
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK", response = String.class) })
-    public ResponseEntity<String> getOperationLogContent(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
-                                                         @PathVariable(PathVariables.OPERATION_ID) String operationId,
-                                                         @PathVariable(PathVariables.LOG_ID) String logId) {
-        return delegate.getOperationLogContent(spaceGuid, operationId, logId);
+    public void getOperationLogContent(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
+                                       @PathVariable(PathVariables.OPERATION_ID) String operationId,
+                                       @PathVariable(PathVariables.LOG_ID) String logId,
+                                       @ApiParam(value = "Number of bytes of the log content to skip, for example the ones which were already received ") @RequestParam(name = QueryVariables.OFFSET, required = false) Long offset,
+                                       HttpServletResponse response) {
+        delegate.getOperationLogContent(spaceGuid, operationId, logId, offset, response);
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
@@ -90,11 +94,17 @@ public class OperationsApi {
 
         }) }, tags = {})
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK", response = Operation.class, responseContainer = "List") })
-    public ResponseEntity<List<Operation>> getOperations(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
-                                                         @RequestParam(name = RequestVariables.MTA_ID, required = false) String mtaId,
-                                                         @RequestParam(name = QueryVariables.LAST, required = false) Integer last,
-                                                         @RequestParam(name = QueryVariables.STATE, required = false) List<String> states) {
-        return delegate.getOperations(spaceGuid, mtaId, states, last);
+    public ResponseEntity<List<Operation>>
+    getOperations(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
+                  @RequestParam(name = RequestVariables.MTA_ID, required = false) String mtaId,
+                  @RequestParam(name = QueryVariables.LAST, required = false) Integer last,
+                  @RequestParam(name = QueryVariables.STATE, required = false) List<String> states,
+                  @ApiParam(value = "Maximum number of operations to return, ordered by their start time. If more operations match, "
+                      + "the token for the next page is returned in the " + Headers.CONTINUATION_TOKEN + " header ")
+                  @RequestParam(name = QueryVariables.PAGE_SIZE, required = false) Integer pageSize,
+                  @ApiParam(value = "Token from the " + Headers.CONTINUATION_TOKEN + " header of the previous page ")
+                  @RequestParam(name = QueryVariables.CONTINUATION_TOKEN, required = false) String continuationToken) {
+        return delegate.getOperations(spaceGuid, mtaId, states, last, pageSize, continuationToken);
     }
 
     @GetMapping(path = Endpoints.OPERATION_ACTIONS, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.client;
 
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
@@ -12,6 +13,7 @@ import java.util.function.Supplier;
 
 import org.cloudfoundry.client.v3.Metadata;
 import org.cloudfoundry.multiapps.controller.client.facade.ApplicationServicesUpdateCallback;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClientImpl;
 import org.cloudfoundry.multiapps.controller.client.facade.ServiceBindingOperationCallback;
@@ -44,6 +46,8 @@ import org.cloudfoundry.multiapps.controller.client.facade.rest.CloudControllerR
 import org.cloudfoundry.multiapps.controller.client.util.ResilientCloudOperationExecutor;
 import org.springframework.http.HttpStatus;
 
+import reactor.core.publisher.Mono;
+
 public class ResilientCloudControllerClient implements CloudControllerClient {
 
     private final CloudControllerClientImpl delegate;
@@ -57,6 +61,11 @@ public class ResilientCloudControllerClient implements CloudControllerClient {
         return delegate.getTarget();
     }
 
+    @Override
+    public CloudControllerAsyncClient getAsyncClient() {
+        return new AsyncClient(delegate.getAsyncClient());
+    }
+
     @Override
     public void createServiceInstance(CloudServiceInstance serviceInstance) {
         executeWithRetry(() -> delegate.createServiceInstance(serviceInstance));
@@ -411,6 +420,13 @@ public class ResilientCloudControllerClient implements CloudControllerClient {
             timeout -> delegate.asyncUploadApplicationWithExponentialBackoff(applicationName, file, callback, timeout));
     }
 
+    @Override
+    public CloudPackage asyncUploadApplication(String applicationName, InputStream bits, UploadStatusCallback callback,
+                                               Duration uploadTimeout) {
+        // The stream cannot be read again, so a failed upload is not retried here
+        return delegate.asyncUploadApplication(applicationName, bits, callback, uploadTimeout);
+    }
+
     @Override
     public Upload getUploadStatus(UUID packageGuid) {
         return executeWithRetry(() -> delegate.getUploadStatus(packageGuid));
@@ -635,9 +651,38 @@ public class ResilientCloudControllerClient implements CloudControllerClient {
         return executor.execute(operation);
     }
 
+    private <T> Mono<T> executeAsyncWithRetry(Supplier<Mono<T>> operation, HttpStatus... statusesToIgnore) {
+        ResilientCloudOperationExecutor executor = new ResilientCloudOperationExecutor().withStatusesToIgnore(statusesToIgnore);
+        return executor.executeAsync(operation);
+    }
+
     private <T> T executeWithExponentialBackoff(Function<Duration, T> operation, HttpStatus... statusesToIgnore) {
         ResilientCloudOperationExecutor executor = new ResilientCloudOperationExecutor().withStatusesToIgnore(statusesToIgnore);
         return executor.executeWithExponentialBackoff(operation);
     }
 
+    private class AsyncClient implements CloudControllerAsyncClient {
+
+        private final CloudControllerAsyncClient asyncDelegate;
+
+        AsyncClient(CloudControllerAsyncClient asyncDelegate) {
+            this.asyncDelegate = asyncDelegate;
+        }
+
+        @Override
+        public Mono<CloudApplication> getApplication(String applicationName) {
+            return executeAsyncWithRetry(() -> asyncDelegate.getApplication(applicationName));
+        }
+
+        @Override
+        public Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName) {
+            return executeAsyncWithRetry(() -> asyncDelegate.getServiceInstance(serviceInstanceName));
+        }
+
+        @Override
+        public Mono<List<CloudEvent>> getEventsByActee(UUID uuid) {
+            return executeAsyncWithRetry(() -> asyncDelegate.getEventsByActee(uuid));
+        }
+    }
+
 }
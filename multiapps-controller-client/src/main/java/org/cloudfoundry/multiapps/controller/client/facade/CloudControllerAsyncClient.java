@@ -0,0 +1,32 @@
+package org.cloudfoundry.multiapps.controller.client.facade;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudApplication;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudEvent;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceInstance;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterparts of read operations of {@link CloudControllerClient}. No thread is held while a request is in flight, so the
+ * requests for many entities can be issued together and awaited at once.
+ */
+public interface CloudControllerAsyncClient {
+
+    /**
+     * @param applicationName the name of the application
+     * @return the application or an empty {@link Mono} if it does not exist
+     */
+    Mono<CloudApplication> getApplication(String applicationName);
+
+    /**
+     * @param serviceInstanceName the name of the service instance
+     * @return the service instance or an empty {@link Mono} if it does not exist
+     */
+    Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName);
+
+    Mono<List<CloudEvent>> getEventsByActee(UUID uuid);
+
+}
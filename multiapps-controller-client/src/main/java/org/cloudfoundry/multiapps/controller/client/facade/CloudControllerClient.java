@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.client.facade;
 
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
@@ -41,6 +42,13 @@ public interface CloudControllerClient {
 
     CloudSpace getTarget();
 
+    /**
+     * Get a client which executes some of the read operations without blocking the calling thread.
+     *
+     * @return the asynchronous client
+     */
+    CloudControllerAsyncClient getAsyncClient();
+
     /**
      * Add a private domain in the current organization.
      *
@@ -661,6 +669,18 @@ public interface CloudControllerClient {
     CloudPackage asyncUploadApplicationWithExponentialBackoff(String applicationName, Path file, UploadStatusCallback callback,
                                                               Duration overrideTimeout);
 
+    /**
+     * Upload the bits of an application by streaming them to the controller, without storing them in a local file first. The upload is
+     * not retried, as the stream can be consumed only once.
+     *
+     * @param applicationName the application to upload the bits for
+     * @param bits a stream with the zipped application bits
+     * @param callback a callback notified about the processing of the uploaded package
+     * @param uploadTimeout the timeout of the upload request
+     * @return the package created for the uploaded bits
+     */
+    CloudPackage asyncUploadApplication(String applicationName, InputStream bits, UploadStatusCallback callback, Duration uploadTimeout);
+
     Upload getUploadStatus(UUID packageGuid);
 
     CloudTask getTask(UUID taskGuid);
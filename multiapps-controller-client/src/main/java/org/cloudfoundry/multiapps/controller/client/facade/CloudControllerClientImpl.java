@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.client.facade;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -43,6 +44,8 @@ import org.cloudfoundry.multiapps.controller.client.facade.rest.ImmutableCloudCo
 import org.springframework.http.HttpStatus;
 import org.springframework.util.Assert;
 
+import reactor.core.publisher.Mono;
+
 /**
  * A Java client to exercise the Cloud Foundry API.
  */
@@ -78,6 +81,11 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return delegate.getTarget();
     }
 
+    @Override
+    public CloudControllerAsyncClient getAsyncClient() {
+        return new AsyncClient(delegate.getAsyncClient());
+    }
+
     @Override
     public void addDomain(String domainName) {
         handleExceptions(() -> delegate.addDomain(domainName));
@@ -571,6 +579,12 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.asyncUploadApplication(applicationName, file, callback, overrideTimeout));
     }
 
+    @Override
+    public CloudPackage asyncUploadApplication(String applicationName, InputStream bits, UploadStatusCallback callback,
+                                               Duration uploadTimeout) {
+        return handleExceptions(() -> delegate.asyncUploadApplication(applicationName, bits, callback, uploadTimeout));
+    }
+
     @Override
     public Upload getUploadStatus(UUID packageGuid) {
         return handleExceptions(() -> delegate.getUploadStatus(packageGuid));
@@ -666,9 +680,37 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         }
     }
 
+    private <T> Mono<T> handleExceptions(Mono<T> operation) {
+        return operation.onErrorMap(AbstractCloudFoundryException.class, this::convertV3ClientException);
+    }
+
     private CloudOperationException convertV3ClientException(AbstractCloudFoundryException e) {
         HttpStatus httpStatus = HttpStatus.valueOf(e.getStatusCode());
         return new CloudOperationException(httpStatus, httpStatus.getReasonPhrase(), e.getMessage(), e);
     }
 
+    private class AsyncClient implements CloudControllerAsyncClient {
+
+        private final CloudControllerAsyncClient asyncDelegate;
+
+        AsyncClient(CloudControllerAsyncClient asyncDelegate) {
+            this.asyncDelegate = asyncDelegate;
+        }
+
+        @Override
+        public Mono<CloudApplication> getApplication(String applicationName) {
+            return handleExceptions(asyncDelegate.getApplication(applicationName));
+        }
+
+        @Override
+        public Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName) {
+            return handleExceptions(asyncDelegate.getServiceInstance(serviceInstanceName));
+        }
+
+        @Override
+        public Mono<List<CloudEvent>> getEventsByActee(UUID uuid) {
+            return handleExceptions(asyncDelegate.getEventsByActee(uuid));
+        }
+    }
+
 }
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.client.facade.rest;
 
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import org.cloudfoundry.client.v3.Metadata;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.facade.UploadStatusCallback;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudApplication;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudAsyncJob;
@@ -42,6 +44,8 @@ public interface CloudControllerRestClient {
 
     CloudSpace getTarget();
 
+    CloudControllerAsyncClient getAsyncClient();
+
     void addDomain(String domainName);
 
     void addRoute(String host, String domainName, String path);
@@ -209,6 +213,8 @@ public interface CloudControllerRestClient {
 
     CloudPackage asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback, Duration uploadTimeout);
 
+    CloudPackage asyncUploadApplication(String applicationName, InputStream bits, UploadStatusCallback callback, Duration uploadTimeout);
+
     Upload getUploadStatus(UUID packageGuid);
 
     CloudTask getTask(UUID taskGuid);
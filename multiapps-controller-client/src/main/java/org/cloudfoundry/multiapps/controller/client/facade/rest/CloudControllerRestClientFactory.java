@@ -62,7 +62,10 @@ public abstract class CloudControllerRestClientFactory {
                                                   OAuthClient oAuthClient, Map<String, String> requestTags) {
         oAuthClient.init(credentials);
         CloudFoundryClient delegate = getCloudFoundryClientFactory().createClient(controllerUrl, oAuthClient, requestTags);
-        return new CloudControllerRestClientImpl(delegate, target);
+        PackageBitsUploader packageBitsUploader = new PackageBitsUploader(controllerUrl, oAuthClient,
+                                                                          restUtil.createWebClient(shouldTrustSelfSignedCertificates()),
+                                                                          requestTags);
+        return new CloudControllerRestClientImpl(delegate, target, packageBitsUploader);
     }
 
     private OAuthClient createOAuthClient(URL controllerUrl, String origin) {
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.client.facade.rest;
 
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.time.Duration;
@@ -77,6 +78,7 @@ import org.cloudfoundry.client.v3.organizations.GetOrganizationDefaultDomainRequ
 import org.cloudfoundry.client.v3.organizations.ListOrganizationDomainsRequest;
 import org.cloudfoundry.client.v3.packages.CreatePackageRequest;
 import org.cloudfoundry.client.v3.packages.CreatePackageResponse;
+import org.cloudfoundry.client.v3.packages.DeletePackageRequest;
 import org.cloudfoundry.client.v3.packages.GetPackageRequest;
 import org.cloudfoundry.client.v3.packages.Package;
 import org.cloudfoundry.client.v3.packages.PackageRelationships;
@@ -151,6 +153,7 @@ import org.cloudfoundry.client.v3.tasks.CreateTaskRequest;
 import org.cloudfoundry.client.v3.tasks.GetTaskRequest;
 import org.cloudfoundry.client.v3.tasks.ListTasksRequest;
 import org.cloudfoundry.client.v3.tasks.Task;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudOperationException;
 import org.cloudfoundry.multiapps.controller.client.facade.Constants;
 import org.cloudfoundry.multiapps.controller.client.facade.Messages;
@@ -232,6 +235,8 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     private CloudSpace target; // optional, as some operations do not require a targeted space
     private CloudFoundryClient delegate;
+    private PackageBitsUploader packageBitsUploader;
+    private final CloudControllerAsyncClient asyncClient = new AsyncClient();
 
     /**
      * Only for unit tests. This works around the fact that the initialize method is called within the constructor and hence can not be
@@ -245,8 +250,13 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     }
 
     public CloudControllerRestClientImpl(CloudFoundryClient delegate, CloudSpace target) {
+        this(delegate, target, null);
+    }
+
+    public CloudControllerRestClientImpl(CloudFoundryClient delegate, CloudSpace target, PackageBitsUploader packageBitsUploader) {
         this.target = target;
         this.delegate = delegate;
+        this.packageBitsUploader = packageBitsUploader;
     }
 
     @Override
@@ -254,6 +264,11 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return target;
     }
 
+    @Override
+    public CloudControllerAsyncClient getAsyncClient() {
+        return asyncClient;
+    }
+
     @Override
     public void addDomain(String domainName) {
         assertSpaceProvided("add domain");
@@ -1480,6 +1495,14 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return cloudPackage;
     }
 
+    @Override
+    public CloudPackage asyncUploadApplication(String applicationName, InputStream bits, UploadStatusCallback callback,
+                                               Duration uploadTimeout) {
+        CloudPackage cloudPackage = startUpload(applicationName, bits, uploadTimeout);
+        processAsyncUploadInBackground(cloudPackage, callback);
+        return cloudPackage;
+    }
+
     @Override
     public Upload getUploadStatus(UUID packageGuid) {
         CloudPackage cloudPackage = getPackage(packageGuid);
@@ -1636,10 +1659,14 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     }
 
     private CloudApplication findApplicationByName(String name) {
-        return fetch(() -> getApplicationByName(name), application -> ImmutableRawCloudApplication.builder()
-                                                                                                  .application(application)
-                                                                                                  .space(target)
-                                                                                                  .build());
+        return findApplicationMonoByName(name).block();
+    }
+
+    private Mono<CloudApplication> findApplicationMonoByName(String name) {
+        return fetchMono(() -> getApplicationByName(name), application -> ImmutableRawCloudApplication.builder()
+                                                                                                      .application(application)
+                                                                                                      .space(target)
+                                                                                                      .build());
     }
 
     private Flux<? extends Application> getApplicationResources() {
@@ -1672,7 +1699,12 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     }
 
     private CloudServiceInstance findServiceInstanceByName(String name) {
-        return fetchWithAuxiliaryContent(() -> getServiceInstanceResourceByName(name), this::zipWithAuxiliaryServiceInstanceContent);
+        return findServiceInstanceMonoByName(name).block();
+    }
+
+    private Mono<CloudServiceInstance> findServiceInstanceMonoByName(String name) {
+        return fetchMonoWithAuxiliaryContent(() -> getServiceInstanceResourceByName(name),
+                                             this::zipWithAuxiliaryServiceInstanceContent);
     }
 
     private Mono<? extends ServiceInstance> getServiceInstanceByGuid(UUID serviceInstanceGuid) {
@@ -1851,6 +1883,38 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return getPackage(packageGuid);
     }
 
+    private CloudPackage startUpload(String applicationName, InputStream bits, Duration uploadTimeout) {
+        Assert.notNull(applicationName, "AppName must not be null");
+        Assert.notNull(bits, "Bits must not be null");
+        Assert.state(packageBitsUploader != null, "Uploading bits from a stream is not supported by this client");
+
+        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
+        UUID packageGuid = getGuid(createPackageForApplication(applicationGuid));
+
+        try {
+            packageBitsUploader.upload(packageGuid, bits, uploadTimeout);
+        } catch (RuntimeException e) {
+            // The bits cannot be uploaded again from the same stream, so the package must not be left behind without them
+            deletePackage(packageGuid, e);
+            throw e;
+        }
+
+        return getPackage(packageGuid);
+    }
+
+    private void deletePackage(UUID packageGuid, RuntimeException uploadException) {
+        try {
+            delegate.packages()
+                    .delete(DeletePackageRequest.builder()
+                                                .packageId(packageGuid.toString())
+                                                .build())
+                    .flatMap(jobId -> JobV3Util.waitForCompletion(delegate, DELETE_JOB_TIMEOUT, jobId))
+                    .block();
+        } catch (RuntimeException e) {
+            uploadException.addSuppressed(e);
+        }
+    }
+
     private CloudPackage createPackageForApplication(UUID applicationGuid) {
         return fetch(() -> createPackageResource(applicationGuid), ImmutableRawCloudPackage::of);
     }
@@ -2571,6 +2635,24 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return false;
     }
 
+    private class AsyncClient implements CloudControllerAsyncClient {
+
+        @Override
+        public Mono<CloudApplication> getApplication(String applicationName) {
+            return findApplicationMonoByName(applicationName);
+        }
+
+        @Override
+        public Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName) {
+            return findServiceInstanceMonoByName(serviceInstanceName);
+        }
+
+        @Override
+        public Mono<List<CloudEvent>> getEventsByActee(UUID uuid) {
+            return fetchFlux(() -> getEventResourcesByTarget(uuid.toString()), ImmutableRawCloudEvent::of).collectList();
+        }
+    }
+
     private <T, R, D extends Derivable<T>> Flux<T> fetchFluxWithAuxiliaryContent(Supplier<Flux<R>> resourceSupplier,
                                                                                  Function<R, Mono<D>> resourceMapper) {
         return resourceSupplier.get()
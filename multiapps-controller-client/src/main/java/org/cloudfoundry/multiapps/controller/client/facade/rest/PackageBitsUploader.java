@@ -0,0 +1,77 @@
+package org.cloudfoundry.multiapps.controller.client.facade.rest;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudOperationException;
+import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuthClient;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Uploads package bits to the Cloud Controller directly from an {@link InputStream}. Unlike the upload of the Cloud Foundry Java client,
+ * which requires a local file, the content is streamed to the Cloud Controller as it is read.
+ */
+public class PackageBitsUploader {
+
+    private static final String PACKAGE_UPLOAD_PATH = "/v3/packages/{packageGuid}/upload";
+    private static final String BITS_PART_NAME = "bits";
+    private static final String BITS_FILE_NAME = "application.zip";
+    private static final int BUFFER_SIZE = 64 * 1024; // 64KB
+
+    private final URL controllerUrl;
+    private final OAuthClient oAuthClient;
+    private final WebClient webClient;
+    private final Map<String, String> requestTags;
+
+    public PackageBitsUploader(URL controllerUrl, OAuthClient oAuthClient, WebClient webClient, Map<String, String> requestTags) {
+        this.controllerUrl = controllerUrl;
+        this.oAuthClient = oAuthClient;
+        this.webClient = webClient;
+        this.requestTags = requestTags;
+    }
+
+    public void upload(UUID packageGuid, InputStream bits, Duration uploadTimeout) {
+        MultipartBodyBuilder multipartBodyBuilder = new MultipartBodyBuilder();
+        multipartBodyBuilder.asyncPart(BITS_PART_NAME, readBits(bits), DataBuffer.class)
+                            .filename(BITS_FILE_NAME)
+                            .contentType(MediaType.APPLICATION_OCTET_STREAM);
+        try {
+            webClient.post()
+                     .uri(controllerUrl + PACKAGE_UPLOAD_PATH, packageGuid)
+                     .header(HttpHeaders.AUTHORIZATION, oAuthClient.getAuthorizationHeaderValue())
+                     .headers(headers -> requestTags.forEach(headers::add))
+                     .contentType(MediaType.MULTIPART_FORM_DATA)
+                     .body(BodyInserters.fromMultipartData(multipartBodyBuilder.build()))
+                     .retrieve()
+                     .toBodilessEntity()
+                     .timeout(uploadTimeout)
+                     .block();
+        } catch (WebClientResponseException e) {
+            HttpStatus httpStatus = HttpStatus.valueOf(e.getStatusCode()
+                                                        .value());
+            throw new CloudOperationException(httpStatus, httpStatus.getReasonPhrase(), e.getResponseBodyAsString(), e);
+        }
+    }
+
+    private Flux<DataBuffer> readBits(InputStream bits) {
+        // The stream is usually backed by a remote object store, so it must not be read on the event loop of the HTTP client
+        return DataBufferUtils.readInputStream(() -> bits, DefaultDataBufferFactory.sharedInstance, BUFFER_SIZE)
+                              .subscribeOn(Schedulers.boundedElastic());
+    }
+
+}
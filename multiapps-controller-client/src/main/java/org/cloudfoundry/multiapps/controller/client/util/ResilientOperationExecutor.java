@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.client.util;
 
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.function.Supplier;
 
 import org.cloudfoundry.multiapps.common.util.MiscUtil;
@@ -8,6 +9,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.handler.timeout.TimeoutException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 public class ResilientOperationExecutor {
 
@@ -60,6 +63,29 @@ public class ResilientOperationExecutor {
         return operation.get();
     }
 
+    /**
+     * Retries the operation like {@link #execute(Supplier)}, but the wait between the retries does not block a thread
+     */
+    public <T> Mono<T> executeAsync(Supplier<Mono<T>> operation) {
+        return Mono.defer(operation)
+                   .retryWhen(Retry.fixedDelay(retryCount - 1, Duration.ofMillis(waitTimeBetweenRetriesInMillis))
+                                   .filter(this::shouldRetry)
+                                   .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure()));
+    }
+
+    private boolean shouldRetry(Throwable e) {
+        if (!(e instanceof RuntimeException runtimeException)) {
+            return false;
+        }
+        try {
+            // Logs the failure and rethrows it if it must not be retried
+            handle(runtimeException);
+            return true;
+        } catch (RuntimeException notRetriedException) {
+            return false;
+        }
+    }
+
     protected void handle(RuntimeException e) {
         if (e instanceof TimeoutException) {
             LOGGER.warn("Retrying operation that failed with exceeded timeout while waiting response from Cloud Controller", e);
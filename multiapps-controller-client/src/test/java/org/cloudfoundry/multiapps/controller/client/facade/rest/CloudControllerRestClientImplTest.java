@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.client.facade.rest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Collections;
@@ -23,6 +24,10 @@ import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
 import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
 import org.cloudfoundry.client.v3.applications.UpdateApplicationRequest;
 import org.cloudfoundry.client.v3.applications.UpdateApplicationResponse;
+import org.cloudfoundry.client.v3.auditevents.AuditEventResource;
+import org.cloudfoundry.client.v3.auditevents.AuditEventsV3;
+import org.cloudfoundry.client.v3.auditevents.ListAuditEventsRequest;
+import org.cloudfoundry.client.v3.auditevents.ListAuditEventsResponse;
 import org.cloudfoundry.client.v3.serviceofferings.GetServiceOfferingRequest;
 import org.cloudfoundry.client.v3.serviceofferings.GetServiceOfferingResponse;
 import org.cloudfoundry.client.v3.serviceofferings.ServiceOffering;
@@ -44,6 +49,8 @@ import org.springframework.http.HttpStatus;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudOperationException;
 import org.cloudfoundry.multiapps.controller.client.facade.adapters.RawCloudServiceOfferingTest;
 import org.cloudfoundry.multiapps.controller.client.facade.adapters.RawCloudServicePlanTest;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudApplication;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudEvent;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudSpace;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudMetadata;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudSpace;
@@ -61,6 +68,9 @@ class CloudControllerRestClientImplTest {
     private static final String APPLICATION_CREATED_AT = "2024-01-26T10:00:00";
     private static final UUID APPLICATION_GUID = UUID.randomUUID();
     private static final UUID SPACE_GUID = UUID.randomUUID();
+    private static final UUID EVENT_TARGET_GUID = UUID.randomUUID();
+    private static final String EVENT_CREATED_AT = "2024-01-26T10:00:00Z";
+    private static final String EVENT_TYPE = "audit.service_instance.delete";
 
     @Mock
     private CloudFoundryClient delegate;
@@ -174,6 +184,95 @@ class CloudControllerRestClientImplTest {
         assertEquals(response, servicePlanResource);
     }
 
+    @Test
+    void testGetEventsByActeeWithAsyncClient() {
+        AuditEventsV3 auditEventsV3 = Mockito.mock(AuditEventsV3.class);
+        Mockito.when(delegate.auditEventsV3())
+               .thenReturn(auditEventsV3);
+        ListAuditEventsRequest request = ListAuditEventsRequest.builder()
+                                                               .targetId(EVENT_TARGET_GUID.toString())
+                                                               .page(1)
+                                                               .build();
+        ListAuditEventsResponse response = ListAuditEventsResponse.builder()
+                                                                  .resource(AuditEventResource.builder()
+                                                                                              .id(UUID.randomUUID()
+                                                                                                      .toString())
+                                                                                              .createdAt(EVENT_CREATED_AT)
+                                                                                              .type(EVENT_TYPE)
+                                                                                              .build())
+                                                                  .pagination(Pagination.builder()
+                                                                                        .totalResults(1)
+                                                                                        .totalPages(1)
+                                                                                        .build())
+                                                                  .build();
+        Mockito.when(auditEventsV3.list(request))
+               .thenReturn(Mono.just(response));
+
+        List<CloudEvent> events = controllerClient.getAsyncClient()
+                                                  .getEventsByActee(EVENT_TARGET_GUID)
+                                                  .block();
+
+        assertEquals(1, events.size());
+        assertEquals(EVENT_TYPE, events.get(0)
+                                       .getType());
+    }
+
+    @Test
+    void testGetApplicationWithAsyncClient() {
+        ApplicationsV3 applicationsV3 = Mockito.mock(ApplicationsV3.class);
+        prepareListApplications(applicationsV3, ListApplicationsResponse.builder()
+                                                                         .resource(buildApplicationResource())
+                                                                         .pagination(Pagination.builder()
+                                                                                               .totalResults(1)
+                                                                                               .totalPages(1)
+                                                                                               .build())
+                                                                         .build());
+
+        CloudApplication application = controllerClient.getAsyncClient()
+                                                       .getApplication(OLD_APPLICATION_NAME)
+                                                       .block();
+
+        assertEquals(APPLICATION_GUID, application.getGuid());
+    }
+
+    @Test
+    void testGetMissingApplicationWithAsyncClient() {
+        ApplicationsV3 applicationsV3 = Mockito.mock(ApplicationsV3.class);
+        prepareListApplications(applicationsV3, ListApplicationsResponse.builder()
+                                                                         .pagination(Pagination.builder()
+                                                                                               .totalResults(0)
+                                                                                               .totalPages(1)
+                                                                                               .build())
+                                                                         .build());
+
+        assertNull(controllerClient.getAsyncClient()
+                                   .getApplication(OLD_APPLICATION_NAME)
+                                   .block());
+    }
+
+    private void prepareListApplications(ApplicationsV3 applicationsV3, ListApplicationsResponse listAppsResponse) {
+        initControllerClientWithTargetSpace(SPACE_GUID);
+        Mockito.when(delegate.applicationsV3())
+               .thenReturn(applicationsV3);
+        var listAppsRequest = ListApplicationsRequest.builder()
+                                                     .spaceId(SPACE_GUID.toString())
+                                                     .name(OLD_APPLICATION_NAME)
+                                                     .page(1)
+                                                     .build();
+        Mockito.when(applicationsV3.list(listAppsRequest))
+               .thenReturn(Mono.just(listAppsResponse));
+    }
+
+    private static ApplicationResource buildApplicationResource() {
+        return ApplicationResource.builder()
+                                  .name(OLD_APPLICATION_NAME)
+                                  .id(APPLICATION_GUID.toString())
+                                  .createdAt(APPLICATION_CREATED_AT)
+                                  .state(ApplicationState.STARTED)
+                                  .lifecycle(getApplicationLifecycle())
+                                  .build();
+    }
+
     private static Stream<Arguments> testRenameApplication() {
         return Stream.of(
                          // (1) Successful application rename
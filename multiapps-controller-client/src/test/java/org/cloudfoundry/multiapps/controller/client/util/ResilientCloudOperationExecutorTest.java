@@ -0,0 +1,78 @@
+package org.cloudfoundry.multiapps.controller.client.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudOperationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import reactor.core.publisher.Mono;
+
+class ResilientCloudOperationExecutorTest {
+
+    private static final String RESULT = "result";
+
+    private final ResilientCloudOperationExecutor executor = new ResilientCloudOperationExecutor().withWaitTimeBetweenRetriesInMillis(0);
+
+    @Test
+    void testExecuteAsyncRetriesFailedOperation() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Mono<String> operation = executor.executeAsync(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                return Mono.error(new CloudOperationException(HttpStatus.BAD_GATEWAY));
+            }
+            return Mono.just(RESULT);
+        });
+
+        String result = operation.block();
+
+        assertEquals(RESULT, result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testExecuteAsyncFailsWhenRetriesAreExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> operation = executor.executeAsync(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new CloudOperationException(HttpStatus.SERVICE_UNAVAILABLE));
+        });
+
+        CloudOperationException exception = assertThrows(CloudOperationException.class, operation::block);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testExecuteAsyncDoesNotRetryNotIgnoredStatus() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> operation = executor.executeAsync(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new CloudOperationException(HttpStatus.NOT_FOUND));
+        });
+
+        assertThrows(CloudOperationException.class, operation::block);
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testExecuteAsyncDoesNotStartOperationBeforeSubscription() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Mono<String> operation = executor.executeAsync(() -> {
+            attempts.incrementAndGet();
+            return Mono.just(RESULT);
+        });
+
+        assertEquals(0, attempts.get());
+        assertEquals(RESULT, operation.block());
+        assertEquals(1, attempts.get());
+    }
+
+}
@@ -110,8 +110,9 @@ public final class Messages {
     public static final String ORG_NAME_NOT_SPECIFIED = "Org name is not specified in the environment.";
     public static final String DEPLOY_SERVICE_URL_NOT_SPECIFIED = "Deploy service URL is not specified in the environment.";
     public static final String INVALID_SUPPORT_COMPONENTS = "Invalid SUPPORT_COMPONENTS \"{0}\"";
+    public static final String INVALID_VALUE_0_OF_1_USING_DEFAULT_2 = "Invalid value \"{0}\" of \"{1}\". Using default \"{2}\"";
+    public static final String VALUE_0_OF_1_IS_OUT_OF_RANGE_2_3 = "Value \"{0}\" of \"{1}\" is out of the range [{2}, {3}]. Using the nearest limit";
     public static final String INCOMPATIBLE_PARAMETERS = "Module \"{0}\" has parameters {1} that will be replaced by \"{2}\" due to inconsistency";
-    public static final String MODULE_0_DEPENDS_ON_MODULE_1_WHICH_CANNOT_BE_RESOLVED = "Module \"{0}\" depends on module \"{1}\", which is not an application and its state cannot be calculated. This dependency will be ignored during deployment.";
     public static final String MODULE_0_WILL_BE_SKIPPED_DURING_DEPLOYMENT = "Module \"{0}\" will be skipped during deployment";
 
     // Info messages
@@ -179,6 +180,7 @@ public final class Messages {
     public static final String FSS_CACHE_UPDATE_TIMEOUT = "Fss cache update timeout: {0} minutes";
     public static final String THREAD_MONITOR_CACHE_TIMEOUT = "Flowable thread monitor cache timeout: {0} seconds";
     public static final String SPACE_DEVELOPERS_CACHE_TIME_IN_SECONDS = "Cache for list of space developers per SpaceGUID: {0} seconds";
+    public static final String SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS = "Cache for space roles without space developer per SpaceGUID: {0} seconds";
     public static final String CONTROLLER_CLIENT_SSL_HANDSHAKE_TIMEOUT_IN_SECONDS = "Controller client SSL handshake timeout in seconds: {0}";
     public static final String CONTROLLER_CLIENT_CONNECT_TIMEOUT_IN_SECONDS = "Controller client connect timeout in seconds: {0}";
     public static final String CONTROLLER_CLIENT_CONNECTION_POOL_SIZE = "Controller client connection pool size: {0}";
@@ -195,6 +197,11 @@ public final class Messages {
     public static final String ON_START_FILES_CLEANER_WITHOUT_CONTENT_ENABLED_0 = "On start files cleaner without content enabled: {0}";
     public static final String THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER_0 = "Threads for file upload to controller: {0}";
     public static final String THREADS_FOR_FILE_STORAGE_UPLOAD_0 = "Threads for file storage upload: {0}";
+    public static final String THREADS_FOR_MODULE_DOWNLOAD_0 = "Threads for module download: {0}";
+    public static final String MODULE_DOWNLOAD_CHUNK_SIZE_0 = "Module download chunk size: {0}";
+    public static final String MAX_MODULE_CONTENT_CACHE_ENTRIES_0 = "Max module content cache entries: {0}";
+    public static final String ARCHIVE_BUFFER_SIZE_0 = "Archive buffer size: {0}";
+    public static final String MAX_PARALLEL_MODULE_DEPLOYMENTS_0 = "Max parallel module deployments: {0}";
     public static final String DELETED_ORPHANED_MTA_DESCRIPTORS_COUNT = "Deleted orphaned mta descriptors count: {0}";
     public static final String IS_HEALTH_CHECK_ENABLED = "Is health check enabled: {0}";
 
@@ -10,6 +10,8 @@ import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.DBAppender.LogEventAdapter;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
 import javax.sql.DataSource;
 
 class AuditLogManager {
@@ -18,7 +20,7 @@ class AuditLogManager {
 
     private static final LogEventAdapter EVENT_ADAPTER = (category, event, userInfo, stmt) -> {
         stmt.setString(1, userInfo == null ? null : userInfo.getName());
-        stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+        stmt.setTimestamp(2, new Timestamp(event.getTimeMillis()));
         stmt.setString(3, category);
         stmt.setString(4, event.getLevel()
                                .toString());
@@ -28,6 +30,8 @@ class AuditLogManager {
 
     private final AuditLoggingExceptionHandler exceptionHandler = new AuditLoggingExceptionHandler();
 
+    private final List<DBAppender> auditLogAppenders = new ArrayList<>();
+
     private Logger securityLogger = null;
 
     private final Logger configLogger;
@@ -56,17 +60,39 @@ class AuditLogManager {
         actionLogger = setUpLogger(dataSource, userInfoProvider, "ACTION");
     }
 
+    /**
+     * Starts writing the audit log events in batches in the background. Until then, they are written by the logging threads.
+     */
+    void start() {
+        auditLogAppenders.forEach(DBAppender::startWriter);
+    }
+
+    /**
+     * Stops the background writers after they write the pending audit log events. The events logged afterwards are written by the logging
+     * threads.
+     */
+    void stop() {
+        auditLogAppenders.forEach(auditLogAppender -> auditLogAppender.stopWriter(DBAppender.DEFAULT_WRITER_STOP_TIMEOUT));
+    }
+
+    int getPendingEventsCount() {
+        return auditLogAppenders.stream()
+                                .mapToInt(DBAppender::getPendingEventsCount)
+                                .sum();
+    }
+
     private Logger setUpLogger(DataSource dataSource, UserInfoProvider userInfoProvider, String name) {
-        try (LoggerContext loggerContext = new LoggerContext(name)) {
-            DBAppender auditLogAppender = initializeDBAppender(dataSource, AUDIT_LOG_INSERT_STATEMENT, EVENT_ADAPTER, exceptionHandler,
-                                                               userInfoProvider, name);
-            auditLogAppender.start();
-            loggerContext.getConfiguration()
-                         .addAppender(auditLogAppender);
-            LoggerConfig loggerConfig = initializeLoggerConfig(loggerContext);
-            addAppenderToRootLogger(loggerContext, auditLogAppender);
-            return (Logger) LogManager.getLogger(loggerConfig);
-        }
+        // The logger context is kept open, because closing it would stop the appender and disconnect the logger from it
+        LoggerContext loggerContext = new LoggerContext(name);
+        DBAppender auditLogAppender = initializeDBAppender(dataSource, AUDIT_LOG_INSERT_STATEMENT, EVENT_ADAPTER, exceptionHandler,
+                                                           userInfoProvider, name);
+        auditLogAppender.start();
+        auditLogAppenders.add(auditLogAppender);
+        loggerContext.getConfiguration()
+                     .addAppender(auditLogAppender);
+        initializeLoggerConfig(loggerContext);
+        addAppenderToRootLogger(loggerContext, auditLogAppender);
+        return loggerContext.getLogger(name);
     }
 
     private DBAppender initializeDBAppender(DataSource dataSource, String logInsertStatement, LogEventAdapter logEventAdapter,
@@ -74,11 +100,10 @@ class AuditLogManager {
         return new DBAppender(dataSource, logInsertStatement, logEventAdapter, exceptionHandler, userInfoProvider, name);
     }
 
-    private LoggerConfig initializeLoggerConfig(LoggerContext loggerContext) {
+    private void initializeLoggerConfig(LoggerContext loggerContext) {
         LoggerConfig loggerConfig = loggerContext.getConfiguration()
                                                  .getLoggerConfig(LogManager.ROOT_LOGGER_NAME);
         loggerConfig.setLevel(Level.INFO);
-        return loggerConfig;
     }
 
     private void addAppenderToRootLogger(LoggerContext loggerContext, Appender auditLogAppender) {
@@ -11,8 +11,12 @@ import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.model.AuditLogConfiguration;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.model.ConfigurationChangeActions;
 import org.cloudfoundry.multiapps.mta.model.AuditableConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 
-public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade {
+public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade, InitializingBean, DisposableBean {
+
+    public static final String METRICS_PREFIX = "multiapps.audit.log.";
 
     private static final Logger LOGGER = (Logger) LogManager.getLogger(AuditLoggingFacadeSLImpl.class);
     private final AuditLogManager auditLogManager;
@@ -21,6 +25,16 @@ public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade {
         this.auditLogManager = new AuditLogManager(dataSource, userInfoProvider);
     }
 
+    @Override
+    public void afterPropertiesSet() {
+        auditLogManager.start();
+    }
+
+    @Override
+    public void destroy() {
+        auditLogManager.stop();
+    }
+
     @Override
     public void logSecurityIncident(AuditLogConfiguration configuration) {
         writeMessage(auditLogManager.getSecurityLogger(), configuration.getPerformedAction(), Level.WARN);
@@ -9,12 +9,31 @@ import org.apache.logging.log4j.core.layout.PatternLayout;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
 import org.cloudfoundry.multiapps.controller.core.util.UserInfo;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 
+/**
+ * Writes the audit log events to the database. The events are queued and inserted in batches by a background writer, so the threads which
+ * log them do not wait for the database. When the queue is full or the appender is not started, the events are inserted by the logging
+ * thread, so that none of them is lost. The number of pending events, the size of the batches, the time to write them and the events which
+ * could not be written are exported as Micrometer metrics. The writer is started and stopped by the owner of the appender, independently of
+ * the lifecycle of the logger context, which the appender is added to.
+ */
 class DBAppender extends AbstractAppender {
 
     interface LogEventAdapter {
@@ -25,10 +44,16 @@ class DBAppender extends AbstractAppender {
         void handleException(Exception e);
     }
 
+    static final int DEFAULT_MAX_PENDING_EVENTS = 10000;
+    static final int DEFAULT_MAX_EVENTS_PER_BATCH = 100;
+    static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
     private static final Level LEVEL = Level.INFO;
     private static final ThresholdFilter FILTER = ThresholdFilter.createFilter(LEVEL, Filter.Result.ACCEPT, Filter.Result.ACCEPT);
     private static final PatternLayout LAYOUT = PatternLayout.createDefaultLayout();
     private static final String DEFAULT_NAME = "DBAppender";
+    static final Duration DEFAULT_WRITER_STOP_TIMEOUT = Duration.ofSeconds(30);
+    private static final String CATEGORY_TAG = "category";
 
     private final DataSource dataSource;
     private final LogEventAdapter eventAdapter;
@@ -36,9 +61,24 @@ class DBAppender extends AbstractAppender {
     private final ExceptionHandler exceptionHandler;
     private final UserInfoProvider userInfoProvider;
     private final String appenderName;
+    private final BlockingQueue<PendingEvent> pendingEvents;
+    private final int maxEventsPerBatch;
+    private final Duration flushInterval;
+    private final Timer writeTimer;
+    private final DistributionSummary batchSize;
+    private final Counter failedEvents;
+    private volatile boolean writerRunning;
+    private Thread writer;
 
     DBAppender(DataSource dataSource, String sql, LogEventAdapter eventAdapter, ExceptionHandler exceptionHandler,
                UserInfoProvider userInfoProvider, String appenderName) {
+        this(dataSource, sql, eventAdapter, exceptionHandler, userInfoProvider, appenderName, DEFAULT_MAX_PENDING_EVENTS,
+             DEFAULT_MAX_EVENTS_PER_BATCH, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    DBAppender(DataSource dataSource, String sql, LogEventAdapter eventAdapter, ExceptionHandler exceptionHandler,
+               UserInfoProvider userInfoProvider, String appenderName, int maxPendingEvents, int maxEventsPerBatch,
+               Duration flushInterval) {
         super(DEFAULT_NAME, FILTER, LAYOUT, false, null);
         this.dataSource = Objects.requireNonNull(dataSource);
         this.sql = Objects.requireNonNull(sql);
@@ -46,15 +86,143 @@ class DBAppender extends AbstractAppender {
         this.exceptionHandler = Objects.requireNonNull(exceptionHandler);
         this.userInfoProvider = userInfoProvider;
         this.appenderName = appenderName;
+        this.pendingEvents = new LinkedBlockingQueue<>(maxPendingEvents);
+        this.maxEventsPerBatch = maxEventsPerBatch;
+        this.flushInterval = Objects.requireNonNull(flushInterval);
+        Gauge.builder(AuditLoggingFacadeSLImpl.METRICS_PREFIX + "pending.events", pendingEvents, BlockingQueue::size)
+             .tag(CATEGORY_TAG, appenderName)
+             .register(Metrics.globalRegistry);
+        this.writeTimer = Timer.builder(AuditLoggingFacadeSLImpl.METRICS_PREFIX + "write")
+                               .tag(CATEGORY_TAG, appenderName)
+                               .register(Metrics.globalRegistry);
+        this.batchSize = DistributionSummary.builder(AuditLoggingFacadeSLImpl.METRICS_PREFIX + "batch.size")
+                                            .tag(CATEGORY_TAG, appenderName)
+                                            .register(Metrics.globalRegistry);
+        this.failedEvents = Counter.builder(AuditLoggingFacadeSLImpl.METRICS_PREFIX + "failed.events")
+                                   .tag(CATEGORY_TAG, appenderName)
+                                   .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Starts the background writer. Until it is started and after it is stopped, the events are inserted by the logging thread.
+     */
+    void startWriter() {
+        writerRunning = true;
+        writer = Thread.ofPlatform()
+                       .name("audit-log-writer-" + appenderName)
+                       .daemon()
+                       .start(this::writePendingEvents);
+    }
+
+    /**
+     * Stops the background writer and inserts the events, which it has not written yet.
+     */
+    void stopWriter(Duration timeout) {
+        writerRunning = false;
+        try {
+            if (writer != null) {
+                writer.join(timeout.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+        writeRemainingEvents();
     }
 
     @Override
     public void append(LogEvent event) {
-        try (Connection connection = dataSource.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
-            eventAdapter.eventToStatement(getName(), event, userInfoProvider.getUserInfo(), stmt);
-            stmt.executeUpdate();
+        // The user is bound to the logging thread and the event may be reused by it, so both are captured before queueing
+        PendingEvent pendingEvent = new PendingEvent(event.toImmutable(), userInfoProvider.getUserInfo());
+        if (!writerRunning || !pendingEvents.offer(pendingEvent)) {
+            write(List.of(pendingEvent));
+        }
+    }
+
+    private void writePendingEvents() {
+        while (writerRunning || !pendingEvents.isEmpty()) {
+            try {
+                PendingEvent pendingEvent = pendingEvents.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (pendingEvent != null) {
+                    List<PendingEvent> batch = new ArrayList<>(maxEventsPerBatch);
+                    batch.add(pendingEvent);
+                    pendingEvents.drainTo(batch, maxEventsPerBatch - 1);
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(List<PendingEvent> batch) {
+        long writeStartTime = System.nanoTime();
+        try {
+            insert(batch);
         } catch (SQLException e) {
-            exceptionHandler.handleException(e);
+            if (batch.size() == 1) {
+                handleFailedEvent(e);
+            } else {
+                // The batch is rolled back, so its events are inserted one by one and only the invalid ones are lost
+                insertOneByOne(batch);
+            }
+        }
+        writeTimer.record(System.nanoTime() - writeStartTime, TimeUnit.NANOSECONDS);
+        batchSize.record(batch.size());
+    }
+
+    private void insert(List<PendingEvent> events) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            try {
+                for (PendingEvent pendingEvent : events) {
+                    eventAdapter.eventToStatement(getName(), pendingEvent.event(), pendingEvent.userInfo(), stmt);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void insertOneByOne(List<PendingEvent> events) {
+        for (PendingEvent pendingEvent : events) {
+            try {
+                insert(List.of(pendingEvent));
+            } catch (SQLException e) {
+                handleFailedEvent(e);
+            }
+        }
+    }
+
+    private void handleFailedEvent(SQLException e) {
+        failedEvents.increment();
+        exceptionHandler.handleException(e);
+    }
+
+    int getPendingEventsCount() {
+        return pendingEvents.size();
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        super.stop(timeout, timeUnit, false);
+        stopWriter(timeout > 0 ? Duration.ofMillis(timeUnit.toMillis(timeout)) : DEFAULT_WRITER_STOP_TIMEOUT);
+        setStopped();
+        return true;
+    }
+
+    private void writeRemainingEvents() {
+        List<PendingEvent> remainingEvents = new ArrayList<>();
+        pendingEvents.drainTo(remainingEvents);
+        if (!remainingEvents.isEmpty()) {
+            write(remainingEvents);
         }
     }
 
@@ -62,4 +230,7 @@ class DBAppender extends AbstractAppender {
     public String getName() {
         return appenderName;
     }
+
+    private record PendingEvent(LogEvent event, UserInfo userInfo) {
+    }
 }
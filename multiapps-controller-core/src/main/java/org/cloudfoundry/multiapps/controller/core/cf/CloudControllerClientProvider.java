@@ -9,18 +9,26 @@ import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient
 import org.cloudfoundry.multiapps.controller.client.facade.CloudOperationException;
 import org.cloudfoundry.multiapps.controller.core.Messages;
 import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
+import org.cloudfoundry.multiapps.controller.core.model.CachedMapMetrics;
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.springframework.beans.factory.DisposableBean;
 
 @Named
 public class CloudControllerClientProvider implements DisposableBean {
 
+    public static final String CACHE_METRICS_PREFIX = "multiapps.client.cache.";
+    private static final int MAX_CACHED_CLIENTS = 10000;
+
     @Inject
     private CloudControllerClientFactory clientFactory;
     @Inject
     private TokenService tokenService;
 
-    private final CachedMap<String, CloudControllerClient> clients = new CachedMap<>(Duration.ofMinutes(30));
+    private final CachedMap<String, CloudControllerClient> clients = new CachedMap<>(Duration.ofMinutes(30), MAX_CACHED_CLIENTS);
+
+    public CloudControllerClientProvider() {
+        CachedMapMetrics.register(CACHE_METRICS_PREFIX, "clients", clients);
+    }
 
     /**
      * Returns a client for the specified user guid and space id by either getting it from the clients cache or creating a new one.
@@ -1,13 +1,19 @@
 package org.cloudfoundry.multiapps.controller.core.cf.detect;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudEntity;
+import org.cloudfoundry.multiapps.controller.core.Messages;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.MtaMetadataLabels;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.criteria.MtaMetadataCriteria;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.criteria.MtaMetadataCriteriaBuilder;
@@ -88,13 +94,54 @@ public class DeployedMtaDetector {
     }
 
     private List<DeployedMta> getDeployedMtasByMetadataSelectionCriteria(MtaMetadataCriteria criteria, CloudControllerClient client) {
-        List<CloudEntity> mtaMetadataEntities = mtaMetadataEntityCollectors.stream()
-                                                                           .map(collector -> collect(collector, criteria, client))
-                                                                           .flatMap(List::stream)
-                                                                           .collect(Collectors.toList());
+        List<CloudEntity> mtaMetadataEntities = collectConcurrently(criteria, client);
         return mtaMetadataEntityAggregator.aggregate(mtaMetadataEntities);
     }
 
+    /**
+     * Each collector pages through a different Cloud Controller resource, so they are run concurrently and the detection takes as long
+     * as the slowest of them. The entities are returned in the order of the collectors. The collectors share the client, so it has to be
+     * safe for concurrent reads. The REST client is, and so are the logging and caching wrappers of the process steps, which keep no
+     * state apart from a thread-safe cache.
+     */
+    private List<CloudEntity> collectConcurrently(MtaMetadataCriteria criteria, CloudControllerClient client) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<? extends List<? extends CloudEntity>>> collectedEntities = new ArrayList<>();
+            for (MtaMetadataEntityCollector<?> collector : mtaMetadataEntityCollectors) {
+                collectedEntities.add(submitCollect(executor, collector, criteria, client));
+            }
+            List<CloudEntity> mtaMetadataEntities = new ArrayList<>();
+            for (Future<? extends List<? extends CloudEntity>> entities : collectedEntities) {
+                mtaMetadataEntities.addAll(awaitCollect(entities, executor));
+            }
+            return mtaMetadataEntities;
+        }
+    }
+
+    private <T extends CloudEntity> Future<List<T>> submitCollect(ExecutorService executor, MtaMetadataEntityCollector<T> collector,
+                                                                  MtaMetadataCriteria criteria, CloudControllerClient client) {
+        return executor.submit(() -> collect(collector, criteria, client));
+    }
+
+    private <T> T awaitCollect(Future<T> future, ExecutorService executor) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            executor.shutdownNow();
+            throw new SLException(e, Messages.THREAD_WAS_INTERRUPTED_WHILE_WAITING_FOR_THE_RESULT_OF_A_FUTURE);
+        } catch (ExecutionException e) {
+            // The other collectors are not waited for, as their result would be discarded
+            executor.shutdownNow();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SLException(e.getCause(), e.getCause()
+                                                 .getMessage());
+        }
+    }
+
     protected <T extends CloudEntity> List<T> collect(MtaMetadataEntityCollector<T> collector, MtaMetadataCriteria criteria,
                                                       CloudControllerClient client) {
         return collector.collect(client, criteria);
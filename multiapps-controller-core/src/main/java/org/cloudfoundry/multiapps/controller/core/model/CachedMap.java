@@ -1,36 +1,82 @@
 package org.cloudfoundry.multiapps.controller.core.model;
 
 import java.time.Duration;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A map whose entries expire a fixed time after they are written. Values are loaded at most once at a time per key, so concurrent callers
+ * of {@link #computeIfAbsent(Object, Supplier)} for a missing key wait for a single load instead of all loading the value. When the map
+ * grows over its maximum size, the least recently used entries are evicted in batches. The stale entries of all maps are removed by a
+ * single shared thread.
+ */
 public class CachedMap<K, V> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachedMap.class);
+
+    private static final ScheduledExecutorService EVICTION_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cached-map-eviction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Duration expirationTime;
-    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-    private final Map<K, CachedObject<V>> cache = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    private final Map<K, Entry<V>> cache = new ConcurrentHashMap<>();
+    private final Set<K> keysBeingRefreshed = ConcurrentHashMap.newKeySet();
+    private final ScheduledFuture<?> evictionTask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTimeInNanos = new LongAdder();
+    private final AtomicBoolean isEvicting = new AtomicBoolean();
 
     public CachedMap(Duration expirationTime) {
-        this(expirationTime, 10, TimeUnit.MINUTES);
+        this(expirationTime, Integer.MAX_VALUE);
+    }
+
+    public CachedMap(Duration expirationTime, int maximumSize) {
+        this(expirationTime, maximumSize, 10, TimeUnit.MINUTES);
     }
 
     public CachedMap(Duration expirationTime, long evictionCheckPeriod, TimeUnit evictionCheckTimeUnit) {
+        this(expirationTime, Integer.MAX_VALUE, evictionCheckPeriod, evictionCheckTimeUnit);
+    }
+
+    public CachedMap(Duration expirationTime, int maximumSize, long evictionCheckPeriod, TimeUnit evictionCheckTimeUnit) {
         this.expirationTime = expirationTime;
-        executor.scheduleAtFixedRate(this::clearStaleEntries, evictionCheckPeriod, evictionCheckPeriod, evictionCheckTimeUnit);
+        this.maximumSize = maximumSize;
+        this.evictionTask = EVICTION_SCHEDULER.scheduleAtFixedRate(this::clearStaleEntries, evictionCheckPeriod, evictionCheckPeriod,
+                                                                   evictionCheckTimeUnit);
     }
 
     public V get(K key) {
-        var value = cache.get(key);
-        if (value != null) {
-            if (!value.isExpired()) {
-                return value.get();
+        Entry<V> entry = cache.get(key);
+        if (entry != null && entry.isLoaded()) {
+            if (!entry.isExpired()) {
+                hits.increment();
+                return entry.getValue();
             }
-            cache.remove(key);
+            cache.remove(key, entry);
         }
+        misses.increment();
         return null;
     }
 
@@ -40,17 +86,58 @@ public class CachedMap<K, V> {
     }
 
     public V computeIfAbsent(K key, Supplier<V> creator) {
-        V value = get(key);
-        if (value != null) {
-            return value;
+        return computeIfAbsent(key, value -> true, creator);
+    }
+
+    /**
+     * Returns the value of the key if it is present and valid, otherwise loads it. Concurrent callers for the same key wait for a single
+     * load and a failure of the load is thrown to all of them.
+     */
+    public V computeIfAbsent(K key, Predicate<V> isValid, Supplier<V> creator) {
+        while (true) {
+            Entry<V> entry = cache.get(key);
+            if (entry != null && !entry.isLoaded()) {
+                hits.increment();
+                return entry.awaitValue();
+            }
+            if (entry != null && !entry.isExpired() && isValid.test(entry.getValue())) {
+                hits.increment();
+                return entry.getValue();
+            }
+            Entry<V> newEntry = new Entry<>();
+            boolean isNewEntryAdded = entry == null ? cache.putIfAbsent(key, newEntry) == null : cache.replace(key, entry, newEntry);
+            if (isNewEntryAdded) {
+                misses.increment();
+                return load(key, newEntry, creator);
+            }
+        }
+    }
+
+    /**
+     * Loads the value of the key in the background, while the current value continues to be returned. Nothing is done if the key is
+     * already being loaded.
+     */
+    public void refreshAsync(K key, Supplier<V> creator, Executor executor) {
+        if (!keysBeingRefreshed.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> refresh(key, creator));
+        } catch (RejectedExecutionException e) {
+            keysBeingRefreshed.remove(key);
+            LOGGER.warn(e.getMessage(), e);
         }
-        value = creator.get();
-        put(key, value);
-        return value;
     }
 
     public void put(K key, V value) {
-        cache.put(key, new CachedObject<>(value, expirationTime));
+        if (value == null) {
+            cache.remove(key);
+            return;
+        }
+        Entry<V> entry = new Entry<>();
+        entry.complete(value, expirationTime);
+        cache.put(key, entry);
+        evictLeastRecentlyUsedEntries();
     }
 
     public void remove(K key) {
@@ -59,13 +146,131 @@ public class CachedMap<K, V> {
 
     public void clear() {
         cache.clear();
-        executor.shutdown();
+        evictionTask.cancel(false);
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), loads.sum(), Duration.ofNanos(loadTimeInNanos.sum()));
+    }
+
+    private V load(K key, Entry<V> entry, Supplier<V> creator) {
+        long loadStartTime = System.nanoTime();
+        try {
+            V value = creator.get();
+            entry.complete(value, expirationTime);
+            if (value == null) {
+                cache.remove(key, entry);
+            }
+            evictLeastRecentlyUsedEntries();
+            return value;
+        } catch (RuntimeException | Error e) {
+            cache.remove(key, entry);
+            entry.fail(e);
+            throw e;
+        } finally {
+            loads.increment();
+            loadTimeInNanos.add(System.nanoTime() - loadStartTime);
+        }
+    }
+
+    private void refresh(K key, Supplier<V> creator) {
+        long loadStartTime = System.nanoTime();
+        try {
+            put(key, creator.get());
+        } catch (RuntimeException e) {
+            // The current value is kept until it expires, so the next refresh or load will try again
+            LOGGER.warn(e.getMessage(), e);
+        } finally {
+            keysBeingRefreshed.remove(key);
+            loads.increment();
+            loadTimeInNanos.add(System.nanoTime() - loadStartTime);
+        }
+    }
+
+    private void evictLeastRecentlyUsedEntries() {
+        if (cache.size() <= maximumSize || !isEvicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // A tenth of the entries is evicted at once, so that all entries are scanned once per that many additions instead of each time
+            int entriesToEvict = cache.size() - (maximumSize - maximumSize / 10);
+            cache.entrySet()
+                 .stream()
+                 .filter(entry -> entry.getValue()
+                                       .isLoaded())
+                 // The access timestamps change while the entries are sorted, so they are read only once
+                 .map(entry -> new EvictionCandidate<>(entry.getKey(), entry.getValue(), entry.getValue()
+                                                                                              .getLastAccessTimestamp()))
+                 .sorted(Comparator.comparingLong(EvictionCandidate::lastAccessTimestamp))
+                 .limit(entriesToEvict)
+                 .toList()
+                 .forEach(candidate -> cache.remove(candidate.key(), candidate.entry()));
+        } finally {
+            isEvicting.set(false);
+        }
     }
 
     private void clearStaleEntries() {
         long currentTime = System.currentTimeMillis();
         cache.values()
-             .removeIf(obj -> obj.isExpired(currentTime));
+             .removeIf(entry -> entry.isLoaded() && entry.isExpired(currentTime));
+    }
+
+    public record Statistics(long hitCount, long missCount, long loadCount, Duration totalLoadTime) {
+    }
+
+    private record EvictionCandidate<K, V>(K key, Entry<V> entry, long lastAccessTimestamp) {
+    }
+
+    private static class Entry<V> {
+
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+        private volatile long expirationTimestamp = Long.MAX_VALUE;
+        private volatile long lastAccessTimestamp = System.nanoTime();
+
+        void complete(V value, Duration expirationTime) {
+            expirationTimestamp = System.currentTimeMillis() + expirationTime.toMillis();
+            this.value.complete(value);
+        }
+
+        void fail(Throwable e) {
+            value.completeExceptionally(e);
+        }
+
+        boolean isLoaded() {
+            return value.isDone();
+        }
+
+        V getValue() {
+            lastAccessTimestamp = System.nanoTime();
+            return value.getNow(null);
+        }
+
+        V awaitValue() {
+            try {
+                return value.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        long getLastAccessTimestamp() {
+            return lastAccessTimestamp;
+        }
+
+        boolean isExpired() {
+            return isExpired(System.currentTimeMillis());
+        }
+
+        boolean isExpired(long currentTime) {
+            return currentTime >= expirationTimestamp;
+        }
     }
 
 }
@@ -0,0 +1,45 @@
+package org.cloudfoundry.multiapps.controller.core.model;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Exports the {@link CachedMap.Statistics} of a map as meters, which read the statistics whenever they are published. The meters of a map
+ * are named after the given prefix and are tagged with the name of the map.
+ */
+public final class CachedMapMetrics {
+
+    public static final String CACHE_TAG = "cache";
+
+    private CachedMapMetrics() {
+
+    }
+
+    public static void register(String metricsPrefix, String cacheName, CachedMap<?, ?> cache) {
+        register(Metrics.globalRegistry, metricsPrefix, cacheName, cache);
+    }
+
+    static void register(MeterRegistry registry, String metricsPrefix, String cacheName, CachedMap<?, ?> cache) {
+        FunctionCounter.builder(metricsPrefix + "hits", cache, cachedMap -> cachedMap.getStatistics()
+                                                                                     .hitCount())
+                       .tag(CACHE_TAG, cacheName)
+                       .register(registry);
+        FunctionCounter.builder(metricsPrefix + "misses", cache, cachedMap -> cachedMap.getStatistics()
+                                                                                       .missCount())
+                       .tag(CACHE_TAG, cacheName)
+                       .register(registry);
+        FunctionTimer.builder(metricsPrefix + "loads", cache, cachedMap -> cachedMap.getStatistics()
+                                                                                    .loadCount(),
+                              cachedMap -> cachedMap.getStatistics()
+                                                    .totalLoadTime()
+                                                    .toNanos(),
+                              TimeUnit.NANOSECONDS)
+                     .tag(CACHE_TAG, cacheName)
+                     .register(registry);
+    }
+
+}
@@ -4,7 +4,6 @@ import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -15,10 +14,10 @@ import java.util.stream.Collectors;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
-import org.cloudfoundry.multiapps.controller.client.util.TokenProperties;
 import org.cloudfoundry.multiapps.controller.core.Constants;
 import org.cloudfoundry.multiapps.controller.core.Messages;
 import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
+import org.cloudfoundry.multiapps.controller.core.model.CachedMapMetrics;
 import org.cloudfoundry.multiapps.controller.core.security.token.parsers.TokenParserChain;
 import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
 import org.cloudfoundry.multiapps.controller.persistence.model.AccessToken;
@@ -31,23 +30,33 @@ import org.springframework.beans.factory.DisposableBean;
 @Named
 public class TokenService implements DisposableBean {
 
+    public static final String CACHE_METRICS_PREFIX = "multiapps.token.cache.";
+    private static final int MAX_CACHED_TOKENS = 10000;
+    private static final Duration MIN_TOKEN_VALIDITY = Duration.ofSeconds(120);
+    private static final Duration TOKEN_REFRESH_AHEAD_TIME = Duration.ofMinutes(5);
+    private static final Duration MIN_TIME_BETWEEN_TOKEN_REFRESHES = Duration.ofSeconds(30);
+
     private final AccessTokenService accessTokenService;
     private final TokenParserChain tokenParserChain;
     private final Duration tokenExpirationTime = Duration.ofMinutes(10);
-    private final CachedMap<String, OAuth2AccessTokenWithAdditionalInfo> cachedTokens = new CachedMap<>(tokenExpirationTime);
-    private final ExecutorService threadPoolForTokensDeletion = new ThreadPoolExecutor(Constants.TOKEN_SERVICE_DELETION_CORE_POOL_SIZE,
-                                                                                       Constants.TOKEN_SERVICE_DELETION_MAXIMUM_POOL_SIZE,
-                                                                                       Constants.TOKEN_SERVICE_DELETION_KEEP_ALIVE_THREAD_IN_SECONDS,
-                                                                                       TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    private final CachedMap<String, OAuth2AccessTokenWithAdditionalInfo> cachedTokens = new CachedMap<>(tokenExpirationTime,
+                                                                                                       MAX_CACHED_TOKENS);
+    private final CachedMap<String, Instant> tokenRefreshes = new CachedMap<>(MIN_TIME_BETWEEN_TOKEN_REFRESHES, MAX_CACHED_TOKENS);
+    private final ExecutorService threadPoolForTokens = new ThreadPoolExecutor(Constants.TOKEN_SERVICE_DELETION_CORE_POOL_SIZE,
+                                                                               Constants.TOKEN_SERVICE_DELETION_MAXIMUM_POOL_SIZE,
+                                                                               Constants.TOKEN_SERVICE_DELETION_KEEP_ALIVE_THREAD_IN_SECONDS,
+                                                                               TimeUnit.SECONDS, new LinkedBlockingQueue<>());
 
     @Inject
     public TokenService(AccessTokenService accessTokenService, TokenParserChain tokenParserChain) {
         this.accessTokenService = accessTokenService;
         this.tokenParserChain = tokenParserChain;
+        CachedMapMetrics.register(CACHE_METRICS_PREFIX, "tokens", cachedTokens);
     }
 
     /**
-     * Chooses a token among all tokens for this user in the access token table.
+     * Chooses a token among all tokens for this user in the access token table. Concurrent callers for the same user wait for a single
+     * read of the table. A cached token which is about to expire is returned while the table is read again in the background.
      *
      * @param userGuid the userGuid
      * @return the latest token, or throw an exception if token is not found
@@ -55,17 +64,36 @@ public class TokenService implements DisposableBean {
     public OAuth2AccessTokenWithAdditionalInfo getToken(String userGuid) {
         OAuth2AccessTokenWithAdditionalInfo cachedAccessToken = cachedTokens.get(userGuid);
         if (shouldUseCachedToken(cachedAccessToken)) {
+            if (isAboutToExpire(cachedAccessToken)) {
+                refreshTokenAhead(userGuid);
+            }
             return cachedAccessToken;
         }
-        return getLatestAccessTokenByUserGuid(userGuid);
-
+        return cachedTokens.computeIfAbsent(userGuid, this::shouldUseCachedToken, () -> getLatestAccessTokenByUserGuid(userGuid));
     }
 
     private boolean shouldUseCachedToken(OAuth2AccessTokenWithAdditionalInfo cachedAccessToken) {
-        return cachedAccessToken != null && !cachedAccessToken.getOAuth2AccessToken()
-                                                              .getExpiresAt()
-                                                              .isBefore(Instant.now()
-                                                                               .plus(120, ChronoUnit.SECONDS));
+        return cachedAccessToken != null && !expiresWithin(cachedAccessToken, MIN_TOKEN_VALIDITY);
+    }
+
+    private boolean isAboutToExpire(OAuth2AccessTokenWithAdditionalInfo token) {
+        return expiresWithin(token, MIN_TOKEN_VALIDITY.plus(TOKEN_REFRESH_AHEAD_TIME));
+    }
+
+    private boolean expiresWithin(OAuth2AccessTokenWithAdditionalInfo token, Duration duration) {
+        return token.getOAuth2AccessToken()
+                    .getExpiresAt()
+                    .isBefore(Instant.now()
+                                     .plus(duration));
+    }
+
+    private void refreshTokenAhead(String userGuid) {
+        // A newer token is stored only when the user calls the API again, so the table is not read on every call
+        if (tokenRefreshes.get(userGuid) != null) {
+            return;
+        }
+        tokenRefreshes.put(userGuid, Instant.now());
+        cachedTokens.refreshAsync(userGuid, () -> getLatestAccessTokenByUserGuid(userGuid), threadPoolForTokens);
     }
 
     private OAuth2AccessTokenWithAdditionalInfo getLatestAccessTokenByUserGuid(String userGuid) {
@@ -74,7 +102,7 @@ public class TokenService implements DisposableBean {
             throw new IllegalStateException(MessageFormat.format(Messages.NO_VALID_TOKEN_FOUND, userGuid));
         }
         OAuth2AccessTokenWithAdditionalInfo latestToken = getLatestToken(tokensByGuid);
-        addTokenToCache(latestToken, tokensByGuid);
+        deleteOlderTokens(tokensByGuid);
         return latestToken;
     }
 
@@ -85,9 +113,7 @@ public class TokenService implements DisposableBean {
                                  .list();
     }
 
-    private void addTokenToCache(OAuth2AccessTokenWithAdditionalInfo token, List<AccessToken> accessTokens) {
-        cachedTokens.put((String) token.getAdditionalInfo()
-                                       .get(TokenProperties.USER_ID_KEY), token);
+    private void deleteOlderTokens(List<AccessToken> accessTokens) {
         if (accessTokens.size() > 1) {
             deleteTokens(accessTokens.subList(1, accessTokens.size()));
         }
@@ -102,7 +128,7 @@ public class TokenService implements DisposableBean {
         if (accessTokens.isEmpty()) {
             return;
         }
-        threadPoolForTokensDeletion.submit(() -> doDeleteTokens(accessTokens));
+        threadPoolForTokens.submit(() -> doDeleteTokens(accessTokens));
     }
 
     private void doDeleteTokens(List<AccessToken> tokens) {
@@ -116,5 +142,6 @@ public class TokenService implements DisposableBean {
     @Override
     public void destroy() {
         cachedTokens.clear();
+        tokenRefreshes.clear();
     }
 }
@@ -78,6 +78,7 @@ public class ApplicationConfiguration {
     static final String CFG_FSS_CACHE_UPDATE_TIMEOUT_MINUTES = "FSS_CACHE_UPDATE_TIMEOUT_MINUTES";
     static final String CFG_THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS = "THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS";
     static final String CFG_SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS = "SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS";
+    static final String CFG_SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS = "SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS";
     static final String CFG_CONTROLLER_CLIENT_SSL_HANDSHAKE_TIMEOUT_IN_SECONDS = "CONTROLLER_CLIENT_SSL_HANDSHAKE_TIMEOUT_IN_SECONDS";
     static final String CFG_CONTROLLER_CLIENT_CONNECT_TIMEOUT_IN_SECONDS = "CONTROLLER_CLIENT_CONNECT_TIMEOUT_IN_SECONDS";
     static final String CFG_CONTROLLER_CLIENT_CONNECTION_POOL_SIZE = "CONTROLLER_CLIENT_CONNECTION_POOL_SIZE";
@@ -99,6 +100,11 @@ public class ApplicationConfiguration {
     static final String CFG_ENABLE_ON_START_FILES_WITHOUT_CONTENT_CLEANER = "ENABLE_ON_START_FILES_WITHOUT_CONTENT_CLEANER";
     static final String CFG_THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER = "THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER";
     static final String CFG_THREADS_FOR_FILE_STORAGE_UPLOAD = "THREADS_FOR_FILE_STORAGE_UPLOAD";
+    static final String CFG_THREADS_FOR_MODULE_DOWNLOAD = "THREADS_FOR_MODULE_DOWNLOAD";
+    static final String CFG_MODULE_DOWNLOAD_CHUNK_SIZE = "MODULE_DOWNLOAD_CHUNK_SIZE";
+    static final String CFG_MAX_MODULE_CONTENT_CACHE_ENTRIES = "MAX_MODULE_CONTENT_CACHE_ENTRIES";
+    static final String CFG_ARCHIVE_BUFFER_SIZE = "ARCHIVE_BUFFER_SIZE";
+    static final String CFG_MAX_PARALLEL_MODULE_DEPLOYMENTS = "MAX_PARALLEL_MODULE_DEPLOYMENTS";
     static final String CFG_IS_HEALTH_CHECK_ENABLED = "IS_HEALTH_CHECK_ENABLED";
 
     private static final List<String> VCAP_APPLICATION_URIS_KEYS = List.of("full_application_uris", "application_uris", "uris");
@@ -133,6 +139,7 @@ public class ApplicationConfiguration {
     public static final Integer DEFAULT_FSS_CACHE_UPDATE_TIMEOUT_MINUTES = 30;
     public static final Integer DEFAULT_THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS = 1;
     public static final Integer DEFAULT_SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS = 20;
+    public static final Integer DEFAULT_SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS = 5;
     public static final int DEFAULT_CONTROLLER_CLIENT_SSL_HANDSHAKE_TIMEOUT_IN_SECONDS = 30;
     // We've experimented with much smaller values (5, 15 seconds), but these lead
     // to connection timeouts.
@@ -157,6 +164,15 @@ public class ApplicationConfiguration {
     public static final boolean DEFAULT_ENABLE_ON_START_FILES_WITHOUT_CONTENT_CLEANER = false;
     public static final int DEFAULT_THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER = 6;
     public static final int DEFAULT_THREADS_FOR_FILE_STORAGE_UPLOAD = 7;
+    public static final int DEFAULT_THREADS_FOR_MODULE_DOWNLOAD = 4;
+    public static final int DEFAULT_MODULE_DOWNLOAD_CHUNK_SIZE = 4 * 1024 * 1024; // 4MB
+    public static final int MIN_MODULE_DOWNLOAD_CHUNK_SIZE = 64 * 1024; // 64KB
+    public static final int MAX_MODULE_DOWNLOAD_CHUNK_SIZE = 64 * 1024 * 1024; // 64MB
+    public static final int DEFAULT_MAX_MODULE_CONTENT_CACHE_ENTRIES = 10000;
+    public static final int DEFAULT_ARCHIVE_BUFFER_SIZE = 256 * 1024; // 256KB
+    public static final int MIN_ARCHIVE_BUFFER_SIZE = 4 * 1024; // 4KB
+    public static final int MAX_ARCHIVE_BUFFER_SIZE = 1024 * 1024; // 1MB
+    public static final int DEFAULT_MAX_PARALLEL_MODULE_DEPLOYMENTS = Integer.MAX_VALUE;
     public static final boolean DEFAULT_IS_HEALTH_CHECK_ENABLED = false;
 
     protected final Environment environment;
@@ -197,6 +213,7 @@ public class ApplicationConfiguration {
     private Integer fssCacheUpdateTimeoutMinutes;
     private Integer threadMonitorCacheUpdateInSeconds;
     private Integer spaceDeveloperCacheTimeInSeconds;
+    private Integer spaceRolesNegativeCacheTimeInSeconds;
     private Platform platform;
     private Duration controllerClientSslHandshakeTimeout;
     private Duration controllerClientConnectTimeout;
@@ -215,6 +232,11 @@ public class ApplicationConfiguration {
     private Boolean isOnStartFilesWithoutContentCleanerEnabledThroughEnvironment;
     private Integer threadsForFileUploadToController;
     private Integer threadsForFileStorageUpload;
+    private Integer threadsForModuleDownload;
+    private Long moduleDownloadChunkSize;
+    private Integer maxModuleContentCacheEntries;
+    private Integer archiveBufferSize;
+    private Integer maxParallelModuleDeployments;
     private Boolean isHealthCheckEnabled;
     private Set<String> objectStoreRegions;
 
@@ -562,6 +584,13 @@ public class ApplicationConfiguration {
         return spaceDeveloperCacheTimeInSeconds;
     }
 
+    public Integer getSpaceRolesNegativeCacheExpirationInSeconds() {
+        if (spaceRolesNegativeCacheTimeInSeconds == null) {
+            spaceRolesNegativeCacheTimeInSeconds = getSpaceRolesNegativeCacheTimeInSecondsFromEnvironment();
+        }
+        return spaceRolesNegativeCacheTimeInSeconds;
+    }
+
     public Duration getControllerClientSslHandshakeTimeout() {
         if (controllerClientSslHandshakeTimeout == null) {
             controllerClientSslHandshakeTimeout = getControllerClientSslHandshakeTimeoutFromEnvironment();
@@ -660,6 +689,41 @@ public class ApplicationConfiguration {
         return threadsForFileStorageUpload;
     }
 
+    public int getThreadsForModuleDownload() {
+        if (threadsForModuleDownload == null) {
+            threadsForModuleDownload = getThreadsForModuleDownloadFromEnvironment();
+        }
+        return threadsForModuleDownload;
+    }
+
+    public long getModuleDownloadChunkSize() {
+        if (moduleDownloadChunkSize == null) {
+            moduleDownloadChunkSize = getModuleDownloadChunkSizeFromEnvironment();
+        }
+        return moduleDownloadChunkSize;
+    }
+
+    public int getMaxModuleContentCacheEntries() {
+        if (maxModuleContentCacheEntries == null) {
+            maxModuleContentCacheEntries = getMaxModuleContentCacheEntriesFromEnvironment();
+        }
+        return maxModuleContentCacheEntries;
+    }
+
+    public int getMaxParallelModuleDeployments() {
+        if (maxParallelModuleDeployments == null) {
+            maxParallelModuleDeployments = getMaxParallelModuleDeploymentsFromEnvironment();
+        }
+        return maxParallelModuleDeployments;
+    }
+
+    public int getArchiveBufferSize() {
+        if (archiveBufferSize == null) {
+            archiveBufferSize = getArchiveBufferSizeFromEnvironment();
+        }
+        return archiveBufferSize;
+    }
+
     public boolean isHealthCheckEnabled() {
         if (isHealthCheckEnabled == null) {
             isHealthCheckEnabled = isHealthCheckEnabledFromEnvironment();
@@ -998,6 +1062,13 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private Integer getSpaceRolesNegativeCacheTimeInSecondsFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS,
+                                                       DEFAULT_SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS);
+        logEnvironmentVariable(CFG_SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS, Messages.SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS, value);
+        return value;
+    }
+
     private Duration getControllerClientSslHandshakeTimeoutFromEnvironment() {
         Integer value = environment.getPositiveInteger(CFG_CONTROLLER_CLIENT_SSL_HANDSHAKE_TIMEOUT_IN_SECONDS,
                                                        DEFAULT_CONTROLLER_CLIENT_SSL_HANDSHAKE_TIMEOUT_IN_SECONDS);
@@ -1091,6 +1162,48 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private int getThreadsForModuleDownloadFromEnvironment() {
+        int value = environment.getPositiveInteger(CFG_THREADS_FOR_MODULE_DOWNLOAD, DEFAULT_THREADS_FOR_MODULE_DOWNLOAD);
+        logEnvironmentVariable(CFG_THREADS_FOR_MODULE_DOWNLOAD, Messages.THREADS_FOR_MODULE_DOWNLOAD_0, value);
+        return value;
+    }
+
+    private long getModuleDownloadChunkSizeFromEnvironment() {
+        // A chunk is read in a single ranged request and held in memory, so it should be neither too small to be worth a request nor
+        // too large for the threads which download modules
+        int value = environment.getInteger(CFG_MODULE_DOWNLOAD_CHUNK_SIZE, DEFAULT_MODULE_DOWNLOAD_CHUNK_SIZE);
+        if (value <= 0) {
+            LOGGER.warn(format(Messages.INVALID_VALUE_0_OF_1_USING_DEFAULT_2, value, CFG_MODULE_DOWNLOAD_CHUNK_SIZE,
+                               DEFAULT_MODULE_DOWNLOAD_CHUNK_SIZE));
+            value = DEFAULT_MODULE_DOWNLOAD_CHUNK_SIZE;
+        } else if (value < MIN_MODULE_DOWNLOAD_CHUNK_SIZE || value > MAX_MODULE_DOWNLOAD_CHUNK_SIZE) {
+            LOGGER.warn(format(Messages.VALUE_0_OF_1_IS_OUT_OF_RANGE_2_3, value, CFG_MODULE_DOWNLOAD_CHUNK_SIZE,
+                               MIN_MODULE_DOWNLOAD_CHUNK_SIZE, MAX_MODULE_DOWNLOAD_CHUNK_SIZE));
+            value = Math.clamp(value, MIN_MODULE_DOWNLOAD_CHUNK_SIZE, MAX_MODULE_DOWNLOAD_CHUNK_SIZE);
+        }
+        logEnvironmentVariable(CFG_MODULE_DOWNLOAD_CHUNK_SIZE, Messages.MODULE_DOWNLOAD_CHUNK_SIZE_0, value);
+        return value;
+    }
+
+    private int getMaxModuleContentCacheEntriesFromEnvironment() {
+        int value = environment.getPositiveInteger(CFG_MAX_MODULE_CONTENT_CACHE_ENTRIES, DEFAULT_MAX_MODULE_CONTENT_CACHE_ENTRIES);
+        logEnvironmentVariable(CFG_MAX_MODULE_CONTENT_CACHE_ENTRIES, Messages.MAX_MODULE_CONTENT_CACHE_ENTRIES_0, value);
+        return value;
+    }
+
+    private int getMaxParallelModuleDeploymentsFromEnvironment() {
+        int value = environment.getPositiveInteger(CFG_MAX_PARALLEL_MODULE_DEPLOYMENTS, DEFAULT_MAX_PARALLEL_MODULE_DEPLOYMENTS);
+        logEnvironmentVariable(CFG_MAX_PARALLEL_MODULE_DEPLOYMENTS, Messages.MAX_PARALLEL_MODULE_DEPLOYMENTS_0, value);
+        return value;
+    }
+
+    private int getArchiveBufferSizeFromEnvironment() {
+        int value = environment.getPositiveInteger(CFG_ARCHIVE_BUFFER_SIZE, DEFAULT_ARCHIVE_BUFFER_SIZE);
+        value = Math.clamp(value, MIN_ARCHIVE_BUFFER_SIZE, MAX_ARCHIVE_BUFFER_SIZE);
+        logEnvironmentVariable(CFG_ARCHIVE_BUFFER_SIZE, Messages.ARCHIVE_BUFFER_SIZE_0, value);
+        return value;
+    }
+
     public boolean isHealthCheckEnabledFromEnvironment() {
         boolean value = environment.getBoolean(CFG_IS_HEALTH_CHECK_ENABLED, DEFAULT_IS_HEALTH_CHECK_ENABLED);
         logEnvironmentVariable(CFG_IS_HEALTH_CHECK_ENABLED, Messages.IS_HEALTH_CHECK_ENABLED, value);
@@ -69,6 +69,7 @@ public class FileUtils {
         if (filePath == null) {
             return;
         }
+        TempFileUsageTracker.release(filePath);
         File file = filePath.toFile();
         if (!file.exists()) {
             return;
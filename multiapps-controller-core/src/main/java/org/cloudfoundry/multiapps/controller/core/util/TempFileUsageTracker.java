@@ -0,0 +1,87 @@
+package org.cloudfoundry.multiapps.controller.core.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accounts the disk space of the temporary files which are created while processing operations, so that the used space is known without
+ * walking the file system. A file is accounted by the code which creates it and released when it is deleted through
+ * {@link FileUtils#cleanUp(Path, org.slf4j.Logger)}.
+ */
+public final class TempFileUsageTracker {
+
+    public enum Category {
+        EXTRACTED_APPLICATION, APPLICATION_ZIP
+    }
+
+    private static final Map<Path, TrackedFile> TRACKED_FILES = new ConcurrentHashMap<>();
+    private static final Map<Category, AtomicLong> USED_SPACE = createUsedSpaceCounters();
+
+    private TempFileUsageTracker() {
+    }
+
+    private static Map<Category, AtomicLong> createUsedSpaceCounters() {
+        Map<Category, AtomicLong> usedSpace = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            usedSpace.put(category, new AtomicLong());
+        }
+        return usedSpace;
+    }
+
+    /**
+     * Accounts the current size of a file which is completely written. Tracking the same file again replaces its previous size.
+     */
+    public static void track(Category category, Path file) throws IOException {
+        long size = Files.size(file);
+        TrackedFile previousFile = TRACKED_FILES.put(toKey(file), new TrackedFile(category, size));
+        add(category, size);
+        if (previousFile != null) {
+            add(previousFile.category(), -previousFile.size());
+        }
+    }
+
+    public static void release(Path file) {
+        TrackedFile trackedFile = TRACKED_FILES.remove(toKey(file));
+        if (trackedFile != null) {
+            add(trackedFile.category(), -trackedFile.size());
+        }
+    }
+
+    public static long getUsedSpace(Category category) {
+        return USED_SPACE.get(category)
+                         .get();
+    }
+
+    /**
+     * @return the space of the tracked files which are located in the directory or in any of its subdirectories
+     */
+    public static long getUsedSpaceIn(Path directory) {
+        Path absoluteDirectory = toKey(directory);
+        return TRACKED_FILES.entrySet()
+                            .stream()
+                            .filter(trackedFile -> trackedFile.getKey()
+                                                              .startsWith(absoluteDirectory))
+                            .mapToLong(trackedFile -> trackedFile.getValue()
+                                                                 .size())
+                            .sum();
+    }
+
+    private static Path toKey(Path file) {
+        return file.toAbsolutePath()
+                   .normalize();
+    }
+
+    private static void add(Category category, long size) {
+        USED_SPACE.get(category)
+                  .addAndGet(size);
+    }
+
+    private record TrackedFile(Category category, long size) {
+    }
+
+}
@@ -1,6 +1,8 @@
 package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 import org.apache.logging.log4j.core.Logger;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
@@ -9,7 +11,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import javax.sql.DataSource;
 
 class AuditLogManagerTest {
@@ -18,29 +28,99 @@ class AuditLogManagerTest {
 
     private AuditLogManager auditLogManager;
 
+    private int initialAuditLogRowsCount;
+
     private static final String AUDIT_LOG_CHANGELOG_LOCATION = "org/cloudfoundry/multiapps/controller/persistence/db/changelog/db-changelog.xml";
 
     @BeforeEach
     void setUp() throws Exception {
         testDataSource = TestDataSourceProvider.getDataSource(AUDIT_LOG_CHANGELOG_LOCATION);
         auditLogManager = new AuditLogManager(testDataSource, createTestUserInfoProvider());
+        auditLogManager.start();
+        // The in-memory database is shared by the tests
+        initialAuditLogRowsCount = countAuditLogRows();
     }
 
     @AfterEach
     void tearDown() throws Exception {
+        auditLogManager.stop();
         testDataSource.getConnection()
                       .close();
     }
 
     @Test
-    void testAuditLogManager() {
+    void testAuditLogManager() throws Exception {
         List<Logger> loggers = loadAuditLoggers();
 
         logMessage(loggers);
+        auditLogManager.stop();
+
+        assertNull(auditLogManager.getException());
+        assertEquals(loggers.size(), countWrittenAuditLogRows());
+    }
+
+    @Test
+    void testEventsAreWrittenInBackgroundAndDrainedOnStop() throws Exception {
+        CountDownLatch writesAllowed = new CountDownLatch(1);
+        AuditLogManager blockedAuditLogManager = new AuditLogManager(blockGetConnectionUntil(writesAllowed), createTestUserInfoProvider());
+        blockedAuditLogManager.start();
+        try {
+            // The database is blocked, so logging would not return if the events were written by the logging thread
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                for (int i = 0; i < 10; i++) {
+                    blockedAuditLogManager.getActionLogger()
+                                          .info("Test Message " + i);
+                }
+            });
+            assertEquals(0, countWrittenAuditLogRows());
+        } finally {
+            writesAllowed.countDown();
+            blockedAuditLogManager.stop();
+        }
+
+        assertEquals(0, blockedAuditLogManager.getPendingEventsCount());
+        assertEquals(10, countWrittenAuditLogRows());
+        assertNull(blockedAuditLogManager.getException());
+    }
+
+    @Test
+    void testEventsAreWrittenDirectlyAfterStop() throws Exception {
+        auditLogManager.stop();
+
+        auditLogManager.getSecurityLogger()
+                       .info("Test Message");
 
+        assertEquals(1, countWrittenAuditLogRows());
         assertNull(auditLogManager.getException());
     }
 
+    private DataSource blockGetConnectionUntil(CountDownLatch latch) {
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DataSource.class },
+                                                   (proxy, method, args) -> {
+                                                       if (method.getName()
+                                                                 .equals("getConnection")) {
+                                                           latch.await();
+                                                       }
+                                                       try {
+                                                           return method.invoke(testDataSource, args);
+                                                       } catch (InvocationTargetException e) {
+                                                           throw e.getCause();
+                                                       }
+                                                   });
+    }
+
+    private int countWrittenAuditLogRows() throws SQLException {
+        return countAuditLogRows() - initialAuditLogRowsCount;
+    }
+
+    private int countAuditLogRows() throws SQLException {
+        try (Connection connection = testDataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM AUDIT_LOG")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
     private List<Logger> loadAuditLoggers() {
         return List.of(auditLogManager.getSecurityLogger(), auditLogManager.getActionLogger(), auditLogManager.getConfigLogger());
     }
@@ -0,0 +1,131 @@
+package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.cloudfoundry.multiapps.controller.persistence.test.TestDataSourceProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DBAppenderTest {
+
+    private static final String CATEGORY = "ACTION";
+    private static final String INSERT_STATEMENT = "INSERT INTO TEST_AUDIT_LOG (CATEGORY, MESSAGE) VALUES (?, ?)";
+    private static final DBAppender.LogEventAdapter EVENT_ADAPTER = (category, event, userInfo, stmt) -> {
+        stmt.setString(1, category);
+        stmt.setString(2, event.getMessage()
+                               .getFormattedMessage());
+    };
+
+    private final AuditLoggingExceptionHandler exceptionHandler = new AuditLoggingExceptionHandler();
+    private DataSource testDataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testDataSource = TestDataSourceProvider.getDataSource();
+        executeStatement("CREATE TABLE TEST_AUDIT_LOG (CATEGORY VARCHAR(255), MESSAGE VARCHAR(255))");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executeStatement("DROP TABLE TEST_AUDIT_LOG");
+    }
+
+    @Test
+    void testPendingEventsAreWrittenOnStop() throws Exception {
+        DBAppender appender = createAppender(Duration.ofMinutes(1));
+        appender.startWriter();
+
+        appendEvents(appender, "first", "second", "third");
+        appender.stop();
+
+        assertEquals(List.of("first", "second", "third"), getWrittenMessages());
+        assertEquals(0, appender.getPendingEventsCount());
+        assertNull(exceptionHandler.getException());
+    }
+
+    @Test
+    void testEventsAreWrittenInBatches() throws Exception {
+        DBAppender appender = createAppender(Duration.ofMillis(10));
+        appender.startWriter();
+
+        appendEvents(appender, "first", "second", "third", "fourth", "fifth");
+        appender.stop();
+
+        assertEquals(List.of("first", "second", "third", "fourth", "fifth"), getWrittenMessages());
+        assertNull(exceptionHandler.getException());
+    }
+
+    @Test
+    void testValidEventsOfFailedBatchAreWritten() throws Exception {
+        DBAppender appender = createAppender(Duration.ofMinutes(1));
+        appender.startWriter();
+
+        appendEvents(appender, "first", "x".repeat(256), "third");
+        appender.stop();
+
+        assertEquals(List.of("first", "third"), getWrittenMessages());
+        assertNotNull(exceptionHandler.getException());
+    }
+
+    @Test
+    void testEventsAreWrittenDirectlyWhenAppenderIsNotStarted() throws Exception {
+        DBAppender appender = createAppender(Duration.ofMinutes(1));
+
+        appendEvents(appender, "first");
+
+        assertEquals(List.of("first"), getWrittenMessages());
+        assertNull(exceptionHandler.getException());
+    }
+
+    private DBAppender createAppender(Duration flushInterval) {
+        return new DBAppender(testDataSource, INSERT_STATEMENT, EVENT_ADAPTER, exceptionHandler, () -> null, CATEGORY,
+                              DBAppender.DEFAULT_MAX_PENDING_EVENTS, 2, flushInterval);
+    }
+
+    private void appendEvents(DBAppender appender, String... messages) {
+        for (String message : messages) {
+            appender.append(createLogEvent(message));
+        }
+    }
+
+    private static LogEvent createLogEvent(String message) {
+        return Log4jLogEvent.newBuilder()
+                            .setLevel(Level.INFO)
+                            .setMessage(new SimpleMessage(message))
+                            .build();
+    }
+
+    private List<String> getWrittenMessages() throws SQLException {
+        List<String> messages = new ArrayList<>();
+        try (Connection connection = testDataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT MESSAGE FROM TEST_AUDIT_LOG")) {
+            while (resultSet.next()) {
+                messages.add(resultSet.getString(1));
+            }
+        }
+        return messages;
+    }
+
+    private void executeStatement(String sql) throws SQLException {
+        try (Connection connection = testDataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+}
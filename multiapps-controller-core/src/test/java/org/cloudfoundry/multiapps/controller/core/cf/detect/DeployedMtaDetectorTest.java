@@ -5,6 +5,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -15,6 +17,7 @@ import org.cloudfoundry.multiapps.common.test.Tester;
 import org.cloudfoundry.multiapps.common.test.Tester.Expectation;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudOperationException;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudApplication;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceInstance;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudApplication;
@@ -29,6 +32,7 @@ import org.cloudfoundry.multiapps.controller.core.cf.metadata.processor.MtaMetad
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.util.MtaMetadataUtil;
 import org.cloudfoundry.multiapps.controller.core.util.NameUtil;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -36,6 +40,11 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DeployedMtaDetectorTest {
 
@@ -177,6 +186,40 @@ class DeployedMtaDetectorTest {
         verifyNamespaceWasChecked(namespace);
     }
 
+    @Test
+    void testFailureOfCollectorIsPropagated() {
+        Mockito.doReturn(Collections.emptyList())
+               .when(client)
+               .getApplicationsByMetadataLabelSelector(ArgumentMatchers.anyString());
+        Mockito.doThrow(new CloudOperationException(HttpStatus.BAD_GATEWAY))
+               .when(client)
+               .getServiceInstancesByMetadataLabelSelector(ArgumentMatchers.anyString());
+
+        CloudOperationException exception = assertThrows(CloudOperationException.class,
+                                                         () -> deployedMtaDetector.detectDeployedMtas(client));
+        assertEquals(HttpStatus.BAD_GATEWAY, exception.getStatusCode());
+    }
+
+    @Test
+    void testCollectorsShareTheClientConcurrently() {
+        CyclicBarrier collectorsBarrier = new CyclicBarrier(collectors.size());
+        Mockito.doAnswer(invocation -> awaitOtherCollectors(collectorsBarrier))
+               .when(client)
+               .getApplicationsByMetadataLabelSelector(ArgumentMatchers.anyString());
+        Mockito.doAnswer(invocation -> awaitOtherCollectors(collectorsBarrier))
+               .when(client)
+               .getServiceInstancesByMetadataLabelSelector(ArgumentMatchers.anyString());
+
+        assertTrue(deployedMtaDetector.detectDeployedMtas(client)
+                                      .isEmpty());
+    }
+
+    private static List<?> awaitOtherCollectors(CyclicBarrier collectorsBarrier) throws Exception {
+        // Times out instead of blocking forever if the collectors use the client one after another
+        collectorsBarrier.await(30, TimeUnit.SECONDS);
+        return Collections.emptyList();
+    }
+
     private void verifyNamespaceWasChecked(String namespace) {
         if (namespace != null) {
             Mockito.verify(client)
@@ -0,0 +1,42 @@
+package org.cloudfoundry.multiapps.controller.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class CachedMapMetricsTest {
+
+    private static final String METRICS_PREFIX = "test.cache.";
+
+    @Test
+    void testStatisticsAreExported() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CachedMap<String, String> map = new CachedMap<>(Duration.ofMinutes(1));
+        CachedMapMetrics.register(registry, METRICS_PREFIX, "test", map);
+
+        map.computeIfAbsent("key", () -> "value");
+        map.computeIfAbsent("key", () -> "other-value");
+        map.get("key");
+
+        assertEquals(2, getFunctionCount(registry, "hits"));
+        assertEquals(1, getFunctionCount(registry, "misses"));
+        FunctionTimer loads = registry.get(METRICS_PREFIX + "loads")
+                                      .tag(CachedMapMetrics.CACHE_TAG, "test")
+                                      .functionTimer();
+        assertEquals(1, loads.count());
+        map.clear();
+    }
+
+    private static double getFunctionCount(MeterRegistry registry, String metricName) {
+        return registry.get(METRICS_PREFIX + metricName)
+                       .tag(CachedMapMetrics.CACHE_TAG, "test")
+                       .functionCounter()
+                       .count();
+    }
+
+}
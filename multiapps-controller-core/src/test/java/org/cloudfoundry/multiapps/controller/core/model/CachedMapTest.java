@@ -1,10 +1,19 @@
 package org.cloudfoundry.multiapps.controller.core.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,4 +29,105 @@ class CachedMapTest {
         map.clear();
     }
 
+    @Test
+    void testConcurrentComputeIfAbsentLoadsValueOnce() throws Exception {
+        CachedMap<String, String> map = new CachedMap<>(Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadAllowed = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> firstResult = executor.submit(() -> map.computeIfAbsent("test", () -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                await(loadAllowed);
+                return "value";
+            }));
+            loadStarted.await();
+            List<Future<String>> otherResults = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                otherResults.add(executor.submit(() -> map.computeIfAbsent("test", () -> {
+                    loads.incrementAndGet();
+                    return "other-value";
+                })));
+            }
+            loadAllowed.countDown();
+            assertEquals("value", firstResult.get());
+            for (Future<String> result : otherResults) {
+                assertEquals("value", result.get());
+            }
+        }
+        assertEquals(1, loads.get());
+        map.clear();
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        CachedMap<String, String> map = new CachedMap<>(Duration.ofMinutes(1));
+        assertThrows(IllegalStateException.class, () -> map.computeIfAbsent("test", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("value", map.computeIfAbsent("test", () -> "value"));
+        map.clear();
+    }
+
+    @Test
+    void testInvalidValueIsLoadedAgain() {
+        CachedMap<String, String> map = new CachedMap<>(Duration.ofMinutes(1));
+        map.put("test", "invalid-value");
+        assertEquals("value", map.computeIfAbsent("test", value -> !value.startsWith("invalid"), () -> "value"));
+        assertEquals("value", map.get("test"));
+        map.clear();
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        CachedMap<String, String> map = new CachedMap<>(Duration.ofMinutes(1), 2);
+        map.put("first", "first");
+        map.put("second", "second");
+        map.get("first");
+        map.put("third", "third");
+        assertNotNull(map.get("first"));
+        assertNull(map.get("second"));
+        assertNotNull(map.get("third"));
+        map.clear();
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntriesAreEvictedInBatches() {
+        CachedMap<String, String> map = new CachedMap<>(Duration.ofMinutes(1), 20);
+        for (int i = 0; i < 20; i++) {
+            map.put("key-" + i, "value");
+        }
+        map.put("key-20", "value");
+        for (int i = 0; i < 3; i++) {
+            assertNull(map.get("key-" + i));
+        }
+        for (int i = 3; i <= 20; i++) {
+            assertNotNull(map.get("key-" + i));
+        }
+        map.clear();
+    }
+
+    @Test
+    void testStatistics() {
+        CachedMap<String, String> map = new CachedMap<>(Duration.ofMinutes(1));
+        map.computeIfAbsent("test", () -> "value");
+        map.computeIfAbsent("test", () -> "value");
+        map.get("missing");
+        CachedMap.Statistics statistics = map.getStatistics();
+        assertEquals(1, statistics.hitCount());
+        assertEquals(2, statistics.missCount());
+        assertEquals(1, statistics.loadCount());
+        map.clear();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
 }
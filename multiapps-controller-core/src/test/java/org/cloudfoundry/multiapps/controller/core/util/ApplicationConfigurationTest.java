@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -132,6 +133,15 @@ class ApplicationConfigurationTest {
         Assertions.assertEquals(ApplicationConfiguration.DEFAULT_MAX_UPLOAD_SIZE, configuration.getMaxUploadSize());
     }
 
+    @ParameterizedTest
+    @CsvSource({ "4194304, 4194304", "1, 65536", "2147483647, 67108864", "0, 4194304", "-1, 4194304" })
+    void testGetModuleDownloadChunkSize(int environmentValue, long expectedChunkSize) {
+        Mockito.when(environment.getInteger(ApplicationConfiguration.CFG_MODULE_DOWNLOAD_CHUNK_SIZE,
+                                            ApplicationConfiguration.DEFAULT_MODULE_DOWNLOAD_CHUNK_SIZE))
+               .thenReturn(environmentValue);
+        Assertions.assertEquals(expectedChunkSize, configuration.getModuleDownloadChunkSize());
+    }
+
     @Test
     void testGetMaxMtaDescriptorSize() {
         Mockito.when(environment.getLong(ApplicationConfiguration.CFG_MAX_MTA_DESCRIPTOR_SIZE,
@@ -389,6 +399,15 @@ class ApplicationConfigurationTest {
                                 configuration.getSpaceDeveloperCacheExpirationInSeconds());
     }
 
+    @Test
+    void testGetSpaceRolesNegativeCacheExpirationInSeconds() {
+        Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS,
+                                                    ApplicationConfiguration.DEFAULT_SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS))
+               .thenReturn(ApplicationConfiguration.DEFAULT_SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS);
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_SPACE_ROLES_NEGATIVE_CACHE_TIME_IN_SECONDS,
+                                configuration.getSpaceRolesNegativeCacheExpirationInSeconds());
+    }
+
     @Test
     void testGetControllerClientConnectionPoolSize() {
         Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_CONTROLLER_CLIENT_CONNECTION_POOL_SIZE,
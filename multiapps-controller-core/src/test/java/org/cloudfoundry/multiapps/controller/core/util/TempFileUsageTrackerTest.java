@@ -0,0 +1,88 @@
+package org.cloudfoundry.multiapps.controller.core.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.cloudfoundry.multiapps.controller.core.util.TempFileUsageTracker.Category;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TempFileUsageTrackerTest {
+
+    private static final int FILE_SIZE = 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (var files = Files.list(tempDir)) {
+            files.forEach(TempFileUsageTracker::release);
+        }
+    }
+
+    @Test
+    void testTrack() throws IOException {
+        long usedSpaceBefore = TempFileUsageTracker.getUsedSpace(Category.APPLICATION_ZIP);
+        Path file = createFile("application.zip", FILE_SIZE);
+
+        TempFileUsageTracker.track(Category.APPLICATION_ZIP, file);
+
+        Assertions.assertEquals(usedSpaceBefore + FILE_SIZE, TempFileUsageTracker.getUsedSpace(Category.APPLICATION_ZIP));
+        Assertions.assertEquals(FILE_SIZE, TempFileUsageTracker.getUsedSpaceIn(tempDir));
+    }
+
+    @Test
+    void testTrackAgainReplacesPreviousSize() throws IOException {
+        long zipSpaceBefore = TempFileUsageTracker.getUsedSpace(Category.APPLICATION_ZIP);
+        long extractedSpaceBefore = TempFileUsageTracker.getUsedSpace(Category.EXTRACTED_APPLICATION);
+        Path file = createFile("application", FILE_SIZE);
+        TempFileUsageTracker.track(Category.APPLICATION_ZIP, file);
+
+        Files.write(file, new byte[2 * FILE_SIZE]);
+        TempFileUsageTracker.track(Category.EXTRACTED_APPLICATION, file);
+
+        Assertions.assertEquals(zipSpaceBefore, TempFileUsageTracker.getUsedSpace(Category.APPLICATION_ZIP));
+        Assertions.assertEquals(extractedSpaceBefore + 2 * FILE_SIZE, TempFileUsageTracker.getUsedSpace(Category.EXTRACTED_APPLICATION));
+        Assertions.assertEquals(2 * FILE_SIZE, TempFileUsageTracker.getUsedSpaceIn(tempDir));
+    }
+
+    @Test
+    void testRelease() throws IOException {
+        long usedSpaceBefore = TempFileUsageTracker.getUsedSpace(Category.EXTRACTED_APPLICATION);
+        Path file = createFile("application", FILE_SIZE);
+        TempFileUsageTracker.track(Category.EXTRACTED_APPLICATION, file);
+
+        TempFileUsageTracker.release(file);
+        TempFileUsageTracker.release(file);
+
+        Assertions.assertEquals(usedSpaceBefore, TempFileUsageTracker.getUsedSpace(Category.EXTRACTED_APPLICATION));
+        Assertions.assertEquals(0, TempFileUsageTracker.getUsedSpaceIn(tempDir));
+    }
+
+    @Test
+    void testGetUsedSpaceInCountsOnlyFilesInDirectory() throws IOException {
+        Path directory = Files.createDirectory(tempDir.resolve("directory"));
+        Path siblingDirectory = Files.createDirectory(tempDir.resolve("directory-sibling"));
+        Path fileInDirectory = Files.write(directory.resolve("application"), new byte[FILE_SIZE]);
+        Path fileInSiblingDirectory = Files.write(siblingDirectory.resolve("application"), new byte[2 * FILE_SIZE]);
+        try {
+            TempFileUsageTracker.track(Category.EXTRACTED_APPLICATION, fileInDirectory);
+            TempFileUsageTracker.track(Category.EXTRACTED_APPLICATION, fileInSiblingDirectory);
+
+            Assertions.assertEquals(FILE_SIZE, TempFileUsageTracker.getUsedSpaceIn(directory));
+            Assertions.assertEquals(3 * FILE_SIZE, TempFileUsageTracker.getUsedSpaceIn(tempDir));
+        } finally {
+            TempFileUsageTracker.release(fileInDirectory);
+            TempFileUsageTracker.release(fileInSiblingDirectory);
+        }
+    }
+
+    private Path createFile(String name, int size) throws IOException {
+        return Files.write(tempDir.resolve(name), new byte[size]);
+    }
+
+}
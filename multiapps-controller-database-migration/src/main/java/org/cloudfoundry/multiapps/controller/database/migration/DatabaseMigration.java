@@ -42,6 +42,7 @@ public class DatabaseMigration {
         sequenceMigrationExecutor.executeMigration("configuration_entry_sequence");
         sequenceMigrationExecutor.executeMigration("configuration_subscription_sequence");
         tableMigrationExecutor.executeMigration("configuration_registry");
+        tableMigrationExecutor.executeMigration("configuration_entry_visibility");
         tableMigrationExecutor.executeMigration("configuration_subscription");
 
         LOGGER.info("Database migration completed.");
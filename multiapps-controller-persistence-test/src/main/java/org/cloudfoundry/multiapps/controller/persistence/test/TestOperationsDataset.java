@@ -0,0 +1,57 @@
+package org.cloudfoundry.multiapps.controller.persistence.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+/**
+ * Fills the operation table, created by the Liquibase changelog of the persistence module, with large numbers of operations for
+ * benchmarks.
+ */
+public final class TestOperationsDataset {
+
+    private static final String INSERT_OPERATION = "INSERT INTO operation (process_id, process_type, started_at, ended_at, space_id, "
+        + "mta_id, namespace, userx, acquired_lock, current_state) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final Instant FIRST_OPERATION_START_TIME = Instant.parse("2020-01-01T00:00:00Z");
+    private static final int BATCH_SIZE = 1000;
+
+    private TestOperationsDataset() {
+
+    }
+
+    /**
+     * Inserts finished operations in the given space. Every {@code operationsPerStartTime} consecutive operations are started at the
+     * same millisecond, like operations started by parallel pipelines, and have random process IDs, so that their order is decided by the
+     * process ID.
+     */
+    public static void insertOperations(DataSource dataSource, String spaceId, int operationsCount, int operationsPerStartTime)
+        throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement(INSERT_OPERATION)) {
+            for (int i = 0; i < operationsCount; i++) {
+                Instant startedAt = FIRST_OPERATION_START_TIME.plusSeconds(i / operationsPerStartTime);
+                statement.setString(1, UUID.randomUUID()
+                                           .toString());
+                statement.setString(2, "DEPLOY");
+                statement.setTimestamp(3, Timestamp.from(startedAt));
+                statement.setTimestamp(4, Timestamp.from(startedAt.plusSeconds(60)));
+                statement.setString(5, spaceId);
+                statement.setString(6, "mta-" + i % 100);
+                statement.setString(7, null);
+                statement.setString(8, "user");
+                statement.setBoolean(9, false);
+                statement.setString(10, "FINISHED");
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+}
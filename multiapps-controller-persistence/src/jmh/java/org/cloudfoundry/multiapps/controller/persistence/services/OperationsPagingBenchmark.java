@@ -0,0 +1,134 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.cloudfoundry.multiapps.controller.api.model.Operation;
+import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
+import org.cloudfoundry.multiapps.controller.persistence.services.OperationService.OperationMapper;
+import org.cloudfoundry.multiapps.controller.persistence.test.TestDataSourceProvider;
+import org.cloudfoundry.multiapps.controller.persistence.test.TestOperationsDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the listing of all operations of a space, which the operations API does when no page size is requested, with the selection of
+ * one page by the (started_at, process_id) cursor. The schema is created by the Liquibase changelog, and the composite index on the
+ * operation table can be dropped to show how much of the difference comes from it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OperationsPagingBenchmark {
+
+    private static final String LIQUIBASE_CHANGELOG_LOCATION = "org/cloudfoundry/multiapps/controller/persistence/db/changelog/db-changelog.xml";
+    private static final String BENCHMARKED_SPACE_ID = "space-0";
+    private static final int SPACES_COUNT = 10;
+    private static final int OPERATIONS_PER_SPACE = 30_000;
+    private static final int OPERATIONS_PER_START_TIME = 5;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({ "true", "false" })
+    private boolean compositeIndex;
+
+    // The in-memory database is dropped when its last connection is closed
+    private DataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private OperationService operationService;
+    private ZonedDateTime cursorStartedAt;
+    private String cursorProcessId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = TestDataSourceProvider.getDataSource(LIQUIBASE_CHANGELOG_LOCATION);
+        if (!compositeIndex) {
+            executeUpdate("DROP INDEX idx_operation_space_id_started_at_process_id");
+        }
+        for (int i = 0; i < SPACES_COUNT; i++) {
+            TestOperationsDataset.insertOperations(dataSource, "space-" + i, OPERATIONS_PER_SPACE, OPERATIONS_PER_START_TIME);
+        }
+        executeUpdate("ANALYZE");
+        entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault", Map.of("jakarta.persistence.jdbc.url",
+                                                                                            "jdbc:h2:mem:testdb", "jakarta.persistence.jdbc.user",
+                                                                                            "sa", "jakarta.persistence.jdbc.password", "",
+                                                                                            "eclipselink.ddl-generation", "none"));
+        operationService = new OperationService(entityManagerFactory);
+        operationService.operationMapper = new OperationMapper();
+        selectCursorInTheMiddleOfTheSpace();
+    }
+
+    private void selectCursorInTheMiddleOfTheSpace() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT started_at, process_id FROM operation WHERE space_id = '"
+                + BENCHMARKED_SPACE_ID + "' ORDER BY started_at, process_id OFFSET " + OPERATIONS_PER_SPACE / 2 + " ROWS")) {
+            resultSet.next();
+            cursorStartedAt = ZonedDateTime.ofInstant(resultSet.getTimestamp(1)
+                                                               .toInstant(), ZoneId.of("UTC"));
+            cursorProcessId = resultSet.getString(2);
+        }
+    }
+
+    private void executeUpdate(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        entityManagerFactory.close();
+        executeUpdate("DROP ALL OBJECTS");
+    }
+
+    @Benchmark
+    public List<Operation> listAllOperations() {
+        return operationService.createQuery()
+                               .spaceId(BENCHMARKED_SPACE_ID)
+                               .orderByStartTime(OrderDirection.ASCENDING)
+                               .list();
+    }
+
+    @Benchmark
+    public List<Operation> listFirstPage() {
+        return operationService.createQuery()
+                               .spaceId(BENCHMARKED_SPACE_ID)
+                               .orderByStartTimeAndProcessId(OrderDirection.ASCENDING)
+                               .limitOnSelect(PAGE_SIZE + 1)
+                               .list();
+    }
+
+    @Benchmark
+    public List<Operation> listPageInTheMiddle() {
+        return operationService.createQuery()
+                               .spaceId(BENCHMARKED_SPACE_ID)
+                               .orderByStartTimeAndProcessId(OrderDirection.ASCENDING)
+                               .startedAfterOperation(cursorStartedAt, cursorProcessId)
+                               .limitOnSelect(PAGE_SIZE + 1)
+                               .list();
+    }
+
+}
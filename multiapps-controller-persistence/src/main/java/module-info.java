@@ -47,6 +47,7 @@ open module org.cloudfoundry.multiapps.controller.persistence {
     requires jakarta.annotation;
     requires jakarta.inject;
     requires liquibase.core;
+    requires micrometer.core;
     requires org.apache.logging.log4j;
     requires org.apache.logging.log4j.core;
     requires org.apache.commons.io;
@@ -9,6 +9,8 @@ public class Constants {
     public static final String VARIABLE_NAME_SERVICE_ID = "__SERVICE_ID";
 
     public static final String DIGEST_ALGORITHM = "MD5";
+    // The digest of a composed file is calculated from the digests of its parts, as its content is never read by the application
+    public static final String COMPOSED_FILE_DIGEST_ALGORITHM = "MD5-OF-PARTS";
 
     public static final String FILE_ENTRY_CONTENT = "CONTENT";
     public static final String FILE_ENTRY_MODIFIED = "MODIFIED";
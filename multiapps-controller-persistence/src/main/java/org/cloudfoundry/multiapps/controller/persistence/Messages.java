@@ -10,6 +10,7 @@ public final class Messages {
     public static final String FILE_NOT_FOUND = "File \"{0}\" not found";
     public static final String ERROR_FINDING_FILE_TO_UPLOAD = "Error finding file to upload with name {0}: {1}";
     public static final String ERROR_READING_FILE_CONTENT = "Error reading content of file {0}: {1}";
+    public static final String FILE_STORAGE_0_DOES_NOT_SUPPORT_FILE_COMPOSITION = "File storage \"{0}\" does not support composing files";
     public static final String FILE_WITH_ID_AND_SPACE_DOES_NOT_EXIST = "File with ID \"{0}\" and space \"{1}\" does not exist.";
     public static final String ERROR_GETTING_FILES_WITH_SPACE_AND_NAMESPACE = "Error getting files with space {0} and namespace {1}";
     public static final String ERROR_GETTING_LOGS_WITH_SPACE_AND_OPERATION_ID = "Error getting logs with space {0} and operation id {1}";
@@ -47,10 +48,15 @@ public final class Messages {
     public static final String APPLICATION_SHUTDOWN_WITH_APPLICATION_INSTANCE_ID_DOES_NOT_EXIST = "Application shutdown application instance ID \"{0}\" does not exist";
     public static final String APPLICATION_SHUTDOWN_WITH_APPLICATION_INSTANCE_ID_ALREADY_EXIST = "Application shutdown application instance ID \"{0}\" already exist";
     public static final String SECRET_TOKEN_WITH_ID_NOT_EXIST = "Secret token with ID \"{0}\" does not exist";
+    public static final String ARCHIVE_ENTRIES_INDEX_FOR_FILE_0_ALREADY_EXISTS = "Archive entries index for file with ID \"{0}\" already exists";
+    public static final String ARCHIVE_ENTRIES_INDEX_FOR_FILE_0_DOES_NOT_EXIST = "Archive entries index for file with ID \"{0}\" does not exist";
+    public static final String MODULE_CONTENT_CACHE_ENTRY_0_ALREADY_EXISTS = "Module content cache entry with key \"{0}\" already exists";
+    public static final String MODULE_CONTENT_CACHE_ENTRY_0_DOES_NOT_EXIST = "Module content cache entry with key \"{0}\" does not exist";
     public static final String DATABASE_HEALTH_CHECK_FAILED = "Database health check failed";
 
     // ERROR log messages:
     public static final String UPLOAD_STREAM_FAILED_TO_CLOSE = "Cannot close file upload stream";
+    public static final String FAILED_TO_ACQUIRE_LEASE_OF_CLEANER_0 = "Failed to acquire lease of cleaner \"{0}\"";
 
     // WARN log messages:
     public static final String COULD_NOT_CLOSE_RESULT_SET = "Could not close result set.";
@@ -73,6 +79,9 @@ public final class Messages {
     public static final String DELETED_0_FILES_WITH_ID_1_AND_SPACE_2 = "Deleted {0} files with ID \"{1}\" and space \"{2}\".";
     public static final String DELETED_0_FILES_WITHOUT_CONTENT = "Deleted {0} files without content.";
     public static final String FAILED_TO_SAVE_OPERATION_LOG_IN_DATABASE = "Failed to save operation log in database.";
+    public static final String FAILED_TO_SAVE_BATCH_OF_0_OPERATION_LOGS_SAVING_THEM_ONE_BY_ONE = "Failed to save a batch of {0} operation logs in database, saving them one by one.";
+    public static final String FAILED_TO_SAVE_OPERATION_LOG_0_OF_OPERATION_1 = "Failed to save operation log \"{0}\" of operation \"{1}\" in database.";
+    public static final String OPERATION_LOG_0_OF_OPERATION_1_WAS_NOT_PERSISTED = "Operation log \"{0}\" of operation \"{1}\" was not persisted, because the thread was interrupted.";
     public static final String STORED_SECRET_TOKEN_WITH_VARIABLE_NAME_0_FOR_PROCESS_WITH_ID_1 = "Stored secret token with a variable name \"{0}\" for process with id \"{1}\"";
     public static final String RETRIEVED_SECRET_TOKEN_WITH_ID_0_FOR_PROCESS_WITH_ID_1 = "Retrieved secret token with id \"{0}\" for process with id \"{1}\"";
     public static final String DELETED_0_SECRET_TOKENS_FOR_PROCESS_WITH_ID_1 = "Deleted \"{0}\" secret tokens for process with id \"{1}\"";
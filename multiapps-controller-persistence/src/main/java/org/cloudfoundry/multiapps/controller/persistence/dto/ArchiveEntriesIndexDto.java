@@ -0,0 +1,77 @@
+package org.cloudfoundry.multiapps.controller.persistence.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata;
+
+@Entity
+@Table(name = PersistenceMetadata.TableNames.ARCHIVE_ENTRIES_INDEX_TABLE)
+public class ArchiveEntriesIndexDto implements DtoWithPrimaryKey<String> {
+
+    public static class AttributeNames {
+        private AttributeNames() {
+        }
+
+        public static final String FILE_ID = "fileId";
+        public static final String DIGEST = "digest";
+        public static final String CONTENT = "content";
+        public static final String TIMESTAMP = "timestamp";
+    }
+
+    @Id
+    @Column(name = PersistenceMetadata.TableColumnNames.ARCHIVE_ENTRIES_INDEX_FILE_ID)
+    private String fileId;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.ARCHIVE_ENTRIES_INDEX_DIGEST, nullable = false)
+    private String digest;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.ARCHIVE_ENTRIES_INDEX_CONTENT, nullable = false)
+    @Lob
+    private byte[] content;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.ARCHIVE_ENTRIES_INDEX_TIMESTAMP, nullable = false)
+    private LocalDateTime timestamp;
+
+    protected ArchiveEntriesIndexDto() {
+        // Required by JPA
+    }
+
+    public ArchiveEntriesIndexDto(String fileId, String digest, byte[] content, LocalDateTime timestamp) {
+        this.fileId = fileId;
+        this.digest = digest;
+        this.content = content;
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public String getPrimaryKey() {
+        return fileId;
+    }
+
+    @Override
+    public void setPrimaryKey(String fileId) {
+        this.fileId = fileId;
+    }
+
+    public String getFileId() {
+        return fileId;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+}
@@ -0,0 +1,64 @@
+package org.cloudfoundry.multiapps.controller.persistence.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata;
+
+@Entity
+@Table(name = PersistenceMetadata.TableNames.CLEANER_LEASE_TABLE)
+public class CleanerLeaseDto {
+
+    public static class AttributeNames {
+        private AttributeNames() {
+        }
+
+        public static final String CLEANER_NAME = "cleanerName";
+        public static final String LEASE_OWNER = "leaseOwner";
+        public static final String LEASED_UNTIL = "leasedUntil";
+        public static final String FINISHED_RUN = "finishedRun";
+    }
+
+    @Id
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEANER_LEASE_CLEANER_NAME)
+    private String cleanerName;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEANER_LEASE_LEASE_OWNER, nullable = false)
+    private String leaseOwner;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEANER_LEASE_LEASED_UNTIL, nullable = false)
+    private LocalDateTime leasedUntil;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEANER_LEASE_FINISHED_RUN)
+    private LocalDateTime finishedRun;
+
+    protected CleanerLeaseDto() {
+        // Required by JPA
+    }
+
+    public CleanerLeaseDto(String cleanerName, String leaseOwner, LocalDateTime leasedUntil) {
+        this.cleanerName = cleanerName;
+        this.leaseOwner = leaseOwner;
+        this.leasedUntil = leasedUntil;
+    }
+
+    public String getCleanerName() {
+        return cleanerName;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public LocalDateTime getLeasedUntil() {
+        return leasedUntil;
+    }
+
+    public LocalDateTime getFinishedRun() {
+        return finishedRun;
+    }
+
+}
@@ -1,12 +1,18 @@
 package org.cloudfoundry.multiapps.controller.persistence.dto;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
@@ -15,10 +21,12 @@ import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlTransient;
 
 import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata.SequenceNames;
 import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata.TableColumnNames;
 import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata.TableNames;
+import org.eclipse.persistence.annotations.CascadeOnDelete;
 
 @Entity
 @Access(AccessType.FIELD)
@@ -47,6 +55,7 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
         public static final String CONTENT = "content";
         public static final String VISIBILITY = "visibility";
         public static final String CONTENT_ID = "contentId";
+        public static final String VISIBILITY_TARGETS = "visibilityTargets";
     }
 
     @XmlElement
@@ -98,13 +107,24 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
     @Column(name = TableColumnNames.CONFIGURATION_ENTRY_CONTENT_ID)
     private String contentId;
 
+    /**
+     * The targets from {@link #visibility} in a separate table, so that the visibility of the entries can be checked in the database.
+     * Entries without visibility are visible in all spaces of their target org.
+     */
+    @XmlTransient
+    @ElementCollection
+    @CollectionTable(name = TableNames.CONFIGURATION_ENTRY_VISIBILITY_TABLE,
+        joinColumns = @JoinColumn(name = TableColumnNames.CONFIGURATION_ENTRY_VISIBILITY_ENTRY_ID))
+    @CascadeOnDelete
+    private Set<VisibilityTargetDto> visibilityTargets = new HashSet<>();
+
     protected ConfigurationEntryDto() {
         // Required by JPA and JAXB.
     }
 
     private ConfigurationEntryDto(long id, String providerNid, String providerId, String providerVersion, String targetOrg,
                                   String targetSpace, String content, String visibility, String spaceId, String providerNamespace,
-                                  String contentId) {
+                                  String contentId, Set<VisibilityTargetDto> visibilityTargets) {
         this.id = id;
         this.providerNid = providerNid;
         this.providerId = providerId;
@@ -116,6 +136,7 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
         this.spaceId = spaceId;
         this.providerNamespace = providerNamespace;
         this.contentId = contentId;
+        this.visibilityTargets = new HashSet<>(visibilityTargets);
     }
 
     @Override
@@ -168,6 +189,10 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
         return contentId;
     }
 
+    public Set<VisibilityTargetDto> getVisibilityTargets() {
+        return visibilityTargets;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -185,6 +210,7 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
         private String content;
         private String visibility;
         private String contentId;
+        private Set<VisibilityTargetDto> visibilityTargets = Set.of();
 
         public Builder id(long id) {
             this.id = id;
@@ -241,6 +267,11 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
             return this;
         }
 
+        public Builder visibilityTargets(Set<VisibilityTargetDto> visibilityTargets) {
+            this.visibilityTargets = visibilityTargets;
+            return this;
+        }
+
         public ConfigurationEntryDto build() {
             return new ConfigurationEntryDto(id,
                                              providerNid,
@@ -252,7 +283,8 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
                                              visibility,
                                              spaceId,
                                              providerNamespace,
-                                             contentId);
+                                             contentId,
+                                             visibilityTargets);
         }
 
     }
@@ -0,0 +1,85 @@
+package org.cloudfoundry.multiapps.controller.persistence.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata;
+
+@Entity
+@Table(name = PersistenceMetadata.TableNames.MODULE_CONTENT_CACHE_TABLE)
+public class ModuleContentCacheEntryDto implements DtoWithPrimaryKey<String> {
+
+    public static class AttributeNames {
+        private AttributeNames() {
+        }
+
+        public static final String CONTENT_KEY = "contentKey";
+        public static final String SPACE_GUID = "spaceGuid";
+        public static final String APPLICATION_DIGEST = "applicationDigest";
+        public static final String PACKAGE_GUID = "packageGuid";
+        public static final String LAST_ACCESSED = "lastAccessed";
+    }
+
+    @Id
+    @Column(name = PersistenceMetadata.TableColumnNames.MODULE_CONTENT_CACHE_CONTENT_KEY)
+    private String contentKey;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.MODULE_CONTENT_CACHE_SPACE_GUID, nullable = false)
+    private String spaceGuid;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.MODULE_CONTENT_CACHE_APPLICATION_DIGEST, nullable = false)
+    private String applicationDigest;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.MODULE_CONTENT_CACHE_PACKAGE_GUID)
+    private String packageGuid;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.MODULE_CONTENT_CACHE_LAST_ACCESSED, nullable = false)
+    private LocalDateTime lastAccessed;
+
+    protected ModuleContentCacheEntryDto() {
+        // Required by JPA
+    }
+
+    public ModuleContentCacheEntryDto(String contentKey, String spaceGuid, String applicationDigest, String packageGuid,
+                                      LocalDateTime lastAccessed) {
+        this.contentKey = contentKey;
+        this.spaceGuid = spaceGuid;
+        this.applicationDigest = applicationDigest;
+        this.packageGuid = packageGuid;
+        this.lastAccessed = lastAccessed;
+    }
+
+    @Override
+    public String getPrimaryKey() {
+        return contentKey;
+    }
+
+    @Override
+    public void setPrimaryKey(String contentKey) {
+        this.contentKey = contentKey;
+    }
+
+    public String getContentKey() {
+        return contentKey;
+    }
+
+    public String getSpaceGuid() {
+        return spaceGuid;
+    }
+
+    public String getApplicationDigest() {
+        return applicationDigest;
+    }
+
+    public String getPackageGuid() {
+        return packageGuid;
+    }
+
+    public LocalDateTime getLastAccessed() {
+        return lastAccessed;
+    }
+
+}
@@ -0,0 +1,67 @@
+package org.cloudfoundry.multiapps.controller.persistence.dto;
+
+import java.util.Objects;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata.TableColumnNames;
+
+/**
+ * A single org and space, in which a configuration entry is visible. Either of them can be the wildcard {@code *}.
+ */
+@Embeddable
+@Access(AccessType.FIELD)
+public class VisibilityTargetDto {
+
+    public static class AttributeNames {
+
+        private AttributeNames() {
+        }
+
+        public static final String TARGET_ORG = "targetOrg";
+        public static final String TARGET_SPACE = "targetSpace";
+    }
+
+    @Column(name = TableColumnNames.CONFIGURATION_ENTRY_VISIBILITY_TARGET_ORG, nullable = false)
+    private String targetOrg;
+
+    @Column(name = TableColumnNames.CONFIGURATION_ENTRY_VISIBILITY_TARGET_SPACE, nullable = false)
+    private String targetSpace;
+
+    protected VisibilityTargetDto() {
+        // Required by JPA.
+    }
+
+    public VisibilityTargetDto(String targetOrg, String targetSpace) {
+        this.targetOrg = targetOrg;
+        this.targetSpace = targetSpace;
+    }
+
+    public String getTargetOrg() {
+        return targetOrg;
+    }
+
+    public String getTargetSpace() {
+        return targetSpace;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof VisibilityTargetDto other)) {
+            return false;
+        }
+        return Objects.equals(targetOrg, other.targetOrg) && Objects.equals(targetSpace, other.targetSpace);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targetOrg, targetSpace);
+    }
+
+}
@@ -0,0 +1,25 @@
+package org.cloudfoundry.multiapps.controller.persistence.model;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+
+@Value.Immutable
+@JsonSerialize(as = ImmutableArchiveEntriesIndex.class)
+@JsonDeserialize(as = ImmutableArchiveEntriesIndex.class)
+public interface ArchiveEntriesIndex {
+
+    String getFileId();
+
+    String getDigest();
+
+    byte[] getContent();
+
+    @Value.Default
+    default LocalDateTime getTimestamp() {
+        return LocalDateTime.now();
+    }
+
+}
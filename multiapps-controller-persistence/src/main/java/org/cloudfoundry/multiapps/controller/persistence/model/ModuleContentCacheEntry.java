@@ -0,0 +1,29 @@
+package org.cloudfoundry.multiapps.controller.persistence.model;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.cloudfoundry.multiapps.common.Nullable;
+import org.immutables.value.Value;
+
+@Value.Immutable
+@JsonSerialize(as = ImmutableModuleContentCacheEntry.class)
+@JsonDeserialize(as = ImmutableModuleContentCacheEntry.class)
+public interface ModuleContentCacheEntry {
+
+    String getContentKey();
+
+    String getSpaceGuid();
+
+    String getApplicationDigest();
+
+    @Nullable
+    String getPackageGuid();
+
+    @Value.Default
+    default LocalDateTime getLastAccessed() {
+        return LocalDateTime.now();
+    }
+
+}
@@ -13,6 +13,7 @@ public class PersistenceMetadata {
         }
 
         public static final String CONFIGURATION_ENTRY_TABLE = "configuration_registry";
+        public static final String CONFIGURATION_ENTRY_VISIBILITY_TABLE = "configuration_entry_visibility";
         public static final String CONFIGURATION_SUBSCRIPTION_TABLE = "configuration_subscription";
         public static final String PROGRESS_MESSAGE_TABLE = "progress_message";
         public static final String HISTORIC_OPERATION_EVENT_TABLE = "historic_operation_event";
@@ -22,6 +23,9 @@ public class PersistenceMetadata {
         public static final String BACKUP_DESCRIPTOR_TABLE = "backup_descriptor";
         public static final String APPLICATION_SHUTDOWN_TABLE = "application_shutdown";
         public static final String SECRET_TOKEN = "secret_token";
+        public static final String ARCHIVE_ENTRIES_INDEX_TABLE = "archive_entries_index";
+        public static final String MODULE_CONTENT_CACHE_TABLE = "module_content_cache";
+        public static final String CLEANER_LEASE_TABLE = "cleaner_lease";
 
     }
 
@@ -59,6 +63,10 @@ public class PersistenceMetadata {
         public static final String CONFIGURATION_CLOUD_TARGET = "visibility";
         public static final String CONFIGURATION_ENTRY_CONTENT_ID = "content_id";
 
+        public static final String CONFIGURATION_ENTRY_VISIBILITY_ENTRY_ID = "configuration_entry_id";
+        public static final String CONFIGURATION_ENTRY_VISIBILITY_TARGET_ORG = "target_org";
+        public static final String CONFIGURATION_ENTRY_VISIBILITY_TARGET_SPACE = "target_space";
+
         public static final String CONFIGURATION_SUBSCRIPTION_MTA_ID = "mta_id";
         public static final String CONFIGURATION_SUBSCRIPTION_ID = "id";
         public static final String CONFIGURATION_SUBSCRIPTION_SPACE_ID = "space_id";
@@ -128,6 +136,22 @@ public class PersistenceMetadata {
         public static final String SECRET_TOKEN_VARIABLE_NAME = "variable_name";
         public static final String SECRET_TOKEN_CONTENT = "content";
         public static final String SECRET_TOKEN_TIMESTAMP = "timestamp";
+
+        public static final String ARCHIVE_ENTRIES_INDEX_FILE_ID = "file_id";
+        public static final String ARCHIVE_ENTRIES_INDEX_DIGEST = "digest";
+        public static final String ARCHIVE_ENTRIES_INDEX_CONTENT = "content";
+        public static final String ARCHIVE_ENTRIES_INDEX_TIMESTAMP = "timestamp";
+
+        public static final String MODULE_CONTENT_CACHE_CONTENT_KEY = "content_key";
+        public static final String MODULE_CONTENT_CACHE_SPACE_GUID = "space_guid";
+        public static final String MODULE_CONTENT_CACHE_APPLICATION_DIGEST = "application_digest";
+        public static final String MODULE_CONTENT_CACHE_PACKAGE_GUID = "package_guid";
+        public static final String MODULE_CONTENT_CACHE_LAST_ACCESSED = "last_accessed";
+
+        public static final String CLEANER_LEASE_CLEANER_NAME = "cleaner_name";
+        public static final String CLEANER_LEASE_LEASE_OWNER = "lease_owner";
+        public static final String CLEANER_LEASE_LEASED_UNTIL = "leased_until";
+        public static final String CLEANER_LEASE_FINISHED_RUN = "finished_run";
     }
 
 }
@@ -0,0 +1,15 @@
+package org.cloudfoundry.multiapps.controller.persistence.query;
+
+import java.time.LocalDateTime;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.ArchiveEntriesIndex;
+
+public interface ArchiveEntriesIndexQuery extends Query<ArchiveEntriesIndex, ArchiveEntriesIndexQuery> {
+
+    ArchiveEntriesIndexQuery fileId(String fileId);
+
+    ArchiveEntriesIndexQuery digest(String digest);
+
+    ArchiveEntriesIndexQuery olderThan(LocalDateTime time);
+
+}
@@ -0,0 +1,18 @@
+package org.cloudfoundry.multiapps.controller.persistence.query;
+
+import java.time.LocalDateTime;
+
+import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
+import org.cloudfoundry.multiapps.controller.persistence.model.ModuleContentCacheEntry;
+
+public interface ModuleContentCacheQuery extends Query<ModuleContentCacheEntry, ModuleContentCacheQuery> {
+
+    ModuleContentCacheQuery contentKey(String contentKey);
+
+    ModuleContentCacheQuery spaceGuid(String spaceGuid);
+
+    ModuleContentCacheQuery lastAccessedBefore(LocalDateTime time);
+
+    ModuleContentCacheQuery orderByLastAccessed(OrderDirection orderDirection);
+
+}
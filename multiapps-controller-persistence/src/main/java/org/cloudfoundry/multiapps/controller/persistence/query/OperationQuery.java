@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.persistence.query;
 
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.util.List;
 
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
@@ -29,6 +30,13 @@ public interface OperationQuery extends Query<Operation, OperationQuery> {
 
     OperationQuery endedBefore(LocalDateTime endedBefore);
 
+    /**
+     * Restricts the results to the operations which come after the given one when ordered by start time and process ID. Used together
+     * with {@link #orderByStartTimeAndProcessId(OrderDirection)} in ascending direction, it selects the next page of a keyset
+     * pagination.
+     */
+    OperationQuery startedAfterOperation(ZonedDateTime startedAt, String processId);
+
     OperationQuery endedAfter(LocalDateTime endedAfter);
 
     OperationQuery inNonFinalState();
@@ -43,4 +51,6 @@ public interface OperationQuery extends Query<Operation, OperationQuery> {
 
     OperationQuery orderByStartTime(OrderDirection orderDirection);
 
+    OperationQuery orderByStartTimeAndProcessId(OrderDirection orderDirection);
+
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package org.cloudfoundry.multiapps.controller.persistence.query.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import jakarta.persistence.EntityManager;
@@ -21,8 +24,7 @@ public abstract class AbstractQueryImpl<R, T extends Query<R, T>> implements Que
     private final CriteriaBuilder criteriaBuilder;
     private Integer limit;
     private Integer offset;
-    private OrderDirection orderDirection;
-    private String orderAttribute;
+    private final List<Order> orders = new ArrayList<>();
 
     protected AbstractQueryImpl(EntityManager entityManager) {
         this.entityManager = entityManager;
@@ -42,8 +44,16 @@ public abstract class AbstractQueryImpl<R, T extends Query<R, T>> implements Que
     }
 
     protected T setOrder(String orderAttribute, OrderDirection orderDirection) {
-        this.orderAttribute = orderAttribute;
-        this.orderDirection = orderDirection;
+        orders.clear();
+        return addOrder(orderAttribute, orderDirection);
+    }
+
+    /**
+     * Orders the results by one more attribute, whose values are compared only when the values of the previous order attributes are
+     * equal.
+     */
+    protected T addOrder(String orderAttribute, OrderDirection orderDirection) {
+        orders.add(new Order(orderAttribute, orderDirection));
         return getSelf();
     }
 
@@ -57,20 +67,36 @@ public abstract class AbstractQueryImpl<R, T extends Query<R, T>> implements Que
     }
 
     private <E> CriteriaQuery<E> applyOrder(CriteriaQuery<E> criteriaQuery, Root<E> root) {
-        if (orderAttribute == null) {
+        if (orders.isEmpty()) {
             return criteriaQuery;
         }
-        if (orderDirection == OrderDirection.ASCENDING) {
-            return criteriaQuery.orderBy(criteriaBuilder.asc(root.get(orderAttribute)));
+        return criteriaQuery.orderBy(orders.stream()
+                                           .map(order -> toCriteriaOrder(order, root))
+                                           .toList());
+    }
+
+    private jakarta.persistence.criteria.Order toCriteriaOrder(Order order, Root<?> root) {
+        if (order.direction() == OrderDirection.ASCENDING) {
+            return criteriaBuilder.asc(root.get(order.attribute()));
         }
-        return criteriaQuery.orderBy(criteriaBuilder.desc(root.get(orderAttribute)));
+        return criteriaBuilder.desc(root.get(order.attribute()));
     }
 
     protected <E> TypedQuery<E> createQuery(EntityManager entityManager, QueryCriteria criteria, Class<E> dtoClass) {
+        return createQuery(entityManager, criteria, dtoClass, (criteriaQuery, root) -> List.of());
+    }
+
+    /**
+     * Creates a query, whose results satisfy both the criteria and the additional predicates. The additional predicates are for
+     * restrictions, which cannot be expressed with the attributes of the root alone, like subqueries.
+     */
+    protected <E> TypedQuery<E> createQuery(EntityManager entityManager, QueryCriteria criteria, Class<E> dtoClass,
+                                            BiFunction<CriteriaQuery<E>, Root<E>, List<Predicate>> additionalPredicatesFactory) {
         CriteriaQuery<E> criteriaQuery = criteriaBuilder.createQuery(dtoClass);
         Root<E> root = criteriaQuery.from(dtoClass);
-        criteriaQuery.where(criteria.toQueryPredicates(root)
-                                    .toArray(new Predicate[0]));
+        List<Predicate> predicates = new ArrayList<>(criteria.toQueryPredicates(root));
+        predicates.addAll(additionalPredicatesFactory.apply(criteriaQuery, root));
+        criteriaQuery.where(predicates.toArray(new Predicate[0]));
         criteriaQuery = applyOrder(criteriaQuery, root);
         TypedQuery<E> typedQuery = entityManager.createQuery(criteriaQuery);
         applyLimitAndOffset(typedQuery);
@@ -97,4 +123,8 @@ public abstract class AbstractQueryImpl<R, T extends Query<R, T>> implements Que
     public T getSelf() {
         return (T) this;
     }
+
+    private record Order(String attribute, OrderDirection direction) {
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package org.cloudfoundry.multiapps.controller.persistence.query.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.NonUniqueResultException;
+import org.cloudfoundry.multiapps.controller.persistence.dto.ArchiveEntriesIndexDto;
+import org.cloudfoundry.multiapps.controller.persistence.dto.ArchiveEntriesIndexDto.AttributeNames;
+import org.cloudfoundry.multiapps.controller.persistence.model.ArchiveEntriesIndex;
+import org.cloudfoundry.multiapps.controller.persistence.query.ArchiveEntriesIndexQuery;
+import org.cloudfoundry.multiapps.controller.persistence.query.criteria.ImmutableQueryAttributeRestriction;
+import org.cloudfoundry.multiapps.controller.persistence.query.criteria.QueryCriteria;
+import org.cloudfoundry.multiapps.controller.persistence.services.ArchiveEntriesIndexService.ArchiveEntriesIndexMapper;
+
+public class ArchiveEntriesIndexQueryImpl extends AbstractQueryImpl<ArchiveEntriesIndex, ArchiveEntriesIndexQuery>
+    implements ArchiveEntriesIndexQuery {
+
+    private final QueryCriteria queryCriteria = new QueryCriteria();
+    private final ArchiveEntriesIndexMapper archiveEntriesIndexMapper;
+
+    public ArchiveEntriesIndexQueryImpl(EntityManager entityManager, ArchiveEntriesIndexMapper archiveEntriesIndexMapper) {
+        super(entityManager);
+        this.archiveEntriesIndexMapper = archiveEntriesIndexMapper;
+    }
+
+    @Override
+    public ArchiveEntriesIndexQuery fileId(String fileId) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
+                                                                       .attribute(AttributeNames.FILE_ID)
+                                                                       .condition(getCriteriaBuilder()::equal)
+                                                                       .value(fileId)
+                                                                       .build());
+        return this;
+    }
+
+    @Override
+    public ArchiveEntriesIndexQuery digest(String digest) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
+                                                                       .attribute(AttributeNames.DIGEST)
+                                                                       .condition(getCriteriaBuilder()::equal)
+                                                                       .value(digest)
+                                                                       .build());
+        return this;
+    }
+
+    @Override
+    public ArchiveEntriesIndexQuery olderThan(LocalDateTime time) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<LocalDateTime> builder()
+                                                                       .attribute(AttributeNames.TIMESTAMP)
+                                                                       .condition(getCriteriaBuilder()::lessThan)
+                                                                       .value(time)
+                                                                       .build());
+        return this;
+    }
+
+    @Override
+    public ArchiveEntriesIndex singleResult() throws NoResultException, NonUniqueResultException {
+        ArchiveEntriesIndexDto archiveEntriesIndexDto = executeInTransaction(
+            entityManager -> createQuery(entityManager, queryCriteria, ArchiveEntriesIndexDto.class).getSingleResult());
+        return archiveEntriesIndexMapper.fromDto(archiveEntriesIndexDto);
+    }
+
+    @Override
+    public List<ArchiveEntriesIndex> list() {
+        List<ArchiveEntriesIndexDto> archiveEntriesIndexDtos = executeInTransaction(
+            entityManager -> createQuery(entityManager, queryCriteria, ArchiveEntriesIndexDto.class).getResultList());
+        return archiveEntriesIndexDtos.stream()
+                                      .map(archiveEntriesIndexMapper::fromDto)
+                                      .toList();
+    }
+
+    @Override
+    public int delete() {
+        return executeInTransaction(
+            entityManager -> createDeleteQuery(entityManager, queryCriteria, ArchiveEntriesIndexDto.class).executeUpdate());
+    }
+
+}
@@ -3,16 +3,26 @@ package org.cloudfoundry.multiapps.controller.persistence.query.impl;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.dto.ConfigurationEntryDto;
 import org.cloudfoundry.multiapps.controller.persistence.dto.ConfigurationEntryDto.AttributeNames;
+import org.cloudfoundry.multiapps.controller.persistence.dto.VisibilityTargetDto;
 import org.cloudfoundry.multiapps.controller.persistence.model.CloudTarget;
 import org.cloudfoundry.multiapps.controller.persistence.model.ConfigurationEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.filters.ContentFilter;
@@ -187,8 +197,9 @@ public class ConfigurationEntryQueryImpl extends AbstractQueryImpl<Configuration
 
     @Override
     public List<ConfigurationEntry> list() {
-        List<ConfigurationEntryDto> dtos = executeInTransaction(manager -> createQuery(manager, queryCriteria,
-                                                                                       ConfigurationEntryDto.class).getResultList());
+        // The visibility targets are checked in the database, so that the content of the entries, which are not visible, is not fetched
+        List<ConfigurationEntryDto> dtos = executeInTransaction(manager -> createQuery(manager, queryCriteria, ConfigurationEntryDto.class,
+                                                                                       this::createVisibilityPredicates).getResultList());
         return dtos.stream()
                    .filter(this::satisfiesTargetWildcard)
                    .filter(this::satisfiesContent)
@@ -198,6 +209,43 @@ public class ConfigurationEntryQueryImpl extends AbstractQueryImpl<Configuration
                    .collect(Collectors.toList());
     }
 
+    private List<Predicate> createVisibilityPredicates(CriteriaQuery<ConfigurationEntryDto> criteriaQuery,
+                                                       Root<ConfigurationEntryDto> root) {
+        if (CollectionUtils.isEmpty(visibilityTargets)) {
+            return List.of();
+        }
+        Subquery<Long> visibleEntryIds = criteriaQuery.subquery(Long.class);
+        Root<ConfigurationEntryDto> visibleEntry = visibleEntryIds.from(ConfigurationEntryDto.class);
+        Join<ConfigurationEntryDto, VisibilityTargetDto> visibleTarget = visibleEntry.join(AttributeNames.VISIBILITY_TARGETS);
+        Predicate[] visibleInAnyTarget = visibilityTargets.stream()
+                                                          .map(cloudTarget -> isVisibleIn(visibleTarget, cloudTarget))
+                                                          .toArray(Predicate[]::new);
+        visibleEntryIds.select(visibleEntry.get(AttributeNames.ID))
+                       .where(getCriteriaBuilder().or(visibleInAnyTarget));
+        // Entries created before the visibility table was introduced may have no rows in it, if it was not populated by the migration of
+        // the database, so their visibility is checked by the visibility filter instead
+        Predicate hasNoVisibilityTargets = getCriteriaBuilder().isEmpty(
+            root.<Set<VisibilityTargetDto>> get(AttributeNames.VISIBILITY_TARGETS));
+        return List.of(getCriteriaBuilder().or(root.get(AttributeNames.ID)
+                                                   .in(visibleEntryIds), hasNoVisibilityTargets));
+    }
+
+    private Predicate isVisibleIn(Join<ConfigurationEntryDto, VisibilityTargetDto> visibleTarget, CloudTarget cloudTarget) {
+        return getCriteriaBuilder().and(matchesOrIsWildcard(visibleTarget.get(VisibilityTargetDto.AttributeNames.TARGET_ORG),
+                                                            cloudTarget.getOrganizationName()),
+                                        matchesOrIsWildcard(visibleTarget.get(VisibilityTargetDto.AttributeNames.TARGET_SPACE),
+                                                            cloudTarget.getSpaceName()));
+    }
+
+    private Predicate matchesOrIsWildcard(Path<String> attribute, String value) {
+        CriteriaBuilder criteriaBuilder = getCriteriaBuilder();
+        Predicate isWildcard = criteriaBuilder.equal(attribute, TargetWildcardFilter.ANY_TARGET_WILDCARD);
+        if (value == null) {
+            return isWildcard;
+        }
+        return criteriaBuilder.or(criteriaBuilder.equal(attribute, value), isWildcard);
+    }
+
     private boolean satisfiesVersion(ConfigurationEntry entry) {
         return VERSION_FILTER.test(entry, version);
     }
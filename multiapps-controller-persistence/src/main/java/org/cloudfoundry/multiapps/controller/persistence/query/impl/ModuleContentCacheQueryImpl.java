@@ -0,0 +1,87 @@
+package org.cloudfoundry.multiapps.controller.persistence.query.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.NonUniqueResultException;
+import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
+import org.cloudfoundry.multiapps.controller.persistence.dto.ModuleContentCacheEntryDto;
+import org.cloudfoundry.multiapps.controller.persistence.dto.ModuleContentCacheEntryDto.AttributeNames;
+import org.cloudfoundry.multiapps.controller.persistence.model.ModuleContentCacheEntry;
+import org.cloudfoundry.multiapps.controller.persistence.query.ModuleContentCacheQuery;
+import org.cloudfoundry.multiapps.controller.persistence.query.criteria.ImmutableQueryAttributeRestriction;
+import org.cloudfoundry.multiapps.controller.persistence.query.criteria.QueryCriteria;
+import org.cloudfoundry.multiapps.controller.persistence.services.ModuleContentCacheService.ModuleContentCacheEntryMapper;
+
+public class ModuleContentCacheQueryImpl extends AbstractQueryImpl<ModuleContentCacheEntry, ModuleContentCacheQuery>
+    implements ModuleContentCacheQuery {
+
+    private final QueryCriteria queryCriteria = new QueryCriteria();
+    private final ModuleContentCacheEntryMapper moduleContentCacheEntryMapper;
+
+    public ModuleContentCacheQueryImpl(EntityManager entityManager, ModuleContentCacheEntryMapper moduleContentCacheEntryMapper) {
+        super(entityManager);
+        this.moduleContentCacheEntryMapper = moduleContentCacheEntryMapper;
+    }
+
+    @Override
+    public ModuleContentCacheQuery contentKey(String contentKey) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
+                                                                       .attribute(AttributeNames.CONTENT_KEY)
+                                                                       .condition(getCriteriaBuilder()::equal)
+                                                                       .value(contentKey)
+                                                                       .build());
+        return this;
+    }
+
+    @Override
+    public ModuleContentCacheQuery spaceGuid(String spaceGuid) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
+                                                                       .attribute(AttributeNames.SPACE_GUID)
+                                                                       .condition(getCriteriaBuilder()::equal)
+                                                                       .value(spaceGuid)
+                                                                       .build());
+        return this;
+    }
+
+    @Override
+    public ModuleContentCacheQuery lastAccessedBefore(LocalDateTime time) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<LocalDateTime> builder()
+                                                                       .attribute(AttributeNames.LAST_ACCESSED)
+                                                                       .condition(getCriteriaBuilder()::lessThan)
+                                                                       .value(time)
+                                                                       .build());
+        return this;
+    }
+
+    @Override
+    public ModuleContentCacheQuery orderByLastAccessed(OrderDirection orderDirection) {
+        setOrder(AttributeNames.LAST_ACCESSED, orderDirection);
+        return this;
+    }
+
+    @Override
+    public ModuleContentCacheEntry singleResult() throws NoResultException, NonUniqueResultException {
+        ModuleContentCacheEntryDto moduleContentCacheEntryDto = executeInTransaction(
+            entityManager -> createQuery(entityManager, queryCriteria, ModuleContentCacheEntryDto.class).getSingleResult());
+        return moduleContentCacheEntryMapper.fromDto(moduleContentCacheEntryDto);
+    }
+
+    @Override
+    public List<ModuleContentCacheEntry> list() {
+        List<ModuleContentCacheEntryDto> moduleContentCacheEntryDtos = executeInTransaction(
+            entityManager -> createQuery(entityManager, queryCriteria, ModuleContentCacheEntryDto.class).getResultList());
+        return moduleContentCacheEntryDtos.stream()
+                                          .map(moduleContentCacheEntryMapper::fromDto)
+                                          .toList();
+    }
+
+    @Override
+    public int delete() {
+        return executeInTransaction(
+            entityManager -> createDeleteQuery(entityManager, queryCriteria, ModuleContentCacheEntryDto.class).executeUpdate());
+    }
+
+}
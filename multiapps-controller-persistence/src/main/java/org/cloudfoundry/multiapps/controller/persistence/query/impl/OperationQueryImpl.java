@@ -1,11 +1,18 @@
 package org.cloudfoundry.multiapps.controller.persistence.query.impl;
 
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
@@ -21,6 +28,8 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
 
     private final QueryCriteria queryCriteria = new QueryCriteria();
     private final OperationMapper operationFactory;
+    private Date startedAtLowerBound;
+    private String processIdLowerBound;
 
     public OperationQueryImpl(EntityManager entityManager, OperationMapper operationFactory) {
         super(entityManager);
@@ -127,6 +136,13 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
         return this;
     }
 
+    @Override
+    public OperationQuery startedAfterOperation(ZonedDateTime startedAt, String processId) {
+        this.startedAtLowerBound = Date.from(startedAt.toInstant());
+        this.processIdLowerBound = processId;
+        return this;
+    }
+
     @Override
     public OperationQuery endedAfter(LocalDateTime endedAfter) {
         queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<LocalDateTime> builder()
@@ -175,6 +191,13 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
         return this;
     }
 
+    @Override
+    public OperationQuery orderByStartTimeAndProcessId(OrderDirection orderDirection) {
+        setOrder(OperationDto.AttributeNames.STARTED_AT, orderDirection);
+        addOrder(OperationDto.AttributeNames.PROCESS_ID, orderDirection);
+        return this;
+    }
+
     @Override
     public Operation singleResult() {
         OperationDto dto = executeInTransaction(manager -> createQuery(manager, queryCriteria, OperationDto.class).getSingleResult());
@@ -183,12 +206,25 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
 
     @Override
     public List<Operation> list() {
-        List<OperationDto> dtos = executeInTransaction(manager -> createQuery(manager, queryCriteria, OperationDto.class).getResultList());
+        List<OperationDto> dtos = executeInTransaction(manager -> createQuery(manager, queryCriteria, OperationDto.class,
+                                                                              this::createKeysetPredicates).getResultList());
         return dtos.stream()
                    .map(operationFactory::fromDto)
                    .collect(Collectors.toList());
     }
 
+    private List<Predicate> createKeysetPredicates(CriteriaQuery<OperationDto> criteriaQuery, Root<OperationDto> root) {
+        if (startedAtLowerBound == null) {
+            return List.of();
+        }
+        CriteriaBuilder criteriaBuilder = getCriteriaBuilder();
+        Path<Date> startedAt = root.get(AttributeNames.STARTED_AT);
+        Path<String> processId = root.get(AttributeNames.PROCESS_ID);
+        return List.of(criteriaBuilder.or(criteriaBuilder.greaterThan(startedAt, startedAtLowerBound),
+                                          criteriaBuilder.and(criteriaBuilder.equal(startedAt, startedAtLowerBound),
+                                                              criteriaBuilder.greaterThan(processId, processIdLowerBound))));
+    }
+
     @Override
     public int delete() {
         return executeInTransaction(manager -> createDeleteQuery(manager, queryCriteria, OperationDto.class).executeUpdate());
@@ -8,6 +8,7 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
@@ -20,7 +21,9 @@ public class SqlOperationLogQueryProvider {
     private static final String ID_COLUMN_LABEL = "id";
     private static final String OPERATION_LOG_COLUMN_LABEL = "operation_log";
     private static final String OPERATION_LOG_NAME_COLUMN_LABEL = "operation_log_name";
-    private static final String SELECT_LOGS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME = "SELECT ID, OPERATION_LOG, OPERATION_LOG_NAME FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=? ORDER BY MODIFIED ASC";
+    private static final String MODIFIED_COLUMN_LABEL = "modified";
+    private static final String SELECT_LOG_CHUNKS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME = "SELECT ID, OPERATION_LOG, MODIFIED FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=? ORDER BY MODIFIED ASC, ID ASC";
+    private static final String SELECT_LOG_CHUNKS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME_AFTER_CHUNK = "SELECT ID, OPERATION_LOG, MODIFIED FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=? AND (MODIFIED > ? OR (MODIFIED = ? AND ID > ?)) ORDER BY MODIFIED ASC, ID ASC";
     private static final String SELECT_LOGS_BY_SPACE_ID_AND_NAME = "SELECT DISTINCT ID, OPERATION_LOG, OPERATION_LOG_NAME, MODIFIED FROM %s WHERE SPACE=? AND OPERATION_ID=? ORDER BY MODIFIED ASC";
     private final String tableName;
 
@@ -34,27 +37,48 @@ public class SqlOperationLogQueryProvider {
             PreparedStatement statement = null;
             try {
                 statement = connection.prepareStatement(getStoreLogQueryString());
-                statement.setString(1, operationLogEntry.getId());
-                statement.setString(2, operationLogEntry.getSpace());
+                setStoreLogParameters(statement, operationLogEntry);
+                return statement.executeUpdate();
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
 
-                if (operationLogEntry.getNamespace() == null) {
-                    statement.setNull(3, Types.NULL);
-                } else {
-                    statement.setString(3, operationLogEntry.getNamespace());
+    public SqlQuery<Integer> getStoreLogsQuery(List<OperationLogEntry> operationLogEntries) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(getStoreLogQueryString());
+                for (OperationLogEntry operationLogEntry : operationLogEntries) {
+                    setStoreLogParameters(statement, operationLogEntry);
+                    statement.addBatch();
                 }
-
-                statement.setTimestamp(4, Timestamp.valueOf(operationLogEntry.getModified()));
-                statement.setString(5, operationLogEntry.getOperationId());
-                statement.setString(6, operationLogEntry.getOperationLog());
-                statement.setString(7, operationLogEntry.getOperationLogName());
-
-                return statement.executeUpdate();
+                int[] batchResults = statement.executeBatch();
+                return IntStream.of(batchResults)
+                                .sum();
             } finally {
                 JdbcUtil.closeQuietly(statement);
             }
         };
     }
 
+    private void setStoreLogParameters(PreparedStatement statement, OperationLogEntry operationLogEntry) throws SQLException {
+        statement.setString(1, operationLogEntry.getId());
+        statement.setString(2, operationLogEntry.getSpace());
+
+        if (operationLogEntry.getNamespace() == null) {
+            statement.setNull(3, Types.NULL);
+        } else {
+            statement.setString(3, operationLogEntry.getNamespace());
+        }
+
+        statement.setTimestamp(4, Timestamp.valueOf(operationLogEntry.getModified()));
+        statement.setString(5, operationLogEntry.getOperationId());
+        statement.setString(6, operationLogEntry.getOperationLog());
+        statement.setString(7, operationLogEntry.getOperationLogName());
+    }
+
     public SqlQuery<List<OperationLogEntry>> getListFilesQueryBySpaceAndOperationId(String space, String operationId) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
@@ -76,21 +100,33 @@ public class SqlOperationLogQueryProvider {
         };
     }
 
-    public SqlQuery<List<OperationLogEntry>> getListFilesQueryBySpaceOperationIdAndLogId(String space, String operationId, String logId) {
+    /**
+     * Selects the chunks of a log which follow the given one, ordered by their modification time and ID. The first chunks are selected
+     * when no chunk is given.
+     */
+    public SqlQuery<List<OperationLogEntry>> getListLogChunksQueryBySpaceOperationIdAndLogId(String space, String operationId, String logId,
+                                                                                           OperationLogEntry lastChunk, int maxChunks) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
             ResultSet resultSet = null;
             try {
-                List<OperationLogEntry> logs = new ArrayList<>();
-                statement = connection.prepareStatement(getListFilesBySpaceOperationIdAndLogIdQueryString());
+                List<OperationLogEntry> chunks = new ArrayList<>();
+                statement = connection.prepareStatement(getListLogChunksQueryString(lastChunk));
+                statement.setMaxRows(maxChunks);
                 statement.setString(1, space);
                 statement.setString(2, operationId);
                 statement.setString(3, logId);
+                if (lastChunk != null) {
+                    Timestamp lastChunkModified = Timestamp.valueOf(lastChunk.getModified());
+                    statement.setTimestamp(4, lastChunkModified);
+                    statement.setTimestamp(5, lastChunkModified);
+                    statement.setString(6, lastChunk.getId());
+                }
                 resultSet = statement.executeQuery();
                 while (resultSet.next()) {
-                    logs.add(getOperationLogEntry(resultSet));
+                    chunks.add(getOperationLogChunk(resultSet));
                 }
-                return logs;
+                return chunks;
             } finally {
                 JdbcUtil.closeQuietly(resultSet);
                 JdbcUtil.closeQuietly(statement);
@@ -106,8 +142,11 @@ public class SqlOperationLogQueryProvider {
         return String.format(SELECT_LOGS_BY_SPACE_ID_AND_NAME, tableName);
     }
 
-    private String getListFilesBySpaceOperationIdAndLogIdQueryString() {
-        return String.format(SELECT_LOGS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME, tableName);
+    private String getListLogChunksQueryString(OperationLogEntry lastChunk) {
+        if (lastChunk == null) {
+            return String.format(SELECT_LOG_CHUNKS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME, tableName);
+        }
+        return String.format(SELECT_LOG_CHUNKS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME_AFTER_CHUNK, tableName);
     }
 
     private OperationLogEntry getOperationLogEntry(ResultSet resultSet) throws SQLException {
@@ -117,4 +156,13 @@ public class SqlOperationLogQueryProvider {
                                          .operationLogName(resultSet.getString(OPERATION_LOG_NAME_COLUMN_LABEL))
                                          .build();
     }
+
+    private OperationLogEntry getOperationLogChunk(ResultSet resultSet) throws SQLException {
+        return ImmutableOperationLogEntry.builder()
+                                         .id(resultSet.getString(ID_COLUMN_LABEL))
+                                         .operationLog(resultSet.getString(OPERATION_LOG_COLUMN_LABEL))
+                                         .modified(resultSet.getTimestamp(MODIFIED_COLUMN_LABEL)
+                                                            .toLocalDateTime())
+                                         .build();
+    }
 }
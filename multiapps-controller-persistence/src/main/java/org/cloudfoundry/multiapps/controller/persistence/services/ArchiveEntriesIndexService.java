@@ -0,0 +1,65 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import jakarta.inject.Named;
+import jakarta.persistence.EntityManagerFactory;
+import org.cloudfoundry.multiapps.common.ConflictException;
+import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.dto.ArchiveEntriesIndexDto;
+import org.cloudfoundry.multiapps.controller.persistence.model.ArchiveEntriesIndex;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableArchiveEntriesIndex;
+import org.cloudfoundry.multiapps.controller.persistence.query.ArchiveEntriesIndexQuery;
+import org.cloudfoundry.multiapps.controller.persistence.query.impl.ArchiveEntriesIndexQueryImpl;
+
+@Named
+public class ArchiveEntriesIndexService extends PersistenceService<ArchiveEntriesIndex, ArchiveEntriesIndexDto, String> {
+
+    private final ArchiveEntriesIndexMapper archiveEntriesIndexMapper;
+
+    public ArchiveEntriesIndexService(EntityManagerFactory entityManagerFactory, ArchiveEntriesIndexMapper archiveEntriesIndexMapper) {
+        super(entityManagerFactory);
+        this.archiveEntriesIndexMapper = archiveEntriesIndexMapper;
+    }
+
+    public ArchiveEntriesIndexQuery createQuery() {
+        return new ArchiveEntriesIndexQueryImpl(createEntityManager(), archiveEntriesIndexMapper);
+    }
+
+    @Override
+    protected PersistenceObjectMapper<ArchiveEntriesIndex, ArchiveEntriesIndexDto> getPersistenceObjectMapper() {
+        return archiveEntriesIndexMapper;
+    }
+
+    @Override
+    protected void onEntityConflict(ArchiveEntriesIndexDto archiveEntriesIndexDto, Throwable t) {
+        throw new ConflictException(t, Messages.ARCHIVE_ENTRIES_INDEX_FOR_FILE_0_ALREADY_EXISTS, archiveEntriesIndexDto.getPrimaryKey());
+    }
+
+    @Override
+    protected void onEntityNotFound(String fileId) {
+        throw new NotFoundException(Messages.ARCHIVE_ENTRIES_INDEX_FOR_FILE_0_DOES_NOT_EXIST, fileId);
+    }
+
+    @Named
+    public static class ArchiveEntriesIndexMapper implements PersistenceObjectMapper<ArchiveEntriesIndex, ArchiveEntriesIndexDto> {
+
+        @Override
+        public ArchiveEntriesIndex fromDto(ArchiveEntriesIndexDto dto) {
+            return ImmutableArchiveEntriesIndex.builder()
+                                               .fileId(dto.getFileId())
+                                               .digest(dto.getDigest())
+                                               .content(dto.getContent())
+                                               .timestamp(dto.getTimestamp())
+                                               .build();
+        }
+
+        @Override
+        public ArchiveEntriesIndexDto toDto(ArchiveEntriesIndex archiveEntriesIndex) {
+            return new ArchiveEntriesIndexDto(archiveEntriesIndex.getFileId(),
+                                              archiveEntriesIndex.getDigest(),
+                                              archiveEntriesIndex.getContent(),
+                                              archiveEntriesIndex.getTimestamp());
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import org.cloudfoundry.multiapps.controller.persistence.Executor;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.TransactionalExecutor;
+import org.cloudfoundry.multiapps.controller.persistence.dto.CleanerLeaseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Leases the cleaners of the clean-up job to the application instances, so that every cleaner is executed by a single instance at a
+ * time. A run of the job is identified by the time of the run which follows it, which all instances compute from the same schedule. A
+ * lease is released when its cleaner finishes, and the run is recorded so that the cleaner is not executed again in it. A lease which is
+ * not released expires on its own, so the cleaners of an instance which stopped while executing them are taken over on a following run.
+ */
+@Named
+public class CleanerLeaseService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CleanerLeaseService.class);
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+    private static final String TAKE_OVER_EXPIRED_LEASE_QUERY = "UPDATE CleanerLeaseDto l SET l.leaseOwner = :leaseOwner, "
+        + "l.leasedUntil = :leasedUntil WHERE l.cleanerName = :cleanerName AND l.leasedUntil < :now "
+        + "AND (l.finishedRun IS NULL OR l.finishedRun <> :run)";
+    private static final String RELEASE_LEASE_QUERY = "UPDATE CleanerLeaseDto l SET l.leasedUntil = :now, l.finishedRun = :run "
+        + "WHERE l.cleanerName = :cleanerName AND l.leaseOwner = :leaseOwner";
+    private static final String COUNT_FINISHED_CLEANERS_QUERY = "SELECT COUNT(l) FROM CleanerLeaseDto l "
+        + "WHERE l.cleanerName IN :cleanerNames AND l.finishedRun = :run";
+    private static final String COUNT_LEASED_CLEANERS_QUERY = "SELECT COUNT(l) FROM CleanerLeaseDto l "
+        + "WHERE l.cleanerName IN :cleanerNames AND l.leasedUntil > :now";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Inject
+    public CleanerLeaseService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * @return whether the cleaner was leased to the owner, which is the case only if it has never been leased or its last lease expired,
+     *         and it has not finished in the same run
+     */
+    public boolean acquire(String cleanerName, String leaseOwner, LocalDateTime run, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return new TransactionalExecutor<Boolean>(entityManagerFactory.createEntityManager()).execute(
+                manager -> acquire(manager, cleanerName, leaseOwner, run, now, now.plus(leaseDuration)));
+        } catch (PersistenceException e) {
+            if (isUniqueViolation(e)) {
+                // Another instance leased the cleaner for the first time concurrently
+                return false;
+            }
+            LOGGER.error(MessageFormat.format(Messages.FAILED_TO_ACQUIRE_LEASE_OF_CLEANER_0, cleanerName), e);
+            throw e;
+        }
+    }
+
+    private static boolean isUniqueViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean acquire(EntityManager manager, String cleanerName, String leaseOwner, LocalDateTime run, LocalDateTime now,
+                            LocalDateTime leasedUntil) {
+        int takenOverLeases = manager.createQuery(TAKE_OVER_EXPIRED_LEASE_QUERY)
+                                     .setParameter(CleanerLeaseDto.AttributeNames.LEASE_OWNER, leaseOwner)
+                                     .setParameter(CleanerLeaseDto.AttributeNames.LEASED_UNTIL, leasedUntil)
+                                     .setParameter(CleanerLeaseDto.AttributeNames.CLEANER_NAME, cleanerName)
+                                     .setParameter("now", now)
+                                     .setParameter("run", run)
+                                     .executeUpdate();
+        if (takenOverLeases > 0) {
+            return true;
+        }
+        if (manager.find(CleanerLeaseDto.class, cleanerName) != null) {
+            return false;
+        }
+        manager.persist(new CleanerLeaseDto(cleanerName, leaseOwner, leasedUntil));
+        return true;
+    }
+
+    /**
+     * Releases the lease of the owner and records that the cleaner finished in the run, whether it succeeded or not.
+     */
+    public void release(String cleanerName, String leaseOwner, LocalDateTime run) {
+        new TransactionalExecutor<Integer>(entityManagerFactory.createEntityManager()).execute(
+            manager -> manager.createQuery(RELEASE_LEASE_QUERY)
+                              .setParameter("now", LocalDateTime.now())
+                              .setParameter("run", run)
+                              .setParameter(CleanerLeaseDto.AttributeNames.CLEANER_NAME, cleanerName)
+                              .setParameter(CleanerLeaseDto.AttributeNames.LEASE_OWNER, leaseOwner)
+                              .executeUpdate());
+    }
+
+    public boolean areFinished(Collection<String> cleanerNames, LocalDateTime run) {
+        long finishedCleaners = new Executor<Long>(entityManagerFactory.createEntityManager()).execute(
+            manager -> manager.createQuery(COUNT_FINISHED_CLEANERS_QUERY, Long.class)
+                              .setParameter("cleanerNames", cleanerNames)
+                              .setParameter("run", run)
+                              .getSingleResult());
+        return finishedCleaners == cleanerNames.size();
+    }
+
+    /**
+     * @return whether any of the cleaners is leased to an instance which is executing it
+     */
+    public boolean isAnyLeased(Collection<String> cleanerNames) {
+        long leasedCleaners = new Executor<Long>(entityManagerFactory.createEntityManager()).execute(
+            manager -> manager.createQuery(COUNT_LEASED_CLEANERS_QUERY, Long.class)
+                              .setParameter("cleanerNames", cleanerNames)
+                              .setParameter("now", LocalDateTime.now())
+                              .getSingleResult());
+        return leasedCleaners > 0;
+    }
+
+}
@@ -2,6 +2,8 @@ package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -13,9 +15,11 @@ import org.cloudfoundry.multiapps.common.NotFoundException;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.dto.ConfigurationEntryDto;
+import org.cloudfoundry.multiapps.controller.persistence.dto.VisibilityTargetDto;
 import org.cloudfoundry.multiapps.controller.persistence.model.CloudTarget;
 import org.cloudfoundry.multiapps.controller.persistence.model.ConfigurationEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata;
+import org.cloudfoundry.multiapps.controller.persistence.model.filters.TargetWildcardFilter;
 import org.cloudfoundry.multiapps.controller.persistence.query.ConfigurationEntryQuery;
 import org.cloudfoundry.multiapps.controller.persistence.query.impl.ConfigurationEntryQueryImpl;
 import org.cloudfoundry.multiapps.mta.model.Version;
@@ -50,6 +54,8 @@ public class ConfigurationEntryService extends PersistenceService<ConfigurationE
         String visibility = ObjectUtils.firstNonNull(newEntry.getVisibility(), existingEntry.getVisibility());
         String spaceId = ObjectUtils.firstNonNull(newEntry.getSpaceId(), existingEntry.getSpaceId());
         String contentId = ObjectUtils.firstNonNull(newEntry.getContentId(), existingEntry.getContentId());
+        Set<VisibilityTargetDto> visibilityTargets = entryMapper.getVisibilityTargets(entryMapper.getParsedVisibility(visibility),
+                                                                                      targetOrg);
         return ConfigurationEntryDto.builder()
                                     .id(newEntry.getPrimaryKey())
                                     .providerNid(providerNid)
@@ -62,6 +68,7 @@ public class ConfigurationEntryService extends PersistenceService<ConfigurationE
                                     .visibility(visibility)
                                     .spaceId(spaceId)
                                     .contentId(contentId)
+                                    .visibilityTargets(visibilityTargets)
                                     .build();
     }
 
@@ -146,6 +153,7 @@ public class ConfigurationEntryService extends PersistenceService<ConfigurationE
                        .getSpaceName();
             String content = entry.getContent();
             String visibility = entry.getVisibility() == null ? null : JsonUtil.toJson(entry.getVisibility());
+            Set<VisibilityTargetDto> visibilityTargets = getVisibilityTargets(entry.getVisibility(), targetOrg);
             String spaceId = entry.getSpaceId();
             String contentId = entry.getContentId();
             return ConfigurationEntryDto.builder()
@@ -160,9 +168,21 @@ public class ConfigurationEntryService extends PersistenceService<ConfigurationE
                                         .visibility(visibility)
                                         .spaceId(spaceId)
                                         .contentId(contentId)
+                                        .visibilityTargets(visibilityTargets)
                                         .build();
         }
 
+        protected Set<VisibilityTargetDto> getVisibilityTargets(List<CloudTarget> visibility, String targetOrg) {
+            if (visibility == null) {
+                return targetOrg == null ? Set.of()
+                    : Set.of(new VisibilityTargetDto(targetOrg, TargetWildcardFilter.ANY_TARGET_WILDCARD));
+            }
+            return visibility.stream()
+                             .filter(target -> target.getOrganizationName() != null && target.getSpaceName() != null)
+                             .map(target -> new VisibilityTargetDto(target.getOrganizationName(), target.getSpaceName()))
+                             .collect(Collectors.toSet());
+        }
+
         private String getNotNull(Object source) {
             return source == null ? PersistenceMetadata.NOT_AVAILABLE : source.toString();
         }
@@ -19,6 +19,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -74,6 +75,46 @@ public class FileService {
         }
     }
 
+    public boolean supportsFileComposition() {
+        return fileStorage != null && fileStorage.supportsFileComposition();
+    }
+
+    /**
+     * Creates a new file with the content of the source files, in the given order. The content is composed by the file storage, so it
+     * should be used only if {@link #supportsFileComposition()} returns true.
+     */
+    public FileEntry composeFile(FileEntry baseEntry, List<FileEntry> sourceFileEntries) throws FileStorageException {
+        FileEntry fileEntry = ImmutableFileEntry.copyOf(baseEntry)
+                                                .withId(generateRandomId())
+                                                .withModified(LocalDateTime.now())
+                                                .withSize(calculateSize(sourceFileEntries))
+                                                .withDigest(calculateComposedDigest(sourceFileEntries))
+                                                .withDigestAlgorithm(Constants.COMPOSED_FILE_DIGEST_ALGORITHM);
+        fileStorage.composeFile(fileEntry, sourceFileEntries);
+        storeFileAttributes(fileEntry);
+        logger.debug(MessageFormat.format(Messages.STORED_FILE_0, fileEntry));
+        return fileEntry;
+    }
+
+    private BigInteger calculateSize(List<FileEntry> fileEntries) {
+        return fileEntries.stream()
+                          .map(FileEntry::getSize)
+                          .reduce(BigInteger.ZERO, BigInteger::add);
+    }
+
+    private String calculateComposedDigest(List<FileEntry> fileEntries) throws FileStorageException {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(Constants.DIGEST_ALGORITHM);
+            for (FileEntry fileEntry : fileEntries) {
+                messageDigest.update(String.valueOf(fileEntry.getDigest())
+                                           .getBytes(StandardCharsets.UTF_8));
+            }
+            return DatatypeConverter.printHexBinary(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new FileStorageException(e);
+        }
+    }
+
     public List<FileEntry> listFiles(String space, String namespace) throws FileStorageException {
         try {
             List<FileEntry> fileEntriesFromDb = getSqlQueryExecutor().execute(
@@ -1,9 +1,11 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import java.io.InputStream;
+import java.text.MessageFormat;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 
 public interface FileStorage {
@@ -36,4 +38,21 @@ public interface FileStorage {
 
     <T> T processArchiveEntryContent(FileContentToProcess fileContentToProcess, FileContentProcessor<T> fileContentProcessor)
         throws FileStorageException;
+
+    /**
+     * Whether {@link #composeFile(FileEntry, List)} is supported, otherwise the content of the files has to be concatenated by the caller
+     */
+    default boolean supportsFileComposition() {
+        return false;
+    }
+
+    /**
+     * Stores the content of the source files, in the given order, as a new file without transferring it through the application
+     *
+     * @throws FileStorageException if the file storage does not support file composition
+     */
+    default void composeFile(FileEntry fileEntry, List<FileEntry> sourceFileEntries) throws FileStorageException {
+        throw new FileStorageException(MessageFormat.format(Messages.FILE_STORAGE_0_DOES_NOT_SUPPORT_FILE_COMPOSITION,
+                                                            getClass().getSimpleName()));
+    }
 }
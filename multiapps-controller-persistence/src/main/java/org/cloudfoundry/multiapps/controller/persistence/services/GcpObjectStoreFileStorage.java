@@ -28,6 +28,7 @@ import com.google.cloud.storage.StorageOptions;
 import com.google.cloud.storage.StorageRetryStrategy;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.util.ObjectStoreFilter;
 import org.cloudfoundry.multiapps.controller.persistence.util.ObjectStoreMapper;
 import org.springframework.http.MediaType;
@@ -58,6 +59,9 @@ public class GcpObjectStoreFileStorage implements FileStorage {
     private static final Duration OBJECT_STORE_MAX_RETRY_DELAY_CONFIG_IN_SECONDS = Duration.ofSeconds(10);
     private static final Duration OBJECT_STORE_INITIAL_RETRY_DELAY_CONFIG_IN_MILLIS = Duration.ofMillis(250);
     private static final String BASE_64_ENCODED_PRIVATE_KEY_DATA = "base64EncodedPrivateKeyData";
+    // A single compose request accepts at most 32 source objects
+    private static final int MAX_SOURCES_PER_COMPOSE_REQUEST = 32;
+    private static final String INTERMEDIATE_COMPOSED_BLOB_SUFFIX = ".composed.";
 
     public GcpObjectStoreFileStorage(Map<String, Object> credentials) {
         this.bucketName = (String) credentials.get(BUCKET);
@@ -95,14 +99,16 @@ public class GcpObjectStoreFileStorage implements FileStorage {
 
     @Override
     public void addFile(FileEntry fileEntry, InputStream content) throws FileStorageException {
-        BlobId blobId = BlobId.of(bucketName, fileEntry.getId());
-        BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                                    .setContentDisposition(fileEntry.getName())
-                                    .setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE)
-                                    .setMetadata(ObjectStoreMapper.createFileEntryMetadata(fileEntry))
-                                    .build();
+        putBlob(createBlobInfo(fileEntry), content);
+    }
 
-        putBlob(blobInfo, content);
+    private BlobInfo createBlobInfo(FileEntry fileEntry) {
+        BlobId blobId = BlobId.of(bucketName, fileEntry.getId());
+        return BlobInfo.newBuilder(blobId)
+                       .setContentDisposition(fileEntry.getName())
+                       .setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                       .setMetadata(ObjectStoreMapper.createFileEntryMetadata(fileEntry))
+                       .build();
     }
 
     private void putBlob(BlobInfo blobInfo, InputStream content) throws FileStorageException {
@@ -113,6 +119,50 @@ public class GcpObjectStoreFileStorage implements FileStorage {
         }
     }
 
+    @Override
+    public boolean supportsFileComposition() {
+        return true;
+    }
+
+    @Override
+    public void composeFile(FileEntry fileEntry, List<FileEntry> sourceFileEntries) throws FileStorageException {
+        List<String> sourceBlobNames = sourceFileEntries.stream()
+                                                        .map(FileEntry::getId)
+                                                        .toList();
+        List<String> intermediateBlobNames = new ArrayList<>();
+        try {
+            while (sourceBlobNames.size() > MAX_SOURCES_PER_COMPOSE_REQUEST) {
+                sourceBlobNames = composeIntermediateBlobs(fileEntry, sourceBlobNames, intermediateBlobNames);
+            }
+            composeBlob(createBlobInfo(fileEntry), sourceBlobNames);
+        } catch (StorageException e) {
+            throw new FileStorageException(e);
+        } finally {
+            intermediateBlobNames.forEach(this::deleteFileWithGeneration);
+        }
+    }
+
+    private List<String> composeIntermediateBlobs(FileEntry fileEntry, List<String> sourceBlobNames, List<String> intermediateBlobNames) {
+        List<String> composedBlobNames = new ArrayList<>();
+        for (int i = 0; i < sourceBlobNames.size(); i += MAX_SOURCES_PER_COMPOSE_REQUEST) {
+            String intermediateBlobName = fileEntry.getId() + INTERMEDIATE_COMPOSED_BLOB_SUFFIX + intermediateBlobNames.size();
+            // The intermediate blobs carry the metadata of the target, so the cleanup deletes them if they are left behind
+            composeBlob(createBlobInfo(ImmutableFileEntry.copyOf(fileEntry)
+                                                         .withId(intermediateBlobName)),
+                        sourceBlobNames.subList(i, Math.min(i + MAX_SOURCES_PER_COMPOSE_REQUEST, sourceBlobNames.size())));
+            intermediateBlobNames.add(intermediateBlobName);
+            composedBlobNames.add(intermediateBlobName);
+        }
+        return composedBlobNames;
+    }
+
+    private void composeBlob(BlobInfo targetBlobInfo, List<String> sourceBlobNames) {
+        storage.compose(Storage.ComposeRequest.newBuilder()
+                                              .addSource(sourceBlobNames)
+                                              .setTarget(targetBlobInfo)
+                                              .build());
+    }
+
     @Override
     public List<FileEntry> getFileEntriesWithoutContent(List<FileEntry> fileEntries) {
         Set<String> existingFiles = getAllEntries().stream()
@@ -0,0 +1,90 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.util.List;
+
+import jakarta.inject.Named;
+import jakarta.persistence.EntityManagerFactory;
+import org.cloudfoundry.multiapps.common.ConflictException;
+import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
+import org.cloudfoundry.multiapps.controller.persistence.dto.ModuleContentCacheEntryDto;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableModuleContentCacheEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ModuleContentCacheEntry;
+import org.cloudfoundry.multiapps.controller.persistence.query.ModuleContentCacheQuery;
+import org.cloudfoundry.multiapps.controller.persistence.query.impl.ModuleContentCacheQueryImpl;
+
+@Named
+public class ModuleContentCacheService extends PersistenceService<ModuleContentCacheEntry, ModuleContentCacheEntryDto, String> {
+
+    private final ModuleContentCacheEntryMapper moduleContentCacheEntryMapper;
+
+    public ModuleContentCacheService(EntityManagerFactory entityManagerFactory,
+                                     ModuleContentCacheEntryMapper moduleContentCacheEntryMapper) {
+        super(entityManagerFactory);
+        this.moduleContentCacheEntryMapper = moduleContentCacheEntryMapper;
+    }
+
+    public ModuleContentCacheQuery createQuery() {
+        return new ModuleContentCacheQueryImpl(createEntityManager(), moduleContentCacheEntryMapper);
+    }
+
+    /**
+     * Keeps only the most recently accessed entries. Entries accessed at the same time as the oldest retained one are kept as well.
+     *
+     * @return the number of deleted entries
+     */
+    public int deleteLeastRecentlyUsed(int maxEntries) {
+        List<ModuleContentCacheEntry> oldestRetainedEntry = createQuery().orderByLastAccessed(OrderDirection.DESCENDING)
+                                                                         .offsetOnSelect(maxEntries - 1)
+                                                                         .limitOnSelect(1)
+                                                                         .list();
+        if (oldestRetainedEntry.isEmpty()) {
+            return 0;
+        }
+        return createQuery().lastAccessedBefore(oldestRetainedEntry.get(0)
+                                                                   .getLastAccessed())
+                            .delete();
+    }
+
+    @Override
+    protected PersistenceObjectMapper<ModuleContentCacheEntry, ModuleContentCacheEntryDto> getPersistenceObjectMapper() {
+        return moduleContentCacheEntryMapper;
+    }
+
+    @Override
+    protected void onEntityConflict(ModuleContentCacheEntryDto moduleContentCacheEntryDto, Throwable t) {
+        throw new ConflictException(t, Messages.MODULE_CONTENT_CACHE_ENTRY_0_ALREADY_EXISTS, moduleContentCacheEntryDto.getPrimaryKey());
+    }
+
+    @Override
+    protected void onEntityNotFound(String contentKey) {
+        throw new NotFoundException(Messages.MODULE_CONTENT_CACHE_ENTRY_0_DOES_NOT_EXIST, contentKey);
+    }
+
+    @Named
+    public static class ModuleContentCacheEntryMapper
+        implements PersistenceObjectMapper<ModuleContentCacheEntry, ModuleContentCacheEntryDto> {
+
+        @Override
+        public ModuleContentCacheEntry fromDto(ModuleContentCacheEntryDto dto) {
+            return ImmutableModuleContentCacheEntry.builder()
+                                                   .contentKey(dto.getContentKey())
+                                                   .spaceGuid(dto.getSpaceGuid())
+                                                   .applicationDigest(dto.getApplicationDigest())
+                                                   .packageGuid(dto.getPackageGuid())
+                                                   .lastAccessed(dto.getLastAccessed())
+                                                   .build();
+        }
+
+        @Override
+        public ModuleContentCacheEntryDto toDto(ModuleContentCacheEntry moduleContentCacheEntry) {
+            return new ModuleContentCacheEntryDto(moduleContentCacheEntry.getContentKey(),
+                                                  moduleContentCacheEntry.getSpaceGuid(),
+                                                  moduleContentCacheEntry.getApplicationDigest(),
+                                                  moduleContentCacheEntry.getPackageGuid(),
+                                                  moduleContentCacheEntry.getLastAccessed());
+        }
+    }
+
+}
@@ -2,18 +2,23 @@ package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.persistence.EntityManagerFactory;
 
+import org.apache.commons.collections4.ListUtils;
 import org.cloudfoundry.multiapps.common.ConflictException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.TransactionalExecutor;
 import org.cloudfoundry.multiapps.controller.persistence.dto.OperationDto;
 import org.cloudfoundry.multiapps.controller.persistence.query.OperationQuery;
 import org.cloudfoundry.multiapps.controller.persistence.query.impl.OperationQueryImpl;
@@ -21,6 +26,10 @@ import org.cloudfoundry.multiapps.controller.persistence.query.impl.OperationQue
 @Named
 public class OperationService extends PersistenceService<Operation, OperationDto, String> {
 
+    private static final String RELEASE_LOCKS_QUERY = "UPDATE OperationDto o SET o.acquiredLock = false "
+        + "WHERE o.processId IN :processIds AND o.acquiredLock = true AND o.currentState IN :finalStates";
+    private static final int MAX_PROCESS_IDS_PER_STATEMENT = 1000;
+
     @Inject
     protected OperationMapper operationMapper;
 
@@ -33,6 +42,34 @@ public class OperationService extends PersistenceService<Operation, OperationDto
         return new OperationQueryImpl(createEntityManager(), operationMapper);
     }
 
+    /**
+     * Releases the locks of the operations in a final state with a statement per {@value #MAX_PROCESS_IDS_PER_STATEMENT} operations,
+     * instead of updating every operation on its own. The number of IDs in a statement is bounded, as databases limit the number of
+     * bind parameters.
+     *
+     * @return the number of operations, whose locks were released
+     */
+    public int releaseLocks(Collection<String> processIds) {
+        if (processIds.isEmpty()) {
+            return 0;
+        }
+        List<String> finalStates = Operation.State.getFinalStates()
+                                                  .stream()
+                                                  .map(Operation.State::toString)
+                                                  .toList();
+        List<List<String>> batchesOfProcessIds = ListUtils.partition(new ArrayList<>(processIds), MAX_PROCESS_IDS_PER_STATEMENT);
+        return new TransactionalExecutor<Integer>(createEntityManager()).execute(manager -> {
+            int releasedLocks = 0;
+            for (List<String> batchOfProcessIds : batchesOfProcessIds) {
+                releasedLocks += manager.createQuery(RELEASE_LOCKS_QUERY)
+                                        .setParameter("processIds", batchOfProcessIds)
+                                        .setParameter("finalStates", finalStates)
+                                        .executeUpdate();
+            }
+            return releasedLocks;
+        });
+    }
+
     @Override
     protected PersistenceObjectMapper<Operation, OperationDto> getPersistenceObjectMapper() {
         return operationMapper;
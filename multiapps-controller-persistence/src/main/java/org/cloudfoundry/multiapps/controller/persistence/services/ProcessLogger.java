@@ -17,8 +17,8 @@ public class ProcessLogger {
     private final String activityId;
     private final String logName;
     private final UUID id;
-    private OperationLogEntry operationLogEntry;
-    private String logMessage;
+    private final OperationLogEntry operationLogEntry;
+    private final StringBuilder logMessages = new StringBuilder();
 
     private boolean headerIsSet = false;
 
@@ -62,8 +62,13 @@ public class ProcessLogger {
         createLogMessage(message, Level.WARN, t);
     }
 
-    public String getLogMessage() {
-        return logMessage;
+    /**
+     * Returns the messages logged since the last call and removes them from the logger.
+     */
+    public synchronized String drainLogMessages() {
+        String drainedLogMessages = logMessages.toString();
+        logMessages.setLength(0);
+        return drainedLogMessages;
     }
 
     public AbstractStringLayout getLayout() {
@@ -101,22 +106,13 @@ public class ProcessLogger {
         return new Log4jLogEvent(logName, null, null, stackTrace, logLevel, logMessage, null, t);
     }
 
-    private void setLogMessage(String formattedLogMessage) {
+    private synchronized void setLogMessage(String formattedLogMessage) {
         byte[] header = layout.getHeader();
         if (header != null && !headerIsSet) {
-            setLogMessageWithHeader(formattedLogMessage, header);
-        } else {
-            logMessage = formattedLogMessage;
+            logMessages.append(new String(header));
+            headerIsSet = true;
         }
-    }
-
-    private void setLogMessageWithHeader(String formattedLogMessage, byte[] header) {
-        StringBuilder builder = new StringBuilder();
-        String headerString = new String(header);
-        builder.append(headerString);
-        builder.append(formattedLogMessage);
-        logMessage = builder.toString();
-        headerIsSet = true;
+        logMessages.append(formattedLogMessage);
     }
 
     @Override
@@ -128,14 +124,11 @@ public class ProcessLogger {
             return false;
         }
         ProcessLogger processLogger = (ProcessLogger) incommingObject;
-        return Objects.equals(id, processLogger.id) && Objects.equals(layout, processLogger.layout) && Objects.equals(activityId,
-                                                                                                                      processLogger.activityId) && Objects.equals(
-            logName, processLogger.logName) && Objects.equals(operationLogEntry, processLogger.operationLogEntry) && Objects.equals(
-            logMessage, processLogger.logMessage);
+        return Objects.equals(id, processLogger.id);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, layout, activityId, logName, operationLogEntry, logMessage);
+        return Objects.hash(id);
     }
 }
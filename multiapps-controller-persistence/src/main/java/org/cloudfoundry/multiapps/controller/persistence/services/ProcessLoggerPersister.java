@@ -1,67 +1,147 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
-import org.springframework.scheduling.annotation.Async;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 
+import java.text.MessageFormat;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Persists the messages of the process loggers. The messages are queued and inserted in batches by a background thread. When the
+ * database cannot keep up and the queue is full, the threads which persist logs wait for free space in it. The size of the queue, the
+ * sizes of the batches and the failed batches are exported as metrics of the flusher, next to the metrics of the thread pools.
+ */
 @Named("processLoggerPersister")
-public class ProcessLoggerPersister {
+public class ProcessLoggerPersister implements DisposableBean {
+
+    // The prefix of the metrics of the thread pools, so that the metrics of the flusher are exported together with them
+    private static final String METRICS_PREFIX = "multiapps.executor.flusher.";
+    private static final String FLUSHER_NAME = "process-logs-flusher";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessLoggerPersister.class);
+    private static final int MAX_PENDING_LOGS = 10000;
+    private static final int MAX_LOGS_PER_BATCH = 500;
+    private static final long PENDING_LOGS_POLL_INTERVAL_IN_MILLIS = 1000;
+    private static final long FLUSHER_SHUTDOWN_TIMEOUT_IN_MILLIS = 30000;
 
     private final ProcessLoggerProvider processLoggerProvider;
     private final ProcessLogsPersistenceService processLogsPersistenceService;
+    private final BlockingQueue<OperationLogEntry> pendingLogs = new LinkedBlockingQueue<>(MAX_PENDING_LOGS);
+    private final Thread flusher;
+    private final DistributionSummary batchSizes;
+    private final Counter failedBatches;
+    private volatile boolean stopped;
 
     @Inject
     public ProcessLoggerPersister(ProcessLoggerProvider processLoggerProvider,
                                   ProcessLogsPersistenceService processLogsPersistenceService) {
         this.processLoggerProvider = processLoggerProvider;
         this.processLogsPersistenceService = processLogsPersistenceService;
+        Gauge.builder(METRICS_PREFIX + "queued", pendingLogs, BlockingQueue::size)
+             .tag("name", FLUSHER_NAME)
+             .register(Metrics.globalRegistry);
+        this.batchSizes = DistributionSummary.builder(METRICS_PREFIX + "batch.size")
+                                             .tag("name", FLUSHER_NAME)
+                                             .register(Metrics.globalRegistry);
+        this.failedBatches = Counter.builder(METRICS_PREFIX + "batch.failed")
+                                    .tag("name", FLUSHER_NAME)
+                                    .register(Metrics.globalRegistry);
+        this.flusher = Thread.ofPlatform()
+                             .name(FLUSHER_NAME)
+                             .daemon()
+                             .start(this::flushPendingLogs);
     }
 
-    @Async("asyncExecutor")
     public void persistLogs(String correlationId, String taskId) {
-        List<ProcessLogger> processLoggers = processLoggerProvider.getExistingLoggers(correlationId, taskId);
-        Map<String, StringBuilder> processLogsMessages = new HashMap<>();
+        for (ProcessLogger processLogger : processLoggerProvider.getExistingLoggers(correlationId, taskId)) {
+            processLoggerProvider.removeProcessLoggerFromCache(processLogger);
+            String logMessages = processLogger.drainLogMessages();
+            if (!logMessages.isEmpty()) {
+                queue(createOperationLogEntry(processLogger.getOperationLogEntry(), logMessages));
+            }
+        }
+    }
+
+    private OperationLogEntry createOperationLogEntry(OperationLogEntry operationLogEntryWithExistingData, String logMessages) {
+        return ImmutableOperationLogEntry.copyOf(operationLogEntryWithExistingData)
+                                         .withId(UUID.randomUUID()
+                                                     .toString())
+                                         .withOperationLog(logMessages)
+                                         .withModified(LocalDateTime.now());
+    }
 
-        if (processLoggers.isEmpty()) {
-            return;
+    private void queue(OperationLogEntry operationLogEntry) {
+        try {
+            pendingLogs.put(operationLogEntry);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            LOGGER.error(MessageFormat.format(Messages.OPERATION_LOG_0_OF_OPERATION_1_WAS_NOT_PERSISTED,
+                                              operationLogEntry.getOperationLogName(), operationLogEntry.getOperationId()), e);
         }
+    }
 
-        for (ProcessLogger processLogger : processLoggers) {
-            if (processLogsMessages.containsKey(processLogger.getOperationLogEntry()
-                                                             .getOperationLogName())) {
-                processLogsMessages.get(processLogger.getOperationLogEntry()
-                                                     .getOperationLogName())
-                                   .append(processLogger.getLogMessage());
-            } else {
-                StringBuilder logMessage = new StringBuilder();
-                logMessage.append(processLogger.getLogMessage());
-                processLogsMessages.put(processLogger.getOperationLogEntry()
-                                                     .getOperationLogName(), logMessage);
+    private void flushPendingLogs() {
+        while (!stopped || !pendingLogs.isEmpty()) {
+            try {
+                OperationLogEntry operationLogEntry = pendingLogs.poll(PENDING_LOGS_POLL_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
+                if (operationLogEntry != null) {
+                    List<OperationLogEntry> batch = new ArrayList<>(MAX_LOGS_PER_BATCH);
+                    batch.add(operationLogEntry);
+                    pendingLogs.drainTo(batch, MAX_LOGS_PER_BATCH - 1);
+                    persistBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                return;
             }
-
-            processLoggerProvider.removeProcessLoggerFromCache(processLogger);
         }
+    }
 
-        OperationLogEntry operationLogEntryWithExistingData = processLoggers.get(0)
-                                                                            .getOperationLogEntry();
+    private void persistBatch(List<OperationLogEntry> batch) {
+        batchSizes.record(batch.size());
+        try {
+            processLogsPersistenceService.persistLogs(batch);
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            // The batch holds the logs of unrelated operations, so a single invalid log must not prevent the others from being persisted
+            LOGGER.warn(MessageFormat.format(Messages.FAILED_TO_SAVE_BATCH_OF_0_OPERATION_LOGS_SAVING_THEM_ONE_BY_ONE, batch.size()), e);
+            persistOneByOne(batch);
+        }
+    }
 
-        for (var processLogsMessage : processLogsMessages.entrySet()) {
-            OperationLogEntry operationLogEntry = ImmutableOperationLogEntry.copyOf(operationLogEntryWithExistingData)
-                                                                            .withId(UUID.randomUUID()
-                                                                                        .toString())
-                                                                            .withOperationLogName(processLogsMessage.getKey())
-                                                                            .withOperationLog(processLogsMessage.getValue()
-                                                                                                                .toString())
-                                                                            .withModified(LocalDateTime.now());
-            processLogsPersistenceService.persistLog(operationLogEntry);
+    private void persistOneByOne(List<OperationLogEntry> batch) {
+        for (OperationLogEntry operationLogEntry : batch) {
+            try {
+                processLogsPersistenceService.persistLog(operationLogEntry);
+            } catch (RuntimeException e) {
+                // The flusher must keep running, so that the logs of the other operations are persisted
+                LOGGER.error(MessageFormat.format(Messages.FAILED_TO_SAVE_OPERATION_LOG_0_OF_OPERATION_1,
+                                                  operationLogEntry.getOperationLogName(), operationLogEntry.getOperationId()),
+                             e);
+            }
         }
     }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        stopped = true;
+        flusher.join(FLUSHER_SHUTDOWN_TIMEOUT_IN_MILLIS);
+    }
 }
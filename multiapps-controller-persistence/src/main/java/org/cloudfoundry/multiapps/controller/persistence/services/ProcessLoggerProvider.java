@@ -1,8 +1,9 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import jakarta.inject.Named;
@@ -27,7 +28,8 @@ public class ProcessLoggerProvider {
                                                              .withConfiguration(loggerContext.getConfiguration())
                                                              .build();
 
-    private final Queue<ProcessLogger> loggerChache = new ConcurrentLinkedQueue<>();
+    // The loggers of an activity are modified only in the compute methods of this map, so they are not removed while a logger is added
+    private final Map<ActivityKey, Map<String, ProcessLogger>> loggersByActivity = new ConcurrentHashMap<>();
 
     public ProcessLogger getLogger(DelegateExecution execution) {
         return getLogger(execution, DEFAULT_LOG_NAME);
@@ -44,13 +46,19 @@ public class ProcessLoggerProvider {
         String spaceId = getSpaceId(execution);
         String activityId = getTaskId(execution);
         String logNameWithExtension = logName + LOG_FILE_EXTENSION;
-        AbstractStringLayout layout = layoutCreatorFunction.apply(loggerContext);
         if (correlationId == null || activityId == null) {
             return new NullProcessLogger(spaceId, execution.getProcessInstanceId(), activityId);
         }
-        ProcessLogger processLogger = createProcessLogger(spaceId, correlationId, activityId, name, logNameWithExtension, layout);
-        loggerChache.add(processLogger);
-        return processLogger;
+        AtomicReference<ProcessLogger> processLogger = new AtomicReference<>();
+        loggersByActivity.compute(new ActivityKey(correlationId, activityId), (activityKey, loggersOfActivity) -> {
+            Map<String, ProcessLogger> loggers = loggersOfActivity == null ? new ConcurrentHashMap<>() : loggersOfActivity;
+            processLogger.set(loggers.computeIfAbsent(logNameWithExtension,
+                                                      key -> createProcessLogger(spaceId, correlationId, activityId, name,
+                                                                                 logNameWithExtension,
+                                                                                 layoutCreatorFunction.apply(loggerContext))));
+            return loggers;
+        });
+        return processLogger.get();
     }
 
     private String getLoggerName(DelegateExecution execution, String logName) {
@@ -77,22 +85,24 @@ public class ProcessLoggerProvider {
     }
 
     public List<ProcessLogger> getExistingLoggers(String operationId, String activityId) {
-        return loggerChache.stream()
-                           .filter(logger -> hasLoggerSpecificProcessIdAndActivityId(operationId, activityId, logger))
-                           .toList();
-    }
-
-    private boolean hasLoggerSpecificProcessIdAndActivityId(String operationId, String activityId, ProcessLogger logger) {
-        return operationId.equals(logger.getOperationLogEntry()
-                                        .getOperationId())
-            && activityId.equals(logger.getActivityId());
+        Map<String, ProcessLogger> loggersOfActivity = loggersByActivity.get(new ActivityKey(operationId, activityId));
+        return loggersOfActivity == null ? List.of() : List.copyOf(loggersOfActivity.values());
     }
 
     public void removeProcessLoggerFromCache(ProcessLogger processLogger) {
-        loggerChache.remove(processLogger);
+        ActivityKey activityKey = new ActivityKey(processLogger.getOperationLogEntry()
+                                                               .getOperationId(), processLogger.getActivityId());
+        loggersByActivity.computeIfPresent(activityKey, (key, loggersOfActivity) -> {
+            loggersOfActivity.remove(processLogger.getOperationLogEntry()
+                                                  .getOperationLogName(), processLogger);
+            return loggersOfActivity.isEmpty() ? null : loggersOfActivity;
+        });
     }
 
     private String getSpaceId(DelegateExecution execution) {
         return (String) execution.getVariable(Constants.VARIABLE_NAME_SPACE_ID);
     }
-}
\ No newline at end of file
+
+    private record ActivityKey(String operationId, String activityId) {
+    }
+}
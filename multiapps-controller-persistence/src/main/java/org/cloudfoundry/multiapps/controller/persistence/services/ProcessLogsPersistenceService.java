@@ -6,7 +6,10 @@ import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
 import org.cloudfoundry.multiapps.controller.persistence.query.providers.ByteArraySqlFileQueryProvider;
 import org.cloudfoundry.multiapps.controller.persistence.query.providers.SqlOperationLogQueryProvider;
+import org.cloudfoundry.multiapps.controller.persistence.stream.OperationLogInputStream;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.SQLException;
 import java.text.MessageFormat;
 import java.util.List;
@@ -17,6 +20,7 @@ import java.util.stream.Collectors;
 public class ProcessLogsPersistenceService extends DatabaseFileService {
 
     public static final String TABLE_NAME = "process_log";
+    private static final int LOG_CHUNKS_PAGE_SIZE = 100;
     private final SqlOperationLogQueryProvider sqlOperationLogQueryProvider;
 
     public ProcessLogsPersistenceService(DataSourceWithDialect dataSourceWithDialect) {
@@ -42,24 +46,29 @@ public class ProcessLogsPersistenceService extends DatabaseFileService {
         }
     }
 
-    public String getOperationLog(String space, String operationId, String logId) throws FileStorageException {
-        List<OperationLogEntry> operationLogs = listOperationLogs(space, operationId, logId);
-
-        StringBuilder builder = new StringBuilder();
-        for (OperationLogEntry operationLog : operationLogs) {
-            builder.append(operationLog.getOperationLog());
+    /**
+     * Passes the content of the log to the consumer as a stream, which reads the log chunks from the database in pages while it is
+     * consumed. Every page is read in its own short transaction, so a slow consumer does not keep a database connection.
+     */
+    public void consumeOperationLog(String space, String operationId, String logId, FileContentConsumer logContentConsumer)
+        throws FileStorageException {
+        try (InputStream logContent = new OperationLogInputStream(lastChunk -> listOperationLogChunks(space, operationId, logId,
+                                                                                                     lastChunk))) {
+            logContentConsumer.consume(logContent);
+        } catch (IOException e) {
+            throw new FileStorageException(
+                MessageFormat.format(Messages.ERROR_GETTING_LOGS_WITH_SPACE_OPERATION_ID_AND_NAME, space, operationId, logId), e);
         }
-        return builder.toString();
     }
 
-    private List<OperationLogEntry> listOperationLogs(final String space, final String operationId, String logId)
-        throws FileStorageException {
+    private List<OperationLogEntry> listOperationLogChunks(String space, String operationId, String logId, OperationLogEntry lastChunk)
+        throws IOException {
         try {
             return getSqlQueryExecutor().execute(
-                sqlOperationLogQueryProvider.getListFilesQueryBySpaceOperationIdAndLogId(space, operationId, logId));
+                sqlOperationLogQueryProvider.getListLogChunksQueryBySpaceOperationIdAndLogId(space, operationId, logId, lastChunk,
+                                                                                             LOG_CHUNKS_PAGE_SIZE));
         } catch (SQLException e) {
-            throw new FileStorageException(
-                MessageFormat.format(Messages.ERROR_GETTING_LOGS_WITH_SPACE_OPERATION_ID_AND_NAME, space, operationId, logId), e);
+            throw new IOException(e.getMessage(), e);
         }
     }
 
@@ -70,4 +79,12 @@ public class ProcessLogsPersistenceService extends DatabaseFileService {
             throw new OperationLogStorageException(Messages.FAILED_TO_SAVE_OPERATION_LOG_IN_DATABASE, e);
         }
     }
+
+    public void persistLogs(List<OperationLogEntry> operationLogEntries) {
+        try {
+            getSqlQueryExecutor().execute(sqlOperationLogQueryProvider.getStoreLogsQuery(operationLogEntries));
+        } catch (SQLException e) {
+            throw new OperationLogStorageException(Messages.FAILED_TO_SAVE_OPERATION_LOG_IN_DATABASE, e);
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package org.cloudfoundry.multiapps.controller.persistence.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
+
+/**
+ * Reads the chunks of an operation log as a single UTF-8 encoded stream. The chunks are read in pages, each of which is selected after the
+ * last chunk of the previous one, so no database cursor or transaction is kept open while the stream is consumed. Only the current page is
+ * kept in memory.
+ */
+public class OperationLogInputStream extends InputStream {
+
+    private static final byte[] EMPTY_CHUNK = new byte[0];
+
+    private final LogChunksReader logChunksReader;
+    private Iterator<OperationLogEntry> currentPage = Collections.emptyIterator();
+    private OperationLogEntry lastChunk;
+    private boolean lastPageRead;
+    private byte[] currentChunk = EMPTY_CHUNK;
+    private int position;
+
+    public OperationLogInputStream(LogChunksReader logChunksReader) {
+        this.logChunksReader = logChunksReader;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!hasRemainingBytes()) {
+            return -1;
+        }
+        return currentChunk[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!hasRemainingBytes()) {
+            return -1;
+        }
+        int bytesToRead = Math.min(len, currentChunk.length - position);
+        System.arraycopy(currentChunk, position, b, off, bytesToRead);
+        position += bytesToRead;
+        return bytesToRead;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0 || !hasRemainingBytes()) {
+            return 0;
+        }
+        int bytesToSkip = (int) Math.min(n, currentChunk.length - position);
+        position += bytesToSkip;
+        return bytesToSkip;
+    }
+
+    @Override
+    public int available() {
+        return currentChunk.length - position;
+    }
+
+    private boolean hasRemainingBytes() throws IOException {
+        while (position == currentChunk.length) {
+            if (!currentPage.hasNext() && !readNextPage()) {
+                return false;
+            }
+            lastChunk = currentPage.next();
+            String chunk = lastChunk.getOperationLog();
+            currentChunk = chunk == null ? EMPTY_CHUNK : chunk.getBytes(StandardCharsets.UTF_8);
+            position = 0;
+        }
+        return true;
+    }
+
+    private boolean readNextPage() throws IOException {
+        if (lastPageRead) {
+            return false;
+        }
+        List<OperationLogEntry> page = logChunksReader.readChunksAfter(lastChunk);
+        lastPageRead = page.isEmpty();
+        currentPage = page.iterator();
+        return !lastPageRead;
+    }
+
+    @FunctionalInterface
+    public interface LogChunksReader {
+
+        /**
+         * @param lastChunk the last chunk which was read, or {@code null} if no chunks have been read yet
+         * @return the next page of chunks, which is empty when all chunks have been read
+         */
+        List<OperationLogEntry> readChunksAfter(OperationLogEntry lastChunk) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,11 @@
+INSERT INTO configuration_entry_visibility (configuration_entry_id, target_org, target_space)
+SELECT DISTINCT entry.id, visible_target ->> 'org', visible_target ->> 'space'
+FROM configuration_registry entry, json_array_elements(CAST(entry.visibility AS JSON)) visible_target
+WHERE entry.visibility IS NOT NULL
+  AND visible_target ->> 'org' IS NOT NULL
+  AND visible_target ->> 'space' IS NOT NULL;
+
+INSERT INTO configuration_entry_visibility (configuration_entry_id, target_org, target_space)
+SELECT entry.id, entry.target_org, '*'
+FROM configuration_registry entry
+WHERE entry.visibility IS NULL;
@@ -0,0 +1,107 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.common.ConflictException;
+import org.cloudfoundry.multiapps.controller.persistence.model.ArchiveEntriesIndex;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableArchiveEntriesIndex;
+import org.cloudfoundry.multiapps.controller.persistence.services.ArchiveEntriesIndexService.ArchiveEntriesIndexMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+class ArchiveEntriesIndexServiceTest {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    private static final LocalDateTime DATE_1 = LocalDateTime.parse("2024-12-05T13:30:25.010Z", DATE_TIME_FORMATTER);
+    private static final LocalDateTime DATE_2 = LocalDateTime.parse("2020-11-30T13:30:25.020Z", DATE_TIME_FORMATTER);
+
+    private static final ArchiveEntriesIndex ARCHIVE_ENTRIES_INDEX_1 = createArchiveEntriesIndex("file-1", "digest-1", DATE_1);
+    private static final ArchiveEntriesIndex ARCHIVE_ENTRIES_INDEX_2 = createArchiveEntriesIndex("file-2", "digest-2", DATE_2);
+
+    private final ArchiveEntriesIndexService archiveEntriesIndexService = createArchiveEntriesIndexService();
+
+    @AfterEach
+    void cleanup() {
+        archiveEntriesIndexService.createQuery()
+                                  .delete();
+    }
+
+    @Test
+    void testAdd() {
+        archiveEntriesIndexService.add(ARCHIVE_ENTRIES_INDEX_1);
+
+        List<ArchiveEntriesIndex> archiveEntriesIndexes = archiveEntriesIndexService.createQuery()
+                                                                                    .list();
+        assertEquals(1, archiveEntriesIndexes.size());
+        verifyArchiveEntriesIndexesAreEqual(ARCHIVE_ENTRIES_INDEX_1, archiveEntriesIndexes.get(0));
+    }
+
+    @Test
+    void testFindByFileIdAndDigest() {
+        archiveEntriesIndexService.add(ARCHIVE_ENTRIES_INDEX_1);
+        archiveEntriesIndexService.add(ARCHIVE_ENTRIES_INDEX_2);
+
+        verifyArchiveEntriesIndexesAreEqual(ARCHIVE_ENTRIES_INDEX_2, archiveEntriesIndexService.createQuery()
+                                                                                               .fileId("file-2")
+                                                                                               .digest("digest-2")
+                                                                                               .singleResult());
+        assertTrue(archiveEntriesIndexService.createQuery()
+                                             .fileId("file-2")
+                                             .digest("digest-1")
+                                             .list()
+                                             .isEmpty());
+    }
+
+    @Test
+    void testDeleteOlderThan() {
+        archiveEntriesIndexService.add(ARCHIVE_ENTRIES_INDEX_1);
+        archiveEntriesIndexService.add(ARCHIVE_ENTRIES_INDEX_2);
+
+        int deletedIndexes = archiveEntriesIndexService.createQuery()
+                                                       .olderThan(DATE_1)
+                                                       .delete();
+
+        assertEquals(1, deletedIndexes);
+        verifyArchiveEntriesIndexesAreEqual(ARCHIVE_ENTRIES_INDEX_1, archiveEntriesIndexService.createQuery()
+                                                                                               .singleResult());
+    }
+
+    @Test
+    void testThrowExceptionOnConflictingEntity() {
+        archiveEntriesIndexService.add(ARCHIVE_ENTRIES_INDEX_1);
+        assertThrows(ConflictException.class, () -> archiveEntriesIndexService.add(ARCHIVE_ENTRIES_INDEX_1));
+    }
+
+    private ArchiveEntriesIndexService createArchiveEntriesIndexService() {
+        EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
+        return new ArchiveEntriesIndexService(entityManagerFactory, new ArchiveEntriesIndexMapper());
+    }
+
+    private static ArchiveEntriesIndex createArchiveEntriesIndex(String fileId, String digest, LocalDateTime timestamp) {
+        return ImmutableArchiveEntriesIndex.builder()
+                                           .fileId(fileId)
+                                           .digest(digest)
+                                           .content("[]".getBytes(StandardCharsets.UTF_8))
+                                           .timestamp(timestamp)
+                                           .build();
+    }
+
+    private void verifyArchiveEntriesIndexesAreEqual(ArchiveEntriesIndex expected, ArchiveEntriesIndex actual) {
+        assertEquals(expected.getFileId(), actual.getFileId());
+        assertEquals(expected.getDigest(), actual.getDigest());
+        assertArrayEquals(expected.getContent(), actual.getContent());
+        assertEquals(expected.getTimestamp(), actual.getTimestamp());
+    }
+
+}
@@ -0,0 +1,121 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.persistence.TransactionalExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceException;
+
+class CleanerLeaseServiceTest {
+
+    private static final String CLEANER_NAME = "FilesCleaner";
+    private static final String OWNER_1 = "instance-0";
+    private static final String OWNER_2 = "instance-1";
+    private static final String OTHER_CLEANER_NAME = "TokensCleaner";
+    private static final LocalDateTime RUN = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final LocalDateTime NEXT_RUN = RUN.plusDays(1);
+    private static final Duration LEASE_DURATION = Duration.ofHours(1);
+
+    private final EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
+    private final CleanerLeaseService cleanerLeaseService = new CleanerLeaseService(entityManagerFactory);
+
+    @AfterEach
+    void cleanUp() {
+        new TransactionalExecutor<Integer>(entityManagerFactory.createEntityManager()).execute(
+            manager -> manager.createQuery("DELETE FROM CleanerLeaseDto")
+                              .executeUpdate());
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void testAcquireNewLease() {
+        assertTrue(cleanerLeaseService.acquire(CLEANER_NAME, OWNER_1, RUN, LEASE_DURATION));
+    }
+
+    @Test
+    void testAcquireActiveLease() {
+        cleanerLeaseService.acquire(CLEANER_NAME, OWNER_1, RUN, LEASE_DURATION);
+
+        assertFalse(cleanerLeaseService.acquire(CLEANER_NAME, OWNER_2, RUN, LEASE_DURATION));
+        assertFalse(cleanerLeaseService.acquire(CLEANER_NAME, OWNER_1, RUN, LEASE_DURATION));
+    }
+
+    @Test
+    void testAcquireExpiredLease() {
+        cleanerLeaseService.acquire(CLEANER_NAME, OWNER_1, RUN, LEASE_DURATION.negated());
+
+        assertTrue(cleanerLeaseService.acquire(CLEANER_NAME, OWNER_2, RUN, LEASE_DURATION));
+    }
+
+    @Test
+    void testReleasedLeaseIsNotAcquiredAgainInTheSameRun() {
+        cleanerLeaseService.acquire(CLEANER_NAME, OWNER_1, RUN, LEASE_DURATION);
+
+        cleanerLeaseService.release(CLEANER_NAME, OWNER_1, RUN);
+
+        assertFalse(cleanerLeaseService.acquire(CLEANER_NAME, OWNER_2, RUN, LEASE_DURATION));
+        assertTrue(cleanerLeaseService.acquire(CLEANER_NAME, OWNER_2, NEXT_RUN, LEASE_DURATION));
+    }
+
+    @Test
+    void testLeaseOfAnotherOwnerIsNotReleased() {
+        cleanerLeaseService.acquire(CLEANER_NAME, OWNER_1, RUN, LEASE_DURATION);
+
+        cleanerLeaseService.release(CLEANER_NAME, OWNER_2, RUN);
+
+        assertTrue(cleanerLeaseService.isAnyLeased(List.of(CLEANER_NAME)));
+        assertFalse(cleanerLeaseService.areFinished(List.of(CLEANER_NAME), RUN));
+    }
+
+    @Test
+    void testCleanersAreFinishedWhenAllOfThemAreReleased() {
+        List<String> cleanerNames = List.of(CLEANER_NAME, OTHER_CLEANER_NAME);
+        cleanerLeaseService.acquire(CLEANER_NAME, OWNER_1, RUN, LEASE_DURATION);
+        cleanerLeaseService.acquire(OTHER_CLEANER_NAME, OWNER_2, RUN, LEASE_DURATION);
+        cleanerLeaseService.release(CLEANER_NAME, OWNER_1, RUN);
+
+        assertFalse(cleanerLeaseService.areFinished(cleanerNames, RUN));
+        assertTrue(cleanerLeaseService.isAnyLeased(cleanerNames));
+
+        cleanerLeaseService.release(OTHER_CLEANER_NAME, OWNER_2, RUN);
+
+        assertTrue(cleanerLeaseService.areFinished(cleanerNames, RUN));
+        assertFalse(cleanerLeaseService.isAnyLeased(cleanerNames));
+        assertFalse(cleanerLeaseService.areFinished(cleanerNames, NEXT_RUN));
+    }
+
+    @Test
+    void testAcquireLeaseCreatedConcurrently() {
+        PersistenceException uniqueViolation = new PersistenceException(new SQLException("Duplicate key", "23505"));
+
+        assertFalse(createCleanerLeaseServiceFailingWith(uniqueViolation).acquire(CLEANER_NAME, OWNER_1, RUN, LEASE_DURATION));
+    }
+
+    @Test
+    void testAcquireLeaseWhenDatabaseFails() {
+        PersistenceException databaseFailure = new PersistenceException(new SQLException("Connection refused", "08001"));
+        CleanerLeaseService failingCleanerLeaseService = createCleanerLeaseServiceFailingWith(databaseFailure);
+
+        assertThrows(PersistenceException.class, () -> failingCleanerLeaseService.acquire(CLEANER_NAME, OWNER_1, RUN, LEASE_DURATION));
+    }
+
+    private CleanerLeaseService createCleanerLeaseServiceFailingWith(PersistenceException exception) {
+        EntityManagerFactory failingEntityManagerFactory = Mockito.mock(EntityManagerFactory.class);
+        Mockito.when(failingEntityManagerFactory.createEntityManager())
+               .thenThrow(exception);
+        return new CleanerLeaseService(failingEntityManagerFactory);
+    }
+
+}
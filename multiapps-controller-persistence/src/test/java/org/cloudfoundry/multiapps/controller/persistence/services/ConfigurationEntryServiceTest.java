@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
@@ -30,6 +32,7 @@ class ConfigurationEntryServiceTest {
                                                                                              "namespace", "org3", "space3", "content3");
     private static final List<ConfigurationEntry> ALL_ENTRIES = List.of(CONFIGURATION_ENTRY_1, CONFIGURATION_ENTRY_2,
                                                                         CONFIGURATION_ENTRY_3);
+    private final EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
     private final ConfigurationEntryService configurationEntryService = createConfigurationEntryService();
 
     @AfterEach
@@ -141,6 +144,81 @@ class ConfigurationEntryServiceTest {
 
     }
 
+    @Test
+    void testQueryByVisibilityTargets() {
+        ConfigurationEntry entryVisibleInOrg = createConfigurationEntry(4L, "providerNid4", "providerId4", "1.0", "org4", "space4",
+                                                                        List.of(new CloudTarget("org1", "*")));
+        ConfigurationEntry entryVisibleInSpace = createConfigurationEntry(5L, "providerNid5", "providerId5", "1.0", "org5", "space5",
+                                                                          List.of(new CloudTarget("*", "space2")));
+        ConfigurationEntry entryWithoutVisibility = createConfigurationEntry(6L, "providerNid6", "providerId6", "1.0", "org3", "space6",
+                                                                             null);
+        addConfigurationEntries(List.of(entryVisibleInOrg, entryVisibleInSpace, entryWithoutVisibility));
+
+        assertVisibleEntries(List.of(new CloudTarget("org1", "space1")), entryVisibleInOrg);
+        assertVisibleEntries(List.of(new CloudTarget("org2", "space2")), entryVisibleInSpace);
+        assertVisibleEntries(List.of(new CloudTarget("org3", "space3")), entryWithoutVisibility);
+        assertVisibleEntries(List.of(new CloudTarget("org1", "space2"), new CloudTarget("org3", "space3")), entryVisibleInOrg,
+                             entryVisibleInSpace, entryWithoutVisibility);
+        assertVisibleEntries(List.of(new CloudTarget("org7", "space7")));
+    }
+
+    @Test
+    void testQueryByVisibilityTargetsAfterUpdate() {
+        ConfigurationEntry entry = createConfigurationEntry(4L, "providerNid4", "providerId4", "1.0", "org4", "space4",
+                                                            List.of(new CloudTarget("org1", "space1")));
+        ConfigurationEntry addedEntry = configurationEntryService.add(entry);
+        ConfigurationEntry updatedEntry = createConfigurationEntry(addedEntry.getId(), "providerNid4", "providerId4", "1.0", "org4",
+                                                                   "space4", List.of(new CloudTarget("org2", "space2")));
+        configurationEntryService.update(addedEntry, updatedEntry);
+
+        assertVisibleEntries(List.of(new CloudTarget("org1", "space1")));
+        assertVisibleEntries(List.of(new CloudTarget("org2", "space2")), updatedEntry);
+    }
+
+    @Test
+    void testQueryByVisibilityTargetsOfEntriesWithoutVisibilityRows() {
+        ConfigurationEntry entryVisibleInOrg = createConfigurationEntry(4L, "providerNid4", "providerId4", "1.0", "org4", "space4",
+                                                                        List.of(new CloudTarget("org1", "*")));
+        ConfigurationEntry entryWithoutVisibility = createConfigurationEntry(5L, "providerNid5", "providerId5", "1.0", "org3", "space5",
+                                                                             null);
+        addConfigurationEntries(List.of(entryVisibleInOrg, entryWithoutVisibility));
+        // Entries created before the visibility table was introduced have no rows in it
+        deleteVisibilityRows();
+
+        assertVisibleEntries(List.of(new CloudTarget("org1", "space1")), entryVisibleInOrg);
+        assertVisibleEntries(List.of(new CloudTarget("org3", "space3")), entryWithoutVisibility);
+        assertVisibleEntries(List.of(new CloudTarget("org7", "space7")));
+    }
+
+    private void deleteVisibilityRows() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction()
+                         .begin();
+            entityManager.createNativeQuery("DELETE FROM configuration_entry_visibility")
+                         .executeUpdate();
+            entityManager.getTransaction()
+                         .commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private void assertVisibleEntries(List<CloudTarget> visibilityTargets, ConfigurationEntry... expectedEntries) {
+        List<String> visibleProviderIds = configurationEntryService.createQuery()
+                                                                   .visibilityTargets(visibilityTargets)
+                                                                   .list()
+                                                                   .stream()
+                                                                   .map(ConfigurationEntry::getProviderId)
+                                                                   .sorted()
+                                                                   .toList();
+        List<String> expectedProviderIds = Stream.of(expectedEntries)
+                                                 .map(ConfigurationEntry::getProviderId)
+                                                 .sorted()
+                                                 .toList();
+        assertEquals(expectedProviderIds, visibleProviderIds);
+    }
+
     private void testQueryByCriteria(ConfigurationEntryQueryBuilder configurationEntryQueryBuilder) {
 
         addConfigurationEntries(ALL_ENTRIES);
@@ -176,6 +254,20 @@ class ConfigurationEntryServiceTest {
                                  .singleResult();
     }
 
+    private static ConfigurationEntry createConfigurationEntry(long id, String providerNid, String providerId, String version, String org,
+                                                               String space, List<CloudTarget> visibility) {
+        return new ConfigurationEntry(id,
+                                      providerNid,
+                                      providerId,
+                                      Version.parseVersion(version),
+                                      null,
+                                      new CloudTarget(org, space),
+                                      "content",
+                                      visibility,
+                                      space,
+                                      null);
+    }
+
     private static ConfigurationEntry createConfigurationEntry(long id, String providerNid, String providerId, String version,
                                                                String providerNamespace, String org, String space, String content) {
         return new ConfigurationEntry(id,
@@ -191,7 +283,6 @@ class ConfigurationEntryServiceTest {
     }
 
     private ConfigurationEntryService createConfigurationEntryService() {
-        EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
         ConfigurationEntryService configurationEntryService = new ConfigurationEntryService(entityManagerFactory);
         configurationEntryService.entryMapper = new ConfigurationEntryMapper();
         return configurationEntryService;
@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.apache.commons.io.IOUtils;
+import org.cloudfoundry.multiapps.controller.persistence.Constants;
 import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
@@ -154,6 +155,25 @@ class FileServiceTest extends DatabaseFileServiceTest {
                .openInputStream(anyString(), anyString());
     }
 
+    @Test
+    void composeFileTest() throws Exception {
+        List<FileEntry> parts = List.of(addTestFile(SPACE_1, NAMESPACE_1), addTestFile(SPACE_1, NAMESPACE_1));
+
+        FileEntry composedFile = fileService.composeFile(ImmutableFileEntry.builder()
+                                                                           .space(SPACE_1)
+                                                                           .namespace(NAMESPACE_1)
+                                                                           .name(PIC_STORAGE_NAME)
+                                                                           .build(),
+                                                         parts);
+
+        Mockito.verify(fileStorage)
+               .composeFile(composedFile, parts);
+        FileEntry storedFile = fileService.getFile(SPACE_1, composedFile.getId());
+        assertEquals(BigInteger.valueOf(2L * PIC_SIZE), storedFile.getSize());
+        assertEquals(composedFile.getDigest(), storedFile.getDigest());
+        assertEquals(Constants.COMPOSED_FILE_DIGEST_ALGORITHM, storedFile.getDigestAlgorithm());
+    }
+
     @Test
     void listFilesReturnsOnlyEntriesExistingInObjectStore() throws Exception {
         FileEntry existingInBoth = addTestFile(SPACE_1, NAMESPACE_1);
@@ -12,9 +12,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -151,6 +154,43 @@ class GcpObjectStoreFileStorageTest extends JCloudsObjectStoreFileStorageTest {
         verify(mockedStorage).get(List.of(BlobId.of(CONTAINER, entry.getId())));
     }
 
+    @Test
+    void composeFile() throws Exception {
+        List<FileEntry> parts = List.of(addPart("first-"), addPart("second-"), addPart("third"));
+        FileEntry composedFile = createFileEntryWithRandomId();
+
+        fileStorage.composeFile(composedFile, parts);
+
+        assertEquals("first-second-third", new String(storage.readAllBytes(CONTAINER, composedFile.getId()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void composeFileFromMorePartsThanASingleRequestAccepts() throws Exception {
+        List<FileEntry> parts = new ArrayList<>();
+        StringBuilder expectedContent = new StringBuilder();
+        for (int i = 0; i < 70; i++) {
+            parts.add(addPart(i + ","));
+            expectedContent.append(i)
+                           .append(",");
+        }
+        FileEntry composedFile = createFileEntryWithRandomId();
+
+        fileStorage.composeFile(composedFile, parts);
+
+        assertEquals(expectedContent.toString(), new String(storage.readAllBytes(CONTAINER, composedFile.getId()),
+                                                            StandardCharsets.UTF_8));
+        assertTrue(storage.list(CONTAINER)
+                          .streamAll()
+                          .noneMatch(blob -> blob.getName()
+                                                 .startsWith(composedFile.getId() + ".")));
+    }
+
+    private FileEntry addPart(String content) throws Exception {
+        FileEntry part = createFileEntryWithRandomId();
+        fileStorage.addFile(part, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        return part;
+    }
+
     private void mockStorageGetToReturn(List<Blob> blobs) {
         when(mockedStorage.get(anyList())).thenReturn(blobs);
     }
@@ -35,6 +35,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -120,6 +121,15 @@ class JCloudsObjectStoreFileStorageTest {
         assertFileExists(true, fileThatStays);
     }
 
+    @Test
+    void composeFileFailsWhenNotSupported() throws Exception {
+        assumeFalse(fileStorage.supportsFileComposition());
+        FileEntry sourceFile = addFile(TEST_FILE_LOCATION);
+        FileEntry composedFile = createFileEntry();
+
+        assertThrows(FileStorageException.class, () -> fileStorage.composeFile(composedFile, List.of(sourceFile)));
+    }
+
     @Test
     void deleteFilesBySpace() throws Exception {
         FileEntry firstFile = addFile(TEST_FILE_LOCATION);
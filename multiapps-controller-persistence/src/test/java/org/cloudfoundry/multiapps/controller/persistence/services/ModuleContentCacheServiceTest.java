@@ -0,0 +1,127 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.common.ConflictException;
+import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableModuleContentCacheEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ModuleContentCacheEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.ModuleContentCacheService.ModuleContentCacheEntryMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+class ModuleContentCacheServiceTest {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    private static final LocalDateTime DATE_1 = LocalDateTime.parse("2024-12-05T13:30:25.010Z", DATE_TIME_FORMATTER);
+    private static final LocalDateTime DATE_2 = LocalDateTime.parse("2023-11-30T13:30:25.020Z", DATE_TIME_FORMATTER);
+    private static final LocalDateTime DATE_3 = LocalDateTime.parse("2020-11-30T13:30:25.020Z", DATE_TIME_FORMATTER);
+
+    private static final ModuleContentCacheEntry ENTRY_1 = createModuleContentCacheEntry("key-1", "package-1", DATE_1);
+    private static final ModuleContentCacheEntry ENTRY_2 = createModuleContentCacheEntry("key-2", null, DATE_2);
+    private static final ModuleContentCacheEntry ENTRY_3 = createModuleContentCacheEntry("key-3", "package-3", DATE_3);
+
+    private final ModuleContentCacheService moduleContentCacheService = createModuleContentCacheService();
+
+    @AfterEach
+    void cleanup() {
+        moduleContentCacheService.createQuery()
+                                 .delete();
+    }
+
+    @Test
+    void testAdd() {
+        moduleContentCacheService.add(ENTRY_1);
+
+        verifyModuleContentCacheEntriesAreEqual(ENTRY_1, moduleContentCacheService.createQuery()
+                                                                                  .contentKey("key-1")
+                                                                                  .singleResult());
+    }
+
+    @Test
+    void testAddWithoutPackageGuid() {
+        moduleContentCacheService.add(ENTRY_2);
+
+        assertNull(moduleContentCacheService.createQuery()
+                                            .contentKey("key-2")
+                                            .singleResult()
+                                            .getPackageGuid());
+    }
+
+    @Test
+    void testUpdate() {
+        moduleContentCacheService.add(ENTRY_2);
+        ModuleContentCacheEntry updatedEntry = ImmutableModuleContentCacheEntry.copyOf(ENTRY_2)
+                                                                               .withPackageGuid("package-2")
+                                                                               .withLastAccessed(DATE_1);
+
+        moduleContentCacheService.update(ENTRY_2, updatedEntry);
+
+        verifyModuleContentCacheEntriesAreEqual(updatedEntry, moduleContentCacheService.createQuery()
+                                                                                       .contentKey("key-2")
+                                                                                       .singleResult());
+    }
+
+    @Test
+    void testDeleteLeastRecentlyUsed() {
+        moduleContentCacheService.add(ENTRY_1);
+        moduleContentCacheService.add(ENTRY_2);
+        moduleContentCacheService.add(ENTRY_3);
+
+        int deletedEntries = moduleContentCacheService.deleteLeastRecentlyUsed(2);
+
+        assertEquals(1, deletedEntries);
+        List<ModuleContentCacheEntry> remainingEntries = moduleContentCacheService.createQuery()
+                                                                                  .orderByLastAccessed(OrderDirection.DESCENDING)
+                                                                                  .list();
+        assertEquals(2, remainingEntries.size());
+        verifyModuleContentCacheEntriesAreEqual(ENTRY_1, remainingEntries.get(0));
+        verifyModuleContentCacheEntriesAreEqual(ENTRY_2, remainingEntries.get(1));
+    }
+
+    @Test
+    void testDeleteLeastRecentlyUsedWithinLimit() {
+        moduleContentCacheService.add(ENTRY_1);
+
+        assertEquals(0, moduleContentCacheService.deleteLeastRecentlyUsed(2));
+    }
+
+    @Test
+    void testThrowExceptionOnConflictingEntity() {
+        moduleContentCacheService.add(ENTRY_1);
+        assertThrows(ConflictException.class, () -> moduleContentCacheService.add(ENTRY_1));
+    }
+
+    private ModuleContentCacheService createModuleContentCacheService() {
+        EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
+        return new ModuleContentCacheService(entityManagerFactory, new ModuleContentCacheEntryMapper());
+    }
+
+    private static ModuleContentCacheEntry createModuleContentCacheEntry(String contentKey, String packageGuid, LocalDateTime lastAccessed) {
+        return ImmutableModuleContentCacheEntry.builder()
+                                               .contentKey(contentKey)
+                                               .spaceGuid("space")
+                                               .applicationDigest("digest-" + contentKey)
+                                               .packageGuid(packageGuid)
+                                               .lastAccessed(lastAccessed)
+                                               .build();
+    }
+
+    private void verifyModuleContentCacheEntriesAreEqual(ModuleContentCacheEntry expected, ModuleContentCacheEntry actual) {
+        assertEquals(expected.getContentKey(), actual.getContentKey());
+        assertEquals(expected.getSpaceGuid(), actual.getSpaceGuid());
+        assertEquals(expected.getApplicationDigest(), actual.getApplicationDigest());
+        assertEquals(expected.getPackageGuid(), actual.getPackageGuid());
+        assertEquals(expected.getLastAccessed(), actual.getLastAccessed());
+    }
+
+}
@@ -5,8 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.text.MessageFormat;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
@@ -16,6 +20,7 @@ import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
 import org.cloudfoundry.multiapps.controller.persistence.query.OperationQuery;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService.OperationMapper;
 import org.junit.jupiter.api.AfterEach;
@@ -145,6 +150,103 @@ class OperationServiceTest {
         testQueryByCriteria((query, operation) -> query.inFinalState(), operation1, OPERATION_2);
     }
 
+    @Test
+    void testQueryStartedAfterOperation() {
+        ZonedDateTime startedAt = ZonedDateTime.parse("2010-10-08T10:00:00.000Z[UTC]");
+        Operation operation1 = ImmutableOperation.copyOf(OPERATION_1)
+                                                 .withProcessId("1");
+        Operation operation2 = ImmutableOperation.copyOf(OPERATION_1)
+                                                 .withProcessId("2");
+        Operation operation3 = ImmutableOperation.copyOf(OPERATION_2)
+                                                 .withProcessId("3")
+                                                 .withStartedAt(startedAt.minusDays(1));
+        Operation operation4 = ImmutableOperation.copyOf(OPERATION_2)
+                                                 .withProcessId("4");
+        addOperations(List.of(operation4, operation2, operation1, operation3));
+
+        List<Operation> firstPage = operationService.createQuery()
+                                                    .orderByStartTimeAndProcessId(OrderDirection.ASCENDING)
+                                                    .limitOnSelect(2)
+                                                    .list();
+        assertEquals(List.of(operation3, operation1), firstPage);
+        List<Operation> secondPage = operationService.createQuery()
+                                                     .orderByStartTimeAndProcessId(OrderDirection.ASCENDING)
+                                                     .startedAfterOperation(startedAt, operation1.getProcessId())
+                                                     .limitOnSelect(2)
+                                                     .list();
+        assertEquals(List.of(operation2, operation4), secondPage);
+    }
+
+    @Test
+    void testPagesOfOperationsStartedAtTheSameTime() {
+        ZonedDateTime startedAt = ZonedDateTime.parse("2010-10-08T10:00:00.000Z[UTC]");
+        List<Operation> operations = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            // Most operations share their start time with others, so the process ID decides where a page ends
+            operations.add(ImmutableOperation.copyOf(OPERATION_1)
+                                             .withProcessId(UUID.randomUUID()
+                                                                .toString())
+                                             .withStartedAt(startedAt.plusSeconds(i / 10)));
+        }
+        addOperations(operations);
+        List<Operation> expectedOperations = operations.stream()
+                                                       .sorted(Comparator.comparing(Operation::getStartedAt)
+                                                                         .thenComparing(Operation::getProcessId))
+                                                       .collect(Collectors.toList());
+
+        List<Operation> pagedOperations = new ArrayList<>();
+        List<Operation> page = getOperationsPage(null, 4);
+        while (!page.isEmpty()) {
+            pagedOperations.addAll(page);
+            page = getOperationsPage(page.get(page.size() - 1), 4);
+        }
+
+        assertEquals(expectedOperations, pagedOperations);
+    }
+
+    private List<Operation> getOperationsPage(Operation lastOperationOfPreviousPage, int pageSize) {
+        OperationQuery operationQuery = operationService.createQuery()
+                                                        .spaceId(OPERATION_1.getSpaceId())
+                                                        .orderByStartTimeAndProcessId(OrderDirection.ASCENDING)
+                                                        .limitOnSelect(pageSize);
+        if (lastOperationOfPreviousPage != null) {
+            operationQuery.startedAfterOperation(lastOperationOfPreviousPage.getStartedAt(), lastOperationOfPreviousPage.getProcessId());
+        }
+        return operationQuery.list();
+    }
+
+    @Test
+    void testReleaseLocks() {
+        Operation finishedOperation = ImmutableOperation.copyOf(OPERATION_2)
+                                                        .withState(Operation.State.FINISHED);
+        Operation runningOperation = ImmutableOperation.copyOf(OPERATION_2)
+                                                       .withProcessId("3");
+        addOperations(List.of(finishedOperation, runningOperation));
+
+        assertEquals(1, operationService.releaseLocks(List.of(finishedOperation.getProcessId(), runningOperation.getProcessId())));
+        assertEquals(List.of(runningOperation), operationService.createQuery()
+                                                                .acquiredLock(true)
+                                                                .list());
+    }
+
+    @Test
+    void testReleaseLocksOfManyOperations() {
+        Operation finishedOperation = ImmutableOperation.copyOf(OPERATION_2)
+                                                        .withState(Operation.State.FINISHED);
+        addOperations(List.of(finishedOperation));
+        List<String> processIds = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            processIds.add("missing-" + i);
+        }
+        processIds.add(finishedOperation.getProcessId());
+
+        assertEquals(1, operationService.releaseLocks(processIds));
+        assertEquals(0, operationService.createQuery()
+                                        .acquiredLock(true)
+                                        .list()
+                                        .size());
+    }
+
     private void testQueryByCriteria(OperationQueryBuilder operationQueryBuilder, Operation operation1, Operation operation2) {
         addOperations(List.of(operation1, operation2));
         assertEquals(1, operationQueryBuilder.build(operationService.createQuery(), operation1)
@@ -1,18 +1,25 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.cloudfoundry.multiapps.controller.persistence.Constants;
-import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
-import org.cloudfoundry.multiapps.controller.persistence.test.TestDataSourceProvider;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
 import org.flowable.engine.delegate.DelegateExecution;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -24,6 +31,7 @@ class ProcessLoggerPersisterTest {
     private final static String TEST_LOG_NAME = "test-log-name";
     private final static String TEST_TASK_ID = "test-task-id";
     private final static String TEST_SPACE_ID = "test-space-id";
+    private final static long PERSIST_TIMEOUT_IN_MILLIS = 5000;
 
     @Mock
     private DelegateExecution delegateExecution;
@@ -47,36 +55,66 @@ class ProcessLoggerPersisterTest {
         processLoggerPersister = new ProcessLoggerPersister(processLoggerProvider, processLogsPersistenceService);
     }
 
+    @AfterEach
+    void tearDown() throws Exception {
+        processLoggerPersister.destroy();
+    }
+
     @Test
-    void testPersistLog() {
+    void testPersistLog() throws Exception {
         ProcessLogger processLogger = processLoggerProvider.getLogger(delegateExecution);
+        processLogger.info("first message");
         ProcessLogger processLoggerSecond = processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
+        processLoggerSecond.info("second message");
 
         processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
 
         Mockito.verify(processLoggerProvider).getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
         Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLogger);
         Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLoggerSecond);
-        Mockito.verify(processLogsPersistenceService, times(2)).persistLog(any());
+        Assertions.assertEquals(2, awaitPersistedLogs(2).size());
 
         Assertions.assertEquals(processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID).size(), 0);
     }
 
     @Test
-    void testPersistLogWithTwoLogsWithTheSameOperationLogName() {
+    void testPersistLogWithTwoLogsWithTheSameOperationLogName() throws Exception {
         ProcessLogger processLogger = processLoggerProvider.getLogger(delegateExecution);
-        ProcessLogger processLoggerSecond = processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
-        ProcessLogger processLoggerThird = processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
+        processLogger.info("first message");
+        processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME)
+                             .info("second message");
+        processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME)
+                             .info("third message");
 
         processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
 
         Mockito.verify(processLoggerProvider).getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
-        Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLogger);
-        Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLoggerSecond);
-        Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLoggerThird);
-        Mockito.verify(processLogsPersistenceService, times(2)).persistLog(any());
+        Mockito.verify(processLoggerProvider, times(2)).removeProcessLoggerFromCache(any());
+        List<OperationLogEntry> persistedLogs = awaitPersistedLogs(2);
+        Assertions.assertEquals(2, persistedLogs.size());
+        OperationLogEntry testLog = persistedLogs.stream()
+                                                 .filter(log -> log.getOperationLogName()
+                                                                   .equals(TEST_LOG_NAME + ".log"))
+                                                 .findFirst()
+                                                 .orElseThrow();
+        Assertions.assertTrue(testLog.getOperationLog()
+                                     .contains("second message"));
+        Assertions.assertTrue(testLog.getOperationLog()
+                                     .contains("third message"));
+
+        Assertions.assertEquals(processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID).size(), 0);
+    }
+
+    @Test
+    void testPersistLogWithoutMessages() {
+        processLoggerProvider.getLogger(delegateExecution);
+
+        processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
 
         Assertions.assertEquals(processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID).size(), 0);
+        Mockito.verify(processLogsPersistenceService, Mockito.after(200)
+                                                             .never())
+               .persistLogs(anyList());
     }
 
     @Test
@@ -84,6 +122,89 @@ class ProcessLoggerPersisterTest {
         processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
 
         Mockito.verify(processLoggerProvider).getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
-        Mockito.verify(processLogsPersistenceService, times(0)).persistLog(any());
+        Mockito.verify(processLogsPersistenceService, Mockito.after(200)
+                                                             .never())
+               .persistLogs(anyList());
+    }
+
+    @Test
+    void testPersistLogsAfterFailedBatch() {
+        doThrow(new OperationLogStorageException("something went wrong")).doNothing()
+                                                                         .when(processLogsPersistenceService)
+                                                                         .persistLogs(anyList());
+        processLoggerProvider.getLogger(delegateExecution)
+                             .info("first message");
+        processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
+        Mockito.verify(processLogsPersistenceService, timeout(PERSIST_TIMEOUT_IN_MILLIS))
+               .persistLogs(anyList());
+
+        processLoggerProvider.getLogger(delegateExecution)
+                             .info("second message");
+        processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
+
+        Mockito.verify(processLogsPersistenceService, timeout(PERSIST_TIMEOUT_IN_MILLIS).times(2))
+               .persistLogs(anyList());
+    }
+
+    @Test
+    void testPersistLogsOneByOneAfterFailedBatch() {
+        doThrow(new OperationLogStorageException("something went wrong")).when(processLogsPersistenceService)
+                                                                         .persistLogs(anyList());
+        doThrow(new OperationLogStorageException("something went wrong")).doNothing()
+                                                                         .when(processLogsPersistenceService)
+                                                                         .persistLog(any());
+        processLoggerProvider.getLogger(delegateExecution)
+                             .info("first message");
+        processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME)
+                             .info("second message");
+
+        processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
+
+        Mockito.verify(processLogsPersistenceService, timeout(PERSIST_TIMEOUT_IN_MILLIS).times(2))
+               .persistLog(any());
+    }
+
+    @Test
+    void testFailedBatchesAreCounted() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            doThrow(new OperationLogStorageException("something went wrong")).when(processLogsPersistenceService)
+                                                                             .persistLogs(anyList());
+            processLoggerProvider.getLogger(delegateExecution)
+                                 .info("first message");
+
+            processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
+
+            Mockito.verify(processLogsPersistenceService, timeout(PERSIST_TIMEOUT_IN_MILLIS))
+                   .persistLog(any());
+            Assertions.assertEquals(1.0, registry.get("multiapps.executor.flusher.batch.failed")
+                                                 .counter()
+                                                 .count());
+            Assertions.assertEquals(1, registry.get("multiapps.executor.flusher.batch.size")
+                                               .summary()
+                                               .count());
+        } finally {
+            Metrics.removeRegistry(registry);
+            registry.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OperationLogEntry> awaitPersistedLogs(int expectedCount) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PERSIST_TIMEOUT_IN_MILLIS;
+        while (true) {
+            ArgumentCaptor<List<OperationLogEntry>> batchesCaptor = ArgumentCaptor.forClass(List.class);
+            Mockito.verify(processLogsPersistenceService, timeout(PERSIST_TIMEOUT_IN_MILLIS).atLeastOnce())
+                   .persistLogs(batchesCaptor.capture());
+            List<OperationLogEntry> persistedLogs = batchesCaptor.getAllValues()
+                                                                 .stream()
+                                                                 .flatMap(List::stream)
+                                                                 .collect(Collectors.toList());
+            if (persistedLogs.size() >= expectedCount || System.currentTimeMillis() > deadline) {
+                return persistedLogs;
+            }
+            Thread.sleep(10);
+        }
     }
 }
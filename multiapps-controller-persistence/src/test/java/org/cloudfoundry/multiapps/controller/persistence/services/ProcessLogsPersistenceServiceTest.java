@@ -0,0 +1,84 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.test.TestDataSourceProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProcessLogsPersistenceServiceTest {
+
+    private static final String LIQUIBASE_CHANGELOG_LOCATION = "org/cloudfoundry/multiapps/controller/persistence/db/changelog/db-changelog.xml";
+    private static final String SPACE = "space";
+    private static final String OPERATION_ID = "operation";
+    private static final String LOG_NAME = "MAIN_LOG";
+    private static final LocalDateTime FIRST_CHUNK_MODIFIED = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private ProcessLogsPersistenceService processLogsPersistenceService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSourceWithDialect dataSource = new DataSourceWithDialect(TestDataSourceProvider.getDataSource(LIQUIBASE_CHANGELOG_LOCATION));
+        processLogsPersistenceService = new ProcessLogsPersistenceService(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        processLogsPersistenceService.deleteBySpaceIds(List.of(SPACE));
+    }
+
+    @Test
+    void testConsumeOperationLogWithMoreChunksThanFitInAPage() throws Exception {
+        // Several chunks are modified at the same time, so that the pages are selected after chunks with equal modification times
+        List<OperationLogEntry> chunks = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            chunks.add(buildChunk("line " + i + "\n", FIRST_CHUNK_MODIFIED.plusSeconds(i / 7)));
+        }
+        processLogsPersistenceService.persistLogs(chunks);
+
+        String expectedLogContent = chunks.stream()
+                                          .sorted(Comparator.comparing(OperationLogEntry::getModified)
+                                                            .thenComparing(OperationLogEntry::getId))
+                                          .map(OperationLogEntry::getOperationLog)
+                                          .collect(Collectors.joining());
+        assertEquals(expectedLogContent, consumeOperationLog());
+    }
+
+    @Test
+    void testConsumeEmptyOperationLog() throws Exception {
+        assertEquals("", consumeOperationLog());
+    }
+
+    private String consumeOperationLog() throws FileStorageException {
+        StringBuilder logContent = new StringBuilder();
+        processLogsPersistenceService.consumeOperationLog(SPACE, OPERATION_ID, LOG_NAME,
+                                                          inputStream -> logContent.append(new String(inputStream.readAllBytes(),
+                                                                                                      StandardCharsets.UTF_8)));
+        return logContent.toString();
+    }
+
+    private OperationLogEntry buildChunk(String content, LocalDateTime modified) {
+        return ImmutableOperationLogEntry.builder()
+                                         .id(UUID.randomUUID()
+                                                 .toString())
+                                         .space(SPACE)
+                                         .operationId(OPERATION_ID)
+                                         .operationLogName(LOG_NAME)
+                                         .modified(modified)
+                                         .operationLog(content)
+                                         .build();
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.cloudfoundry.multiapps.controller.persistence.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.stream.OperationLogInputStream.LogChunksReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class OperationLogInputStreamTest {
+
+    @Mock
+    private LogChunksReader logChunksReader;
+
+    private OperationLogInputStream operationLogInputStream;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        operationLogInputStream = new OperationLogInputStream(logChunksReader);
+    }
+
+    @Test
+    void testReadChunks() throws Exception {
+        when(logChunksReader.readChunksAfter(any())).thenReturn(List.of(buildChunk("first\n"), buildChunk(""), buildChunk("second ä\n")),
+                                                                List.of());
+
+        String logContent = new String(operationLogInputStream.readAllBytes(), StandardCharsets.UTF_8);
+
+        assertEquals("first\nsecond ä\n", logContent);
+    }
+
+    @Test
+    void testReadPagesAfterTheirLastChunks() throws Exception {
+        OperationLogEntry lastChunkOfFirstPage = buildChunk("second\n");
+        OperationLogEntry lastChunkOfSecondPage = buildChunk("third\n");
+        when(logChunksReader.readChunksAfter(any())).thenReturn(List.of(buildChunk("first\n"), lastChunkOfFirstPage),
+                                                                List.of(lastChunkOfSecondPage), List.of());
+
+        String logContent = new String(operationLogInputStream.readAllBytes(), StandardCharsets.UTF_8);
+
+        assertEquals("first\nsecond\nthird\n", logContent);
+        ArgumentCaptor<OperationLogEntry> lastChunks = ArgumentCaptor.forClass(OperationLogEntry.class);
+        verify(logChunksReader, times(3)).readChunksAfter(lastChunks.capture());
+        assertNull(lastChunks.getAllValues()
+                             .get(0));
+        assertSame(lastChunkOfFirstPage, lastChunks.getAllValues()
+                                                   .get(1));
+        assertSame(lastChunkOfSecondPage, lastChunks.getAllValues()
+                                                    .get(2));
+    }
+
+    @Test
+    void testReadEmptyLog() throws Exception {
+        when(logChunksReader.readChunksAfter(isNull())).thenReturn(List.of());
+
+        assertEquals(-1, operationLogInputStream.read());
+        assertEquals(-1, operationLogInputStream.read());
+        verify(logChunksReader, times(1)).readChunksAfter(any());
+    }
+
+    @Test
+    void testSkipAcrossChunks() throws Exception {
+        when(logChunksReader.readChunksAfter(any())).thenReturn(List.of(buildChunk("first\n"), buildChunk("second\n")), List.of());
+
+        operationLogInputStream.skipNBytes(8);
+
+        assertEquals("cond\n", new String(operationLogInputStream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testReadFailure() throws Exception {
+        when(logChunksReader.readChunksAfter(any())).thenThrow(new IOException("connection lost"));
+
+        assertThrows(IOException.class, () -> operationLogInputStream.read());
+    }
+
+    private static OperationLogEntry buildChunk(String content) {
+        return ImmutableOperationLogEntry.builder()
+                                         .operationLog(content)
+                                         .build();
+    }
+
+}
@@ -0,0 +1,165 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.sql.DataSource;
+
+import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions.CompressionMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the extraction of archive entries with the pooled buffers against the 4KB buffers used before. The archive is kept in memory,
+ * but every read call on its stream costs as much CPU time as a read call on an object store stream costs in addition to the copying of
+ * the bytes, so that the benchmark shows how the buffer size changes the number of such calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArchiveExtractionBenchmark {
+
+    private static final int ENTRY_SIZE = 32 * 1024 * 1024;
+    private static final long MAX_ENTRY_SIZE = Long.MAX_VALUE;
+
+    @Param({ "4096", "262144" })
+    private int bufferSize;
+
+    /**
+     * The CPU time consumed by every read call on the archive stream, in {@link Blackhole#consumeCPU(long)} tokens.
+     */
+    @Param({ "0", "10000" })
+    private long readCallCost;
+
+    private byte[] storedEntry;
+    private byte[] deflatedEntry;
+    private ArchiveEntryExtractor archiveEntryExtractor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        storedEntry = generateEntryContent();
+        deflatedEntry = deflate(storedEntry);
+        archiveEntryExtractor = new ArchiveEntryExtractor(new InMemoryArchiveFileService(), new ArchiveBufferPool(bufferSize));
+    }
+
+    private static byte[] generateEntryContent() {
+        // Text like content, which is compressed about as well as the content of the application binaries in the archives
+        Random random = new Random(0);
+        byte[] content = new byte[ENTRY_SIZE];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) ('a' + random.nextInt(16));
+        }
+        return content;
+    }
+
+    private static byte[] deflate(byte[] content) throws IOException {
+        // The entries in the archives are deflated without a zlib header, as specified by the ZIP format
+        ByteArrayOutputStream deflatedContent = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(deflatedContent, new Deflater(Deflater.DEFAULT_COMPRESSION,
+                                                                                                               true))) {
+            deflaterOutputStream.write(content);
+        }
+        return deflatedContent.toByteArray();
+    }
+
+    @Benchmark
+    public void extractStoredEntry(Blackhole blackhole) {
+        extractEntry(storedEntry, CompressionMethod.STORED, blackhole);
+    }
+
+    @Benchmark
+    public void extractDeflatedEntry(Blackhole blackhole) {
+        extractEntry(deflatedEntry, CompressionMethod.DEFLATED, blackhole);
+    }
+
+    private void extractEntry(byte[] entry, CompressionMethod compressionMethod, Blackhole blackhole) {
+        // The guid of the file is the index of the entry content, which is looked up by the file service
+        FileEntryProperties fileEntryProperties = ImmutableFileEntryProperties.builder()
+                                                                              .guid(compressionMethod.name())
+                                                                              .name("entry")
+                                                                              .spaceGuid("space")
+                                                                              .maxFileSizeInBytes(MAX_ENTRY_SIZE)
+                                                                              .build();
+        ArchiveEntryWithStreamPositions entryWithStreamPositions = ImmutableArchiveEntryWithStreamPositions.builder()
+                                                                                                           .name("entry")
+                                                                                                           .startPosition(0)
+                                                                                                           .endPosition(entry.length)
+                                                                                                           .compressionMethod(compressionMethod)
+                                                                                                           .isDirectory(false)
+                                                                                                           .build();
+        archiveEntryExtractor.processFileEntryBytes(fileEntryProperties, entryWithStreamPositions,
+                                                    (bytes, bytesRead) -> blackhole.consume(bytesRead));
+    }
+
+    private class InMemoryArchiveFileService extends FileService {
+
+        InMemoryArchiveFileService() {
+            super(new DataSourceWithDialect((DataSource) null), null);
+        }
+
+        @Override
+        public <T> T processFileContentWithOffset(FileContentToProcess fileContentToProcess, FileContentProcessor<T> fileContentProcessor)
+            throws FileStorageException {
+            byte[] entry = CompressionMethod.valueOf(fileContentToProcess.getGuid()) == CompressionMethod.STORED ? storedEntry
+                : deflatedEntry;
+            try (InputStream entryStream = new RemoteInputStream(entry)) {
+                return fileContentProcessor.process(entryStream);
+            } catch (IOException e) {
+                throw new FileStorageException(e);
+            }
+        }
+    }
+
+    private class RemoteInputStream extends InputStream {
+
+        private final byte[] content;
+        private int position;
+
+        RemoteInputStream(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public int read() {
+            byte[] singleByte = new byte[1];
+            return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            Blackhole.consumeCPU(readCallCost);
+            if (position == content.length) {
+                return -1;
+            }
+            int bytesRead = Math.min(length, content.length - position);
+            System.arraycopy(content, position, buffer, offset, bytesRead);
+            position += bytesRead;
+            return bytesRead;
+        }
+    }
+
+}
@@ -45,6 +45,7 @@ public class Messages {
     public static final String SERVICE_BROKER_0_DOES_NOT_EXIST = "Service broker \"{0}\" does not exist";
     public static final String PARAMETERS_OF_TASK_HOOK_0_ARE_INCOMPLETE = "Parameters of hook {0} with type \"task\" are incomplete. Expected at least \"command\".";
     public static final String CANNOT_DETERMINE_MODULE_NAME = "Cannot determine module name";
+    public static final String CIRCULAR_DEPLOYED_AFTER_DEPENDENCIES_BETWEEN_MODULES_0 = "Modules \"{0}\" cannot be deployed because of circular \"deployed-after\" dependencies";
     public static final String CANNOT_DETERMINE_CURRENT_APPLICATION = "Cannot determine current application";
     public static final String INVALID_FILE_ENTRY_NAME = "Invalid file entry name: \"{0}\"";
     public static final String FAILED_TO_RETRIEVE_FILE_WITH_ID_0 = "Failed to retrieve file with id \"{0}\"";
@@ -74,6 +75,16 @@ public class Messages {
     public static final String NOT_BOOLEAN_PARAMETER_VALUE = "Value \"{0}\" of parameter \"{1}\" is not boolean";
     public static final String ERROR_OCCURRED_DURING_APPLICATION_UPLOAD_0 = "Error occurred during application upload: {0}";
     public static final String COMPRESSION_METHOD_WITH_VALUE_0_NOT_FOUND = "Compression method with value: {0} not found";
+    public static final String END_OF_CENTRAL_DIRECTORY_RECORD_NOT_FOUND = "End of central directory record not found";
+    public static final String ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_NOT_FOUND = "ZIP64 end of central directory locator not found";
+    public static final String ZIP64_END_OF_CENTRAL_DIRECTORY_RECORD_NOT_FOUND = "ZIP64 end of central directory record not found";
+    public static final String ZIP64_EXTRA_FIELD_OF_ENTRY_0_NOT_FOUND = "ZIP64 extra field of entry \"{0}\" not found";
+    public static final String INVALID_CENTRAL_DIRECTORY_ENTRIES_COUNT_0 = "Invalid central directory entries count: {0}";
+    public static final String INVALID_CENTRAL_DIRECTORY_LOCATION_OFFSET_0_SIZE_1 = "Invalid central directory location, offset: {0}, size: {1}";
+    public static final String INVALID_CENTRAL_DIRECTORY_FILE_HEADER_AT_POSITION_0 = "Invalid central directory file header at position: {0}";
+    public static final String INVALID_LOCAL_FILE_HEADER_OF_ENTRY_0 = "Invalid local file header of entry \"{0}\"";
+    public static final String INVALID_ARCHIVE_RANGE_OFFSET_0_LENGTH_1 = "Invalid archive range, offset: {0}, length: {1}";
+    public static final String INCOMPLETE_ARCHIVE_RANGE_OFFSET_0_EXPECTED_1_BYTES_READ_2 = "Incomplete archive range, offset: {0}, expected bytes: {1}, read bytes: {2}";
     public static final String ROLLBACK_OF_MTA_ID_0_CANNOT_BE_DONE_MISSING_DEPLOYED_MTA = "Rollback of mta id \"{0}\" cannot be done, missing deployed/backup mta";
     public static final String MTA_VERSION_NOT_SET_IN_APPLICATION_ROLLBACK_CANNOT_BE_DONE = "MTA version is not set in the application metadata and rollback operation cannot be done";
     public static final String ROLLBACK_OPERATION_CANNOT_BE_DONE_BACKUP_APPLICATIONS_HAVE_DIFFERENT_MTA_VERSIONS = "Rollback operation cannot be done, backup applications have different MTA versions!";
@@ -120,11 +131,13 @@ public class Messages {
     public static final String ERROR_BUILDING_CLOUD_UNDEPLOY_MODEL = "Error building cloud undeployment model";
     public static final String ERROR_ADDING_DOMAINS = "Error adding domains";
     public static final String ERROR_COMPUTING_NEXT_MODULES_FOR_PARALLEL_ITERATION = "Error computing modules for next parallel iteration";
+    public static final String ERROR_WAITING_FOR_DEPLOYED_AFTER_MODULES_OF_MODULE_0 = "Error waiting for the \"deployed-after\" modules of module \"{0}\"";
     public static final String ERROR_DELETING_SERVICES = "Error deleting services";
     public static final String ERROR_DELETING_SUBSCRIPTIONS = "Error deleting discontinued subscriptions";
     public static final String ERROR_BUILDING_CLOUD_APP_MODEL = "Error building cloud application deploy model";
     public static final String ERROR_CREATING_OR_UPDATING_APP = "Error creating or updating application \"{0}\"";
     public static final String ERROR_UPLOADING_APP_0 = "Error uploading application \"{0}\"";
+    public static final String UPLOAD_0_FAILED = "Upload \"{0}\" failed";
     public static final String ERROR_UPLOADING_APP_0_STATUS_1_DESCRIPTION_2 = "Error uploading application \"{0}\". Status: {1}, Description: {2}";
     public static final String ERROR_CHECKING_UPLOAD_APP_STATUS = "Error checking upload status of application \"{0}\"";
     public static final String ERROR_SCALING_APP = "Error scaling application \"{0}\"";
@@ -169,7 +182,7 @@ public class Messages {
     public static final String ERROR_MONITORING_DELETION_OF_SERVICES = "Error monitoring deletion of services";
     public static final String SERVICE_IS_ALREADY_DELETED = "Service \"{0}\" is already deleted";
     public static final String ERROR_DETERMINING_ACTIONS_TO_EXECUTE_ON_SERVICE = "Error determining actions to execute on service \"{0}\"";
-    public static final String ERROR_POLLING_OF_SERVICE = "Error polling last operation of service \"{0}\": {1}";
+    public static final String ERROR_POLLING_OF_SERVICES = "Error polling last operations of services \"{0}\": {1}";
     public static final String ERROR_DELETING_OPERATION_WITH_ID = "Error deleting operation with ID \"{0}\"";
     public static final String ERROR_DELETING_FLOWABLE_PROCESS_WITH_ID = "Error deleting Flowable process with ID \"{0}\"";
     public static final String ERROR_MISSING_DEFAULT_DOMAIN = "Missing default domain in current org";
@@ -240,11 +253,13 @@ public class Messages {
     public static final String COULD_NOT_UPDATE_PLAN_SERVICE = "Could not update plan of service \"{0}\" : {1}";
     public static final String COULD_NOT_UPDATE_SYSLOG_DRAIN_URL_SERVICE = "Could not update syslog drain url of service \"{0}\" : {1}";
     public static final String SCALING_DOWN_NEW_APPLICATION_TO_ONE_INSTANCE = "Scaling down new application: \"{0}\" to one instance";
-    public static final String UPLOAD_OF_APPLICATION_0_WAS_NOT_ACCEPTED_BY_INSTANCE_1 = "Upload of application: {0} was not accepted by instance: {1}";
+    public static final String UPLOAD_OF_APPLICATION_0_STARTED_BY_1_IS_LOST_RESTARTING_IT = "Upload of application: {0} started by: {1} is lost, because the instance is not running anymore, restarting it";
+    public static final String UPLOAD_OF_STORED_MODULE_ARCHIVE_OF_APP_0_FAILED_FALLING_BACK_TO_EXTRACTION_1 = "Upload of stored module archive of application \"{0}\" failed, falling back to extracting it first: {1}";
     public static final String COULD_NOT_GET_SERVICE_KEYS_FOR_OPTIONAL_SERVICE = "Could not get service keys for optional service \"{0}\"";
     public static final String DEFAULT_FAILED_OPERATION_DESCRIPTION = "The service broker returned an error with no description!";
     public static final String ERROR_DURING_CLEAN_UP_0 = "Error during clean-up: {0}";
     public static final String COULD_NOT_DELETE_HISTORIC_PROCESS_0 = "Could not delete historic process \"{0}\"";
+    public static final String COULD_NOT_DELETE_HISTORIC_PROCESSES_0_DELETING_THEM_ONE_BY_ONE = "Could not delete historic processes {0}, deleting them one by one";
     public static final String COULD_NOT_ABORT_OPERATION_0 = "Could not abort operation \"{0}\"";
     public static final String SKIP_SERVICES_DELETION = "Skipping deletion of services, because the command line option \"--delete-services\" is not specified.";
     public static final String UNSUPPORTED_MINOR_VERSION = "Used version \"{0}\" is higher than the supported ones. Some features might not be implemented.";
@@ -283,6 +298,7 @@ public class Messages {
     public static final String ONLY_FIRST_SERVICE_WILL_BE_CREATED = "Only the first service will be created because the provided 'service-name' fields are duplicated! All other services with the same 'service-name' will be ignored! Duplicated names: {0}";
     public static final String BLUE_GREEN_SKIPPING_DEPENDENCY_ORDER_STOP = "Skipping stopping modules in dependency-aware order. This feature is available for blue green deployment strategy.";
     public static final String UNSUPPORTED_DEPLOYED_AFTER_SCHEMA_VERSION_WARNING = "Skipping module \"{0}\": major schema version \"{1}\" does not support 'deployed-after' (minimum supported version is \"{2}\").";
+    public static final String COULD_NOT_READ_CENTRAL_DIRECTORY_OF_ARCHIVE_0_FALLING_BACK_TO_STREAMING = "Could not read the central directory of archive \"{0}\", falling back to streaming the whole archive: {1}";
 
     // INFO log messages
     public static final String ACQUIRING_LOCK = "Process \"{0}\" attempting to acquire lock for operation on MTA \"{1}\"";
@@ -300,6 +316,9 @@ public class Messages {
     public static final String WILL_CLEAN_UP_DATA_STORED_BEFORE_0 = "Will clean-up data stored before: {0}";
     public static final String WILL_DELETE_HISTORIC_PROCESSES_BEFORE_0 = "Will delete Flowable historic processes before: {0}";
     public static final String DELETED_HISTORIC_PROCESSES_0 = "Deleted historic processes: {0}";
+    public static final String CLEANER_0_FINISHED_IN_1_MS = "Cleaner \"{0}\" finished in {1} ms";
+    public static final String CLEANER_0_IS_LEASED_BY_ANOTHER_APPLICATION_INSTANCE_OR_FINISHED = "Cleaner \"{0}\" is leased by another application instance or has already finished in this run, skipping it";
+    public static final String CLEANERS_0_DID_NOT_FINISH_SKIPPING_THE_FOLLOWING_ONES = "Cleaners {0} did not finish in this run, skipping the cleaners which follow them";
     public static final String DELETED_FILES_0 = "Deleted files: {0}";
     public static final String DELETED_FILE_UPLOAD_JOBS_0 = "Deleted file upload jobs: {0}";
     public static final String FILES_FOR_OPERATION_0_WERE_UPDATED_1 = "Files for operation {0} were updated: {1}";
@@ -308,6 +327,8 @@ public class Messages {
     public static final String DELETED_PROCESS_LOGS_0 = "Deleted process logs: {0}";
     public static final String DELETED_PROGRESS_MESSAGES_0 = "Deleted progress messages: {0}";
     public static final String DELETED_HISTORIC_OPERATION_EVENTS_0 = "Deleted historic operation events: {0}";
+    public static final String DELETED_ARCHIVE_ENTRIES_INDEXES_0 = "Deleted archive entries indexes: {0}";
+    public static final String DELETED_MODULE_CONTENT_CACHE_ENTRIES_0 = "Deleted module content cache entries: {0}";
     public static final String REMOVED_TOKENS_0 = "Removed tokens: {0}";
     public static final String REMOVED_SECRET_TOKENS_0 = "Removed secret tokens: {0}";
     public static final String DELETED_DATA_FOR_NON_EXISTING_USERS = "Deleted data for no-longer existing users.";
@@ -345,8 +366,12 @@ public class Messages {
     public static final String SCALING_UP_OLD_APPLICATION = "Scaling up old application: \"{0}\" to {1} instances";
     public static final String FILE_WITH_ID_0_WAS_DELETED = "File with id \"{0}\" was deleted";
     public static final String CALCULATING_APPLICATION_DIGEST_0 = "Calculating application digest: \"{0}\"";
+    public static final String DIGEST_OF_APPLICATION_0_IS_KNOWN_FROM_PREVIOUS_DEPLOYMENTS = "Digest of application \"{0}\" is known from previous deployments of the same content";
+    public static final String PACKAGE_0_OF_APPLICATION_1_HAS_THE_SAME_CONTENT = "Package \"{0}\" of application \"{1}\" has the same content - upload will be skipped";
     public static final String SKIPPING_APPLICATION_0_DIGEST_CALCULATION = "Skipping application: \"{0}\" digest calculation";
     public static final String TIME_ELAPSED_FOR_UPLOAD_0_IN_MILLIS = "Time elapsed for upload: {0} in millis";
+    public static final String REMOVING_RESULT_OF_UPLOAD_0_WHICH_WAS_NOT_COLLECTED = "Removing result of upload \"{0}\" which was not collected";
+    public static final String REMOVING_UPLOAD_0_OF_ENDED_PROCESS_1 = "Removing upload \"{0}\" of process \"{1}\" which has ended";
     public static final String TIME_ELAPSED_FOR_APP_BINARY_DOWNLOAD_0_IN_MILLIS = "Time elapsed for app binary download: {0} in millis";
     public static final String DELETING_BACKUP_DESCRIPTOR_WITH_MTA_ID_0_SPACE_1_NAMESPACE_2_AND_VERSION_3 = "Deleting backup descriptor with mta id \"{0}\" in space \"{1}\" namespace \"{2}\" and version \"{3}\"";
     public static final String DELETING_BACKUP_DESCRIPTORS_WITH_MTA_ID_0_SPACE_1_NAMESPACE_2_AND_SKIP_VERSIONS_3 = "Deleting backup descriptors with mta id \"{0}\" in space \"{1}\" namespace \"{2}\" and skip the following mta versions \"{3}\"";
@@ -474,6 +499,9 @@ public class Messages {
     public static final String CALCULATING_RESOURCE_BATCHES_COMPLETE = "Calculating resource batches completed.";
     public static final String COMPUTING_NEXT_MODULES_FOR_PARALLEL_ITERATION = "Computing modules for next parallel iteration...";
     public static final String COMPUTED_NEXT_MODULES_FOR_PARALLEL_ITERATION = "Computed modules for next parallel iteration: {0}";
+    public static final String CRITICAL_PATH_OF_MODULES_DEPLOYMENT = "Critical path of modules deployment: {0}";
+    public static final String MODULE_0_IS_WAITING_FOR_DEPLOYED_AFTER_MODULES = "Module \"{0}\" is waiting for its \"deployed-after\" modules or for a free parallel deployment slot...";
+    public static final String MODULE_0_IS_READY_FOR_DEPLOYMENT = "Module \"{0}\" is ready for deployment";
     public static final String CHECKING_APP_STATUS = "Checking status of application \"{0}\"...";
     public static final String APP_STAGING_STATUS = "Staging status of application \"{0}\": {1}";
     public static final String APP_CREATED = "Application \"{0}\" created";
@@ -563,6 +591,7 @@ public class Messages {
     public static final String ROUTES_FOR_APPLICATION = "Routes for application {0}: {1}";
     public static final String UPLOADING_FILE_0_FOR_APP_1 = "Uploading file \"{0}\" for application \"{1}\"";
     public static final String STARTED_ASYNC_UPLOAD_OF_APP_0 = "Started async upload of application \"{0}\"";
+    public static final String UPLOADING_STORED_MODULE_ARCHIVE_0_FOR_APP_1_WITHOUT_EXTRACTING_IT = "Uploading stored module archive \"{0}\" for application \"{1}\" without extracting it";
     public static final String DELETING_HISTORIC_PROCESS_0 = "Deleting historic process \"{0}\"...";
     public static final String DELETING_FILES_MODIFIED_BEFORE_0 = "Deleting files modified before: {0}";
     public static final String DELETING_OPERATIONS_STARTED_BEFORE_0 = "Deleting operations started before: {0}";
@@ -573,6 +602,8 @@ public class Messages {
     public static final String REMOVING_EXPIRED_TOKENS_FROM_TOKEN_STORE = "Removing expired tokens from the token store...";
     public static final String REMOVING_EXPIRED_SECRET_TOKENS = "Removing expired secret tokens...";
     public static final String DELETING_HISTORIC_OPERATION_EVENTS_STORED_BEFORE_0 = "Deleting historic operation events stored before \"{0}\"...";
+    public static final String DELETING_ARCHIVE_ENTRIES_INDEXES_STORED_BEFORE_0 = "Deleting archive entries indexes stored before \"{0}\"...";
+    public static final String DELETING_LEAST_RECENTLY_USED_MODULE_CONTENT_CACHE_ENTRIES_KEEPING_0 = "Deleting least recently used module content cache entries, keeping the most recent {0}...";
     public static final String DELETING_DATA_FOR_NON_EXISTING_USERS = "Deleting data for no-longer existing users...";
     public static final String REGISTERED_CLEANERS_IN_CLEAN_UP_JOB_0 = "Registered cleaners in clean-up job: {0}";
     public static final String MISSING_SERVICE_TO_DELETE = "Missing service to delete.";
@@ -758,6 +789,7 @@ public class Messages {
     public static final String ARCHIVE_WAS_NOT_SPLIT_TOTAL_SIZE_IN_BYTES_0 = "Archive was not split! Total size in bytes: {0}";
     public static final String SIZE_OF_MTAR_IS_AND_SIZE_OF_EXTENSION_DESCRIPTOR_ID = "Size of mtars is {0} and size of extension descriptors is {1}";
     public static final String ARCHIVE_IS_SPLIT_TO_0_PARTS_TOTAL_SIZE_IN_BYTES_1_UPLOADING = "Archive was split to: {0} parts. Total size in bytes: {1}. Uploading started...";
+    public static final String COMPOSING_ARCHIVE_PARTS_IN_FILE_STORAGE = "Composing the archive parts in the file storage...";
     public static final String SIZE_OF_APP_0_IS_1_BYTES = "Size of app {0} is {1} bytes";
     public static final String SHOULD_UPDATE_SERVICE_KEY = "Service keys should be updated";
     public static final String SHOULD_CREATE_SERVICE = "Service should be created";
@@ -777,6 +809,7 @@ public class Messages {
     public static final String SHOULD_UPDATE_METADATA = "Service metadata should be updated";
     public static final String NEW_METADATA = "New metadata: {0}";
     public static final String OPENING_A_NEW_INPUT_STREAM_FOR_FILE_WITH_ID_0_AND_NAME_1 = "Opening a new input stream for file with ID: {0} and name: {1}";
+    public static final String READING_AHEAD_FILE_WITH_ID_0_AND_NAME_1 = "Reading ahead file with ID: {0} and name: {1}";
     public static final String ARCHIVE_WITH_ID_0_AND_NAME_1_WAS_STORED = "Archive with ID: {0} and name: {1} was stored";
     public static final String NOT_ALL_OF_THE_APPLICATION_0_INSTANCES_ARE_RUNNING_WAITING_FOR_ALL_INSTANCES_TO_START = "Not all of the application {0} instances are running. Waiting for all instances to start";
     public static final String THE_DETECTED_APPLICATION_HAS_THE_SAME_NAME_AS_THE_NEW_ONE = "The detected application has the same name as the new one";
@@ -786,6 +819,10 @@ public class Messages {
     public static final String PARAMETER_0_MUST_BE_POSITIVE_WITH_MAX_VALUE_1 = "Parameter \"{0}\" must be positive integer value up to {1}!";
     public static final String SKIPPING_UPLOAD_OF_APPLICATION_0 = "Skipping upload of application: {0}";
     public static final String UPLOAD_OF_APPLICATION_0_STARTED_ON_INSTANCE_1 = "Upload of application: {0} started on instance: {1}";
+    public static final String UPLOAD_OF_APPLICATION_0_IS_WAITING_FOR_A_FREE_UPLOAD_THREAD = "Upload of application: {0} is waiting for a free upload thread";
+    public static final String UPLOAD_OF_APPLICATION_0_RUNS_ON_1 = "Upload of application: {0} runs on: {1}, waiting for it to complete";
+    public static final String UPLOAD_OF_APPLICATION_0_TRANSFERRED_1_OF_2_BYTES = "Upload of application: {0} transferred {1} of {2} bytes";
+    public static final String ALL_UPLOAD_THREADS_ARE_BUSY_0_UPLOADS_ARE_WAITING = "All upload threads are busy, {0} uploads are waiting";
     public static final String MTA_ARCHIVE_ID_0_MESSAGE = "MTA Archive ID: {0}";
     public static final String MTA_DESCRIPTOR_LENGTH_0_MESSAGE = "MTA Descriptor length: {0}";
     public static final String MTA_ARCHIVE_MODULES_0_MESSAGE = "MTA Archive Modules: {0}";
@@ -799,6 +836,9 @@ public class Messages {
     public static final String RENAME_APPLICATIONS_FOR_ROLLBACK = "Rename applications for rollback";
     public static final String DELETING_BACKUP_DESCRIPTORS_STORED_BEFORE_0 = "Deleting backup descriptors stored before \"{0}\"";
     public static final String DELETED_BACKUP_DESCRIPTORS_0 = "Deleted backup descriptors: {0}";
+    public static final String REUSING_PERSISTED_ENTRIES_OF_ARCHIVE_0 = "Reusing persisted entries of archive \"{0}\"";
+    public static final String ENTRIES_OF_ARCHIVE_0_ALREADY_PERSISTED = "Entries of archive \"{0}\" are already persisted";
+    public static final String DOWNLOADING_ENTRY_0_OF_ARCHIVE_1_IN_2_CHUNKS = "Downloading entry \"{0}\" of archive \"{1}\" in {2} chunks";
     public static final String CALCULATED_TIMEOUT_FOR_INCREMENTAL_APP_INSTANCES_UPDATE_0_SECONDS = "Calculated timeout for incremental app instances update: {0} seconds";
     public static final String GETTING_FEATURES_FOR_APPLICATION_0 = "Getting features for application \"{0}\"";
 
@@ -0,0 +1,664 @@
+package org.cloudfoundry.multiapps.controller.process.client;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.cloudfoundry.client.v3.Metadata;
+import org.cloudfoundry.multiapps.controller.client.facade.ApplicationServicesUpdateCallback;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.client.facade.ServiceBindingOperationCallback;
+import org.cloudfoundry.multiapps.controller.client.facade.UploadStatusCallback;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudApplication;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudAsyncJob;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudBuild;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudDomain;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudEvent;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudPackage;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudProcess;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudRoute;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceBinding;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceBroker;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceInstance;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceKey;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceOffering;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudSpace;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudStack;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudTask;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.DockerInfo;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.DropletInfo;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.InstancesInfo;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ServicePlanVisibility;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.Staging;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.Upload;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.UserRole;
+import org.cloudfoundry.multiapps.controller.client.facade.dto.ApplicationToCreateDto;
+import org.cloudfoundry.multiapps.controller.process.client.CloudControllerClientCache.EntityType;
+
+/**
+ * Serves the application GUIDs and names, the service instance GUIDs and names, the domains and the stacks from a
+ * {@link CloudControllerClientCache}. The state of applications and service instances is never cached, because the steps poll it. The
+ * whole cache is invalidated before and after every call which modifies anything, all other calls are delegated. The cache is thread-safe,
+ * so an instance can be shared by threads reading concurrently.
+ */
+public class CachingCloudControllerClient implements CloudControllerClient {
+
+    private static final String DEFAULT_DOMAIN = "default";
+    private static final String ALL_DOMAINS = "all";
+    private static final String ORGANIZATION_DOMAINS = "organization";
+    private static final String PRIVATE_DOMAINS = "private";
+    private static final String SHARED_DOMAINS = "shared";
+    private static final String ALL_STACKS = "all";
+
+    private final CloudControllerClient delegate;
+    private final CloudControllerClientCache cache;
+
+    public CachingCloudControllerClient(CloudControllerClient delegate, CloudControllerClientCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public CloudSpace getTarget() {
+        return delegate.getTarget();
+    }
+
+    @Override
+    public CloudControllerAsyncClient getAsyncClient() {
+        return delegate.getAsyncClient();
+    }
+
+    @Override
+    public void addDomain(String domainName) {
+        invalidateAround(() -> delegate.addDomain(domainName));
+    }
+
+    @Override
+    public void addRoute(String host, String domainName, String path) {
+        invalidateAround(() -> delegate.addRoute(host, domainName, path));
+    }
+
+    @Override
+    public Optional<String> bindServiceInstance(String bindingName, String applicationName, String serviceInstanceName) {
+        return invalidateAroundAndGet(() -> delegate.bindServiceInstance(bindingName, applicationName, serviceInstanceName));
+    }
+
+    @Override
+    public Optional<String> bindServiceInstance(String bindingName, String applicationName, String serviceInstanceName,
+                                                Map<String, Object> parameters, ApplicationServicesUpdateCallback updateServicesCallback) {
+        return invalidateAroundAndGet(() -> delegate.bindServiceInstance(bindingName, applicationName, serviceInstanceName, parameters,
+                                                                         updateServicesCallback));
+    }
+
+    @Override
+    public void createApplication(ApplicationToCreateDto applicationToCreateDto) {
+        invalidateAround(() -> delegate.createApplication(applicationToCreateDto));
+    }
+
+    @Override
+    public void createServiceInstance(CloudServiceInstance serviceInstance) {
+        invalidateAround(() -> delegate.createServiceInstance(serviceInstance));
+    }
+
+    @Override
+    public String createServiceBroker(CloudServiceBroker serviceBroker) {
+        return invalidateAroundAndGet(() -> delegate.createServiceBroker(serviceBroker));
+    }
+
+    @Override
+    public CloudServiceKey createAndFetchServiceKey(CloudServiceKey keyModel, String serviceInstanceName) {
+        return invalidateAroundAndGet(() -> delegate.createAndFetchServiceKey(keyModel, serviceInstanceName));
+    }
+
+    @Override
+    public Optional<String> createServiceKey(CloudServiceKey keyModel, String serviceInstanceName) {
+        return invalidateAroundAndGet(() -> delegate.createServiceKey(keyModel, serviceInstanceName));
+    }
+
+    @Override
+    public Optional<String> createServiceKey(String serviceInstanceName, String serviceKeyName, Map<String, Object> parameters) {
+        return invalidateAroundAndGet(() -> delegate.createServiceKey(serviceInstanceName, serviceKeyName, parameters));
+    }
+
+    @Override
+    public void createUserProvidedServiceInstance(CloudServiceInstance serviceInstance) {
+        invalidateAround(() -> delegate.createUserProvidedServiceInstance(serviceInstance));
+    }
+
+    @Override
+    public void deleteApplication(String applicationName) {
+        invalidateAround(() -> delegate.deleteApplication(applicationName));
+    }
+
+    @Override
+    public void deleteDomain(String domainName) {
+        invalidateAround(() -> delegate.deleteDomain(domainName));
+    }
+
+    @Override
+    public void deleteOrphanedRoutes() {
+        invalidateAround(delegate::deleteOrphanedRoutes);
+    }
+
+    @Override
+    public void deleteRoute(String host, String domainName, String path) {
+        invalidateAround(() -> delegate.deleteRoute(host, domainName, path));
+    }
+
+    @Override
+    public void deleteServiceInstance(String serviceInstance) {
+        invalidateAround(() -> delegate.deleteServiceInstance(serviceInstance));
+    }
+
+    @Override
+    public void deleteServiceInstance(CloudServiceInstance serviceInstance) {
+        invalidateAround(() -> delegate.deleteServiceInstance(serviceInstance));
+    }
+
+    @Override
+    public String deleteServiceBroker(String name) {
+        return invalidateAroundAndGet(() -> delegate.deleteServiceBroker(name));
+    }
+
+    @Override
+    public CloudServiceBinding getServiceBinding(UUID serviceBindingId) {
+        return delegate.getServiceBinding(serviceBindingId);
+    }
+
+    @Override
+    public Optional<String> deleteServiceBinding(String serviceInstanceName, String serviceKeyName) {
+        return invalidateAroundAndGet(() -> delegate.deleteServiceBinding(serviceInstanceName, serviceKeyName));
+    }
+
+    @Override
+    public Optional<String> deleteServiceBinding(UUID bindingGuid, ServiceBindingOperationCallback serviceBindingOperationCallback) {
+        return invalidateAroundAndGet(() -> delegate.deleteServiceBinding(bindingGuid, serviceBindingOperationCallback));
+    }
+
+    @Override
+    public Optional<String> deleteServiceBinding(UUID bindingGuid) {
+        return invalidateAroundAndGet(() -> delegate.deleteServiceBinding(bindingGuid));
+    }
+
+    @Override
+    public CloudApplication getApplication(String applicationName) {
+        return delegate.getApplication(applicationName);
+    }
+
+    @Override
+    public CloudApplication getApplication(String applicationName, boolean required) {
+        return delegate.getApplication(applicationName, required);
+    }
+
+    @Override
+    public UUID getApplicationGuid(String applicationName) {
+        return cache.get(EntityType.APPLICATION_GUID, applicationName, () -> delegate.getApplicationGuid(applicationName));
+    }
+
+    @Override
+    public String getApplicationName(UUID applicationGuid) {
+        return cache.get(EntityType.APPLICATION_NAME, applicationGuid, () -> delegate.getApplicationName(applicationGuid));
+    }
+
+    @Override
+    public Map<String, String> getApplicationEnvironment(String applicationName) {
+        return delegate.getApplicationEnvironment(applicationName);
+    }
+
+    @Override
+    public Map<String, String> getApplicationEnvironment(UUID applicationGuid) {
+        return delegate.getApplicationEnvironment(applicationGuid);
+    }
+
+    @Override
+    public List<CloudEvent> getApplicationEvents(String applicationName) {
+        return delegate.getApplicationEvents(applicationName);
+    }
+
+    @Override
+    public List<CloudEvent> getEventsByActee(UUID uuid) {
+        return delegate.getEventsByActee(uuid);
+    }
+
+    @Override
+    public InstancesInfo getApplicationInstances(CloudApplication app) {
+        return delegate.getApplicationInstances(app);
+    }
+
+    @Override
+    public InstancesInfo getApplicationInstances(UUID applicationGuid) {
+        return delegate.getApplicationInstances(applicationGuid);
+    }
+
+    @Override
+    public CloudProcess getApplicationProcess(UUID applicationGuid) {
+        return delegate.getApplicationProcess(applicationGuid);
+    }
+
+    @Override
+    public List<CloudRoute> getApplicationRoutes(UUID applicationGuid) {
+        return delegate.getApplicationRoutes(applicationGuid);
+    }
+
+    @Override
+    public boolean getApplicationSshEnabled(UUID applicationGuid) {
+        return delegate.getApplicationSshEnabled(applicationGuid);
+    }
+
+    @Override
+    public Map<String, Boolean> getApplicationFeatures(UUID applicationGuid) {
+        return delegate.getApplicationFeatures(applicationGuid);
+    }
+
+    @Override
+    public List<CloudApplication> getApplications() {
+        return delegate.getApplications();
+    }
+
+    @Override
+    public CloudDomain getDefaultDomain() {
+        return cache.get(EntityType.DOMAINS, DEFAULT_DOMAIN, delegate::getDefaultDomain);
+    }
+
+    @Override
+    public List<CloudDomain> getDomains() {
+        return cache.get(EntityType.DOMAINS, ALL_DOMAINS, delegate::getDomains);
+    }
+
+    @Override
+    public List<CloudDomain> getDomainsForOrganization() {
+        return cache.get(EntityType.DOMAINS, ORGANIZATION_DOMAINS, delegate::getDomainsForOrganization);
+    }
+
+    @Override
+    public List<CloudEvent> getEvents() {
+        return delegate.getEvents();
+    }
+
+    @Override
+    public List<CloudDomain> getPrivateDomains() {
+        return cache.get(EntityType.DOMAINS, PRIVATE_DOMAINS, delegate::getPrivateDomains);
+    }
+
+    @Override
+    public List<CloudRoute> getRoutes(String domainName) {
+        return delegate.getRoutes(domainName);
+    }
+
+    @Override
+    public CloudServiceBroker getServiceBroker(String name) {
+        return delegate.getServiceBroker(name);
+    }
+
+    @Override
+    public CloudServiceBroker getServiceBroker(String name, boolean required) {
+        return delegate.getServiceBroker(name, required);
+    }
+
+    @Override
+    public List<CloudServiceBroker> getServiceBrokers() {
+        return delegate.getServiceBrokers();
+    }
+
+    @Override
+    public UUID getRequiredServiceInstanceGuid(String serviceInstanceName) {
+        return cache.get(EntityType.SERVICE_INSTANCE_GUID, serviceInstanceName,
+                         () -> delegate.getRequiredServiceInstanceGuid(serviceInstanceName));
+    }
+
+    @Override
+    public CloudServiceInstance getServiceInstance(String serviceInstanceName) {
+        return delegate.getServiceInstance(serviceInstanceName);
+    }
+
+    @Override
+    public CloudServiceInstance getServiceInstance(String serviceInstanceName, boolean required) {
+        return delegate.getServiceInstance(serviceInstanceName, required);
+    }
+
+    @Override
+    public String getServiceInstanceName(UUID serviceInstanceGuid) {
+        return cache.get(EntityType.SERVICE_INSTANCE_NAME, serviceInstanceGuid, () -> delegate.getServiceInstanceName(serviceInstanceGuid));
+    }
+
+    @Override
+    public CloudServiceInstance getServiceInstanceWithoutAuxiliaryContent(String serviceInstanceName) {
+        return delegate.getServiceInstanceWithoutAuxiliaryContent(serviceInstanceName);
+    }
+
+    @Override
+    public CloudServiceInstance getServiceInstanceWithoutAuxiliaryContent(String serviceInstanceName, boolean required) {
+        return delegate.getServiceInstanceWithoutAuxiliaryContent(serviceInstanceName, required);
+    }
+
+    @Override
+    public List<CloudServiceBinding> getServiceAppBindings(UUID serviceInstanceGuid) {
+        return delegate.getServiceAppBindings(serviceInstanceGuid);
+    }
+
+    @Override
+    public List<CloudServiceBinding> getAppBindings(UUID applicationGuid) {
+        return delegate.getAppBindings(applicationGuid);
+    }
+
+    @Override
+    public List<CloudServiceBinding> getServiceBindingsForApplication(UUID applicationId, UUID serviceInstanceGuid) {
+        return delegate.getServiceBindingsForApplication(applicationId, serviceInstanceGuid);
+    }
+
+    @Override
+    public Map<String, Object> getServiceInstanceParameters(UUID guid) {
+        return delegate.getServiceInstanceParameters(guid);
+    }
+
+    @Override
+    public Map<String, Object> getUserProvidedServiceInstanceParameters(UUID guid) {
+        return delegate.getUserProvidedServiceInstanceParameters(guid);
+    }
+
+    @Override
+    public Map<String, Object> getServiceBindingParameters(UUID guid) {
+        return delegate.getServiceBindingParameters(guid);
+    }
+
+    @Override
+    public CloudServiceKey getServiceKey(String serviceInstanceName, String serviceKeyName) {
+        return delegate.getServiceKey(serviceInstanceName, serviceKeyName);
+    }
+
+    @Override
+    public List<CloudServiceKey> getServiceKeys(String serviceInstanceName) {
+        return delegate.getServiceKeys(serviceInstanceName);
+    }
+
+    @Override
+    public List<CloudServiceKey> getServiceKeysWithCredentials(String serviceInstanceName) {
+        return delegate.getServiceKeysWithCredentials(serviceInstanceName);
+    }
+
+    @Override
+    public List<CloudServiceKey> getServiceKeys(CloudServiceInstance serviceInstance) {
+        return delegate.getServiceKeys(serviceInstance);
+    }
+
+    @Override
+    public List<CloudServiceKey> getServiceKeysWithCredentials(CloudServiceInstance serviceInstance) {
+        return delegate.getServiceKeysWithCredentials(serviceInstance);
+    }
+
+    @Override
+    public List<CloudServiceOffering> getServiceOfferings() {
+        return delegate.getServiceOfferings();
+    }
+
+    @Override
+    public List<CloudDomain> getSharedDomains() {
+        return cache.get(EntityType.DOMAINS, SHARED_DOMAINS, delegate::getSharedDomains);
+    }
+
+    @Override
+    public CloudStack getStack(String name) {
+        return cache.get(EntityType.STACK, name, () -> delegate.getStack(name));
+    }
+
+    @Override
+    public CloudStack getStack(String name, boolean required) {
+        return cache.get(EntityType.STACK, name, () -> delegate.getStack(name, required));
+    }
+
+    @Override
+    public List<CloudStack> getStacks() {
+        return cache.get(EntityType.STACKS, ALL_STACKS, delegate::getStacks);
+    }
+
+    @Override
+    public void rename(String applicationName, String newName) {
+        invalidateAround(() -> delegate.rename(applicationName, newName));
+    }
+
+    @Override
+    public void restartApplication(String applicationName) {
+        invalidateAround(() -> delegate.restartApplication(applicationName));
+    }
+
+    @Override
+    public void startApplication(String applicationName) {
+        invalidateAround(() -> delegate.startApplication(applicationName));
+    }
+
+    @Override
+    public void stopApplication(String applicationName) {
+        invalidateAround(() -> delegate.stopApplication(applicationName));
+    }
+
+    @Override
+    public List<String> unbindServiceInstance(String applicationName, String serviceInstanceName,
+                                              ApplicationServicesUpdateCallback applicationServicesUpdateCallback) {
+        return invalidateAroundAndGet(() -> delegate.unbindServiceInstance(applicationName, serviceInstanceName,
+                                                                           applicationServicesUpdateCallback));
+    }
+
+    @Override
+    public List<String> unbindServiceInstance(String applicationName, String serviceInstanceName) {
+        return invalidateAroundAndGet(() -> delegate.unbindServiceInstance(applicationName, serviceInstanceName));
+    }
+
+    @Override
+    public List<String> unbindServiceInstance(UUID applicationGuid, UUID serviceInstanceGuid) {
+        return invalidateAroundAndGet(() -> delegate.unbindServiceInstance(applicationGuid, serviceInstanceGuid));
+    }
+
+    @Override
+    public void updateApplicationDiskQuota(String applicationName, int disk) {
+        invalidateAround(() -> delegate.updateApplicationDiskQuota(applicationName, disk));
+    }
+
+    @Override
+    public void updateApplicationEnv(String applicationName, Map<String, String> env) {
+        invalidateAround(() -> delegate.updateApplicationEnv(applicationName, env));
+    }
+
+    @Override
+    public void updateApplicationInstances(String applicationName, int instances) {
+        invalidateAround(() -> delegate.updateApplicationInstances(applicationName, instances));
+    }
+
+    @Override
+    public void updateApplicationMemory(String applicationName, int memory) {
+        invalidateAround(() -> delegate.updateApplicationMemory(applicationName, memory));
+    }
+
+    @Override
+    public void updateApplicationStaging(String applicationName, Staging staging) {
+        invalidateAround(() -> delegate.updateApplicationStaging(applicationName, staging));
+    }
+
+    @Override
+    public void updateApplicationRoutes(String applicationName, Set<CloudRoute> routes) {
+        invalidateAround(() -> delegate.updateApplicationRoutes(applicationName, routes));
+    }
+
+    @Override
+    public String updateServiceBroker(CloudServiceBroker serviceBroker) {
+        return invalidateAroundAndGet(() -> delegate.updateServiceBroker(serviceBroker));
+    }
+
+    @Override
+    public void updateServicePlanVisibilityForBroker(String name, ServicePlanVisibility visibility) {
+        invalidateAround(() -> delegate.updateServicePlanVisibilityForBroker(name, visibility));
+    }
+
+    @Override
+    public void updateServicePlan(String serviceName, String planName) {
+        invalidateAround(() -> delegate.updateServicePlan(serviceName, planName));
+    }
+
+    @Override
+    public void updateServiceParameters(String serviceName, Map<String, Object> parameters) {
+        invalidateAround(() -> delegate.updateServiceParameters(serviceName, parameters));
+    }
+
+    @Override
+    public void updateServiceTags(String serviceName, List<String> tags) {
+        invalidateAround(() -> delegate.updateServiceTags(serviceName, tags));
+    }
+
+    @Override
+    public void updateServiceSyslogDrainUrl(String serviceName, String syslogDrainUrl) {
+        invalidateAround(() -> delegate.updateServiceSyslogDrainUrl(serviceName, syslogDrainUrl));
+    }
+
+    @Override
+    public CloudPackage asyncUploadApplicationWithExponentialBackoff(String applicationName, Path file, UploadStatusCallback callback,
+                                                                     Duration overrideTimeout) {
+        return invalidateAroundAndGet(() -> delegate.asyncUploadApplicationWithExponentialBackoff(applicationName, file, callback,
+                                                                                                  overrideTimeout));
+    }
+
+    @Override
+    public CloudPackage asyncUploadApplication(String applicationName, InputStream bits, UploadStatusCallback callback,
+                                               Duration uploadTimeout) {
+        return invalidateAroundAndGet(() -> delegate.asyncUploadApplication(applicationName, bits, callback, uploadTimeout));
+    }
+
+    @Override
+    public Upload getUploadStatus(UUID packageGuid) {
+        return delegate.getUploadStatus(packageGuid);
+    }
+
+    @Override
+    public CloudTask getTask(UUID taskGuid) {
+        return delegate.getTask(taskGuid);
+    }
+
+    @Override
+    public List<CloudTask> getTasks(String applicationName) {
+        return delegate.getTasks(applicationName);
+    }
+
+    @Override
+    public CloudTask runTask(String applicationName, CloudTask task) {
+        return invalidateAroundAndGet(() -> delegate.runTask(applicationName, task));
+    }
+
+    @Override
+    public CloudTask cancelTask(UUID taskGuid) {
+        return invalidateAroundAndGet(() -> delegate.cancelTask(taskGuid));
+    }
+
+    @Override
+    public CloudBuild createBuild(UUID packageGuid) {
+        return invalidateAroundAndGet(() -> delegate.createBuild(packageGuid));
+    }
+
+    @Override
+    public CloudBuild getBuild(UUID buildGuid) {
+        return delegate.getBuild(buildGuid);
+    }
+
+    @Override
+    public void bindDropletToApp(UUID dropletGuid, UUID applicationGuid) {
+        invalidateAround(() -> delegate.bindDropletToApp(dropletGuid, applicationGuid));
+    }
+
+    @Override
+    public List<CloudBuild> getBuildsForApplication(UUID applicationGuid) {
+        return delegate.getBuildsForApplication(applicationGuid);
+    }
+
+    @Override
+    public List<CloudBuild> getBuildsForPackage(UUID packageGuid) {
+        return delegate.getBuildsForPackage(packageGuid);
+    }
+
+    @Override
+    public List<CloudApplication> getApplicationsByMetadataLabelSelector(String labelSelector) {
+        return delegate.getApplicationsByMetadataLabelSelector(labelSelector);
+    }
+
+    @Override
+    public void updateApplicationMetadata(UUID guid, Metadata metadata) {
+        invalidateAround(() -> delegate.updateApplicationMetadata(guid, metadata));
+    }
+
+    @Override
+    public void updateServiceInstanceMetadata(UUID guid, Metadata metadata) {
+        invalidateAround(() -> delegate.updateServiceInstanceMetadata(guid, metadata));
+    }
+
+    @Override
+    public void updateServiceBindingMetadata(UUID guid, Metadata metadata) {
+        invalidateAround(() -> delegate.updateServiceBindingMetadata(guid, metadata));
+    }
+
+    @Override
+    public List<CloudServiceInstance> getServiceInstancesWithoutAuxiliaryContentByNames(List<String> names) {
+        return delegate.getServiceInstancesWithoutAuxiliaryContentByNames(names);
+    }
+
+    @Override
+    public List<CloudServiceInstance> getServiceInstancesByMetadataLabelSelector(String labelSelector) {
+        return delegate.getServiceInstancesByMetadataLabelSelector(labelSelector);
+    }
+
+    @Override
+    public List<CloudServiceInstance> getServiceInstancesWithoutAuxiliaryContentByMetadataLabelSelector(String labelSelector) {
+        return delegate.getServiceInstancesWithoutAuxiliaryContentByMetadataLabelSelector(labelSelector);
+    }
+
+    @Override
+    public DropletInfo getCurrentDropletForApplication(UUID applicationGuid) {
+        return delegate.getCurrentDropletForApplication(applicationGuid);
+    }
+
+    @Override
+    public CloudPackage getPackage(UUID packageGuid) {
+        return delegate.getPackage(packageGuid);
+    }
+
+    @Override
+    public List<CloudPackage> getPackagesForApplication(UUID applicationGuid) {
+        return delegate.getPackagesForApplication(applicationGuid);
+    }
+
+    @Override
+    public Set<UserRole> getUserRolesBySpaceAndUser(UUID spaceGuid, UUID userGuid) {
+        return delegate.getUserRolesBySpaceAndUser(spaceGuid, userGuid);
+    }
+
+    @Override
+    public CloudPackage createDockerPackage(UUID applicationGuid, DockerInfo dockerInfo) {
+        return invalidateAroundAndGet(() -> delegate.createDockerPackage(applicationGuid, dockerInfo));
+    }
+
+    @Override
+    public CloudAsyncJob getAsyncJob(String jobId) {
+        return delegate.getAsyncJob(jobId);
+    }
+
+    private void invalidateAround(Runnable modification) {
+        invalidateAroundAndGet(() -> {
+            modification.run();
+            return null;
+        });
+    }
+
+    private <T> T invalidateAroundAndGet(Supplier<T> modification) {
+        // The cached entities could depend on the modified entity in ways which are not obvious, so that none of them is kept
+        cache.invalidateAll();
+        try {
+            return modification.get();
+        } finally {
+            // A concurrent read could have cached the state from before the modification while it was running
+            cache.invalidateAll();
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.cloudfoundry.multiapps.controller.process.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Holds the Cloud Controller entities read during the execution of a step, so that the step and the helpers it calls do not request the
+ * same entity repeatedly. Only entities which the step itself can change are held, and {@link CachingCloudControllerClient} drops all of
+ * them whenever it modifies anything.
+ */
+public class CloudControllerClientCache {
+
+    public enum EntityType {
+        APPLICATION_GUID, APPLICATION_NAME, SERVICE_INSTANCE_GUID, SERVICE_INSTANCE_NAME, DOMAINS, STACK, STACKS
+    }
+
+    private final Map<Key, Object> entities = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public CloudControllerClientCache() {
+        this(new LongAdder(), new LongAdder());
+    }
+
+    /**
+     * @param hits the counter of the hits, which may be shared with other caches
+     * @param misses the counter of the misses, which may be shared with other caches
+     */
+    public CloudControllerClientCache(LongAdder hits, LongAdder misses) {
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * Returns the cached entity or loads it. Missing entities, for which the loader returns {@code null}, are not cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(EntityType type, Object id, Supplier<T> loader) {
+        Key key = new Key(type, id);
+        T entity = (T) entities.get(key);
+        if (entity != null) {
+            hits.increment();
+            return entity;
+        }
+        misses.increment();
+        long invalidationsBeforeLoad = invalidations.get();
+        entity = loader.get();
+        // An entity loaded while it was being modified may be outdated
+        if (entity != null && invalidations.get() == invalidationsBeforeLoad) {
+            entities.put(key, entity);
+        }
+        return entity;
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        entities.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private record Key(EntityType type, Object id) {
+    }
+
+}
@@ -0,0 +1,37 @@
+package org.cloudfoundry.multiapps.controller.process.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.inject.Named;
+
+/**
+ * Creates the {@link CloudControllerClientCache caches} of the step executions and exports the hits and misses of all of them as
+ * Micrometer metrics.
+ */
+@Named
+public class CloudControllerClientCacheFactory {
+
+    public static final String METRICS_PREFIX = "multiapps.cloud.controller.cache.";
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CloudControllerClientCacheFactory() {
+        this(Metrics.globalRegistry);
+    }
+
+    CloudControllerClientCacheFactory(MeterRegistry registry) {
+        FunctionCounter.builder(METRICS_PREFIX + "hits", hits, LongAdder::sum)
+                       .register(registry);
+        FunctionCounter.builder(METRICS_PREFIX + "misses", misses, LongAdder::sum)
+                       .register(registry);
+    }
+
+    public CloudControllerClientCache createCache() {
+        return new CloudControllerClientCache(hits, misses);
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.client;
 
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.UUID;
 
 import org.cloudfoundry.client.v3.Metadata;
 import org.cloudfoundry.multiapps.controller.client.facade.ApplicationServicesUpdateCallback;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
 import org.cloudfoundry.multiapps.controller.client.facade.ServiceBindingOperationCallback;
 import org.cloudfoundry.multiapps.controller.client.facade.UploadStatusCallback;
@@ -42,6 +44,12 @@ import org.cloudfoundry.multiapps.controller.core.util.UriUtil;
 import org.cloudfoundry.multiapps.controller.core.util.UserMessageLogger;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 
+import reactor.core.publisher.Mono;
+
+/**
+ * Logs the calls to the Cloud Controller through the logger of the step. It keeps no state of its own, so an instance can be shared by
+ * threads reading concurrently, for example the collectors of the deployed MTA detection.
+ */
 public class LoggingCloudControllerClient implements CloudControllerClient {
 
     private final CloudControllerClient delegate;
@@ -60,6 +68,11 @@ public class LoggingCloudControllerClient implements CloudControllerClient {
         return delegate.getTarget();
     }
 
+    @Override
+    public CloudControllerAsyncClient getAsyncClient() {
+        return new LoggingAsyncClient(delegate.getAsyncClient());
+    }
+
     @Override
     public void addDomain(String domainName) {
         logger.debug(Messages.ADDING_DOMAIN_0, domainName);
@@ -602,6 +615,13 @@ public class LoggingCloudControllerClient implements CloudControllerClient {
         return delegate.asyncUploadApplicationWithExponentialBackoff(applicationName, file, callback, overrideTimeout);
     }
 
+    @Override
+    public CloudPackage asyncUploadApplication(String applicationName, InputStream bits, UploadStatusCallback callback,
+                                               Duration uploadTimeout) {
+        logger.debug(Messages.ASYNCHRONOUSLY_UPLOADING_APPLICATION_0, applicationName);
+        return delegate.asyncUploadApplication(applicationName, bits, callback, uploadTimeout);
+    }
+
     @Override
     public Upload getUploadStatus(UUID packageGuid) {
         logger.debug(Messages.GETTING_PACKAGE_0, packageGuid);
@@ -745,4 +765,33 @@ public class LoggingCloudControllerClient implements CloudControllerClient {
         return delegate.getAsyncJob(jobId);
     }
 
+    private class LoggingAsyncClient implements CloudControllerAsyncClient {
+
+        private final CloudControllerAsyncClient asyncDelegate;
+
+        LoggingAsyncClient(CloudControllerAsyncClient asyncDelegate) {
+            this.asyncDelegate = asyncDelegate;
+        }
+
+        // The requests are logged on subscription, when they are actually sent, rather than when they are only described
+
+        @Override
+        public Mono<CloudApplication> getApplication(String applicationName) {
+            return asyncDelegate.getApplication(applicationName)
+                                .doOnSubscribe(subscription -> logger.debug(Messages.GETTING_APPLICATION_0, applicationName));
+        }
+
+        @Override
+        public Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName) {
+            return asyncDelegate.getServiceInstance(serviceInstanceName)
+                                .doOnSubscribe(subscription -> logger.debug(Messages.GETTING_SERVICE_INSTANCE_0, serviceInstanceName));
+        }
+
+        @Override
+        public Mono<List<CloudEvent>> getEventsByActee(UUID uuid) {
+            return asyncDelegate.getEventsByActee(uuid)
+                                .doOnSubscribe(subscription -> logger.debug(Messages.GETTING_EVENTS_BY_ACTEE_0, uuid.toString()));
+        }
+    }
+
 }
@@ -10,6 +10,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import jakarta.inject.Inject;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.process.util.InstrumentedThreadPoolExecutor;
 import org.cloudfoundry.multiapps.controller.process.util.PriorityCallable;
 import org.cloudfoundry.multiapps.controller.process.util.PriorityFuture;
 import org.cloudfoundry.multiapps.controller.process.util.PriorityFutureComparator;
@@ -33,11 +34,12 @@ public class FileUploadThreadPoolConfiguration {
 
     @Bean(name = "fileStorageThreadPool")
     public ExecutorService fileStorageThreadPool(PriorityBlockingQueue<Runnable> fileUploadPriorityBlockingQueue) {
-        return new ThreadPoolExecutor(applicationConfiguration.getThreadsForFileStorageUpload(),
-                                      applicationConfiguration.getThreadsForFileStorageUpload(),
-                                      0L,
-                                      TimeUnit.MILLISECONDS,
-                                      fileUploadPriorityBlockingQueue) {
+        return new InstrumentedThreadPoolExecutor("file-storage-upload",
+                                                  applicationConfiguration.getThreadsForFileStorageUpload(),
+                                                  applicationConfiguration.getThreadsForFileStorageUpload(),
+                                                  0L,
+                                                  TimeUnit.MILLISECONDS,
+                                                  fileUploadPriorityBlockingQueue) {
 
             @Override
             protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
@@ -51,12 +53,26 @@ public class FileUploadThreadPoolConfiguration {
 
     @Bean(name = "appUploaderThreadPool")
     public ExecutorService appUploaderThreadPool() {
-        return new ThreadPoolExecutor(applicationConfiguration.getThreadsForFileUploadToController(),
-                                      applicationConfiguration.getThreadsForFileUploadToController(),
-                                      0,
-                                      TimeUnit.MILLISECONDS,
-                                      new SynchronousQueue<>(),
-                                      new ThreadPoolExecutor.AbortPolicy());
+        return new InstrumentedThreadPoolExecutor("app-upload",
+                                                  applicationConfiguration.getThreadsForFileUploadToController(),
+                                                  applicationConfiguration.getThreadsForFileUploadToController(),
+                                                  0,
+                                                  TimeUnit.MILLISECONDS,
+                                                  new SynchronousQueue<>(),
+                                                  new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = "moduleDownloadThreadPool")
+    public ExecutorService moduleDownloadThreadPool() {
+        // Every concurrent application upload downloads its module with up to THREADS_FOR_MODULE_DOWNLOAD ranged reads
+        int threads = applicationConfiguration.getThreadsForFileUploadToController()
+            * applicationConfiguration.getThreadsForModuleDownload();
+        return new InstrumentedThreadPoolExecutor("module-download",
+                                                  threads,
+                                                  threads,
+                                                  0L,
+                                                  TimeUnit.MILLISECONDS,
+                                                  new LinkedBlockingQueue<>());
     }
 
     @Bean("fileUploadFromUrlQueue")
@@ -66,24 +82,26 @@ public class FileUploadThreadPoolConfiguration {
 
     @Bean(name = "asyncFileUploadExecutor")
     public ExecutorService asyncFileUploadExecutor(LinkedBlockingQueue<Runnable> fileUploadFromUrlQueue) {
-        return new ThreadPoolExecutor(5,
-                                      applicationConfiguration.getFilesAsyncUploadExecutorMaxThreads(),
-                                      30,
-                                      TimeUnit.SECONDS,
-                                      fileUploadFromUrlQueue);
+        return new InstrumentedThreadPoolExecutor("async-file-upload",
+                                                  5,
+                                                  applicationConfiguration.getFilesAsyncUploadExecutorMaxThreads(),
+                                                  30,
+                                                  TimeUnit.SECONDS,
+                                                  fileUploadFromUrlQueue);
     }
 
     @Bean(name = "deployFromUrlExecutor")
     public ExecutorService deployFromUrlExecutor() {
-        return new ThreadPoolExecutor(5,
-                                      // The max thread count should match the maximum capacity of asyncFileUploadExecutor (queue size + max threads).
-                                      // A lower value may cause unnecessary task rejections.
-                                      // A higher value may cause job failures when asyncFileUploadExecutor becomes full.
-                                      applicationConfiguration.getDeployFromUrlExecutorMaxThreads(),
-                                      // As the threads are only updating a row and waiting it is ok to have more threads
-                                      30,
-                                      TimeUnit.SECONDS,
-                                      new SynchronousQueue<>()); // A synchronous queue is used so deploy from url jobs immediately start
-        // a new thread that updates the database job entry
+        return new InstrumentedThreadPoolExecutor("deploy-from-url",
+                                                  5,
+                                                  // The max thread count should match the maximum capacity of asyncFileUploadExecutor
+                                                  // (queue size + max threads). A lower value may cause unnecessary task rejections.
+                                                  // A higher value may cause job failures when asyncFileUploadExecutor becomes full.
+                                                  applicationConfiguration.getDeployFromUrlExecutorMaxThreads(),
+                                                  // As the threads are only updating a row and waiting it is ok to have more threads
+                                                  30,
+                                                  TimeUnit.SECONDS,
+                                                  new SynchronousQueue<>()); // A synchronous queue is used so deploy from url jobs
+        // immediately start a new thread that updates the database job entry
     }
 }
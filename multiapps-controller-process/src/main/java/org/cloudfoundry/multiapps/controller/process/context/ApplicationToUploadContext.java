@@ -2,9 +2,9 @@ package org.cloudfoundry.multiapps.controller.process.context;
 
 import java.util.List;
 
+import org.cloudfoundry.multiapps.common.Nullable;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
-import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
 import org.immutables.value.Value;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -15,12 +15,13 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 @JsonDeserialize(as = ImmutableApplicationToUploadContext.class)
 public interface ApplicationToUploadContext {
 
-    StepLogger getStepLogger();
-
     CloudApplicationExtended getApplication();
 
     String getModuleFileName();
 
+    @Nullable
+    String getUserGuid();
+
     String getSpaceGuid();
 
     String getCorrelationId();
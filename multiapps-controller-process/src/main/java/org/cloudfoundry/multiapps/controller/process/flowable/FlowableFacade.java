@@ -5,6 +5,7 @@ import static java.text.MessageFormat.format;
 import java.text.MessageFormat;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -299,4 +300,10 @@ public class FlowableFacade {
                      .setVariable(parentProcessId, variableName, value);
     }
 
+    public Map<String, Object> getVariablesInParentProcess(DelegateExecution execution, Collection<String> variableNames) {
+        String parentProcessId = getParentExecution(execution.getParentId()).getSuperExecutionId();
+        return processEngine.getRuntimeService()
+                            .getVariables(parentProcessId, variableNames);
+    }
+
 }
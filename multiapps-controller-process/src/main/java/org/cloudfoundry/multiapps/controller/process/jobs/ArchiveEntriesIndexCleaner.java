@@ -0,0 +1,39 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import static java.text.MessageFormat.format;
+
+import java.time.LocalDateTime;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.ArchiveEntriesIndexService;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+
+@Named
+@Order(20)
+public class ArchiveEntriesIndexCleaner implements Cleaner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchiveEntriesIndexCleaner.class);
+
+    private final ArchiveEntriesIndexService archiveEntriesIndexService;
+
+    @Inject
+    public ArchiveEntriesIndexCleaner(ArchiveEntriesIndexService archiveEntriesIndexService) {
+        this.archiveEntriesIndexService = archiveEntriesIndexService;
+    }
+
+    @Override
+    public long execute(LocalDateTime expirationTime) {
+        LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_ARCHIVE_ENTRIES_INDEXES_STORED_BEFORE_0, expirationTime));
+        int removedArchiveEntriesIndexes = archiveEntriesIndexService.createQuery()
+                                                                     .olderThan(expirationTime)
+                                                                     .delete();
+        LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_ARCHIVE_ENTRIES_INDEXES_0, removedArchiveEntriesIndexes));
+        return removedArchiveEntriesIndexes;
+    }
+
+}
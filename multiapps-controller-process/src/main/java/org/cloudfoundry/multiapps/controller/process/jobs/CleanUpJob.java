@@ -2,49 +2,88 @@ package org.cloudfoundry.multiapps.controller.process.jobs;
 
 import static java.text.MessageFormat.format;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.core.util.SafeExecutor;
+import org.cloudfoundry.multiapps.controller.persistence.services.CleanerLeaseService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.util.ClassUtils;
 
+/**
+ * Runs the cleaners on all application instances. Every cleaner is leased in the database to the instance which executes it, and the lease
+ * is released with a record of the run when the cleaner finishes, so that each cleaner is executed once per run. The cleaners with the
+ * same order are independent of each other and are executed concurrently. Every instance waits until all cleaners of an order have
+ * finished, on whichever instance, before it starts the cleaners of the next order. If an instance stops while executing a cleaner, its
+ * lease expires shortly before the next run and the cleaners of the following orders are left to that run. The duration and outcome of
+ * every cleaner and the number of items it deleted are exported as Micrometer metrics. A cleaner which is interrupted is not resumed from
+ * where it stopped - the cleaners delete what has expired at the time of the run, so the next run deletes what the interrupted one did
+ * not.
+ */
 @Named
 public class CleanUpJob {
 
     public static final Marker LOG_MARKER = MarkerFactory.getMarker("clean-up-job");
+    public static final String METRICS_PREFIX = "multiapps.cleanup.";
     private static final Logger LOGGER = LoggerFactory.getLogger(CleanUpJob.class);
-    private static final int SELECTED_INSTANCE_FOR_CLEAN_UP = 0;
+    private static final int MAX_CONCURRENT_CLEANERS = 4;
+    private static final Duration CLOCK_SKEW_TOLERANCE = Duration.ofMinutes(1);
+    private static final Duration MIN_LEASE_DURATION = Duration.ofSeconds(30);
+    private static final Duration FINISHED_CLEANERS_POLL_INTERVAL = Duration.ofSeconds(10);
+    private static final String CLEANER_TAG = "cleaner";
+    private static final String OUTCOME_TAG = "outcome";
 
     @Inject
     ApplicationConfiguration configuration;
     @Inject
     List<Cleaner> cleaners;
+    @Inject
+    CleanerLeaseService cleanerLeaseService;
+    Duration finishedCleanersPollInterval = FINISHED_CLEANERS_POLL_INTERVAL;
     private final SafeExecutor safeExecutor = new SafeExecutor(CleanUpJob::log);
 
     @Scheduled(cron = "#{@applicationConfiguration.getCronExpressionForOldData()}")
     public void execute() {
-        if (configuration.getApplicationInstanceIndex() != SELECTED_INSTANCE_FOR_CLEAN_UP) {
-            return;
-        }
         Instant cleanUpJobStartTime = Instant.now();
         LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_JOB_STARTED_BY_APPLICATION_INSTANCE_0_AT_1,
                                        configuration.getApplicationInstanceIndex(), cleanUpJobStartTime));
 
         LocalDateTime expirationTime = computeExpirationTime();
+        LocalDateTime now = LocalDateTime.now();
+        // The run is identified by the time of the next run, which is the same on all instances
+        LocalDateTime run = computeNextRunTime(now);
+        Duration leaseDuration = computeLeaseDuration(now, run);
         LOGGER.info(LOG_MARKER, format(Messages.WILL_CLEAN_UP_DATA_STORED_BEFORE_0, expirationTime));
         LOGGER.info(LOG_MARKER, format(Messages.REGISTERED_CLEANERS_IN_CLEAN_UP_JOB_0, cleaners));
-        for (Cleaner cleaner : cleaners) {
-            safeExecutor.execute(() -> cleaner.execute(expirationTime));
+        for (List<Cleaner> independentCleaners : groupCleanersByOrder().values()) {
+            executeConcurrently(independentCleaners, expirationTime, run, leaseDuration);
+            if (!awaitFinished(independentCleaners, run)) {
+                LOGGER.warn(LOG_MARKER, format(Messages.CLEANERS_0_DID_NOT_FINISH_SKIPPING_THE_FOLLOWING_ONES, independentCleaners));
+                break;
+            }
         }
 
         LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_JOB_WHICH_STARTED_AT_0_HAS_FINISHED_AT_1, cleanUpJobStartTime, Instant.now()));
@@ -56,6 +95,106 @@ public class CleanUpJob {
                             .minusSeconds(maxTtlForOldData);
     }
 
+    private LocalDateTime computeNextRunTime(LocalDateTime now) {
+        LocalDateTime nextRunTime = CronExpression.parse(configuration.getCronExpressionForOldData())
+                                                  .next(now);
+        return nextRunTime == null ? now.plus(MIN_LEASE_DURATION)
+                                        .plus(CLOCK_SKEW_TOLERANCE) : nextRunTime;
+    }
+
+    private Duration computeLeaseDuration(LocalDateTime now, LocalDateTime nextRunTime) {
+        Duration leaseDuration = Duration.between(now, nextRunTime)
+                                         .minus(CLOCK_SKEW_TOLERANCE);
+        // Runs closer to each other than the clock skew tolerance would otherwise get leases which have already expired
+        return leaseDuration.compareTo(MIN_LEASE_DURATION) < 0 ? MIN_LEASE_DURATION : leaseDuration;
+    }
+
+    private Map<Integer, List<Cleaner>> groupCleanersByOrder() {
+        Map<Integer, List<Cleaner>> cleanersByOrder = new TreeMap<>();
+        for (Cleaner cleaner : cleaners) {
+            int order = OrderUtils.getOrder(ClassUtils.getUserClass(cleaner), Ordered.LOWEST_PRECEDENCE);
+            cleanersByOrder.computeIfAbsent(order, key -> new ArrayList<>())
+                           .add(cleaner);
+        }
+        return cleanersByOrder;
+    }
+
+    private void executeConcurrently(List<Cleaner> independentCleaners, LocalDateTime expirationTime, LocalDateTime run,
+                                     Duration leaseDuration) {
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(independentCleaners.size(), MAX_CONCURRENT_CLEANERS))) {
+            for (Cleaner cleaner : independentCleaners) {
+                executor.execute(() -> safeExecutor.execute(() -> executeLeased(cleaner, expirationTime, run, leaseDuration)));
+            }
+        }
+    }
+
+    private void executeLeased(Cleaner cleaner, LocalDateTime expirationTime, LocalDateTime run, Duration leaseDuration) {
+        String cleanerName = getCleanerName(cleaner);
+        if (!cleanerLeaseService.acquire(cleanerName, getLeaseOwner(), run, leaseDuration)) {
+            LOGGER.info(LOG_MARKER, format(Messages.CLEANER_0_IS_LEASED_BY_ANOTHER_APPLICATION_INSTANCE_OR_FINISHED, cleanerName));
+            Counter.builder(METRICS_PREFIX + "skipped")
+                   .tag(CLEANER_TAG, cleanerName)
+                   .register(Metrics.globalRegistry)
+                   .increment();
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        long deletedItems;
+        try {
+            deletedItems = cleaner.execute(expirationTime);
+        } catch (RuntimeException e) {
+            recordDuration(sample, cleanerName, "failure");
+            throw e;
+        } finally {
+            cleanerLeaseService.release(cleanerName, getLeaseOwner(), run);
+        }
+        long cleanerDurationInMillis = TimeUnit.NANOSECONDS.toMillis(recordDuration(sample, cleanerName, "success"));
+        Counter.builder(METRICS_PREFIX + "deleted.items")
+               .tag(CLEANER_TAG, cleanerName)
+               .register(Metrics.globalRegistry)
+               .increment(deletedItems);
+        LOGGER.info(LOG_MARKER, format(Messages.CLEANER_0_FINISHED_IN_1_MS, cleanerName, cleanerDurationInMillis));
+    }
+
+    /**
+     * @return whether all cleaners have finished, or {@code false} if some of them have not finished and are no longer leased
+     */
+    private boolean awaitFinished(List<Cleaner> independentCleaners, LocalDateTime run) {
+        List<String> cleanerNames = independentCleaners.stream()
+                                                       .map(CleanUpJob::getCleanerName)
+                                                       .toList();
+        while (!cleanerLeaseService.areFinished(cleanerNames, run)) {
+            if (!cleanerLeaseService.isAnyLeased(cleanerNames)) {
+                // The last of the cleaners could have finished after they were checked
+                return cleanerLeaseService.areFinished(cleanerNames, run);
+            }
+            try {
+                Thread.sleep(finishedCleanersPollInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getCleanerName(Cleaner cleaner) {
+        return ClassUtils.getUserClass(cleaner)
+                         .getSimpleName();
+    }
+
+    private long recordDuration(Timer.Sample sample, String cleanerName, String outcome) {
+        return sample.stop(Timer.builder(METRICS_PREFIX + "duration")
+                                .tag(CLEANER_TAG, cleanerName)
+                                .tag(OUTCOME_TAG, outcome)
+                                .register(Metrics.globalRegistry));
+    }
+
+    private String getLeaseOwner() {
+        return configuration.getApplicationGuid() + "/" + configuration.getApplicationInstanceIndex();
+    }
+
     private static void log(Exception e) {
         LOGGER.error(LOG_MARKER, format(Messages.ERROR_DURING_CLEAN_UP_0, e.getMessage()), e);
     }
@@ -4,6 +4,9 @@ import java.time.LocalDateTime;
 
 public interface Cleaner {
 
-    void execute(LocalDateTime expirationTime);
+    /**
+     * @return the number of deleted items, which is exported as a metric of the clean up job, or 0 if the cleaner does not count them
+     */
+    long execute(LocalDateTime expirationTime);
 
 }
@@ -38,7 +38,7 @@ public class FlowableHistoricDataCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public long execute(LocalDateTime expirationTime) {
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.WILL_DELETE_HISTORIC_PROCESSES_BEFORE_0, expirationTime));
         long deletedProcessesCount = 0;
         long expiredProcessesPages = getExpiredProcessesPageCount(expirationTime);
@@ -46,6 +46,7 @@ public class FlowableHistoricDataCleaner implements Cleaner {
             deletedProcessesCount += deleteExpiredProcessesPage(expirationTime);
         }
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_HISTORIC_PROCESSES_0, deletedProcessesCount));
+        return deletedProcessesCount;
     }
 
     private long getExpiredProcessesPageCount(LocalDateTime expirationTime) {
@@ -65,18 +66,30 @@ public class FlowableHistoricDataCleaner implements Cleaner {
     }
 
     private long deleteExpiredProcessesPage(LocalDateTime expirationTime) {
-        List<HistoricProcessInstance> processesToDelete = getExpiredProcessesPage(expirationTime);
-        return processesToDelete.stream()
-                                .filter(this::deleteProcessSafely)
-                                .count();
+        List<String> processIdsToDelete = getExpiredProcessesPage(expirationTime).stream()
+                                                                                 .map(HistoricProcessInstance::getId)
+                                                                                 .toList();
+        if (processIdsToDelete.isEmpty()) {
+            return 0;
+        }
+        try {
+            // A page is deleted in a single transaction, so its size bounds the size of the transaction
+            historyService.bulkDeleteHistoricProcessInstances(processIdsToDelete);
+            return processIdsToDelete.size();
+        } catch (Exception e) {
+            LOGGER.warn(CleanUpJob.LOG_MARKER, format(Messages.COULD_NOT_DELETE_HISTORIC_PROCESSES_0_DELETING_THEM_ONE_BY_ONE,
+                                                      processIdsToDelete), e);
+            return processIdsToDelete.stream()
+                                     .filter(this::deleteProcessSafely)
+                                     .count();
+        }
     }
 
     private List<HistoricProcessInstance> getExpiredProcessesPage(LocalDateTime expirationTime) {
         return createExpiredHistoricProcessInstancesQuery(expirationTime).listPage(0, pageSize);
     }
 
-    private boolean deleteProcessSafely(HistoricProcessInstance process) {
-        String processId = process.getId();
+    private boolean deleteProcessSafely(String processId) {
         try {
             LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_HISTORIC_PROCESS_0, processId));
             historyService.deleteHistoricProcessInstance(processId);
@@ -22,7 +22,7 @@ public class LeftoverApplicationShutdownCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public long execute(LocalDateTime expirationTime) {
         LocalDateTime timeNow = LocalDateTime.now();
         LocalDateTime secondsAfterStartedDate = timeNow.minusSeconds(ONE_DAY_IN_SECONDS);
 
@@ -31,5 +31,6 @@ public class LeftoverApplicationShutdownCleaner implements Cleaner {
                                                                            .delete();
 
         LOGGER.info(MessageFormat.format(Messages.DELETED_LEFTOVER_APPLICATION_SHUTDOWNS, countOfDeletedApplicationShutdowns));
+        return countOfDeletedApplicationShutdowns;
     }
 }
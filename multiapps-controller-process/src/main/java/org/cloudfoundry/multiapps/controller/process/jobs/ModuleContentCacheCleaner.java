@@ -0,0 +1,43 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import static java.text.MessageFormat.format;
+
+import java.time.LocalDateTime;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.ModuleContentCacheService;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+
+@Named
+@Order(20)
+public class ModuleContentCacheCleaner implements Cleaner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModuleContentCacheCleaner.class);
+
+    private final ModuleContentCacheService moduleContentCacheService;
+    private final ApplicationConfiguration configuration;
+
+    @Inject
+    public ModuleContentCacheCleaner(ModuleContentCacheService moduleContentCacheService, ApplicationConfiguration configuration) {
+        this.moduleContentCacheService = moduleContentCacheService;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public long execute(LocalDateTime expirationTime) {
+        // The cache entries are evicted by count, as the same module content may be deployed long after it was cached
+        int maxModuleContentCacheEntries = configuration.getMaxModuleContentCacheEntries();
+        LOGGER.debug(CleanUpJob.LOG_MARKER,
+                     format(Messages.DELETING_LEAST_RECENTLY_USED_MODULE_CONTENT_CACHE_ENTRIES_KEEPING_0, maxModuleContentCacheEntries));
+        int removedModuleContentCacheEntries = moduleContentCacheService.deleteLeastRecentlyUsed(maxModuleContentCacheEntries);
+        LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_MODULE_CONTENT_CACHE_ENTRIES_0, removedModuleContentCacheEntries));
+        return removedModuleContentCacheEntries;
+    }
+
+}
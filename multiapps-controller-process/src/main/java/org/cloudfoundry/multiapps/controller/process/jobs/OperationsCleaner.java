@@ -46,7 +46,7 @@ public class OperationsCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public long execute(LocalDateTime expirationTime) {
         LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_OPERATIONS_STARTED_BEFORE_0, expirationTime));
         int abortedOperations = abortActiveOperations(expirationTime);
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.ABORTED_OPERATIONS_0, abortedOperations));
@@ -55,6 +55,7 @@ public class OperationsCleaner implements Cleaner {
                                                 .inFinalState()
                                                 .delete();
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_OPERATIONS_0, deletedOperations));
+        return deletedOperations;
     }
 
     private int abortActiveOperations(LocalDateTime expirationTime) {
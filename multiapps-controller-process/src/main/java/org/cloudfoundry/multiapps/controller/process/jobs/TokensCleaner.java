@@ -28,7 +28,7 @@ public class TokensCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public long execute(LocalDateTime expirationTime) {
         LocalDateTime date = ZonedDateTime.now()
                                           .toLocalDateTime();
         LOGGER.debug(CleanUpJob.LOG_MARKER, Messages.REMOVING_EXPIRED_TOKENS_FROM_TOKEN_STORE);
@@ -36,6 +36,7 @@ public class TokensCleaner implements Cleaner {
                                                    .expiresBefore(date)
                                                    .delete();
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.REMOVED_TOKENS_0, deletedTokensCount));
+        return deletedTokensCount;
     }
 
 }
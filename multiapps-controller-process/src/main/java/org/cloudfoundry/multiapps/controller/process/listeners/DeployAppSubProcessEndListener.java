@@ -16,6 +16,7 @@ import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
 import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.cloudfoundry.multiapps.mta.model.Module;
 import org.flowable.engine.delegate.DelegateExecution;
 
 @Named("deployAppSubProcessEndListener")
@@ -34,6 +35,12 @@ public class DeployAppSubProcessEndListener extends AbstractProcessExecutionList
 
     @Override
     public void notifyInternal(DelegateExecution execution) throws Exception {
+        Module deployedModule = VariableHandling.get(execution, Variables.MODULE_TO_DEPLOY);
+        if (deployedModule != null) {
+            // Modules deployed in parallel wait for this flag of their "deployed-after" modules
+            setVariableInParentProcess(execution, Constants.VAR_IS_MODULE_DEPLOYED_VAR_PREFIX + deployedModule.getName(), true);
+        }
+
         CloudServiceBroker serviceBroker = VariableHandling.get(execution, Variables.CREATED_OR_UPDATED_SERVICE_BROKER);
         if (serviceBroker == null) {
             return;
@@ -16,6 +16,7 @@ import jakarta.inject.Named;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudApplication;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceKey;
@@ -44,6 +45,8 @@ import org.cloudfoundry.multiapps.mta.model.Resource;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 
+import reactor.core.publisher.Flux;
+
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
@@ -52,6 +55,8 @@ import static java.util.stream.Collectors.toList;
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class BuildCloudUndeployModelStep extends SyncFlowableStep {
 
+    private static final int MAX_CONCURRENT_APPLICATION_REQUESTS = 16;
+
     @Inject
     private ConfigurationSubscriptionService configurationSubscriptionService;
     @Inject
@@ -337,10 +342,13 @@ public class BuildCloudUndeployModelStep extends SyncFlowableStep {
     }
 
     private List<CloudApplication> computeAppsToUndeploy(List<DeployedMtaApplication> modulesToUndeploy, CloudControllerClient client) {
-        return modulesToUndeploy.stream()
-                                .map(appToUndeploy -> client.getApplication(appToUndeploy.getName(), false))
-                                .filter(Objects::nonNull)
-                                .collect(Collectors.toList());
+        CloudControllerAsyncClient asyncClient = client.getAsyncClient();
+        // Applications which no longer exist are empty and are skipped
+        return Flux.fromIterable(modulesToUndeploy)
+                   .flatMapSequential(appToUndeploy -> asyncClient.getApplication(appToUndeploy.getName()),
+                                      MAX_CONCURRENT_APPLICATION_REQUESTS)
+                   .collectList()
+                   .block();
     }
 
     private List<ConfigurationSubscription> computeSubscriptionsToDelete(List<ConfigurationSubscription> subscriptionsToCreate,
@@ -1,24 +1,22 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
-import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudServiceInstanceExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudServiceInstanceExtended;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
-import org.cloudfoundry.multiapps.controller.core.util.ForkJoinPoolUtil;
 import org.cloudfoundry.multiapps.controller.process.util.ServiceOperationGetter;
 import org.cloudfoundry.multiapps.controller.process.util.ServiceProgressReporter;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 
+import reactor.core.publisher.Flux;
+
 @Named("checkServicesToDeleteStep")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class CheckServicesToDeleteStep extends CollectServicesInProgressStateStep {
@@ -38,22 +36,15 @@ public class CheckServicesToDeleteStep extends CollectServicesInProgressStateSte
         if (servicesToDelete.isEmpty()) {
             return Collections.emptyList();
         }
-        CloudControllerClient client = context.getControllerClient();
-        int maxParallelThreads = getMaxParallelThreads(servicesToDelete);
-        return ForkJoinPoolUtil.execute(maxParallelThreads, () -> doGetExistingServicesInProgress(client, servicesToDelete));
-    }
-
-    private List<CloudServiceInstanceExtended> doGetExistingServicesInProgress(CloudControllerClient client,
-                                                                               List<String> servicesToDelete) {
-        return servicesToDelete.parallelStream()
-                               .map(service -> getExistingService(client, buildCloudServiceExtended(service)))
-                               .filter(Objects::nonNull)
-                               .filter(this::isServiceOperationInProgress)
-                               .collect(Collectors.toList());
-    }
-
-    private <E> int getMaxParallelThreads(Collection<E> collectionToProcess) {
-        return Math.min(collectionToProcess.size(), applicationConfiguration.getServiceHandlingMaxParallelThreads());
+        CloudControllerAsyncClient asyncClient = context.getControllerClient()
+                                                        .getAsyncClient();
+        // The services are requested concurrently without holding a thread for each request
+        return Flux.fromIterable(servicesToDelete)
+                   .flatMapSequential(service -> getExistingService(asyncClient, buildCloudServiceExtended(service)),
+                                      applicationConfiguration.getServiceHandlingMaxParallelThreads())
+                   .filter(this::isServiceOperationInProgress)
+                   .collectList()
+                   .block();
     }
 
     private CloudServiceInstanceExtended buildCloudServiceExtended(String serviceName) {
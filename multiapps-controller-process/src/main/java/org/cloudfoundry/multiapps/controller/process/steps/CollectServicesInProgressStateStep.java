@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudEntity;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceInstance;
@@ -18,6 +19,8 @@ import org.cloudfoundry.multiapps.controller.process.util.ServiceOperationGetter
 import org.cloudfoundry.multiapps.controller.process.util.ServiceProgressReporter;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 
+import reactor.core.publisher.Mono;
+
 public abstract class CollectServicesInProgressStateStep extends TimeoutAsyncFlowableStep {
 
     protected ServiceOperationGetter serviceOperationGetter;
@@ -51,15 +54,26 @@ public abstract class CollectServicesInProgressStateStep extends TimeoutAsyncFlo
     protected CloudServiceInstanceExtended getExistingService(CloudControllerClient client, CloudServiceInstanceExtended service) {
         CloudServiceInstance existingService = client.getServiceInstance(service.getName(), false);
         if (existingService != null) {
-            return ImmutableCloudServiceInstanceExtended.builder()
-                                                        .from(service)
-                                                        .from(existingService)
-                                                        .metadata(existingService.getMetadata())
-                                                        .build();
+            return mergeWithExistingService(service, existingService);
         }
         return null;
     }
 
+    protected Mono<CloudServiceInstanceExtended> getExistingService(CloudControllerAsyncClient asyncClient,
+                                                                    CloudServiceInstanceExtended service) {
+        return asyncClient.getServiceInstance(service.getName())
+                          .map(existingService -> mergeWithExistingService(service, existingService));
+    }
+
+    private CloudServiceInstanceExtended mergeWithExistingService(CloudServiceInstanceExtended service,
+                                                                  CloudServiceInstance existingService) {
+        return ImmutableCloudServiceInstanceExtended.builder()
+                                                    .from(service)
+                                                    .from(existingService)
+                                                    .metadata(existingService.getMetadata())
+                                                    .build();
+    }
+
     protected boolean isServiceOperationInProgress(CloudServiceInstanceExtended service) {
         ServiceOperation lastServiceOperation = service.getLastOperation();
         return lastServiceOperation != null && lastServiceOperation.getState() == ServiceOperation.State.IN_PROGRESS;
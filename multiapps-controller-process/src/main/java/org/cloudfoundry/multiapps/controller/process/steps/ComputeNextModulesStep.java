@@ -1,18 +1,17 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.apache.commons.collections4.ListUtils;
-import org.cloudfoundry.multiapps.controller.core.helpers.ModuleToDeployHelper;
 import org.cloudfoundry.multiapps.controller.core.security.serialization.DynamicSecureSerialization;
+import org.cloudfoundry.multiapps.controller.process.Constants;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.security.util.SecureLoggingUtil;
-import org.cloudfoundry.multiapps.controller.process.util.ModuleDependencyChecker;
+import org.cloudfoundry.multiapps.controller.process.util.ModuleDeploymentGraph;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
-import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
 import org.cloudfoundry.multiapps.mta.model.Module;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
@@ -21,32 +20,21 @@ import org.springframework.context.annotation.Scope;
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class ComputeNextModulesStep extends SyncFlowableStep {
 
-    private ModuleToDeployHelper moduleToDeployHelper;
-
-    @Inject
-    public ComputeNextModulesStep(ModuleToDeployHelper moduleToDeployHelper) {
-        this.moduleToDeployHelper = moduleToDeployHelper;
-    }
-
     @Override
     protected StepPhase executeStep(ProcessContext context) {
         getStepLogger().debug(Messages.COMPUTING_NEXT_MODULES_FOR_PARALLEL_ITERATION);
         List<Module> allModulesToDeploy = context.getVariable(Variables.MODULES_TO_DEPLOY);
         List<Module> completedModules = context.getVariable(Variables.ITERATED_MODULES_IN_PARALLEL);
+        getStepLogger().debug("Completed modules detected: " + getModuleNames(completedModules));
+        getStepLogger().debug("All modules for deploy detected: " + getModuleNames(allModulesToDeploy));
 
-        DeploymentDescriptor descriptor = context.getVariable(Variables.DEPLOYMENT_DESCRIPTOR);
-        ModuleDependencyChecker dependencyChecker = new ModuleDependencyChecker(context.getControllerClient(),
-                                                                                getStepLogger(),
-                                                                                moduleToDeployHelper,
-                                                                                descriptor.getModules(),
-                                                                                allModulesToDeploy,
-                                                                                completedModules);
-        getStepLogger().debug("Completed modules detected: " + dependencyChecker.getAlreadyDeployedModules());
-        getStepLogger().debug("All modules for deploy detected: " + dependencyChecker.getModulesForDeployment());
-        getStepLogger().debug("Modules not for deploy detected: " + dependencyChecker.getModulesNotForDeployment());
-
-        // Set next iteration data
-        List<Module> modulesForNextIteration = computeApplicationsForNextIteration(allModulesToDeploy, dependencyChecker);
+        // All remaining modules are started in one iteration. Each of them waits on its own for its "deployed-after" modules and for a
+        // free parallel deployment slot, so no module waits for modules, which it does not depend on.
+        List<Module> modulesForNextIteration = computeApplicationsForNextIteration(allModulesToDeploy, completedModules);
+        ModuleDeploymentGraph deploymentGraph = new ModuleDeploymentGraph(modulesForNextIteration);
+        getStepLogger().info(Messages.CRITICAL_PATH_OF_MODULES_DEPLOYMENT, String.join(" -> ", deploymentGraph.getCriticalPath()));
+        modulesForNextIteration.forEach(module -> context.getExecution()
+                                                         .removeVariable(Constants.VAR_IS_MODULE_DEPLOYED_VAR_PREFIX + module.getName()));
         context.setVariable(Variables.MODULES_TO_ITERATE_IN_PARALLEL, modulesForNextIteration);
 
         // Mark next iteration data as computed
@@ -63,12 +51,17 @@ public class ComputeNextModulesStep extends SyncFlowableStep {
         return Messages.ERROR_COMPUTING_NEXT_MODULES_FOR_PARALLEL_ITERATION;
     }
 
-    private List<Module> computeApplicationsForNextIteration(List<Module> allModulesToDeploy, ModuleDependencyChecker dependencyChecker) {
+    private List<Module> computeApplicationsForNextIteration(List<Module> allModulesToDeploy, List<Module> completedModules) {
+        Set<String> completedModuleNames = getModuleNames(completedModules);
         return allModulesToDeploy.stream()
-                                 .filter(module -> !dependencyChecker.getAlreadyDeployedModules()
-                                                                     .contains(module.getName()))
-                                 .filter(dependencyChecker::areAllDependenciesSatisfied)
+                                 .filter(module -> !completedModuleNames.contains(module.getName()))
                                  .collect(Collectors.toList());
     }
 
+    private Set<String> getModuleNames(List<Module> modules) {
+        return modules.stream()
+                      .map(Module::getName)
+                      .collect(Collectors.toSet());
+    }
+
 }
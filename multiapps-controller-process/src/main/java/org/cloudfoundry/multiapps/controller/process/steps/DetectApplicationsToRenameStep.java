@@ -2,13 +2,12 @@ package org.cloudfoundry.multiapps.controller.process.steps;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Named;
 import org.apache.commons.collections4.CollectionUtils;
-import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudApplication;
 import org.cloudfoundry.multiapps.controller.core.model.BlueGreenApplicationNameSuffix;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
@@ -21,10 +20,14 @@ import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 
+import reactor.core.publisher.Flux;
+
 @Named("detectApplicationsToRenameStep")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class DetectApplicationsToRenameStep extends SyncFlowableStep {
 
+    private static final int MAX_CONCURRENT_APPLICATION_REQUESTS = 16;
+
     @Override
     protected StepPhase executeStep(ProcessContext context) {
         // This is set here in case of the step returning early or failing because the call activity
@@ -75,11 +78,13 @@ public class DetectApplicationsToRenameStep extends SyncFlowableStep {
     }
 
     private void setAppsToUndeploy(ProcessContext context, List<String> appsToUndeploy) {
-        CloudControllerClient client = context.getControllerClient();
-        List<CloudApplication> apps = appsToUndeploy.stream()
-                                                    .map(app -> client.getApplication(app, false))
-                                                    .filter(Objects::nonNull)
-                                                    .collect(Collectors.toList());
+        CloudControllerAsyncClient asyncClient = context.getControllerClient()
+                                                        .getAsyncClient();
+        // Applications which no longer exist are empty and are skipped
+        List<CloudApplication> apps = Flux.fromIterable(appsToUndeploy)
+                                          .flatMapSequential(asyncClient::getApplication, MAX_CONCURRENT_APPLICATION_REQUESTS)
+                                          .collectList()
+                                          .block();
         context.setVariable(Variables.APPS_TO_UNDEPLOY, apps);
     }
 
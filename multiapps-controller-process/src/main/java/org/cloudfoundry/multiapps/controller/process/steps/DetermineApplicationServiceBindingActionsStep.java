@@ -18,6 +18,7 @@ import org.cloudfoundry.multiapps.controller.core.cf.clients.AppBoundServiceInst
 import org.cloudfoundry.multiapps.controller.core.cf.clients.WebClientFactory;
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntriesProvider;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ServiceBindingParametersGetter;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -34,6 +35,8 @@ public class DetermineApplicationServiceBindingActionsStep extends SyncFlowableS
     private WebClientFactory webClientFactory;
     @Inject
     private ArchiveEntryExtractor archiveEntryExtractor;
+    @Inject
+    private ArchiveEntriesProvider archiveEntriesProvider;
 
     @Override
     protected StepPhase executeStep(ProcessContext context) {
@@ -134,7 +137,8 @@ public class DetermineApplicationServiceBindingActionsStep extends SyncFlowableS
     }
 
     protected ServiceBindingParametersGetter getServiceBindingParametersGetter(ProcessContext context) {
-        return new ServiceBindingParametersGetter(context, archiveEntryExtractor, configuration.getMaxManifestSize());
+        return new ServiceBindingParametersGetter(context, archiveEntryExtractor, archiveEntriesProvider,
+                                                  configuration.getMaxManifestSize());
 
     }
 
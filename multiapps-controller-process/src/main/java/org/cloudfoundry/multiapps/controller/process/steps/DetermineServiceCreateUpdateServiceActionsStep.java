@@ -32,6 +32,7 @@ import org.cloudfoundry.multiapps.controller.core.security.serialization.Dynamic
 import org.cloudfoundry.multiapps.controller.process.Constants;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.security.util.SecureLoggingUtil;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntriesProvider;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractorUtil;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
@@ -48,10 +49,13 @@ import org.springframework.context.annotation.Scope;
 public class DetermineServiceCreateUpdateServiceActionsStep extends SyncFlowableStep {
 
     private final ArchiveEntryExtractor archiveEntryExtractor;
+    private final ArchiveEntriesProvider archiveEntriesProvider;
 
     @Inject
-    public DetermineServiceCreateUpdateServiceActionsStep(ArchiveEntryExtractor archiveEntryExtractor) {
+    public DetermineServiceCreateUpdateServiceActionsStep(ArchiveEntryExtractor archiveEntryExtractor,
+                                                          ArchiveEntriesProvider archiveEntriesProvider) {
         this.archiveEntryExtractor = archiveEntryExtractor;
+        this.archiveEntriesProvider = archiveEntriesProvider;
     }
 
     @Override
@@ -232,8 +236,8 @@ public class DetermineServiceCreateUpdateServiceActionsStep extends SyncFlowable
         String appArchiveId = context.getRequiredVariable(Variables.APP_ARCHIVE_ID);
         String spaceGuid = context.getVariable(Variables.SPACE_GUID);
         ArchiveEntryWithStreamPositions serviceBindingParametersEntry = ArchiveEntryExtractorUtil.findEntry(fileName,
-                                                                                                            context.getVariable(
-                                                                                                                Variables.ARCHIVE_ENTRIES_POSITIONS));
+                                                                                                            archiveEntriesProvider.getArchiveEntries(
+                                                                                                                spaceGuid, appArchiveId));
         byte[] serviceBindingsParametersContent = archiveEntryExtractor.extractEntryBytes(ImmutableFileEntryProperties.builder()
                                                                                                                       .guid(appArchiveId)
                                                                                                                       .name(
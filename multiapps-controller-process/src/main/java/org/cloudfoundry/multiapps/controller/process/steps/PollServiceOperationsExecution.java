@@ -45,9 +45,10 @@ public abstract class PollServiceOperationsExecution implements AsyncExecution {
             return AsyncExecutionState.FINISHED;
         }
 
+        Map<String, ServiceOperation> lastServiceOperations = getLastServiceOperations(context, servicesToPoll);
         Map<CloudServiceInstanceExtended, ServiceOperation> servicesWithLastOperation = new HashMap<>();
         for (CloudServiceInstanceExtended service : servicesToPoll) {
-            ServiceOperation lastServiceOperation = getLastServiceOperationAndHandleExceptions(context, service);
+            ServiceOperation lastServiceOperation = mapLastServiceOperation(context, service, lastServiceOperations.get(service.getName()));
             if (lastServiceOperation != null) {
                 servicesWithLastOperation.put(service, lastServiceOperation);
             }
@@ -91,22 +92,33 @@ public abstract class PollServiceOperationsExecution implements AsyncExecution {
         return getServicesWithTriggeredOperations(servicesData, triggeredServiceOperations);
     }
 
-    private ServiceOperation getLastServiceOperationAndHandleExceptions(ProcessContext context, CloudServiceInstanceExtended service) {
+    /**
+     * The last operations of all services are requested in batches, so the number of requests to the Cloud Controller on every poll does
+     * not grow with the number of services.
+     */
+    private Map<String, ServiceOperation> getLastServiceOperations(ProcessContext context, List<CloudServiceInstanceExtended> services) {
         try {
-            ServiceOperation lastServiceOperation = getLastServiceOperation(context, service);
-            if (lastServiceOperation != null) {
-                return mapOperationState(context.getStepLogger(), lastServiceOperation, service);
-            }
-            handleMissingOperationState(context.getStepLogger(), service);
-            return null;
+            return serviceOperationGetter.getLastServiceOperations(context.getControllerClient(), services);
         } catch (CloudOperationException e) {
-            String errorMessage = format(Messages.ERROR_POLLING_OF_SERVICE, service.getName(), e.getStatusText());
-            throw new CloudControllerException(e.getStatusCode(), errorMessage, e.getDescription());
+            throw toPollingException(services, e);
         }
     }
 
-    private ServiceOperation getLastServiceOperation(ProcessContext context, CloudServiceInstanceExtended service) {
-        return serviceOperationGetter.getLastServiceOperation(context.getControllerClient(), service);
+    private CloudControllerException toPollingException(List<CloudServiceInstanceExtended> services, CloudOperationException e) {
+        String serviceNames = services.stream()
+                                      .map(CloudServiceInstanceExtended::getName)
+                                      .collect(Collectors.joining(", "));
+        String errorMessage = format(Messages.ERROR_POLLING_OF_SERVICES, serviceNames, e.getStatusText());
+        return new CloudControllerException(e.getStatusCode(), errorMessage, e.getDescription());
+    }
+
+    private ServiceOperation mapLastServiceOperation(ProcessContext context, CloudServiceInstanceExtended service,
+                                                     ServiceOperation lastServiceOperation) {
+        if (lastServiceOperation != null) {
+            return mapOperationState(context.getStepLogger(), lastServiceOperation, service);
+        }
+        handleMissingOperationState(context.getStepLogger(), service);
+        return null;
     }
 
     protected ServiceOperation mapOperationState(StepLogger stepLogger, ServiceOperation lastServiceOperation,
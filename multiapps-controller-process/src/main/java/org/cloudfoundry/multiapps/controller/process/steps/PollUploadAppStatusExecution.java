@@ -9,6 +9,7 @@ import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudPackage;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ErrorDetails;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.Upload;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.util.ModuleContentCache;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +21,12 @@ public class PollUploadAppStatusExecution implements AsyncExecution {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PollUploadAppStatusExecution.class);
 
+    private final ModuleContentCache moduleContentCache;
+
+    public PollUploadAppStatusExecution(ModuleContentCache moduleContentCache) {
+        this.moduleContentCache = moduleContentCache;
+    }
+
     @Override
     public AsyncExecutionState execute(ProcessContext context) {
         CloudApplication application = context.getVariable(Variables.APP_TO_PROCESS);
@@ -43,6 +50,7 @@ public class PollUploadAppStatusExecution implements AsyncExecution {
             case READY:
                 context.getStepLogger()
                        .debug(Messages.APP_UPLOADED, application.getName());
+                rememberPackageOfModuleContent(context, cloudPackage);
                 return AsyncExecutionState.FINISHED;
             case PROCESSING_UPLOAD:
             case COPYING:
@@ -53,6 +61,13 @@ public class PollUploadAppStatusExecution implements AsyncExecution {
         }
     }
 
+    private void rememberPackageOfModuleContent(ProcessContext context, CloudPackage cloudPackage) {
+        String moduleContentKey = context.getVariable(Variables.MODULE_CONTENT_KEY);
+        if (moduleContentKey != null) {
+            moduleContentCache.putPackageGuid(moduleContentKey, cloudPackage.getGuid());
+        }
+    }
+
     private Upload getUploadStatus(CloudControllerClient client, UUID packageGuid, String applicationName) {
         try {
             return client.getUploadStatus(packageGuid);
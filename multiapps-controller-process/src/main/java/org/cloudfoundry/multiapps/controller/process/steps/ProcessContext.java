@@ -1,6 +1,9 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
@@ -8,6 +11,9 @@ import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvid
 import org.cloudfoundry.multiapps.controller.core.security.serialization.DynamicSecureSerialization;
 import org.cloudfoundry.multiapps.controller.core.security.serialization.SecureSerializationFactory;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.client.CachingCloudControllerClient;
+import org.cloudfoundry.multiapps.controller.process.client.CloudControllerClientCache;
+import org.cloudfoundry.multiapps.controller.process.client.CloudControllerClientCacheFactory;
 import org.cloudfoundry.multiapps.controller.process.client.LoggingCloudControllerClient;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
 import org.cloudfoundry.multiapps.controller.process.variables.Variable;
@@ -20,11 +26,23 @@ public class ProcessContext {
     private final DelegateExecution execution;
     private final StepLogger stepLogger;
     private final CloudControllerClientProvider clientProvider;
+    private final CloudControllerClientCacheFactory clientCacheFactory;
+    private final Map<String, CloudControllerClientCache> clientCaches = new ConcurrentHashMap<>();
 
     public ProcessContext(DelegateExecution execution, StepLogger stepLogger, CloudControllerClientProvider clientProvider) {
+        this(execution, stepLogger, clientProvider, null);
+    }
+
+    /**
+     * @param clientCacheFactory creates the caches of the Cloud Controller reads of the step, one per user and space, or {@code null} if
+     *        they are not to be cached
+     */
+    public ProcessContext(DelegateExecution execution, StepLogger stepLogger, CloudControllerClientProvider clientProvider,
+                          CloudControllerClientCacheFactory clientCacheFactory) {
         this.execution = execution;
         this.stepLogger = stepLogger;
         this.clientProvider = clientProvider;
+        this.clientCacheFactory = clientCacheFactory;
     }
 
     public DelegateExecution getExecution() {
@@ -40,18 +58,26 @@ public class ProcessContext {
         String spaceGuid = getVariable(Variables.SPACE_GUID);
         String correlationId = getVariable(Variables.CORRELATION_ID);
         CloudControllerClient delegate = clientProvider.getControllerClient(userGuid, spaceGuid, correlationId);
-        Set<String> secretParameters = VariableHandling.get(execution, Variables.SECURE_EXTENSION_DESCRIPTOR_PARAMETER_NAMES);
-        DynamicSecureSerialization dynamicSecureSerialization = SecureSerializationFactory.ofAdditionalValues(secretParameters);
-        return new LoggingCloudControllerClient(delegate, stepLogger, dynamicSecureSerialization);
+        return createControllerClient(delegate, userGuid, spaceGuid);
     }
 
     public CloudControllerClient getControllerClient(String spaceGuid) {
         String userGuid = StepsUtil.determineCurrentUserGuid(execution);
         String correlationId = getVariable(Variables.CORRELATION_ID);
         CloudControllerClient delegate = clientProvider.getControllerClient(userGuid, spaceGuid, correlationId);
+        return createControllerClient(delegate, userGuid, spaceGuid);
+    }
+
+    private CloudControllerClient createControllerClient(CloudControllerClient delegate, String userGuid, String spaceGuid) {
         Set<String> secretParameters = VariableHandling.get(execution, Variables.SECURE_EXTENSION_DESCRIPTOR_PARAMETER_NAMES);
         DynamicSecureSerialization dynamicSecureSerialization = SecureSerializationFactory.ofAdditionalValues(secretParameters);
-        return new LoggingCloudControllerClient(delegate, stepLogger, dynamicSecureSerialization);
+        if (clientCacheFactory == null) {
+            return new LoggingCloudControllerClient(delegate, stepLogger, dynamicSecureSerialization);
+        }
+        String cacheKey = Objects.requireNonNullElse(userGuid, "") + "/" + Objects.requireNonNullElse(spaceGuid, "");
+        CloudControllerClientCache clientCache = clientCaches.computeIfAbsent(cacheKey, key -> clientCacheFactory.createCache());
+        return new LoggingCloudControllerClient(new CachingCloudControllerClient(delegate, clientCache), stepLogger,
+                                                dynamicSecureSerialization);
     }
 
     public <T> T getRequiredVariable(Variable<T> variable) {
@@ -8,8 +8,8 @@ import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveHelper;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntriesProvider;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractorUtil;
-import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryStreamWithStreamPositionsDeterminer;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.util.ContentLengthTracker;
 import org.cloudfoundry.multiapps.controller.process.util.ExternalFileProcessor;
@@ -38,7 +38,7 @@ public class ProcessMtaArchiveStep extends SyncFlowableStep {
     @Inject
     private ArchiveEntryExtractor archiveEntryExtractor;
     @Inject
-    protected ArchiveEntryStreamWithStreamPositionsDeterminer archiveEntryStreamWithStreamPositionsDeterminer;
+    protected ArchiveEntriesProvider archiveEntriesProvider;
 
     protected Function<OperationService, ProcessConflictPreventer> conflictPreventerSupplier = ProcessConflictPreventer::new;
 
@@ -56,15 +56,15 @@ public class ProcessMtaArchiveStep extends SyncFlowableStep {
     }
 
     private void processApplicationArchive(ProcessContext context, String appArchiveId) {
-        List<ArchiveEntryWithStreamPositions> archiveEntriesWithStreamPositions = archiveEntryStreamWithStreamPositionsDeterminer.determineArchiveEntries(
+        List<ArchiveEntryWithStreamPositions> archiveEntriesWithStreamPositions = archiveEntriesProvider.getArchiveEntries(
             context.getRequiredVariable(Variables.SPACE_GUID), appArchiveId);
-        context.setVariable(Variables.ARCHIVE_ENTRIES_POSITIONS, archiveEntriesWithStreamPositions);
         MtaArchiveHelper helper = createMtaArchiveHelperFromManifest(context, appArchiveId, archiveEntriesWithStreamPositions);
         context.setVariable(Variables.MTA_ARCHIVE_CREATED_BY, helper.getCreatedBy());
         DeploymentDescriptor deploymentDescriptor = extractDeploymentDescriptor(context, appArchiveId, archiveEntriesWithStreamPositions);
 
         if (context.getVariable(Variables.SHOULD_BACKUP_PREVIOUS_VERSION)) {
-            MtaArchiveContentResolver contentResolver = getMtaArchiveContentResolver(helper, context);
+            MtaArchiveContentResolver contentResolver = getMtaArchiveContentResolver(helper, context,
+                                                                                       archiveEntriesWithStreamPositions);
             contentResolver.resolveMtaArchiveFilesInDescriptor(appArchiveId, deploymentDescriptor);
         }
 
@@ -140,10 +140,11 @@ public class ProcessMtaArchiveStep extends SyncFlowableStep {
         return deploymentDescriptor;
     }
 
-    private MtaArchiveContentResolver getMtaArchiveContentResolver(MtaArchiveHelper helper, ProcessContext context) {
+    private MtaArchiveContentResolver getMtaArchiveContentResolver(MtaArchiveHelper helper, ProcessContext context,
+                                                                   List<ArchiveEntryWithStreamPositions> archiveEntriesWithStreamPositions) {
         ContentLengthTracker sizeTracker = new ContentLengthTracker();
         ExternalFileProcessor fileProcessor = new ExternalFileProcessor(new ContentLengthTracker(), configuration, archiveEntryExtractor,
-                                                                        context);
+                                                                        archiveEntriesWithStreamPositions, context);
         return new MtaArchiveContentResolver(helper, fileProcessor, sizeTracker);
     }
 
@@ -3,6 +3,7 @@ package org.cloudfoundry.multiapps.controller.process.steps;
 import java.util.Set;
 
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
+import org.cloudfoundry.multiapps.controller.process.client.CloudControllerClientCacheFactory;
 import org.cloudfoundry.multiapps.controller.process.security.SecretTokenSerializer;
 import org.cloudfoundry.multiapps.controller.process.security.store.SecretTokenStore;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
@@ -19,7 +20,12 @@ public class SecureProcessContext extends ProcessContext {
 
     public SecureProcessContext(DelegateExecution execution, StepLogger stepLogger, CloudControllerClientProvider clientProvider,
                                 SecretTokenStore secretTokenStore) {
-        super(execution, stepLogger, clientProvider);
+        this(execution, stepLogger, clientProvider, null, secretTokenStore);
+    }
+
+    public SecureProcessContext(DelegateExecution execution, StepLogger stepLogger, CloudControllerClientProvider clientProvider,
+                                CloudControllerClientCacheFactory clientCacheFactory, SecretTokenStore secretTokenStore) {
+        super(execution, stepLogger, clientProvider, clientCacheFactory);
         this.secretTokenStore = secretTokenStore;
     }
 
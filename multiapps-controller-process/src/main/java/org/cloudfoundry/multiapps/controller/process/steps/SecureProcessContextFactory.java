@@ -1,6 +1,8 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import org.cloudfoundry.multiapps.common.Nullable;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
+import org.cloudfoundry.multiapps.controller.process.client.CloudControllerClientCacheFactory;
 import org.cloudfoundry.multiapps.controller.process.security.store.SecretTokenStore;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -15,10 +17,14 @@ public interface SecureProcessContextFactory {
 
     CloudControllerClientProvider getClientProvider();
 
+    @Nullable
+    CloudControllerClientCacheFactory getClientCacheFactory();
+
     SecretTokenStore getSecretTokenStore();
 
     default SecureProcessContext ofSecureProcessContext() {
-        return new SecureProcessContext(getDelegateExecution(), getStepLogger(), getClientProvider(), getSecretTokenStore());
+        return new SecureProcessContext(getDelegateExecution(), getStepLogger(), getClientProvider(), getClientCacheFactory(),
+                                        getSecretTokenStore());
     }
 
 }
@@ -18,6 +18,7 @@ import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerP
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerProvider;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProgressMessageService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.client.CloudControllerClientCacheFactory;
 import org.cloudfoundry.multiapps.controller.process.security.resolver.SecretTokenKeyResolver;
 import org.cloudfoundry.multiapps.controller.process.security.store.SecretTokenStore;
 import org.cloudfoundry.multiapps.controller.process.security.store.SecretTokenStoreFactory;
@@ -43,6 +44,8 @@ public abstract class SyncFlowableStep implements JavaDelegate {
     @Inject
     protected CloudControllerClientProvider clientProvider;
     @Inject
+    protected CloudControllerClientCacheFactory clientCacheFactory;
+    @Inject
     protected ProgressMessageService progressMessageService;
     @Inject
     @Named("fileService")
@@ -106,12 +109,13 @@ public abstract class SyncFlowableStep implements JavaDelegate {
                                                        .delegateExecution(execution)
                                                        .stepLogger(stepLogger)
                                                        .clientProvider(clientProvider)
+                                                       .clientCacheFactory(clientCacheFactory)
                                                        .secretTokenStore(secretTokenStore)
                                                        .build()
                                                        .ofSecureProcessContext();
         }
 
-        return new ProcessContext(execution, stepLogger, clientProvider);
+        return new ProcessContext(execution, stepLogger, clientProvider, clientCacheFactory);
     }
 
     private void handleException(ProcessContext context, Exception e) {
@@ -5,11 +5,11 @@ import java.text.MessageFormat;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
@@ -19,6 +19,7 @@ import org.cloudfoundry.multiapps.controller.client.facade.domain.Status;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.UploadStatusCallbackExtended;
 import org.cloudfoundry.multiapps.controller.core.Constants;
+import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
 import org.cloudfoundry.multiapps.controller.core.helpers.ApplicationEnvironmentUpdater;
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveElements;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
@@ -27,9 +28,13 @@ import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerP
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.context.ApplicationToUploadContext;
 import org.cloudfoundry.multiapps.controller.process.context.ImmutableApplicationToUploadContext;
+import org.cloudfoundry.multiapps.controller.process.stream.CountingInputStream;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveContext;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationUploadRegistry;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationUploadRegistry.ApplicationUpload;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
-import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntriesProvider;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,16 +46,24 @@ public class UploadAppAsyncExecution implements AsyncExecution {
     private static final Logger LOGGER = LoggerFactory.getLogger(UploadAppAsyncExecution.class);
 
     private final ApplicationZipBuilder applicationZipBuilder;
+    private final ArchiveEntriesProvider archiveEntriesProvider;
     private final ProcessLoggerPersister processLoggerPersister;
     private final ApplicationConfiguration applicationConfiguration;
-    private final ExecutorService appUploaderThreadPool;
+    private final ApplicationUploadRegistry applicationUploadRegistry;
+    private final CloudControllerClientProvider clientProvider;
+    private final Duration uploadTimeout;
 
-    public UploadAppAsyncExecution(ApplicationZipBuilder applicationZipBuilder, ProcessLoggerPersister processLoggerPersister,
-                                   ApplicationConfiguration applicationConfiguration, ExecutorService appUploaderThreadPool) {
+    public UploadAppAsyncExecution(ApplicationZipBuilder applicationZipBuilder, ArchiveEntriesProvider archiveEntriesProvider,
+                                   ProcessLoggerPersister processLoggerPersister, ApplicationConfiguration applicationConfiguration,
+                                   ApplicationUploadRegistry applicationUploadRegistry, CloudControllerClientProvider clientProvider,
+                                   Duration uploadTimeout) {
         this.applicationZipBuilder = applicationZipBuilder;
+        this.archiveEntriesProvider = archiveEntriesProvider;
         this.processLoggerPersister = processLoggerPersister;
         this.applicationConfiguration = applicationConfiguration;
-        this.appUploaderThreadPool = appUploaderThreadPool;
+        this.applicationUploadRegistry = applicationUploadRegistry;
+        this.clientProvider = clientProvider;
+        this.uploadTimeout = uploadTimeout;
     }
 
     @Override
@@ -61,33 +74,96 @@ public class UploadAppAsyncExecution implements AsyncExecution {
                    .debug(Messages.SKIPPING_UPLOAD_OF_APPLICATION_0, applicationToProcess.getName());
             return AsyncExecutionState.FINISHED;
         }
+        String uploadId = context.getVariable(Variables.APP_UPLOAD_ID);
+        if (uploadId == null) {
+            startUpload(context, applicationToProcess);
+            return AsyncExecutionState.RUNNING;
+        }
+        Optional<ApplicationUpload> upload = applicationUploadRegistry.getUpload(uploadId);
+        if (upload.isEmpty()) {
+            return handleUntrackedUpload(context, applicationToProcess);
+        }
+        if (!upload.get()
+                   .isDone()) {
+            logWaitingUpload(context, applicationToProcess, upload.get());
+            return AsyncExecutionState.RUNNING;
+        }
+        applicationUploadRegistry.removeUpload(uploadId);
+        CloudPackage cloudPackage = getUploadedPackage(upload.get());
+        logCompletedUpload(context, applicationToProcess, upload.get());
+        return processCloudPackage(context, context.getControllerClient(), cloudPackage);
+    }
+
+    private AsyncExecutionState handleUntrackedUpload(ProcessContext context, CloudApplicationExtended applicationToProcess) {
+        String uploadOwner = context.getVariable(Variables.APP_UPLOAD_OWNER);
+        if (applicationUploadRegistry.isOwnedByAnotherRunningInstance(uploadOwner)) {
+            // Only the instance which started the upload can collect its result
+            context.getStepLogger()
+                   .debug(Messages.UPLOAD_OF_APPLICATION_0_RUNS_ON_1, applicationToProcess.getName(), uploadOwner);
+            return AsyncExecutionState.RUNNING;
+        }
+        context.getStepLogger()
+               .warn(Messages.UPLOAD_OF_APPLICATION_0_STARTED_BY_1_IS_LOST_RESTARTING_IT, applicationToProcess.getName(), uploadOwner);
+        startUpload(context, applicationToProcess);
+        return AsyncExecutionState.RUNNING;
+    }
+
+    private void startUpload(ProcessContext context, CloudApplicationExtended applicationToProcess) {
+        String uploadId = UUID.randomUUID()
+                              .toString();
+        context.setVariable(Variables.APP_UPLOAD_ID, uploadId);
+        context.setVariable(Variables.APP_UPLOAD_OWNER, applicationUploadRegistry.getOwner());
         if (context.getVariable(Variables.UPLOAD_START_TIME) == null) {
             context.setVariable(Variables.UPLOAD_START_TIME, LocalDateTime.now());
         }
         ApplicationToUploadContext applicationToUploadContext = buildApplicationToUploadContext(context, applicationToProcess);
-        CloudControllerClient client = context.getControllerClient();
-        Future<CloudPackage> runningUpload;
-        try {
-            runningUpload = appUploaderThreadPool.submit(() -> doUpload(context, applicationToProcess, applicationToUploadContext));
-        } catch (RejectedExecutionException rejectedExecutionException) {
-            LOGGER.warn(rejectedExecutionException.getMessage(), rejectedExecutionException);
+        context.getStepLogger()
+               .debug(Messages.UPLOADING_FILE_0_FOR_APP_1, applicationToUploadContext.getModuleFileName(), applicationToProcess.getName());
+        context.getStepLogger()
+               .debug(Messages.UPLOAD_OF_APPLICATION_0_STARTED_ON_INSTANCE_1, applicationToProcess.getName(),
+                      applicationConfiguration.getApplicationInstanceIndex());
+        applicationUploadRegistry.startUpload(uploadId, context.getExecution()
+                                                             .getProcessInstanceId(),
+                                              upload -> doUpload(applicationToUploadContext, upload));
+    }
+
+    private void logWaitingUpload(ProcessContext context, CloudApplicationExtended applicationToProcess, ApplicationUpload upload) {
+        if (!upload.isStarted()) {
+            applicationUploadRegistry.dispatchPendingUploads();
             context.getStepLogger()
-                   .warn(Messages.UPLOAD_OF_APPLICATION_0_WAS_NOT_ACCEPTED_BY_INSTANCE_1, applicationToProcess.getName(),
-                         applicationConfiguration.getApplicationInstanceIndex());
-            return AsyncExecutionState.RUNNING;
+                   .debug(Messages.UPLOAD_OF_APPLICATION_0_IS_WAITING_FOR_A_FREE_UPLOAD_THREAD, applicationToProcess.getName());
+            return;
+        }
+        if (upload.getSize() > 0) {
+            context.getStepLogger()
+                   .debug(Messages.UPLOAD_OF_APPLICATION_0_TRANSFERRED_1_OF_2_BYTES, applicationToProcess.getName(),
+                          upload.getTransferredBytes(), upload.getSize());
         }
-        CloudPackage cloudPackage;
+    }
+
+    private CloudPackage getUploadedPackage(ApplicationUpload upload) {
         try {
-            cloudPackage = runningUpload.get();
-        } catch (InterruptedException | ExecutionException e) {
+            return upload.getResult()
+                         .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new SLException(e, e.getMessage());
+        } catch (ExecutionException e) {
             throw new SLException(e, e.getMessage());
         }
+    }
+
+    private void logCompletedUpload(ProcessContext context, CloudApplicationExtended applicationToProcess, ApplicationUpload upload) {
+        context.getStepLogger()
+               .infoWithoutProgressMessage(Messages.SIZE_OF_APP_0_IS_1_BYTES, applicationToProcess.getName(), upload.getSize());
+        context.getStepLogger()
+               .info(Messages.STARTED_ASYNC_UPLOAD_OF_APP_0, applicationToProcess.getName());
         LocalDateTime startTime = context.getVariable(Variables.UPLOAD_START_TIME);
         long timeElapsedForUpload = Duration.between(startTime, LocalDateTime.now())
                                             .toMillis();
         context.getStepLogger()
                .infoWithoutProgressMessage(Messages.TIME_ELAPSED_FOR_UPLOAD_0_IN_MILLIS, timeElapsedForUpload);
-        return processCloudPackage(context, client, cloudPackage);
     }
 
     private ApplicationToUploadContext buildApplicationToUploadContext(ProcessContext context,
@@ -97,47 +173,87 @@ public class UploadAppAsyncExecution implements AsyncExecution {
                                                   .application(applicationToProcess)
                                                   .moduleFileName(
                                                       mtaArchiveElements.getModuleFileName(applicationToProcess.getModuleName()))
+                                                  .userGuid(StepsUtil.determineCurrentUserGuid(context.getExecution()))
                                                   .spaceGuid(context.getVariable(Variables.SPACE_GUID))
                                                   .correlationId(context.getVariable(Variables.CORRELATION_ID))
                                                   .taskId(context.getVariable(Variables.TASK_ID))
                                                   .appArchiveId(context.getRequiredVariable(Variables.APP_ARCHIVE_ID))
-                                                  .stepLogger(context.getStepLogger())
-                                                  .archiveEntries(context.getVariable(Variables.ARCHIVE_ENTRIES_POSITIONS))
+                                                  .archiveEntries(archiveEntriesProvider.getArchiveEntries(context))
                                                   .build();
     }
 
-    private CloudPackage doUpload(ProcessContext context, CloudApplicationExtended applicationToProcess,
-                                  ApplicationToUploadContext applicationToUploadContext) {
-        context.getStepLogger()
-               .debug(Messages.UPLOAD_OF_APPLICATION_0_STARTED_ON_INSTANCE_1, applicationToProcess.getName(),
-                      applicationConfiguration.getApplicationInstanceIndex());
-        return proceedWithUpload(context.getControllerClient(), applicationToUploadContext);
-    }
-
-    private CloudPackage proceedWithUpload(CloudControllerClient client, ApplicationToUploadContext applicationToUploadContext) {
-        applicationToUploadContext.getStepLogger()
-                                  .debug(Messages.UPLOADING_FILE_0_FOR_APP_1, applicationToUploadContext.getModuleFileName(),
-                                         applicationToUploadContext.getApplication()
-                                                                   .getName());
-        CloudPackage cloudPackage = asyncUploadFiles(client, applicationToUploadContext);
-        applicationToUploadContext.getStepLogger()
-                                  .info(Messages.STARTED_ASYNC_UPLOAD_OF_APP_0, applicationToUploadContext.getApplication()
-                                                                                                          .getName());
+    /**
+     * Runs on an upload thread after the Flowable job has completed, so it uses only the data collected in the upload context.
+     */
+    private CloudPackage doUpload(ApplicationToUploadContext applicationToUploadContext, ApplicationUpload upload) {
+        CloudControllerClient client = clientProvider.getControllerClient(applicationToUploadContext.getUserGuid(),
+                                                                          applicationToUploadContext.getSpaceGuid(),
+                                                                          applicationToUploadContext.getCorrelationId());
+        CloudPackage cloudPackage = asyncUploadFiles(client, applicationToUploadContext, upload);
         LOGGER.info(format(Messages.UPLOADED_PACKAGE_0, cloudPackage));
         return cloudPackage;
     }
 
-    private CloudPackage asyncUploadFiles(CloudControllerClient client, ApplicationToUploadContext applicationToUploadContext) {
-        Path extractedAppPath = extractApplicationFromArchive(applicationToUploadContext);
+    private CloudPackage asyncUploadFiles(CloudControllerClient client, ApplicationToUploadContext applicationToUploadContext,
+                                          ApplicationUpload upload) {
+        long maxSize = applicationConfiguration.getMaxResourceFileSize();
+        ApplicationArchiveContext applicationArchiveContext = createApplicationArchiveContext(applicationToUploadContext, maxSize);
+        Optional<ArchiveEntryWithStreamPositions> storedModuleArchive = applicationZipBuilder.findStoredModuleArchive(
+            applicationArchiveContext);
+        if (storedModuleArchive.isPresent()) {
+            Optional<CloudPackage> cloudPackage = uploadStoredModuleArchive(client, applicationToUploadContext, applicationArchiveContext,
+                                                                            storedModuleArchive.get(), upload);
+            if (cloudPackage.isPresent()) {
+                return cloudPackage.get();
+            }
+        }
+        return uploadExtractedApplication(client, applicationToUploadContext, extractApplicationFromArchive(applicationToUploadContext),
+                                          upload);
+    }
+
+    private CloudPackage uploadExtractedApplication(CloudControllerClient client, ApplicationToUploadContext applicationToUploadContext,
+                                                    Path extractedAppPath, ApplicationUpload upload) {
         LOGGER.debug(MessageFormat.format(Messages.APPLICATION_WITH_NAME_0_SAVED_TO_1, applicationToUploadContext.getApplication()
                                                                                                                  .getName(),
                                           extractedAppPath));
-        applicationToUploadContext.getStepLogger()
-                                  .infoWithoutProgressMessage(Messages.SIZE_OF_APP_0_IS_1_BYTES, applicationToUploadContext.getApplication()
-                                                                                                                           .getName(),
-                                                              extractedAppPath.toFile()
-                                                                              .length());
-        return upload(client, applicationToUploadContext, extractedAppPath);
+        long size = extractedAppPath.toFile()
+                                    .length();
+        upload.setSize(size);
+        CloudPackage cloudPackage = upload(client, applicationToUploadContext, extractedAppPath);
+        // The client does not report the progress of file uploads, so their bytes are counted once they are transferred
+        upload.getTransferredBytesCounter()
+              .set(size);
+        return cloudPackage;
+    }
+
+    private Optional<CloudPackage> uploadStoredModuleArchive(CloudControllerClient client,
+                                                             ApplicationToUploadContext applicationToUploadContext,
+                                                             ApplicationArchiveContext applicationArchiveContext,
+                                                             ArchiveEntryWithStreamPositions storedModuleArchive,
+                                                             ApplicationUpload upload) {
+        CloudApplicationExtended application = applicationToUploadContext.getApplication();
+        LOGGER.debug(MessageFormat.format(Messages.UPLOADING_STORED_MODULE_ARCHIVE_0_FOR_APP_1_WITHOUT_EXTRACTING_IT,
+                                          applicationToUploadContext.getModuleFileName(), application.getName()));
+        upload.setSize(storedModuleArchive.getEndPosition() - storedModuleArchive.getStartPosition());
+        MonitorUploadStatusCallback callback = getMonitorUploadStatusCallback(application, null,
+                                                                              applicationToUploadContext.getCorrelationId(),
+                                                                              applicationToUploadContext.getTaskId());
+        AtomicReference<CloudPackage> cloudPackage = new AtomicReference<>();
+        try {
+            applicationZipBuilder.consumeStoredModuleArchive(applicationArchiveContext, storedModuleArchive, moduleArchiveStream -> {
+                var countingStream = new CountingInputStream(moduleArchiveStream, upload.getTransferredBytesCounter());
+                cloudPackage.set(client.asyncUploadApplication(application.getName(), countingStream, callback, uploadTimeout));
+            });
+            return Optional.of(cloudPackage.get());
+        } catch (Exception e) {
+            // The stream cannot be replayed, so the module is extracted and uploaded with retries instead
+            LOGGER.warn(MessageFormat.format(Messages.UPLOAD_OF_STORED_MODULE_ARCHIVE_OF_APP_0_FAILED_FALLING_BACK_TO_EXTRACTION_1,
+                                             application.getName(), e.getMessage()),
+                        e);
+            upload.getTransferredBytesCounter()
+                  .set(0);
+            return Optional.empty();
+        }
     }
 
     private Path extractApplicationFromArchive(ApplicationToUploadContext applicationToUploadContext) {
@@ -146,9 +262,7 @@ public class UploadAppAsyncExecution implements AsyncExecution {
             createApplicationArchiveContext(applicationToUploadContext, applicationConfiguration.getMaxResourceFileSize()));
         long timeElapsedForUpload = Duration.between(startTime, LocalDateTime.now())
                                             .toMillis();
-        applicationToUploadContext.getStepLogger()
-                                  .infoWithoutProgressMessage(Messages.TIME_ELAPSED_FOR_APP_BINARY_DOWNLOAD_0_IN_MILLIS,
-                                                              timeElapsedForUpload);
+        LOGGER.info(MessageFormat.format(Messages.TIME_ELAPSED_FOR_APP_BINARY_DOWNLOAD_0_IN_MILLIS, timeElapsedForUpload));
         return extractedAppPath;
     }
 
@@ -170,7 +284,6 @@ public class UploadAppAsyncExecution implements AsyncExecution {
                                                                                                  .getName(), extractedModulePath,
                                                                        getMonitorUploadStatusCallback(
                                                                            applicationToUploadContext.getApplication(), extractedModulePath,
-                                                                           applicationToUploadContext.getStepLogger(),
                                                                            applicationToUploadContext.getCorrelationId(),
                                                                            applicationToUploadContext.getTaskId()), null);
         } catch (Exception e) {
@@ -207,45 +320,46 @@ public class UploadAppAsyncExecution implements AsyncExecution {
         return MessageFormat.format(Messages.ERROR_OCCURRED_DURING_APPLICATION_UPLOAD_0, appToProcess.getName());
     }
 
-    MonitorUploadStatusCallback getMonitorUploadStatusCallback(CloudApplication app, Path file, StepLogger stepLogger, String correlationId,
-                                                               String taskId) {
-        return new MonitorUploadStatusCallback(app, file, stepLogger, correlationId, taskId);
+    MonitorUploadStatusCallback getMonitorUploadStatusCallback(CloudApplication app, Path file, String correlationId, String taskId) {
+        return new MonitorUploadStatusCallback(app, file, correlationId, taskId);
     }
 
+    /**
+     * Notified by the client from its own thread after the Flowable job has completed, so it logs only to the application log. Failed
+     * uploads are reported to the user by {@link PollUploadAppStatusExecution}.
+     */
     class MonitorUploadStatusCallback implements UploadStatusCallbackExtended {
 
         private final CloudApplication app;
         private final Path file;
-        private final StepLogger stepLogger;
         private final String correlationId;
         private final String taskId;
 
-        public MonitorUploadStatusCallback(CloudApplication app, Path file, StepLogger stepLogger, String correlationId, String taskId) {
+        public MonitorUploadStatusCallback(CloudApplication app, Path file, String correlationId, String taskId) {
             this.app = app;
             this.file = file;
-            this.stepLogger = stepLogger;
             this.correlationId = correlationId;
             this.taskId = taskId;
         }
 
         @Override
         public void onCheckResources() {
-            stepLogger.debug("Resources checked");
+            LOGGER.debug("Resources checked");
         }
 
         @Override
         public void onMatchedFileNames(Set<String> matchedFileNames) {
-            stepLogger.debug(Messages.MATCHED_FILES_COUNT_0, matchedFileNames.size());
+            LOGGER.debug(format(Messages.MATCHED_FILES_COUNT_0, matchedFileNames.size()));
         }
 
         @Override
         public void onProcessMatchedResources(int length) {
-            stepLogger.debug(Messages.MATCHED_RESOURCES_PROCESSED_TOTAL_SIZE_0, length);
+            LOGGER.debug(format(Messages.MATCHED_RESOURCES_PROCESSED_TOTAL_SIZE_0, length));
         }
 
         @Override
         public boolean onProgress(String status) {
-            stepLogger.debug(Messages.UPLOAD_STATUS_0, status);
+            LOGGER.debug(format(Messages.UPLOAD_STATUS_0, status));
             if (status.equals(Status.READY.toString())) {
                 FileUtils.cleanUp(file, LOGGER);
                 processLoggerPersister.persistLogs(correlationId, taskId);
@@ -255,13 +369,13 @@ public class UploadAppAsyncExecution implements AsyncExecution {
 
         @Override
         public void onError(Exception e) {
-            stepLogger.error(e, Messages.ERROR_UPLOADING_APP_0, app.getName());
+            LOGGER.error(format(Messages.ERROR_UPLOADING_APP_0, app.getName()), e);
             FileUtils.cleanUp(file, LOGGER);
         }
 
         @Override
         public void onError(String description) {
-            stepLogger.error(Messages.ERROR_UPLOADING_APP_0_STATUS_1_DESCRIPTION_2, app.getName(), Status.FAILED, description);
+            LOGGER.error(format(Messages.ERROR_UPLOADING_APP_0_STATUS_1_DESCRIPTION_2, app.getName(), Status.FAILED, description));
             FileUtils.cleanUp(file, LOGGER);
         }
     }
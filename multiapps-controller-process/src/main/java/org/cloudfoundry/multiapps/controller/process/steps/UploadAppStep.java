@@ -6,7 +6,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import jakarta.inject.Inject;
@@ -21,15 +20,19 @@ import org.cloudfoundry.multiapps.controller.core.Constants;
 import org.cloudfoundry.multiapps.controller.core.helpers.ApplicationFileDigestDetector;
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveElements;
 import org.cloudfoundry.multiapps.controller.core.security.serialization.DynamicSecureSerialization;
+import org.cloudfoundry.multiapps.controller.persistence.model.ModuleContentCacheEntry;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.security.util.SecureLoggingUtil;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveContext;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationDigestCalculator;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationStager;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationUploadRegistry;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntriesProvider;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.util.CloudPackagesGetter;
+import org.cloudfoundry.multiapps.controller.process.util.ModuleContentCache;
 import org.cloudfoundry.multiapps.controller.process.util.TimeoutType;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.slf4j.Logger;
@@ -52,12 +55,20 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
     @Inject
     protected CloudPackagesGetter cloudPackagesGetter;
     @Inject
-    private ExecutorService appUploaderThreadPool;
+    protected ArchiveEntriesProvider archiveEntriesProvider;
+    @Inject
+    protected ModuleContentCache moduleContentCache;
+    @Inject
+    protected ApplicationUploadRegistry applicationUploadRegistry;
 
     @Override
     public StepPhase executeAsyncStep(ProcessContext context) throws FileStorageException {
         CloudApplicationExtended applicationToProcess = context.getVariable(Variables.APP_TO_PROCESS);
         getStepLogger().info(Messages.UPLOADING_APP, applicationToProcess.getName());
+        // A retried step starts a new upload instead of waiting for the one of the failed attempt
+        context.removeVariable(Variables.APP_UPLOAD_ID);
+        context.removeVariable(Variables.APP_UPLOAD_OWNER);
+        context.removeVariable(Variables.UPLOAD_START_TIME);
 
         MtaArchiveElements mtaArchiveElements = context.getVariable(Variables.MTA_ARCHIVE_ELEMENTS);
         String moduleFileName = mtaArchiveElements.getModuleFileName(applicationToProcess.getModuleName());
@@ -73,23 +84,30 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
 
         CloudApplication cloudApp = client.getApplication(applicationToProcess.getName());
         var appEnv = client.getApplicationEnvironment(cloudApp.getGuid());
+        DynamicSecureSerialization dynamicSecureSerialization = SecureLoggingUtil.getDynamicSecureSerialization(context);
         if (context.getVariable(Variables.SKIP_APP_DIGEST_CALCULATION)) {
             getStepLogger().infoWithoutProgressMessage(Messages.SKIPPING_APPLICATION_0_DIGEST_CALCULATION, applicationToProcess.getName());
             removeApplicationDigestIfSet(context, appEnv);
             return StepPhase.POLL;
         } else {
-            getStepLogger().infoWithoutProgressMessage(Messages.CALCULATING_APPLICATION_DIGEST_0, applicationToProcess.getName());
-            String newApplicationDigest = getNewApplicationDigest(context, moduleFileName);
+            Optional<String> moduleContentKey = buildModuleContentKey(context, moduleFileName);
+            Optional<ModuleContentCacheEntry> cachedModuleContent = moduleContentKey.flatMap(moduleContentCache::get);
+            String newApplicationDigest = getApplicationDigest(context, applicationToProcess, moduleFileName, moduleContentKey,
+                                                               cachedModuleContent);
             boolean contentChanged = detectApplicationFileDigestChanges(appEnv, newApplicationDigest);
             if (contentChanged) {
                 context.setVariable(Variables.SHOULD_UPDATE_APPLICATION_DIGEST, true);
                 context.setVariable(Variables.CALCULATED_APPLICATION_DIGEST, newApplicationDigest);
+                Optional<CloudPackage> packageWithSameContent = findPackageWithSameContent(client, cloudApp, cachedModuleContent,
+                                                                                           dynamicSecureSerialization);
+                if (packageWithSameContent.isPresent()) {
+                    return usePackageWithSameContent(context, applicationToProcess, packageWithSameContent.get(),
+                                                     dynamicSecureSerialization);
+                }
                 return StepPhase.POLL;
             }
         }
 
-        DynamicSecureSerialization dynamicSecureSerialization = SecureLoggingUtil.getDynamicSecureSerialization(context);
-
         Optional<CloudPackage> mostRecentPackage = cloudPackagesGetter.getMostRecentAppPackage(client, cloudApp.getGuid(),
                                                                                                dynamicSecureSerialization);
         if (mostRecentPackage.isEmpty()) {
@@ -127,6 +145,57 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
         return client.createDockerPackage(applicationGuid, application.getDockerInfo());
     }
 
+    private Optional<String> buildModuleContentKey(ProcessContext context, String moduleFileName) {
+        Optional<String> moduleContentKey = moduleContentCache.buildContentKey(context.getRequiredVariable(Variables.SPACE_GUID),
+                                                                               moduleFileName,
+                                                                               archiveEntriesProvider.getArchiveEntries(context));
+        moduleContentKey.ifPresent(contentKey -> context.setVariable(Variables.MODULE_CONTENT_KEY, contentKey));
+        return moduleContentKey;
+    }
+
+    private String getApplicationDigest(ProcessContext context, CloudApplicationExtended applicationToProcess, String moduleFileName,
+                                        Optional<String> moduleContentKey, Optional<ModuleContentCacheEntry> cachedModuleContent) {
+        if (cachedModuleContent.isPresent()) {
+            getStepLogger().infoWithoutProgressMessage(Messages.DIGEST_OF_APPLICATION_0_IS_KNOWN_FROM_PREVIOUS_DEPLOYMENTS,
+                                                       applicationToProcess.getName());
+            return cachedModuleContent.get()
+                                      .getApplicationDigest();
+        }
+        getStepLogger().infoWithoutProgressMessage(Messages.CALCULATING_APPLICATION_DIGEST_0, applicationToProcess.getName());
+        String applicationDigest = getNewApplicationDigest(context, moduleFileName);
+        moduleContentKey.ifPresent(contentKey -> moduleContentCache.putApplicationDigest(contentKey,
+                                                                                         context.getRequiredVariable(Variables.SPACE_GUID),
+                                                                                         applicationDigest));
+        return applicationDigest;
+    }
+
+    /**
+     * A package uploaded from the same content by a previous deployment which did not update the application digest, e.g. because it
+     * failed afterwards, can be used instead of uploading the content again.
+     */
+    private Optional<CloudPackage> findPackageWithSameContent(CloudControllerClient client, CloudApplication cloudApp,
+                                                              Optional<ModuleContentCacheEntry> cachedModuleContent,
+                                                              DynamicSecureSerialization dynamicSecureSerialization) {
+        Optional<String> cachedPackageGuid = cachedModuleContent.map(ModuleContentCacheEntry::getPackageGuid);
+        if (cachedPackageGuid.isEmpty()) {
+            return Optional.empty();
+        }
+        return cloudPackagesGetter.getMostRecentAppPackage(client, cloudApp.getGuid(), dynamicSecureSerialization)
+                                  .filter(cloudPackage -> cachedPackageGuid.get()
+                                                                           .equals(cloudPackage.getGuid()
+                                                                                               .toString()))
+                                  .filter(this::isPackageInValidState);
+    }
+
+    private StepPhase usePackageWithSameContent(ProcessContext context, CloudApplicationExtended applicationToProcess,
+                                                CloudPackage packageWithSameContent,
+                                                DynamicSecureSerialization dynamicSecureSerialization) {
+        getStepLogger().info(Messages.PACKAGE_0_OF_APPLICATION_1_HAS_THE_SAME_CONTENT, packageWithSameContent.getGuid(),
+                             applicationToProcess.getName());
+        context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
+        return useLatestPackage(context, packageWithSameContent, dynamicSecureSerialization);
+    }
+
     private String getNewApplicationDigest(ProcessContext context, String fileName) {
         ApplicationArchiveContext applicationArchiveContext = createApplicationArchiveContext(context, fileName);
         return applicationDigestCalculator.calculateApplicationDigest(applicationArchiveContext);
@@ -134,7 +203,7 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
 
     protected ApplicationArchiveContext createApplicationArchiveContext(ProcessContext context, String fileName) {
         long maxSize = configuration.getMaxResourceFileSize();
-        List<ArchiveEntryWithStreamPositions> archiveEntryWithStreamPositions = context.getVariable(Variables.ARCHIVE_ENTRIES_POSITIONS);
+        List<ArchiveEntryWithStreamPositions> archiveEntryWithStreamPositions = archiveEntriesProvider.getArchiveEntries(context);
         return new ApplicationArchiveContext(fileName, maxSize, archiveEntryWithStreamPositions,
                                              context.getRequiredVariable(Variables.SPACE_GUID),
                                              context.getRequiredVariable(Variables.APP_ARCHIVE_ID));
@@ -185,8 +254,9 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
 
     @Override
     protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
-        return List.of(new UploadAppAsyncExecution(applicationZipBuilder, getProcessLogsPersister(), configuration, appUploaderThreadPool),
-                       new PollUploadAppStatusExecution());
+        return List.of(new UploadAppAsyncExecution(applicationZipBuilder, archiveEntriesProvider, getProcessLogsPersister(),
+                                                   configuration, applicationUploadRegistry, clientProvider, getTimeout(context)),
+                       new PollUploadAppStatusExecution(moduleContentCache));
     }
 
     @Override
@@ -5,6 +5,7 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 
@@ -179,16 +180,30 @@ public class ValidateDeployParametersStep extends SyncFlowableStep {
     }
 
     private void mergeArchive(ProcessContext context, List<FileEntry> archivePartEntries, BigInteger archiveSize) {
-        ArchiveStreamWithName archiveStreamWithName = getMergedArchiveStreamCreator(archivePartEntries, archiveSize).createArchiveStream();
+        MergedArchiveStreamCreator mergedArchiveStreamCreator = getMergedArchiveStreamCreator(archivePartEntries, archiveSize);
+        getStepLogger().infoWithoutProgressMessage(Messages.ARCHIVE_IS_SPLIT_TO_0_PARTS_TOTAL_SIZE_IN_BYTES_1_UPLOADING,
+                                                   archivePartEntries.size(), archiveSize);
+        FileEntry mergedArchive = fileService.supportsFileComposition()
+            ? composeArchive(mergedArchiveStreamCreator, context, archiveSize)
+            : uploadArchive(mergedArchiveStreamCreator, context, archiveSize);
+        context.setVariable(Variables.APP_ARCHIVE_ID, mergedArchive.getId());
+        validateFileEntryType(mergedArchive);
+        getStepLogger().infoWithoutProgressMessage(MessageFormat.format(Messages.ARCHIVE_WITH_ID_0_AND_NAME_1_WAS_STORED,
+                                                                        mergedArchive.getId(), mergedArchive.getName()));
+    }
+
+    private FileEntry composeArchive(MergedArchiveStreamCreator mergedArchiveStreamCreator, ProcessContext context, BigInteger size) {
+        getStepLogger().debug(Messages.COMPOSING_ARCHIVE_PARTS_IN_FILE_STORAGE);
+        FileEntry archiveEntry = buildArchiveFileEntry(context, mergedArchiveStreamCreator.getArchiveName(), size);
+        List<FileEntry> sortedArchiveParts = mergedArchiveStreamCreator.getSortedArchiveParts();
+        return submitToFileStorageThreadPool(() -> fileService.composeFile(archiveEntry, sortedArchiveParts));
+    }
+
+    private FileEntry uploadArchive(MergedArchiveStreamCreator mergedArchiveStreamCreator, ProcessContext context, BigInteger size) {
+        ArchiveStreamWithName archiveStreamWithName = mergedArchiveStreamCreator.createArchiveStream();
         try {
-            getStepLogger().infoWithoutProgressMessage(Messages.ARCHIVE_IS_SPLIT_TO_0_PARTS_TOTAL_SIZE_IN_BYTES_1_UPLOADING,
-                                                       archivePartEntries.size(), archiveSize);
-            FileEntry uploadedArchive = persistArchive(archiveStreamWithName, context, archiveSize);
-            context.setVariable(Variables.APP_ARCHIVE_ID, uploadedArchive.getId());
-            validateFileEntryType(uploadedArchive);
-            getStepLogger().infoWithoutProgressMessage(MessageFormat.format(Messages.ARCHIVE_WITH_ID_0_AND_NAME_1_WAS_STORED,
-                                                                            uploadedArchive.getId(),
-                                                                            archiveStreamWithName.getArchiveName()));
+            FileEntry archiveEntry = buildArchiveFileEntry(context, archiveStreamWithName.getArchiveName(), size);
+            return submitToFileStorageThreadPool(() -> fileService.addFile(archiveEntry, archiveStreamWithName.getArchiveStream()));
         } finally {
             IOUtils.closeQuietly(archiveStreamWithName.getArchiveStream());
         }
@@ -219,27 +234,24 @@ public class ValidateDeployParametersStep extends SyncFlowableStep {
         return new MergedArchiveStreamCreator(fileService, getStepLogger(), archivePartEntries, Long.parseLong(archiveSize.toString()));
     }
 
-    private FileEntry persistArchive(ArchiveStreamWithName archiveStreamWithName, ProcessContext context, BigInteger size) {
+    private FileEntry submitToFileStorageThreadPool(Callable<FileEntry> fileStorageOperation) {
         try {
-            return fileStorageThreadPool.submit(new PriorityCallable<>(PriorityFuture.Priority.HIGHEST,
-                                                                       () -> doPersistArchive(archiveStreamWithName, context, size)))
+            return fileStorageThreadPool.submit(new PriorityCallable<>(PriorityFuture.Priority.HIGHEST, fileStorageOperation))
                                         .get();
         } catch (ExecutionException | InterruptedException e) {
             throw new SLException(e, e.getMessage());
         }
     }
 
-    private FileEntry doPersistArchive(ArchiveStreamWithName archiveStreamWithName, ProcessContext context, BigInteger size)
-        throws FileStorageException {
-        return fileService.addFile(ImmutableFileEntry.builder()
-                                                     .name(archiveStreamWithName.getArchiveName())
-                                                     .space(context.getVariable(Variables.SPACE_GUID))
-                                                     .namespace(context.getVariable(Variables.MTA_NAMESPACE))
-                                                     .operationId(context.getExecution()
-                                                                         .getProcessInstanceId())
-                                                     .size(size)
-                                                     .build(),
-                                   archiveStreamWithName.getArchiveStream());
+    private FileEntry buildArchiveFileEntry(ProcessContext context, String archiveName, BigInteger size) {
+        return ImmutableFileEntry.builder()
+                                 .name(archiveName)
+                                 .space(context.getVariable(Variables.SPACE_GUID))
+                                 .namespace(context.getVariable(Variables.MTA_NAMESPACE))
+                                 .operationId(context.getExecution()
+                                                     .getProcessInstanceId())
+                                 .size(size)
+                                 .build();
     }
 
 }
@@ -0,0 +1,76 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.cloudfoundry.multiapps.controller.core.cf.DeploymentMode;
+import org.cloudfoundry.multiapps.controller.process.Constants;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
+import org.cloudfoundry.multiapps.controller.process.util.ModuleDeploymentGraph;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.cloudfoundry.multiapps.mta.model.Module;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Scope;
+
+/**
+ * Holds back the deployment of a module, which is deployed in parallel with the other modules, until all of its "deployed-after" modules
+ * are deployed and the number of parallel deployments allows it to start.
+ */
+@Named("waitForDeployedAfterModulesStep")
+@Scope(BeanDefinition.SCOPE_PROTOTYPE)
+public class WaitForDeployedAfterModulesStep extends SyncFlowableStep {
+
+    private FlowableFacade flowableFacade;
+
+    @Inject
+    public WaitForDeployedAfterModulesStep(FlowableFacade flowableFacade) {
+        this.flowableFacade = flowableFacade;
+    }
+
+    @Override
+    protected StepPhase executeStep(ProcessContext context) {
+        Module module = context.getVariable(Variables.MODULE_TO_DEPLOY);
+        List<Module> modulesInIteration = context.getVariable(Variables.MODULES_TO_ITERATE_IN_PARALLEL);
+        if (context.getVariable(Variables.DEPLOYMENT_MODE) != DeploymentMode.PARALLEL || !containsModule(modulesInIteration, module)) {
+            return StepPhase.DONE;
+        }
+        ModuleDeploymentGraph deploymentGraph = new ModuleDeploymentGraph(modulesInIteration);
+        Set<String> deployedModules = getDeployedModules(context, deploymentGraph.getDeploymentOrder());
+        if (!deploymentGraph.isReadyForDeployment(module.getName(), deployedModules, configuration.getMaxParallelModuleDeployments())) {
+            getStepLogger().debug(Messages.MODULE_0_IS_WAITING_FOR_DEPLOYED_AFTER_MODULES, module.getName());
+            return StepPhase.POLL;
+        }
+        getStepLogger().info(Messages.MODULE_0_IS_READY_FOR_DEPLOYMENT, module.getName());
+        return StepPhase.DONE;
+    }
+
+    private boolean containsModule(List<Module> modules, Module module) {
+        return modules.stream()
+                      .anyMatch(moduleInIteration -> moduleInIteration.getName()
+                                                                      .equals(module.getName()));
+    }
+
+    private Set<String> getDeployedModules(ProcessContext context, List<String> moduleNames) {
+        List<String> deployedFlagNames = moduleNames.stream()
+                                                    .map(moduleName -> Constants.VAR_IS_MODULE_DEPLOYED_VAR_PREFIX + moduleName)
+                                                    .collect(Collectors.toList());
+        Map<String, Object> deployedFlags = flowableFacade.getVariablesInParentProcess(context.getExecution(), deployedFlagNames);
+        return moduleNames.stream()
+                          .filter(moduleName -> Boolean.TRUE.equals(deployedFlags.get(Constants.VAR_IS_MODULE_DEPLOYED_VAR_PREFIX
+                              + moduleName)))
+                          .collect(Collectors.toSet());
+    }
+
+    @Override
+    protected String getStepErrorMessage(ProcessContext context) {
+        return MessageFormat.format(Messages.ERROR_WAITING_FOR_DEPLOYED_AFTER_MODULES_OF_MODULE_0, context.getVariable(Variables.MODULE_TO_DEPLOY)
+                                                                                                           .getName());
+    }
+
+}
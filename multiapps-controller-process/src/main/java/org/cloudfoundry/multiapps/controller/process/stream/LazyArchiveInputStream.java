@@ -5,89 +5,97 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.io.IOUtils;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableFileContentToProcess;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Reads the parts of a chunked archive as a single stream. The stream is read by a single thread, so it is not synchronized. When the
+ * sizes of all parts are known, the parts are fetched ahead of the reader in chunks of {@code READ_AHEAD_CHUNK_SIZE} bytes through
+ * ranged reads on virtual threads, at most {@code chunksToReadAhead} at a time, so the memory used for that is bounded by
+ * {@code chunksToReadAhead * READ_AHEAD_CHUNK_SIZE} regardless of the size of the parts. The chunks of the next part are fetched while
+ * the reader is still in the current one, and every ranged read closes its connection when it completes, so no connection to the file
+ * storage is left idle. Otherwise, each part is opened when the reader reaches it.
+ */
 public class LazyArchiveInputStream extends InputStream {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LazyArchiveInputStream.class);
     private static final int BUFFERED_SIZE = 16 * 1024;
+    static final int READ_AHEAD_CHUNK_SIZE = 4 * 1024 * 1024; // 4MB
 
     private final FileService fileService;
     private final List<FileEntry> archiveFileEntries;
     private final StepLogger stepLogger;
     private final long archiveSize;
-    private final AtomicInteger totalBytesRead;
-    private final AtomicInteger partIndex;
+    private final int chunksToReadAhead;
+    private ExecutorService readAheadExecutor;
+    private long totalBytesRead;
+    private int partIndex;
     private InputStream currentInputStream;
 
     public LazyArchiveInputStream(FileService fileService, List<FileEntry> archiveFileEntries, StepLogger stepLogger, long archiveSize) {
+        this(fileService, archiveFileEntries, stepLogger, archiveSize, 0);
+    }
+
+    public LazyArchiveInputStream(FileService fileService, List<FileEntry> archiveFileEntries, StepLogger stepLogger, long archiveSize,
+                                  int chunksToReadAhead) {
         this.fileService = fileService;
         this.archiveFileEntries = archiveFileEntries;
         this.stepLogger = stepLogger;
         this.archiveSize = archiveSize;
-        this.totalBytesRead = new AtomicInteger(0);
-        this.partIndex = new AtomicInteger(0);
+        this.chunksToReadAhead = chunksToReadAhead;
     }
 
     @Override
-    public synchronized int read() throws IOException {
-        if (currentInputStream == null) {
-            currentInputStream = openBufferedInputStream(archiveFileEntries.get(partIndex.get()));
-        }
-        int c = currentInputStream.read();
-        if (c == -1 && partIndex.get() < archiveFileEntries.size() - 1) {
-            IOUtils.closeQuietly(currentInputStream, e -> LOGGER.warn(e.getMessage(), e));
-            LOGGER.info(MessageFormat.format(Messages.CLOSING_STREAM_FOR_PART_0, partIndex));
-            currentInputStream = openBufferedInputStream(archiveFileEntries.get(partIndex.incrementAndGet()));
+    public int read() throws IOException {
+        int c = getCurrentInputStream().read();
+        while (c == -1 && hasNextPart()) {
+            openNextPart();
             c = currentInputStream.read();
-        } else if (c == -1) {
-            LOGGER.info(MessageFormat.format(Messages.REACHED_THE_END_OF_THE_INPUT_STREAM, partIndex));
         }
-        if (c >= 0) {
-            totalBytesRead.incrementAndGet();
+        if (c == -1) {
+            LOGGER.info(MessageFormat.format(Messages.REACHED_THE_END_OF_THE_INPUT_STREAM, partIndex));
+        } else {
+            totalBytesRead++;
         }
         return c;
     }
 
     @Override
-    public synchronized int read(byte[] b, int off, int len) throws IOException {
-        if (currentInputStream == null) {
-            currentInputStream = openBufferedInputStream(archiveFileEntries.get(partIndex.get()));
-        }
-        int bytesRead = currentInputStream.read(b, off, len);
-        if (bytesRead == -1 && partIndex.get() < archiveFileEntries.size() - 1) {
-            IOUtils.closeQuietly(currentInputStream, e -> LOGGER.warn(e.getMessage(), e));
-            LOGGER.info(MessageFormat.format(Messages.CLOSING_STREAM_FOR_PART_0, partIndex));
-            currentInputStream = openBufferedInputStream(archiveFileEntries.get(partIndex.incrementAndGet()));
+    public int read(byte[] b, int off, int len) throws IOException {
+        int bytesRead = getCurrentInputStream().read(b, off, len);
+        while (bytesRead == -1 && hasNextPart()) {
+            openNextPart();
             bytesRead = currentInputStream.read(b, off, len);
-        } else if (bytesRead == -1) {
-            LOGGER.info(MessageFormat.format(Messages.REACHED_THE_END_OF_THE_INPUT_STREAM, partIndex));
         }
-        if (bytesRead > 0) {
-            totalBytesRead.addAndGet(bytesRead);
+        if (bytesRead == -1) {
+            LOGGER.info(MessageFormat.format(Messages.REACHED_THE_END_OF_THE_INPUT_STREAM, partIndex));
+        } else {
+            totalBytesRead += bytesRead;
         }
         return bytesRead;
     }
 
     @Override
-    public synchronized int available() throws IOException {
+    public int available() throws IOException {
         // The return value of this method must be anything except 0
         // because this way jclouds will use it to skip these bytes
         // but the skip method actually does not skip anything intentionally
         // (jclouds creates a new stream and overrides skip and close and makes them do nothing)...
         // If this method returns 0 jclouds will try to skip the stream by reading it
         // thus making it invalid as skip is not required
-        long remainingBytes = archiveSize - totalBytesRead.get();
+        long remainingBytes = archiveSize - totalBytesRead;
         if (remainingBytes > Integer.MAX_VALUE) {
             return Integer.MAX_VALUE;
         }
@@ -97,17 +105,70 @@ public class LazyArchiveInputStream extends InputStream {
     @Override
     public void close() throws IOException {
         LOGGER.info(MessageFormat.format(Messages.CLOSING_LAST_STREAM_FOR_PART_0, partIndex));
+        // The chunks which are still being read are cancelled and their tasks close their connections when they are interrupted
+        IOUtils.closeQuietly(currentInputStream, e -> LOGGER.warn(e.getMessage(), e));
+        if (readAheadExecutor != null) {
+            readAheadExecutor.shutdownNow();
+        }
+    }
+
+    private InputStream getCurrentInputStream() throws IOException {
+        if (currentInputStream == null) {
+            currentInputStream = canReadAhead() ? openPartsReadAhead() : openPart(partIndex);
+        }
+        return currentInputStream;
+    }
+
+    private boolean canReadAhead() {
+        return chunksToReadAhead > 0 && archiveFileEntries.stream()
+                                                          .allMatch(archiveFileEntry -> archiveFileEntry.getSize() != null);
+    }
+
+    private boolean hasNextPart() {
+        return readAheadExecutor == null && partIndex < archiveFileEntries.size() - 1;
+    }
+
+    private InputStream openPartsReadAhead() {
+        List<FileContentToProcess> parts = archiveFileEntries.stream()
+                                                             .map(this::toFileContentToProcess)
+                                                             .toList();
+        // All parts are read through a single stream, so the index of the last one is reported when it is closed
+        partIndex = archiveFileEntries.size() - 1;
+        readAheadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        return new PrefetchingRangeInputStream(fileService, parts, READ_AHEAD_CHUNK_SIZE, chunksToReadAhead, readAheadExecutor);
+    }
+
+    private FileContentToProcess toFileContentToProcess(FileEntry archiveFileEntry) {
+        LOGGER.debug(MessageFormat.format(Messages.READING_AHEAD_FILE_WITH_ID_0_AND_NAME_1, archiveFileEntry.getId(),
+                                          archiveFileEntry.getName()));
+        long partSize = archiveFileEntry.getSize()
+                                        .longValueExact();
+        return ImmutableFileContentToProcess.builder()
+                                            .guid(archiveFileEntry.getId())
+                                            .spaceGuid(archiveFileEntry.getSpace())
+                                            .startOffset(0)
+                                            .endOffset(partSize - 1)
+                                            .build();
+    }
+
+    private void openNextPart() throws IOException {
         IOUtils.closeQuietly(currentInputStream, e -> LOGGER.warn(e.getMessage(), e));
+        LOGGER.info(MessageFormat.format(Messages.CLOSING_STREAM_FOR_PART_0, partIndex));
+        currentInputStream = openPart(++partIndex);
+    }
+
+    private InputStream openPart(int index) {
+        FileEntry archiveFileEntry = archiveFileEntries.get(index);
+        stepLogger.debug(Messages.OPENING_A_NEW_INPUT_STREAM_FOR_FILE_WITH_ID_0_AND_NAME_1, archiveFileEntry.getId(),
+                         archiveFileEntry.getName());
+        LOGGER.info(MessageFormat.format(Messages.OPENING_A_NEW_INPUT_STREAM_FOR_FILE_WITH_ID_0_AND_NAME_1, archiveFileEntry.getId(),
+                                         archiveFileEntry.getName()));
+        return new BufferedInputStream(openInputStream(archiveFileEntry), BUFFERED_SIZE);
     }
 
-    private BufferedInputStream openBufferedInputStream(FileEntry archiveFileEntry) {
+    private InputStream openInputStream(FileEntry archiveFileEntry) {
         try {
-            stepLogger.debug(Messages.OPENING_A_NEW_INPUT_STREAM_FOR_FILE_WITH_ID_0_AND_NAME_1, archiveFileEntry.getId(),
-                             archiveFileEntry.getName());
-            LOGGER.info(MessageFormat.format(Messages.OPENING_A_NEW_INPUT_STREAM_FOR_FILE_WITH_ID_0_AND_NAME_1, archiveFileEntry.getId(),
-                                             archiveFileEntry.getName()));
-            InputStream inputStream = fileService.openInputStream(archiveFileEntry.getSpace(), archiveFileEntry.getId());
-            return new BufferedInputStream(inputStream, BUFFERED_SIZE);
+            return fileService.openInputStream(archiveFileEntry.getSpace(), archiveFileEntry.getId());
         } catch (FileStorageException e) {
             throw new SLException(e, e.getMessage());
         }
@@ -0,0 +1,149 @@
+package org.cloudfoundry.multiapps.controller.process.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableFileContentToProcess;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+
+/**
+ * Reads ranges of stored files one after another as consecutive chunks. The chunks are fetched ahead of the reader through separate ranged
+ * reads, at most {@code maxPrefetchedChunks} at a time, so memory usage is bounded by {@code maxPrefetchedChunks * chunkSize}. The
+ * chunks of a range are fetched while the reader is still in the ranges before it, and every ranged read closes its connection when it
+ * completes.
+ */
+public class PrefetchingRangeInputStream extends InputStream {
+
+    private final FileService fileService;
+    private final List<FileContentToProcess> ranges;
+    private final int chunkSize;
+    private final int maxPrefetchedChunks;
+    private final ExecutorService executorService;
+    private final Deque<Future<byte[]>> prefetchedChunks = new ArrayDeque<>();
+    private int nextChunkRangeIndex;
+    private long nextChunkStartOffset;
+    private byte[] currentChunk = new byte[0];
+    private int currentChunkPosition;
+
+    public PrefetchingRangeInputStream(FileService fileService, FileContentToProcess range, int chunkSize, int maxPrefetchedChunks,
+                                       ExecutorService executorService) {
+        this(fileService, List.of(range), chunkSize, maxPrefetchedChunks, executorService);
+    }
+
+    public PrefetchingRangeInputStream(FileService fileService, List<FileContentToProcess> ranges, int chunkSize, int maxPrefetchedChunks,
+                                       ExecutorService executorService) {
+        this.fileService = fileService;
+        this.ranges = ranges;
+        this.chunkSize = chunkSize;
+        this.maxPrefetchedChunks = maxPrefetchedChunks;
+        this.executorService = executorService;
+        if (!ranges.isEmpty()) {
+            this.nextChunkStartOffset = ranges.get(0)
+                                              .getStartOffset();
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!hasRemainingBytesInCurrentChunk()) {
+            return -1;
+        }
+        return currentChunk[currentChunkPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!hasRemainingBytesInCurrentChunk()) {
+            return -1;
+        }
+        int bytesToCopy = Math.min(len, currentChunk.length - currentChunkPosition);
+        System.arraycopy(currentChunk, currentChunkPosition, b, off, bytesToCopy);
+        currentChunkPosition += bytesToCopy;
+        return bytesToCopy;
+    }
+
+    @Override
+    public void close() {
+        prefetchedChunks.forEach(chunk -> chunk.cancel(true));
+        prefetchedChunks.clear();
+    }
+
+    private boolean hasRemainingBytesInCurrentChunk() throws IOException {
+        while (currentChunkPosition == currentChunk.length) {
+            prefetchChunks();
+            Future<byte[]> nextChunk = prefetchedChunks.poll();
+            if (nextChunk == null) {
+                return false;
+            }
+            currentChunk = awaitChunk(nextChunk);
+            currentChunkPosition = 0;
+        }
+        return true;
+    }
+
+    private void prefetchChunks() {
+        while (prefetchedChunks.size() < maxPrefetchedChunks && nextChunkRangeIndex < ranges.size()) {
+            FileContentToProcess range = ranges.get(nextChunkRangeIndex);
+            if (nextChunkStartOffset > range.getEndOffset()) {
+                moveToNextRange();
+                continue;
+            }
+            long chunkEndOffset = Math.min(nextChunkStartOffset + chunkSize - 1, range.getEndOffset());
+            FileContentToProcess chunk = ImmutableFileContentToProcess.copyOf(range)
+                                                                      .withStartOffset(nextChunkStartOffset)
+                                                                      .withEndOffset(chunkEndOffset);
+            prefetchedChunks.add(executorService.submit(() -> readChunk(chunk)));
+            nextChunkStartOffset = chunkEndOffset + 1;
+        }
+    }
+
+    private void moveToNextRange() {
+        nextChunkRangeIndex++;
+        if (nextChunkRangeIndex < ranges.size()) {
+            nextChunkStartOffset = ranges.get(nextChunkRangeIndex)
+                                         .getStartOffset();
+        }
+    }
+
+    private byte[] readChunk(FileContentToProcess chunk) throws FileStorageException {
+        int chunkLength = Math.toIntExact(chunk.getEndOffset() - chunk.getStartOffset() + 1);
+        byte[] chunkContent = fileService.processFileContentWithOffset(chunk, chunkStream -> chunkStream.readNBytes(chunkLength));
+        if (chunkContent.length != chunkLength) {
+            throw new FileStorageException(MessageFormat.format(Messages.INCOMPLETE_ARCHIVE_RANGE_OFFSET_0_EXPECTED_1_BYTES_READ_2,
+                                                                chunk.getStartOffset(), chunkLength, chunkContent.length));
+        }
+        return chunkContent;
+    }
+
+    private byte[] awaitChunk(Future<byte[]> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            close();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            close();
+            throw new IOException(e.getCause()
+                                   .getMessage(), e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
+
+import jakarta.inject.Named;
+
+/**
+ * Keeps the digests of the applications of an MTA archive, as the content of a module does not change for the same archive and retried
+ * steps would otherwise stream the module again.
+ */
+@Named
+public class ApplicationDigestCache {
+
+    private static final Duration EXPIRATION_TIME = Duration.ofMinutes(30);
+
+    private final CachedMap<String, String> digests = new CachedMap<>(EXPIRATION_TIME);
+
+    public Optional<String> getDigest(String appArchiveId, String moduleFileName) {
+        return Optional.ofNullable(digests.get(buildKey(appArchiveId, moduleFileName)));
+    }
+
+    public void putDigest(String appArchiveId, String moduleFileName, String digest) {
+        digests.put(buildKey(appArchiveId, moduleFileName), digest);
+    }
+
+    private String buildKey(String appArchiveId, String moduleFileName) {
+        return appArchiveId + ":" + moduleFileName;
+    }
+
+}
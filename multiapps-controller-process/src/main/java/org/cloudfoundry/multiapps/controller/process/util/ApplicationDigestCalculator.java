@@ -1,13 +1,8 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.zip.ZipEntry;
+import java.util.Optional;
 
-import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
-import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.SLException;
-import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 
@@ -17,83 +12,41 @@ import jakarta.inject.Named;
 @Named
 public class ApplicationDigestCalculator {
 
-    protected static final int BUFFER_SIZE = 4 * 1024; // 4KB
-
-    private final FileService fileService;
-    private final ApplicationArchiveIterator applicationArchiveIterator;
-    private final ArchiveEntryExtractor archiveEntryExtractor;
+    private final ApplicationZipBuilder applicationZipBuilder;
+    private final ApplicationDigestCache applicationDigestCache;
 
     @Inject
-    public ApplicationDigestCalculator(FileService fileService, ApplicationArchiveIterator applicationArchiveIterator,
-                                       ArchiveEntryExtractor archiveEntryExtractor) {
-        this.fileService = fileService;
-        this.applicationArchiveIterator = applicationArchiveIterator;
-        this.archiveEntryExtractor = archiveEntryExtractor;
+    public ApplicationDigestCalculator(ApplicationZipBuilder applicationZipBuilder, ApplicationDigestCache applicationDigestCache) {
+        this.applicationZipBuilder = applicationZipBuilder;
+        this.applicationDigestCache = applicationDigestCache;
     }
 
     public String calculateApplicationDigest(ApplicationArchiveContext applicationArchiveContext) {
-        try {
-            iterateApplicationArchive(applicationArchiveContext);
-            return applicationArchiveContext.getDigestCalculator()
-                                            .getDigest();
-        } catch (FileStorageException e) {
-            throw new SLException(e, Messages.ERROR_RETRIEVING_MTA_MODULE_CONTENT, applicationArchiveContext.getModuleFileName());
-        }
-    }
-
-    private void iterateApplicationArchive(ApplicationArchiveContext applicationArchiveContext) throws FileStorageException {
-        if (ArchiveEntryExtractorUtil.containsDirectory(applicationArchiveContext.getModuleFileName(),
-                                                        applicationArchiveContext.getArchiveEntryWithStreamPositions())) {
-            fileService.consumeFileContent(applicationArchiveContext.getSpaceId(), applicationArchiveContext.getAppArchiveId(),
-                                           archiveStream -> calculateDigestFromDirectory(applicationArchiveContext, archiveStream));
-        } else {
-            ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions = ArchiveEntryExtractorUtil.findEntry(applicationArchiveContext.getModuleFileName(),
-                                                                                                                  applicationArchiveContext.getArchiveEntryWithStreamPositions());
-            DigestCalculator applicationDigestCalculator = applicationArchiveContext.getDigestCalculator();
-            archiveEntryExtractor.processFileEntryBytes(ImmutableFileEntryProperties.builder()
-                                                                                    .guid(applicationArchiveContext.getAppArchiveId())
-                                                                                    .name(archiveEntryWithStreamPositions.getName())
-                                                                                    .spaceGuid(applicationArchiveContext.getSpaceId())
-                                                                                    .maxFileSizeInBytes(applicationArchiveContext.getMaxSizeInBytes())
-                                                                                    .build(),
-                                                        archiveEntryWithStreamPositions, (bytesBuffer, bytesRead) -> {
-                                                            applicationArchiveContext.calculateCurrentSizeInBytes(bytesRead);
-                                                            applicationDigestCalculator.updateDigest(bytesBuffer, 0, bytesRead);
-                                                        });
+        String appArchiveId = applicationArchiveContext.getAppArchiveId();
+        String moduleFileName = applicationArchiveContext.getModuleFileName();
+        Optional<String> cachedDigest = applicationDigestCache.getDigest(appArchiveId, moduleFileName);
+        if (cachedDigest.isPresent()) {
+            return cachedDigest.get();
         }
+        String digest = calculateDigest(applicationArchiveContext);
+        applicationDigestCache.putDigest(appArchiveId, moduleFileName, digest);
+        return digest;
     }
 
-    private void calculateDigestFromDirectory(ApplicationArchiveContext applicationArchiveContext, InputStream archiveStream)
-        throws IOException {
-        try (ZipArchiveInputStream zipArchiveInputStream = new ZipArchiveInputStream(archiveStream)) {
-            String moduleFileName = applicationArchiveContext.getModuleFileName();
-            ZipEntry zipEntry = applicationArchiveIterator.getFirstZipEntry(applicationArchiveContext.getModuleFileName(),
-                                                                            zipArchiveInputStream);
-            do {
-                if (!zipEntry.isDirectory()) {
-                    calculateDigestFromArchive(applicationArchiveContext, zipArchiveInputStream);
-                }
-            } while ((zipEntry = applicationArchiveIterator.getNextEntryByName(moduleFileName, zipArchiveInputStream)) != null);
-        }
-    }
-
-    private void calculateDigestFromArchive(ApplicationArchiveContext applicationArchiveContext, InputStream inputStream)
-        throws IOException {
-        byte[] buffer = new byte[BUFFER_SIZE];
-        int numberOfReadBytes = 0;
-        long maxSizeInBytes = applicationArchiveContext.getMaxSizeInBytes();
-        DigestCalculator applicationDigestCalculator = applicationArchiveContext.getDigestCalculator();
-        while ((numberOfReadBytes = inputStream.read(buffer)) != -1) {
-            long currentSizeInBytes = applicationArchiveContext.getCurrentSizeInBytes();
-            if (currentSizeInBytes + numberOfReadBytes > maxSizeInBytes) {
-                throw new ContentException(org.cloudfoundry.multiapps.mta.Messages.ERROR_SIZE_OF_FILE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT,
-                                           currentSizeInBytes + numberOfReadBytes,
-                                           applicationArchiveContext.getModuleFileName(),
-                                           maxSizeInBytes);
+    private String calculateDigest(ApplicationArchiveContext applicationArchiveContext) {
+        Optional<ArchiveEntryWithStreamPositions> storedModuleArchive = applicationZipBuilder.findStoredModuleArchive(
+            applicationArchiveContext);
+        try {
+            if (storedModuleArchive.isPresent()) {
+                applicationZipBuilder.calculateStoredModuleArchiveDigest(applicationArchiveContext, storedModuleArchive.get());
+            } else {
+                applicationZipBuilder.calculateApplicationDigest(applicationArchiveContext);
             }
-            applicationArchiveContext.calculateCurrentSizeInBytes(numberOfReadBytes);
-            applicationDigestCalculator.updateDigest(buffer, 0, numberOfReadBytes);
+        } catch (FileStorageException e) {
+            throw new SLException(e, Messages.ERROR_RETRIEVING_MTA_MODULE_CONTENT, applicationArchiveContext.getModuleFileName());
         }
+        return applicationArchiveContext.getDigestCalculator()
+                                        .getDigest();
     }
 
-}
\ No newline at end of file
+}
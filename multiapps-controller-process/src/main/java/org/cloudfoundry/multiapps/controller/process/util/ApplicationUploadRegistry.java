@@ -0,0 +1,251 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudPackage;
+import org.cloudfoundry.multiapps.controller.persistence.services.LockOwnerService;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import static java.text.MessageFormat.format;
+
+/**
+ * Tracks the application uploads running on this instance, so that the Flowable job which starts an upload does not wait for it to
+ * complete. Uploads which cannot be started because all upload threads are busy are queued and started by the first upload thread which
+ * becomes available. The result of an upload can be collected only on the instance which started it, so every upload has the lock owner
+ * of the Flowable job executor of that instance as its owner. Uploads of processes which were aborted or deleted before they collected
+ * them are removed periodically, and the ones of them which have not started yet are never started.
+ */
+@Named
+public class ApplicationUploadRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationUploadRegistry.class);
+
+    private static final Duration EXPIRATION_TIME = Duration.ofHours(1);
+    // The lock owners are reported every 5 minutes and are considered stale when they were not reported for 6 minutes
+    private static final Duration OWNER_STALE_TIME = Duration.ofMinutes(6);
+
+    private final ExecutorService appUploaderThreadPool;
+    private final FlowableFacade flowableFacade;
+    private final LockOwnerService lockOwnerService;
+    private final Map<String, ApplicationUpload> uploads = new ConcurrentHashMap<>();
+    private final Deque<ApplicationUpload> pendingUploads = new ConcurrentLinkedDeque<>();
+
+    @Inject
+    public ApplicationUploadRegistry(ExecutorService appUploaderThreadPool, FlowableFacade flowableFacade,
+                                     LockOwnerService lockOwnerService) {
+        this.appUploaderThreadPool = appUploaderThreadPool;
+        this.flowableFacade = flowableFacade;
+        this.lockOwnerService = lockOwnerService;
+    }
+
+    public ApplicationUpload startUpload(String uploadId, String processInstanceId, UploadTask upload) {
+        ApplicationUpload applicationUpload = uploads.computeIfAbsent(uploadId, id -> {
+            ApplicationUpload newUpload = new ApplicationUpload(id, processInstanceId, upload);
+            pendingUploads.offerLast(newUpload);
+            return newUpload;
+        });
+        dispatchPendingUploads();
+        return applicationUpload;
+    }
+
+    public Optional<ApplicationUpload> getUpload(String uploadId) {
+        return Optional.ofNullable(uploads.get(uploadId));
+    }
+
+    /**
+     * @return the owner of the uploads started on this instance, which is different after every restart of the instance
+     */
+    public String getOwner() {
+        return flowableFacade.getProcessEngine()
+                             .getProcessEngineConfiguration()
+                             .getAsyncExecutor()
+                             .getLockOwner();
+    }
+
+    /**
+     * @return whether the owner of an upload is another instance which is still running, so the upload is neither lost nor restarted
+     */
+    public boolean isOwnedByAnotherRunningInstance(String owner) {
+        if (owner == null || owner.equals(getOwner())) {
+            return false;
+        }
+        LocalDateTime staleTime = LocalDateTime.now()
+                                               .minus(OWNER_STALE_TIME);
+        return lockOwnerService.createQuery()
+                               .lockOwner(owner)
+                               .list()
+                               .stream()
+                               .anyMatch(lockOwnerEntry -> lockOwnerEntry.getTimestamp()
+                                                                         .isAfter(staleTime));
+    }
+
+    public void removeUpload(String uploadId) {
+        ApplicationUpload removedUpload = uploads.remove(uploadId);
+        if (removedUpload != null) {
+            pendingUploads.remove(removedUpload);
+        }
+    }
+
+    /**
+     * Hands the pending uploads over to the upload threads until all of them are busy. A rejected upload is not an error, it stays at the
+     * head of the queue until an upload thread becomes available.
+     */
+    public void dispatchPendingUploads() {
+        ApplicationUpload pendingUpload;
+        while ((pendingUpload = pendingUploads.pollFirst()) != null) {
+            ApplicationUpload upload = pendingUpload;
+            try {
+                appUploaderThreadPool.execute(() -> runUploads(upload));
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug(format(Messages.ALL_UPLOAD_THREADS_ARE_BUSY_0_UPLOADS_ARE_WAITING, pendingUploads.size() + 1));
+                pendingUploads.offerFirst(upload);
+                return;
+            }
+        }
+    }
+
+    private void runUploads(ApplicationUpload firstUpload) {
+        ApplicationUpload upload = firstUpload;
+        while (upload != null) {
+            upload.run();
+            upload = pendingUploads.pollFirst();
+        }
+    }
+
+    @Scheduled(fixedRate = 10, timeUnit = TimeUnit.MINUTES)
+    public void removeExpiredUploads() {
+        Instant expirationTime = Instant.now()
+                                        .minus(EXPIRATION_TIME);
+        uploads.forEach((uploadId, upload) -> {
+            if (upload.isDone() && upload.getFinishedAt()
+                                         .isBefore(expirationTime)) {
+                LOGGER.info(format(Messages.REMOVING_RESULT_OF_UPLOAD_0_WHICH_WAS_NOT_COLLECTED, uploadId));
+                uploads.remove(uploadId, upload);
+            }
+        });
+        removeUploadsOfEndedProcesses();
+    }
+
+    /**
+     * The result of an upload is collected by the process which started it, so the uploads of processes which were aborted or deleted in
+     * the meantime are removed without waiting for them to expire. A running upload cannot be interrupted, so it is removed once it is
+     * done.
+     */
+    private void removeUploadsOfEndedProcesses() {
+        uploads.forEach((uploadId, upload) -> {
+            if (upload.isStarted() && !upload.isDone()) {
+                return;
+            }
+            if (flowableFacade.getProcessInstance(upload.getProcessInstanceId()) == null) {
+                LOGGER.info(format(Messages.REMOVING_UPLOAD_0_OF_ENDED_PROCESS_1, uploadId, upload.getProcessInstanceId()));
+                if (uploads.remove(uploadId, upload)) {
+                    pendingUploads.remove(upload);
+                }
+            }
+        });
+    }
+
+    /**
+     * An upload runs after the Flowable job which started it has completed, so it must not use anything bound to that job, like the
+     * process context or the step logger.
+     */
+    @FunctionalInterface
+    public interface UploadTask {
+
+        CloudPackage upload(ApplicationUpload upload) throws Exception;
+    }
+
+    public static class ApplicationUpload {
+
+        private final String id;
+        private final String processInstanceId;
+        private final UploadTask upload;
+        private final CompletableFuture<CloudPackage> result = new CompletableFuture<>();
+        private final AtomicLong transferredBytes = new AtomicLong();
+        private volatile long size;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+
+        ApplicationUpload(String id, String processInstanceId, UploadTask upload) {
+            this.id = id;
+            this.processInstanceId = processInstanceId;
+            this.upload = upload;
+        }
+
+        void run() {
+            startedAt = Instant.now();
+            try {
+                result.complete(upload.upload(this));
+            } catch (Exception e) {
+                LOGGER.error(format(Messages.UPLOAD_0_FAILED, id), e);
+                result.completeExceptionally(e);
+            } finally {
+                finishedAt = Instant.now();
+            }
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getProcessInstanceId() {
+            return processInstanceId;
+        }
+
+        public boolean isStarted() {
+            return startedAt != null;
+        }
+
+        public boolean isDone() {
+            return finishedAt != null;
+        }
+
+        public Instant getFinishedAt() {
+            return finishedAt;
+        }
+
+        public Future<CloudPackage> getResult() {
+            return result;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public void setSize(long size) {
+            this.size = size;
+        }
+
+        public long getTransferredBytes() {
+            return transferredBytes.get();
+        }
+
+        /**
+         * @return the counter of the transferred bytes, which is updated by the upload while it streams the application bits
+         */
+        public AtomicLong getTransferredBytesCounter() {
+            return transferredBytes;
+        }
+    }
+
+}
@@ -6,6 +6,7 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.Optional;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -14,9 +15,12 @@ import org.apache.commons.io.FilenameUtils;
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.core.util.TempFileUsageTracker;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveBufferPool.PooledBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,18 +31,22 @@ import jakarta.inject.Named;
 public class ApplicationZipBuilder {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationZipBuilder.class);
-    private static final int BUFFER_SIZE = 4 * 1024; // 4KB
 
     private final FileService fileService;
     private final ApplicationArchiveIterator applicationArchiveIterator;
     private final ArchiveEntryExtractor archiveEntryExtractor;
+    private final ParallelArchiveEntryDownloader parallelArchiveEntryDownloader;
+    private final ArchiveBufferPool archiveBufferPool;
 
     @Inject
     public ApplicationZipBuilder(FileService fileService, ApplicationArchiveIterator applicationArchiveIterator,
-                                 ArchiveEntryExtractor archiveEntryExtractor) {
+                                 ArchiveEntryExtractor archiveEntryExtractor, ParallelArchiveEntryDownloader parallelArchiveEntryDownloader,
+                                 ArchiveBufferPool archiveBufferPool) {
         this.fileService = fileService;
         this.applicationArchiveIterator = applicationArchiveIterator;
         this.archiveEntryExtractor = archiveEntryExtractor;
+        this.parallelArchiveEntryDownloader = parallelArchiveEntryDownloader;
+        this.archiveBufferPool = archiveBufferPool;
     }
 
     public Path extractApplicationInNewArchive(ApplicationArchiveContext applicationArchiveContext) {
@@ -49,8 +57,10 @@ public class ApplicationZipBuilder {
                                                             applicationArchiveContext.getArchiveEntryWithStreamPositions())) {
                 LOGGER.info(MessageFormat.format(Messages.MODULE_0_CONTENT_IS_A_DIRECTORY, applicationArchiveContext.getModuleFileName()));
                 extractDirectoryContent(applicationArchiveContext, appPath);
+                TempFileUsageTracker.track(TempFileUsageTracker.Category.APPLICATION_ZIP, appPath);
             } else {
                 extractModuleContent(applicationArchiveContext, appPath);
+                TempFileUsageTracker.track(TempFileUsageTracker.Category.EXTRACTED_APPLICATION, appPath);
             }
             return appPath;
         } catch (Exception e) {
@@ -59,6 +69,87 @@ public class ApplicationZipBuilder {
         }
     }
 
+    /**
+     * Calculates the digest of the application by streaming the content of its module from the MTA archive, without saving it to disk.
+     */
+    public void calculateApplicationDigest(ApplicationArchiveContext applicationArchiveContext) throws FileStorageException {
+        if (ArchiveEntryExtractorUtil.containsDirectory(applicationArchiveContext.getModuleFileName(),
+                                                        applicationArchiveContext.getArchiveEntryWithStreamPositions())) {
+            fileService.consumeFileContent(applicationArchiveContext.getSpaceId(), applicationArchiveContext.getAppArchiveId(),
+                                           archiveStream -> {
+                                               try (ZipArchiveInputStream zipArchiveInputStream = new ZipArchiveInputStream(
+                                                   archiveBufferPool.buffer(archiveStream))) {
+                                                   calculateDirectoryDigest(applicationArchiveContext, zipArchiveInputStream);
+                                               }
+                                           });
+            return;
+        }
+        ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions = ArchiveEntryExtractorUtil.findEntry(applicationArchiveContext.getModuleFileName(),
+                                                                                                              applicationArchiveContext.getArchiveEntryWithStreamPositions());
+        DigestCalculator applicationDigestCalculator = applicationArchiveContext.getDigestCalculator();
+        archiveEntryExtractor.processFileEntryBytes(buildFileEntryProperties(applicationArchiveContext, archiveEntryWithStreamPositions),
+                                                    archiveEntryWithStreamPositions, (bytesBuffer, bytesRead) -> {
+                                                        applicationArchiveContext.calculateCurrentSizeInBytes(bytesRead);
+                                                        applicationDigestCalculator.updateDigest(bytesBuffer, 0, bytesRead);
+                                                    });
+    }
+
+    private void calculateDirectoryDigest(ApplicationArchiveContext applicationArchiveContext, ZipArchiveInputStream zipArchiveInputStream)
+        throws IOException {
+        String moduleFileName = applicationArchiveContext.getModuleFileName();
+        ZipEntry zipEntry = applicationArchiveIterator.getFirstZipEntry(moduleFileName, zipArchiveInputStream);
+        try (PooledBuffer pooledBuffer = archiveBufferPool.acquire()) {
+            do {
+                if (!zipEntry.isDirectory()) {
+                    updateDigest(zipArchiveInputStream, applicationArchiveContext, pooledBuffer.get());
+                }
+            } while ((zipEntry = applicationArchiveIterator.getNextEntryByName(moduleFileName, zipArchiveInputStream)) != null);
+        }
+    }
+
+    private void updateDigest(InputStream input, ApplicationArchiveContext applicationArchiveContext, byte[] buffer) throws IOException {
+        int numberOfReadBytes = 0;
+        DigestCalculator applicationDigestCalculator = applicationArchiveContext.getDigestCalculator();
+        while ((numberOfReadBytes = input.read(buffer)) != -1) {
+            validateMaxSize(applicationArchiveContext, numberOfReadBytes);
+            applicationArchiveContext.calculateCurrentSizeInBytes(numberOfReadBytes);
+            applicationDigestCalculator.updateDigest(buffer, 0, numberOfReadBytes);
+        }
+    }
+
+    public Optional<ArchiveEntryWithStreamPositions> findStoredModuleArchive(ApplicationArchiveContext applicationArchiveContext) {
+        return applicationArchiveContext.getArchiveEntryWithStreamPositions()
+                                        .stream()
+                                        .filter(entry -> entry.getName()
+                                                              .equals(applicationArchiveContext.getModuleFileName()))
+                                        .filter(entry -> !entry.isDirectory())
+                                        .filter(this::isStored)
+                                        .findFirst();
+    }
+
+    private boolean isStored(ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions) {
+        return archiveEntryWithStreamPositions.getCompressionMethod() == ArchiveEntryWithStreamPositions.CompressionMethod.STORED;
+    }
+
+    public void consumeStoredModuleArchive(ApplicationArchiveContext applicationArchiveContext,
+                                           ArchiveEntryWithStreamPositions storedModuleArchive,
+                                           FileContentConsumer moduleArchiveConsumer) {
+        archiveEntryExtractor.consumeStoredEntryContent(buildFileEntryProperties(applicationArchiveContext, storedModuleArchive),
+                                                        storedModuleArchive, moduleArchiveConsumer);
+    }
+
+    /**
+     * Calculates the digest of a stored module archive from the MTA archive, as it is uploaded from there without being extracted.
+     */
+    public void calculateStoredModuleArchiveDigest(ApplicationArchiveContext applicationArchiveContext,
+                                                   ArchiveEntryWithStreamPositions storedModuleArchive) {
+        DigestCalculator applicationDigestCalculator = applicationArchiveContext.getDigestCalculator();
+        archiveEntryExtractor.processFileEntryBytes(buildFileEntryProperties(applicationArchiveContext, storedModuleArchive),
+                                                    storedModuleArchive,
+                                                    (bytesBuffer, bytesRead) -> applicationDigestCalculator.updateDigest(bytesBuffer, 0,
+                                                                                                                          bytesRead));
+    }
+
     protected Path createTempFile() {
         try {
             return Files.createTempFile(null, getFileExtension());
@@ -75,7 +166,8 @@ public class ApplicationZipBuilder {
         throws FileStorageException {
         fileService.consumeFileContent(applicationArchiveContext.getSpaceId(), applicationArchiveContext.getAppArchiveId(),
                                        archiveStream -> {
-                                           try (ZipArchiveInputStream zipArchiveInputStream = new ZipArchiveInputStream(archiveStream)) {
+                                           try (ZipArchiveInputStream zipArchiveInputStream = new ZipArchiveInputStream(
+                                               archiveBufferPool.buffer(archiveStream))) {
                                                saveAllEntries(applicationPath, applicationArchiveContext, zipArchiveInputStream);
                                            }
                                        });
@@ -120,22 +212,32 @@ public class ApplicationZipBuilder {
     }
 
     protected void copy(InputStream input, OutputStream output, ApplicationArchiveContext applicationArchiveContext) throws IOException {
-        byte[] buffer = new byte[BUFFER_SIZE];
+        try (PooledBuffer pooledBuffer = archiveBufferPool.acquire()) {
+            copy(input, output, applicationArchiveContext, pooledBuffer.get());
+        }
+    }
+
+    private void copy(InputStream input, OutputStream output, ApplicationArchiveContext applicationArchiveContext, byte[] buffer)
+        throws IOException {
         int numberOfReadBytes = 0;
-        long maxSizeInBytes = applicationArchiveContext.getMaxSizeInBytes();
         while ((numberOfReadBytes = input.read(buffer)) != -1) {
-            long currentSizeInBytes = applicationArchiveContext.getCurrentSizeInBytes();
-            if (currentSizeInBytes + numberOfReadBytes > maxSizeInBytes) {
-                throw new ContentException(org.cloudfoundry.multiapps.mta.Messages.ERROR_SIZE_OF_FILE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT,
-                                           currentSizeInBytes + numberOfReadBytes,
-                                           applicationArchiveContext.getModuleFileName(),
-                                           maxSizeInBytes);
-            }
+            validateMaxSize(applicationArchiveContext, numberOfReadBytes);
             output.write(buffer, 0, numberOfReadBytes);
             applicationArchiveContext.calculateCurrentSizeInBytes(numberOfReadBytes);
         }
     }
 
+    private void validateMaxSize(ApplicationArchiveContext applicationArchiveContext, int numberOfReadBytes) {
+        long currentSizeInBytes = applicationArchiveContext.getCurrentSizeInBytes();
+        long maxSizeInBytes = applicationArchiveContext.getMaxSizeInBytes();
+        if (currentSizeInBytes + numberOfReadBytes > maxSizeInBytes) {
+            throw new ContentException(org.cloudfoundry.multiapps.mta.Messages.ERROR_SIZE_OF_FILE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT,
+                                       currentSizeInBytes + numberOfReadBytes,
+                                       applicationArchiveContext.getModuleFileName(),
+                                       maxSizeInBytes);
+        }
+    }
+
     private void saveToFile(OutputStream fileOutputStream, ApplicationArchiveContext applicationArchiveContext, ZipEntry zipEntry,
                             ZipArchiveInputStream zipArchiveInputStream)
         throws IOException {
@@ -148,21 +250,31 @@ public class ApplicationZipBuilder {
     }
 
     private void extractModuleContent(ApplicationArchiveContext applicationArchiveContext, Path appPath) throws IOException {
+        ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions = ArchiveEntryExtractorUtil.findEntry(applicationArchiveContext.getModuleFileName(),
+                                                                                                              applicationArchiveContext.getArchiveEntryWithStreamPositions());
+        FileEntryProperties fileEntryProperties = buildFileEntryProperties(applicationArchiveContext, archiveEntryWithStreamPositions);
+        if (parallelArchiveEntryDownloader.shouldDownloadInParallel(archiveEntryWithStreamPositions)) {
+            parallelArchiveEntryDownloader.downloadEntry(fileEntryProperties, archiveEntryWithStreamPositions, appPath);
+            return;
+        }
         try (OutputStream fileOutputStream = Files.newOutputStream(appPath)) {
-            ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions = ArchiveEntryExtractorUtil.findEntry(applicationArchiveContext.getModuleFileName(),
-                                                                                                                  applicationArchiveContext.getArchiveEntryWithStreamPositions());
-            archiveEntryExtractor.processFileEntryBytes(ImmutableFileEntryProperties.builder()
-                                                                                    .guid(applicationArchiveContext.getAppArchiveId())
-                                                                                    .name(archiveEntryWithStreamPositions.getName())
-                                                                                    .spaceGuid(applicationArchiveContext.getSpaceId())
-                                                                                    .maxFileSizeInBytes(applicationArchiveContext.getMaxSizeInBytes())
-                                                                                    .build(),
+            archiveEntryExtractor.processFileEntryBytes(fileEntryProperties,
                                                         archiveEntryWithStreamPositions,
                                                         (bytesBuffer, bytesRead) -> writeModuleContent(bytesBuffer, bytesRead,
                                                                                                        fileOutputStream));
         }
     }
 
+    private FileEntryProperties buildFileEntryProperties(ApplicationArchiveContext applicationArchiveContext,
+                                                         ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions) {
+        return ImmutableFileEntryProperties.builder()
+                                           .guid(applicationArchiveContext.getAppArchiveId())
+                                           .name(archiveEntryWithStreamPositions.getName())
+                                           .spaceGuid(applicationArchiveContext.getSpaceId())
+                                           .maxFileSizeInBytes(applicationArchiveContext.getMaxSizeInBytes())
+                                           .build();
+    }
+
     private void writeModuleContent(byte[] bytesBuffer, Integer bytesRead, OutputStream fileOutputStream) {
         try {
             fileOutputStream.write(bytesBuffer, 0, bytesRead);
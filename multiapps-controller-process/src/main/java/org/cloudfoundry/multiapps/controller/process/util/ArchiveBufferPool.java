@@ -0,0 +1,100 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Provides the buffers used for copying archive content. The archives are usually read from an object store, where every read of a small
+ * buffer is a separate call on the remote stream, so the buffers are large and are reused instead of being allocated for every entry.
+ */
+@Named
+public class ArchiveBufferPool {
+
+    private static final int MAX_POOLED_BUFFERS = 32;
+
+    private final int bufferSize;
+    private final BlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+    @Inject
+    public ArchiveBufferPool(ApplicationConfiguration configuration) {
+        this(configuration.getArchiveBufferSize());
+    }
+
+    public ArchiveBufferPool(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * The buffer must not be used after it is closed, as it may be handed over to another thread.
+     */
+    public PooledBuffer acquire() {
+        byte[] buffer = buffers.poll();
+        return new PooledBuffer(buffer != null ? buffer : new byte[bufferSize]);
+    }
+
+    /**
+     * Buffers the reads from a stream which is consumed by code that reads it in small portions, such as the inflation of an entry. The
+     * buffer is taken from the pool and is returned to it when the stream is closed.
+     */
+    public InputStream buffer(InputStream inputStream) {
+        return new PooledBufferedInputStream(inputStream, acquire());
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public final class PooledBuffer implements AutoCloseable {
+
+        private final byte[] buffer;
+        private boolean released;
+
+        private PooledBuffer(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        public byte[] get() {
+            return buffer;
+        }
+
+        @Override
+        public void close() {
+            // A buffer which is returned twice could be handed to two threads at once
+            if (released) {
+                return;
+            }
+            released = true;
+            // When the pool is full the buffer is left to the garbage collector
+            buffers.offer(buffer);
+        }
+    }
+
+    private static final class PooledBufferedInputStream extends BufferedInputStream {
+
+        private final PooledBuffer pooledBuffer;
+
+        private PooledBufferedInputStream(InputStream inputStream, PooledBuffer pooledBuffer) {
+            super(inputStream, 1);
+            this.pooledBuffer = pooledBuffer;
+            this.buf = pooledBuffer.get();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                pooledBuffer.close();
+            }
+        }
+    }
+
+}
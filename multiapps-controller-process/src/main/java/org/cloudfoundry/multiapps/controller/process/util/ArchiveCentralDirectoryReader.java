@@ -0,0 +1,322 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipException;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableFileContentToProcess;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+
+/**
+ * Builds the entry index of a ZIP archive from its end of central directory record, central directory and local file headers, using only
+ * ranged reads. The entry data itself is never downloaded.
+ */
+public class ArchiveCentralDirectoryReader {
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int CENTRAL_FILE_HEADER_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int ZIP64_EXTRA_FIELD_HEADER_ID = 0x0001;
+
+    private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+    private static final int MAX_ARCHIVE_COMMENT_LENGTH = 0xFFFF;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH = 20;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH = 56;
+    private static final int CENTRAL_FILE_HEADER_LENGTH = 46;
+    private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+    private static final int EXTRA_FIELD_HEADER_LENGTH = 4;
+
+    private static final int ZIP64_MAGIC_SHORT = 0xFFFF;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    // Local file headers closer than this are fetched with a single ranged read
+    private static final int LOCAL_HEADERS_WINDOW_SIZE = 256 * 1024; // 256KB
+    private static final int MAX_RANGE_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final FileService fileService;
+
+    public ArchiveCentralDirectoryReader(FileService fileService) {
+        this.fileService = fileService;
+    }
+
+    /**
+     * @return the archive entries ordered by their position in the archive, or an empty optional if the archive size is unknown
+     * @throws ZipException if the central directory of the archive is missing or broken
+     */
+    public Optional<List<ArchiveEntryWithStreamPositions>> readArchiveEntries(String spaceGuid, String archiveId)
+        throws FileStorageException, ZipException {
+        FileEntry archive = fileService.getFile(spaceGuid, archiveId);
+        if (archive == null || archive.getSize() == null) {
+            return Optional.empty();
+        }
+        ArchiveRange archiveRange = new ArchiveRange(spaceGuid, archiveId, archive.getSize()
+                                                                                 .longValueExact());
+        CentralDirectoryLocation centralDirectoryLocation = findCentralDirectory(archiveRange);
+        ByteBuffer centralDirectory = archiveRange.read(centralDirectoryLocation.offset(), centralDirectoryLocation.size());
+        List<CentralDirectoryEntry> centralDirectoryEntries = parseCentralDirectory(centralDirectory,
+                                                                                    centralDirectoryLocation.entriesCount());
+        return Optional.of(resolveArchiveEntries(archiveRange, centralDirectoryEntries));
+    }
+
+    private CentralDirectoryLocation findCentralDirectory(ArchiveRange archiveRange) throws FileStorageException, ZipException {
+        int tailLength = (int) Math.min(archiveRange.archiveSize(), END_OF_CENTRAL_DIRECTORY_LENGTH + MAX_ARCHIVE_COMMENT_LENGTH
+            + ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH);
+        long tailOffset = archiveRange.archiveSize() - tailLength;
+        ByteBuffer tail = archiveRange.read(tailOffset, tailLength);
+        int endOfCentralDirectoryPosition = findEndOfCentralDirectory(tail);
+
+        int entriesCount = Short.toUnsignedInt(tail.getShort(endOfCentralDirectoryPosition + 10));
+        long centralDirectorySize = Integer.toUnsignedLong(tail.getInt(endOfCentralDirectoryPosition + 12));
+        long centralDirectoryOffset = Integer.toUnsignedLong(tail.getInt(endOfCentralDirectoryPosition + 16));
+        if (entriesCount == ZIP64_MAGIC_SHORT || centralDirectorySize == ZIP64_MAGIC || centralDirectoryOffset == ZIP64_MAGIC) {
+            return findZip64CentralDirectory(archiveRange, tail, endOfCentralDirectoryPosition);
+        }
+        return validateCentralDirectoryLocation(new CentralDirectoryLocation(centralDirectoryOffset,
+                                                                             centralDirectorySize,
+                                                                             entriesCount),
+                                                tailOffset + endOfCentralDirectoryPosition);
+    }
+
+    private int findEndOfCentralDirectory(ByteBuffer tail) throws ZipException {
+        for (int position = tail.limit() - END_OF_CENTRAL_DIRECTORY_LENGTH; position >= 0; position--) {
+            if (tail.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE && isCommentEndingAtEndOfArchive(tail, position)) {
+                return position;
+            }
+        }
+        throw new ZipException(Messages.END_OF_CENTRAL_DIRECTORY_RECORD_NOT_FOUND);
+    }
+
+    private boolean isCommentEndingAtEndOfArchive(ByteBuffer tail, int endOfCentralDirectoryPosition) {
+        int commentLength = Short.toUnsignedInt(tail.getShort(endOfCentralDirectoryPosition + 20));
+        return endOfCentralDirectoryPosition + END_OF_CENTRAL_DIRECTORY_LENGTH + commentLength == tail.limit();
+    }
+
+    private CentralDirectoryLocation findZip64CentralDirectory(ArchiveRange archiveRange, ByteBuffer tail,
+                                                               int endOfCentralDirectoryPosition)
+        throws FileStorageException, ZipException {
+        int locatorPosition = endOfCentralDirectoryPosition - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH;
+        if (locatorPosition < 0 || tail.getInt(locatorPosition) != ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+            throw new ZipException(Messages.ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_NOT_FOUND);
+        }
+        long zip64EndOfCentralDirectoryOffset = tail.getLong(locatorPosition + 8);
+        if (zip64EndOfCentralDirectoryOffset < 0
+            || zip64EndOfCentralDirectoryOffset + ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH > archiveRange.archiveSize()) {
+            throw new ZipException(Messages.ZIP64_END_OF_CENTRAL_DIRECTORY_RECORD_NOT_FOUND);
+        }
+        ByteBuffer zip64EndOfCentralDirectory = archiveRange.read(zip64EndOfCentralDirectoryOffset, ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH);
+        if (zip64EndOfCentralDirectory.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+            throw new ZipException(Messages.ZIP64_END_OF_CENTRAL_DIRECTORY_RECORD_NOT_FOUND);
+        }
+        long entriesCount = zip64EndOfCentralDirectory.getLong(32);
+        if (entriesCount < 0 || entriesCount > Integer.MAX_VALUE) {
+            throw new ZipException(MessageFormat.format(Messages.INVALID_CENTRAL_DIRECTORY_ENTRIES_COUNT_0, entriesCount));
+        }
+        return validateCentralDirectoryLocation(new CentralDirectoryLocation(zip64EndOfCentralDirectory.getLong(48),
+                                                                             zip64EndOfCentralDirectory.getLong(40),
+                                                                             (int) entriesCount),
+                                                zip64EndOfCentralDirectoryOffset);
+    }
+
+    private CentralDirectoryLocation validateCentralDirectoryLocation(CentralDirectoryLocation centralDirectoryLocation,
+                                                                      long centralDirectoryEndLimit)
+        throws ZipException {
+        if (centralDirectoryLocation.offset() < 0 || centralDirectoryLocation.size() < 0
+            || centralDirectoryLocation.offset() + centralDirectoryLocation.size() > centralDirectoryEndLimit) {
+            throw new ZipException(MessageFormat.format(Messages.INVALID_CENTRAL_DIRECTORY_LOCATION_OFFSET_0_SIZE_1,
+                                                        centralDirectoryLocation.offset(), centralDirectoryLocation.size()));
+        }
+        return centralDirectoryLocation;
+    }
+
+    private List<CentralDirectoryEntry> parseCentralDirectory(ByteBuffer centralDirectory, int entriesCount) throws ZipException {
+        List<CentralDirectoryEntry> centralDirectoryEntries = new ArrayList<>(entriesCount);
+        int position = 0;
+        for (int i = 0; i < entriesCount; i++) {
+            ensureAvailable(centralDirectory, position, CENTRAL_FILE_HEADER_LENGTH);
+            if (centralDirectory.getInt(position) != CENTRAL_FILE_HEADER_SIGNATURE) {
+                throw new ZipException(MessageFormat.format(Messages.INVALID_CENTRAL_DIRECTORY_FILE_HEADER_AT_POSITION_0, position));
+            }
+            int nameLength = Short.toUnsignedInt(centralDirectory.getShort(position + 28));
+            int extraFieldLength = Short.toUnsignedInt(centralDirectory.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(centralDirectory.getShort(position + 32));
+            int headerLength = CENTRAL_FILE_HEADER_LENGTH + nameLength + extraFieldLength + commentLength;
+            ensureAvailable(centralDirectory, position, headerLength);
+            centralDirectoryEntries.add(parseCentralDirectoryEntry(centralDirectory, position, nameLength, extraFieldLength));
+            position += headerLength;
+        }
+        return centralDirectoryEntries;
+    }
+
+    private CentralDirectoryEntry parseCentralDirectoryEntry(ByteBuffer centralDirectory, int position, int nameLength,
+                                                             int extraFieldLength)
+        throws ZipException {
+        int compressionMethod = Short.toUnsignedInt(centralDirectory.getShort(position + 10));
+        long crc = Integer.toUnsignedLong(centralDirectory.getInt(position + 16));
+        long compressedSize = Integer.toUnsignedLong(centralDirectory.getInt(position + 20));
+        long uncompressedSize = Integer.toUnsignedLong(centralDirectory.getInt(position + 24));
+        long localHeaderOffset = Integer.toUnsignedLong(centralDirectory.getInt(position + 42));
+        String name = new String(centralDirectory.array(), position + CENTRAL_FILE_HEADER_LENGTH, nameLength, StandardCharsets.UTF_8);
+
+        if (uncompressedSize == ZIP64_MAGIC || compressedSize == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+            int zip64FieldPosition = findZip64ExtraField(centralDirectory, position + CENTRAL_FILE_HEADER_LENGTH + nameLength,
+                                                         extraFieldLength, name);
+            // The ZIP64 extended information contains only the values whose header fields are set to 0xFFFFFFFF, in a fixed order
+            if (uncompressedSize == ZIP64_MAGIC) {
+                uncompressedSize = centralDirectory.getLong(zip64FieldPosition);
+                zip64FieldPosition += Long.BYTES;
+            }
+            if (compressedSize == ZIP64_MAGIC) {
+                compressedSize = centralDirectory.getLong(zip64FieldPosition);
+                zip64FieldPosition += Long.BYTES;
+            }
+            if (localHeaderOffset == ZIP64_MAGIC) {
+                localHeaderOffset = centralDirectory.getLong(zip64FieldPosition);
+            }
+        }
+        return new CentralDirectoryEntry(name, compressionMethod, crc, compressedSize, uncompressedSize, localHeaderOffset);
+    }
+
+    private int findZip64ExtraField(ByteBuffer centralDirectory, int extraFieldPosition, int extraFieldLength, String entryName)
+        throws ZipException {
+        int position = extraFieldPosition;
+        int extraFieldEnd = extraFieldPosition + extraFieldLength;
+        while (position + EXTRA_FIELD_HEADER_LENGTH <= extraFieldEnd) {
+            int headerId = Short.toUnsignedInt(centralDirectory.getShort(position));
+            int dataSize = Short.toUnsignedInt(centralDirectory.getShort(position + 2));
+            if (headerId == ZIP64_EXTRA_FIELD_HEADER_ID && position + EXTRA_FIELD_HEADER_LENGTH + dataSize <= extraFieldEnd) {
+                return position + EXTRA_FIELD_HEADER_LENGTH;
+            }
+            position += EXTRA_FIELD_HEADER_LENGTH + dataSize;
+        }
+        throw new ZipException(MessageFormat.format(Messages.ZIP64_EXTRA_FIELD_OF_ENTRY_0_NOT_FOUND, entryName));
+    }
+
+    private List<ArchiveEntryWithStreamPositions> resolveArchiveEntries(ArchiveRange archiveRange,
+                                                                        List<CentralDirectoryEntry> centralDirectoryEntries)
+        throws FileStorageException, ZipException {
+        List<CentralDirectoryEntry> sortedEntries = centralDirectoryEntries.stream()
+                                                                           .sorted(Comparator.comparingLong(
+                                                                               CentralDirectoryEntry::localHeaderOffset))
+                                                                           .toList();
+        List<ArchiveEntryWithStreamPositions> archiveEntries = new ArrayList<>(sortedEntries.size());
+        int windowStart = 0;
+        while (windowStart < sortedEntries.size()) {
+            int windowEnd = findLocalHeadersWindowEnd(sortedEntries, windowStart);
+            long windowOffset = sortedEntries.get(windowStart)
+                                             .localHeaderOffset();
+            long windowLength = sortedEntries.get(windowEnd - 1)
+                                             .localHeaderOffset()
+                + LOCAL_FILE_HEADER_LENGTH - windowOffset;
+            ByteBuffer localHeaders = archiveRange.read(windowOffset, windowLength);
+            for (int i = windowStart; i < windowEnd; i++) {
+                CentralDirectoryEntry entry = sortedEntries.get(i);
+                archiveEntries.add(toArchiveEntry(entry, localHeaders, (int) (entry.localHeaderOffset() - windowOffset),
+                                                  archiveRange.archiveSize()));
+            }
+            windowStart = windowEnd;
+        }
+        return archiveEntries;
+    }
+
+    private int findLocalHeadersWindowEnd(List<CentralDirectoryEntry> sortedEntries, int windowStart) {
+        long windowOffset = sortedEntries.get(windowStart)
+                                         .localHeaderOffset();
+        int windowEnd = windowStart + 1;
+        while (windowEnd < sortedEntries.size() && sortedEntries.get(windowEnd)
+                                                               .localHeaderOffset()
+            + LOCAL_FILE_HEADER_LENGTH - windowOffset <= LOCAL_HEADERS_WINDOW_SIZE) {
+            windowEnd++;
+        }
+        return windowEnd;
+    }
+
+    private ArchiveEntryWithStreamPositions toArchiveEntry(CentralDirectoryEntry entry, ByteBuffer localHeaders, int position,
+                                                           long archiveSize)
+        throws ZipException {
+        if (localHeaders.getInt(position) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new ZipException(MessageFormat.format(Messages.INVALID_LOCAL_FILE_HEADER_OF_ENTRY_0, entry.name()));
+        }
+        int nameLength = Short.toUnsignedInt(localHeaders.getShort(position + 26));
+        int extraFieldLength = Short.toUnsignedInt(localHeaders.getShort(position + 28));
+        long startPosition = entry.localHeaderOffset() + LOCAL_FILE_HEADER_LENGTH + nameLength + extraFieldLength;
+        long endPosition = startPosition + entry.compressedSize();
+        if (entry.compressedSize() < 0 || endPosition > archiveSize) {
+            throw new ZipException(MessageFormat.format(Messages.INVALID_LOCAL_FILE_HEADER_OF_ENTRY_0, entry.name()));
+        }
+        return ImmutableArchiveEntryWithStreamPositions.builder()
+                                                       .name(entry.name())
+                                                       .startPosition(startPosition)
+                                                       .endPosition(endPosition)
+                                                       .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.parseValue(
+                                                           entry.compressionMethod()))
+                                                       .isDirectory(entry.name()
+                                                                         .endsWith("/"))
+                                                       .crc(entry.crc())
+                                                       .uncompressedSize(entry.uncompressedSize())
+                                                       .build();
+    }
+
+    private void ensureAvailable(ByteBuffer buffer, int position, int length) throws ZipException {
+        if (position + length > buffer.limit()) {
+            throw new ZipException(MessageFormat.format(Messages.INVALID_CENTRAL_DIRECTORY_FILE_HEADER_AT_POSITION_0, position));
+        }
+    }
+
+    private record CentralDirectoryLocation(long offset, long size, int entriesCount) {
+    }
+
+    private record CentralDirectoryEntry(String name, int compressionMethod, long crc, long compressedSize, long uncompressedSize,
+                                         long localHeaderOffset) {
+    }
+
+    private class ArchiveRange {
+
+        private final String spaceGuid;
+        private final String archiveId;
+        private final long archiveSize;
+
+        ArchiveRange(String spaceGuid, String archiveId, long archiveSize) {
+            this.spaceGuid = spaceGuid;
+            this.archiveId = archiveId;
+            this.archiveSize = archiveSize;
+        }
+
+        long archiveSize() {
+            return archiveSize;
+        }
+
+        ByteBuffer read(long offset, long length) throws FileStorageException, ZipException {
+            if (length > MAX_RANGE_LENGTH || offset + length > archiveSize) {
+                throw new ZipException(MessageFormat.format(Messages.INVALID_ARCHIVE_RANGE_OFFSET_0_LENGTH_1, offset, length));
+            }
+            if (length == 0) {
+                return ByteBuffer.allocate(0);
+            }
+            FileContentToProcess range = ImmutableFileContentToProcess.builder()
+                                                                      .guid(archiveId)
+                                                                      .spaceGuid(spaceGuid)
+                                                                      .startOffset(offset)
+                                                                      .endOffset(offset + length - 1)
+                                                                      .build();
+            byte[] content = fileService.processFileContentWithOffset(range, inputStream -> inputStream.readNBytes((int) length));
+            if (content.length != length) {
+                throw new ZipException(MessageFormat.format(Messages.INVALID_ARCHIVE_RANGE_OFFSET_0_LENGTH_1, offset, length));
+            }
+            return ByteBuffer.wrap(content)
+                             .order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.cloudfoundry.multiapps.common.ConflictException;
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
+import org.cloudfoundry.multiapps.controller.persistence.model.ArchiveEntriesIndex;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableArchiveEntriesIndex;
+import org.cloudfoundry.multiapps.controller.persistence.services.ArchiveEntriesIndexService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.steps.ProcessContext;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Provides the entries of an uploaded MTA archive. The entries are determined once per archive and persisted together with the digest
+ * of the archive, so that retried, resumed and parallel operations working with the same archive reuse them.
+ */
+@Named
+public class ArchiveEntriesProvider {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchiveEntriesProvider.class);
+
+    private static final Duration ARCHIVE_ENTRIES_EXPIRATION_TIME = Duration.ofMinutes(30);
+
+    private final CachedMap<String, List<ArchiveEntryWithStreamPositions>> cachedArchiveEntries = new CachedMap<>(ARCHIVE_ENTRIES_EXPIRATION_TIME);
+
+    private final FileService fileService;
+    private final ArchiveEntriesIndexService archiveEntriesIndexService;
+    private final ArchiveEntryStreamWithStreamPositionsDeterminer archiveEntryStreamWithStreamPositionsDeterminer;
+
+    @Inject
+    public ArchiveEntriesProvider(FileService fileService, ArchiveEntriesIndexService archiveEntriesIndexService,
+                                  ArchiveEntryStreamWithStreamPositionsDeterminer archiveEntryStreamWithStreamPositionsDeterminer) {
+        this.fileService = fileService;
+        this.archiveEntriesIndexService = archiveEntriesIndexService;
+        this.archiveEntryStreamWithStreamPositionsDeterminer = archiveEntryStreamWithStreamPositionsDeterminer;
+    }
+
+    public List<ArchiveEntryWithStreamPositions> getArchiveEntries(ProcessContext context) {
+        return getArchiveEntries(context.getRequiredVariable(Variables.SPACE_GUID), context.getRequiredVariable(Variables.APP_ARCHIVE_ID));
+    }
+
+    public List<ArchiveEntryWithStreamPositions> getArchiveEntries(String spaceGuid, String appArchiveId) {
+        return cachedArchiveEntries.computeIfAbsent(appArchiveId, () -> loadArchiveEntries(spaceGuid, appArchiveId));
+    }
+
+    private List<ArchiveEntryWithStreamPositions> loadArchiveEntries(String spaceGuid, String appArchiveId) {
+        String digest = getArchiveDigest(spaceGuid, appArchiveId);
+        if (digest == null) {
+            return archiveEntryStreamWithStreamPositionsDeterminer.determineArchiveEntries(spaceGuid, appArchiveId);
+        }
+        Optional<List<ArchiveEntryWithStreamPositions>> persistedArchiveEntries = findPersistedArchiveEntries(appArchiveId, digest);
+        if (persistedArchiveEntries.isPresent()) {
+            LOGGER.debug(MessageFormat.format(Messages.REUSING_PERSISTED_ENTRIES_OF_ARCHIVE_0, appArchiveId));
+            return persistedArchiveEntries.get();
+        }
+        List<ArchiveEntryWithStreamPositions> archiveEntries = archiveEntryStreamWithStreamPositionsDeterminer.determineArchiveEntries(
+            spaceGuid, appArchiveId);
+        persistArchiveEntries(appArchiveId, digest, archiveEntries);
+        return archiveEntries;
+    }
+
+    private String getArchiveDigest(String spaceGuid, String appArchiveId) {
+        try {
+            FileEntry archive = fileService.getFile(spaceGuid, appArchiveId);
+            return archive == null ? null : archive.getDigest();
+        } catch (FileStorageException e) {
+            throw new SLException(e, e.getMessage());
+        }
+    }
+
+    private Optional<List<ArchiveEntryWithStreamPositions>> findPersistedArchiveEntries(String appArchiveId, String digest) {
+        return archiveEntriesIndexService.createQuery()
+                                         .fileId(appArchiveId)
+                                         .digest(digest)
+                                         .list()
+                                         .stream()
+                                         .findFirst()
+                                         .map(this::toArchiveEntries);
+    }
+
+    private List<ArchiveEntryWithStreamPositions> toArchiveEntries(ArchiveEntriesIndex archiveEntriesIndex) {
+        return List.of(JsonUtil.fromJsonBinary(archiveEntriesIndex.getContent(), ArchiveEntryWithStreamPositions[].class));
+    }
+
+    private void persistArchiveEntries(String appArchiveId, String digest, List<ArchiveEntryWithStreamPositions> archiveEntries) {
+        try {
+            archiveEntriesIndexService.add(ImmutableArchiveEntriesIndex.builder()
+                                                                       .fileId(appArchiveId)
+                                                                       .digest(digest)
+                                                                       .content(JsonUtil.toJsonBinary(archiveEntries))
+                                                                       .build());
+        } catch (ConflictException e) {
+            // The entries were persisted by a parallel operation working with the same archive
+            LOGGER.debug(MessageFormat.format(Messages.ENTRIES_OF_ARCHIVE_0_ALREADY_PERSISTED, appArchiveId));
+        }
+    }
+
+}
@@ -6,11 +6,13 @@ import java.io.InputStream;
 import java.util.function.ObjIntConsumer;
 
 import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableFileContentToProcess;
 import org.cloudfoundry.multiapps.controller.process.stream.DefaultLimitedInputStream;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveBufferPool.PooledBuffer;
 import org.cloudfoundry.multiapps.mta.util.EntryToInflate;
 import org.cloudfoundry.multiapps.mta.util.InflatorUtil;
 
@@ -20,13 +22,13 @@ import jakarta.inject.Named;
 @Named
 public class ArchiveEntryExtractor {
 
-    private static final int BUFFER_SIZE = 4 * 1024; // 4KB
-
     private final FileService fileService;
+    private final ArchiveBufferPool archiveBufferPool;
 
     @Inject
-    public ArchiveEntryExtractor(FileService fileService) {
+    public ArchiveEntryExtractor(FileService fileService, ArchiveBufferPool archiveBufferPool) {
         this.fileService = fileService;
+        this.archiveBufferPool = archiveBufferPool;
     }
 
     public byte[] extractEntryBytes(FileEntryProperties fileEntryProperties,
@@ -63,10 +65,11 @@ public class ArchiveEntryExtractor {
     }
 
     private byte[] inflateFileContent(FileEntryProperties fileEntryProperties, InputStream fileEntryStream) throws IOException {
-        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
+        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            InputStream bufferedStream = archiveBufferPool.buffer(fileEntryStream)) {
             InflatorUtil.inflate(new EntryToInflate(fileEntryProperties.getName(),
                                                     fileEntryProperties.getMaxFileSizeInBytes(),
-                                                    fileEntryStream),
+                                                    bufferedStream),
                                  (bytesBuffer, bytesRead) -> byteArrayOutputStream.write(bytesBuffer, 0, bytesRead));
             return byteArrayOutputStream.toByteArray();
         }
@@ -95,11 +98,12 @@ public class ArchiveEntryExtractor {
     private void processStoredEntryStream(FileEntryProperties fileEntryProperties, ObjIntConsumer<byte[]> decompressedBytesConsumer,
                                           InputStream fileEntryStream)
         throws IOException {
-        byte[] buffer = new byte[BUFFER_SIZE];
         int bytesRead;
-        try (InputStream inputStream = new DefaultLimitedInputStream(fileEntryStream,
-                                                                     fileEntryProperties.getName(),
-                                                                     fileEntryProperties.getMaxFileSizeInBytes())) {
+        try (PooledBuffer pooledBuffer = archiveBufferPool.acquire();
+            InputStream inputStream = new DefaultLimitedInputStream(fileEntryStream,
+                                                                    fileEntryProperties.getName(),
+                                                                    fileEntryProperties.getMaxFileSizeInBytes())) {
+            byte[] buffer = pooledBuffer.get();
             while ((bytesRead = inputStream.read(buffer)) != -1) {
                 decompressedBytesConsumer.accept(buffer, bytesRead);
             }
@@ -107,11 +111,34 @@ public class ArchiveEntryExtractor {
     }
 
     private void processInflatedEntryStream(FileEntryProperties fileEntryProperties, ObjIntConsumer<byte[]> decompressedBytesConsumer,
-                                            InputStream fileEntryStream) {
-        InflatorUtil.inflate(new EntryToInflate(fileEntryProperties.getName(),
-                                                fileEntryProperties.getMaxFileSizeInBytes(),
-                                                fileEntryStream),
-                             decompressedBytesConsumer);
+                                            InputStream fileEntryStream)
+        throws IOException {
+        try (InputStream bufferedStream = archiveBufferPool.buffer(fileEntryStream)) {
+            InflatorUtil.inflate(new EntryToInflate(fileEntryProperties.getName(),
+                                                    fileEntryProperties.getMaxFileSizeInBytes(),
+                                                    bufferedStream),
+                                 decompressedBytesConsumer);
+        }
+    }
+
+    public void consumeStoredEntryContent(FileEntryProperties fileEntryProperties,
+                                          ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions,
+                                          FileContentConsumer storedEntryContentConsumer) {
+        // The end offset is inclusive and the content is passed on as is, so the byte following the entry must not be read
+        FileContentToProcess entryContent = toFileContentToProcess(fileEntryProperties, archiveEntryWithStreamPositions);
+        FileContentToProcess storedEntryContent = ImmutableFileContentToProcess.copyOf(entryContent)
+                                                                               .withEndOffset(entryContent.getEndOffset() - 1);
+        try {
+            fileService.consumeFileContentWithOffset(storedEntryContent, fileEntryStream -> {
+                try (InputStream inputStream = new DefaultLimitedInputStream(fileEntryStream,
+                                                                             fileEntryProperties.getName(),
+                                                                             fileEntryProperties.getMaxFileSizeInBytes())) {
+                    storedEntryContentConsumer.consume(inputStream);
+                }
+            });
+        } catch (FileStorageException e) {
+            throw new SLException(e, e.getMessage());
+        }
     }
 
 }
@@ -1,9 +1,12 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
 import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
@@ -11,6 +14,10 @@ import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveBufferPool.PooledBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -18,50 +25,91 @@ import jakarta.inject.Named;
 @Named
 public class ArchiveEntryStreamWithStreamPositionsDeterminer {
 
-    public static final int BUFFER_SIZE = 4 * 1024; // 4KB
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchiveEntryStreamWithStreamPositionsDeterminer.class);
 
     private final FileService fileService;
+    private final ArchiveBufferPool archiveBufferPool;
+    private final ArchiveCentralDirectoryReader archiveCentralDirectoryReader;
 
     @Inject
-    public ArchiveEntryStreamWithStreamPositionsDeterminer(FileService fileService) {
+    public ArchiveEntryStreamWithStreamPositionsDeterminer(FileService fileService, ArchiveBufferPool archiveBufferPool) {
         this.fileService = fileService;
+        this.archiveBufferPool = archiveBufferPool;
+        this.archiveCentralDirectoryReader = new ArchiveCentralDirectoryReader(fileService);
     }
 
     public List<ArchiveEntryWithStreamPositions> determineArchiveEntries(String spaceGuid, String appArchiveId) {
         try {
-            return fileService.processFileContent(spaceGuid, appArchiveId, archiveStream -> {
-                List<ArchiveEntryWithStreamPositions> archiveEntriesWithPositions = new ArrayList<>();
-                try (
-                    ZipArchiveInputStream zipStream = new ZipArchiveInputStream(archiveStream, StandardCharsets.UTF_8.name(), true, true)) {
-                    ZipArchiveEntry entry = zipStream.getNextEntry();
-                    while (entry != null) {
-                        validateEntry(entry);
-                        long startOffset = entry.getDataOffset();
-                        long endOffset = startOffset;
-                        byte[] buffer = new byte[BUFFER_SIZE];
-                        while (zipStream.read(buffer, 0, buffer.length) != -1) {
-                            // read the entry, to calculate the compressed size
-                        }
-                        endOffset += zipStream.getCompressedCount();
-                        archiveEntriesWithPositions.add(ImmutableArchiveEntryWithStreamPositions.builder()
-                                                                                                .name(entry.getName())
-                                                                                                .startPosition(startOffset)
-                                                                                                .endPosition(endOffset)
-                                                                                                .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.parseValue(entry.getMethod()))
-                                                                                                .isDirectory(entry.isDirectory())
-                                                                                                .build());
-                        entry = zipStream.getNextEntry();
-                    }
-                }
-                return archiveEntriesWithPositions;
-            });
+            Optional<List<ArchiveEntryWithStreamPositions>> archiveEntriesFromCentralDirectory = determineArchiveEntriesFromCentralDirectory(
+                spaceGuid, appArchiveId);
+            if (archiveEntriesFromCentralDirectory.isPresent()) {
+                return archiveEntriesFromCentralDirectory.get();
+            }
+            return determineArchiveEntriesByStreaming(spaceGuid, appArchiveId);
         } catch (FileStorageException e) {
             throw new SLException(e, e.getMessage());
         }
     }
 
+    private Optional<List<ArchiveEntryWithStreamPositions>> determineArchiveEntriesFromCentralDirectory(String spaceGuid,
+                                                                                                       String appArchiveId)
+        throws FileStorageException {
+        try {
+            Optional<List<ArchiveEntryWithStreamPositions>> archiveEntries = archiveCentralDirectoryReader.readArchiveEntries(spaceGuid,
+                                                                                                                              appArchiveId);
+            archiveEntries.ifPresent(entries -> entries.forEach(entry -> validateEntryName(entry.getName())));
+            return archiveEntries;
+        } catch (ZipException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_READ_CENTRAL_DIRECTORY_OF_ARCHIVE_0_FALLING_BACK_TO_STREAMING, appArchiveId,
+                                             e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private List<ArchiveEntryWithStreamPositions> determineArchiveEntriesByStreaming(String spaceGuid, String appArchiveId)
+        throws FileStorageException {
+        return fileService.processFileContent(spaceGuid, appArchiveId, archiveStream -> {
+            List<ArchiveEntryWithStreamPositions> archiveEntriesWithPositions = new ArrayList<>();
+            try (PooledBuffer pooledBuffer = archiveBufferPool.acquire();
+                ZipArchiveInputStream zipStream = new ZipArchiveInputStream(archiveBufferPool.buffer(archiveStream),
+                                                                            StandardCharsets.UTF_8.name(), true, true)) {
+                byte[] buffer = pooledBuffer.get();
+                ZipArchiveEntry entry = zipStream.getNextEntry();
+                while (entry != null) {
+                    validateEntry(entry);
+                    long startOffset = entry.getDataOffset();
+                    long endOffset = startOffset;
+                    while (zipStream.read(buffer, 0, buffer.length) != -1) {
+                        // read the entry, to calculate the compressed size
+                    }
+                    endOffset += zipStream.getCompressedCount();
+                    archiveEntriesWithPositions.add(ImmutableArchiveEntryWithStreamPositions.builder()
+                                                                                            .name(entry.getName())
+                                                                                            .startPosition(startOffset)
+                                                                                            .endPosition(endOffset)
+                                                                                            .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.parseValue(entry.getMethod()))
+                                                                                            .isDirectory(entry.isDirectory())
+                                                                                            .crc(getKnownValue(entry.getCrc()))
+                                                                                            .uncompressedSize(getKnownValue(entry.getSize()))
+                                                                                            .build());
+                    entry = zipStream.getNextEntry();
+                }
+            }
+            return archiveEntriesWithPositions;
+        });
+    }
+
+    private static Long getKnownValue(long value) {
+        // The CRC and the size of an entry are known only after its data descriptor is read, and are -1 if missing
+        return value == -1 ? null : value;
+    }
+
     protected void validateEntry(ZipEntry entry) {
-        FileUtils.validatePath(entry.getName());
+        validateEntryName(entry.getName());
+    }
+
+    protected void validateEntryName(String entryName) {
+        FileUtils.validatePath(entryName);
     }
 
 }
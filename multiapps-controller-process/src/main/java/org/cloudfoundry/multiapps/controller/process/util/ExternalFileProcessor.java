@@ -20,19 +20,22 @@ public class ExternalFileProcessor {
     private final ApplicationConfiguration configuration;
 
     private final ArchiveEntryExtractor archiveEntryExtractor;
+    private final List<ArchiveEntryWithStreamPositions> archiveEntriesWithStreamPositions;
 
     public ExternalFileProcessor(ContentLengthTracker sizeTracker, ApplicationConfiguration configuration,
-                                 ArchiveEntryExtractor archiveEntryExtractor, ProcessContext context) {
+                                 ArchiveEntryExtractor archiveEntryExtractor,
+                                 List<ArchiveEntryWithStreamPositions> archiveEntriesWithStreamPositions, ProcessContext context) {
         this.sizeTracker = sizeTracker;
         this.configuration = configuration;
         this.archiveEntryExtractor = archiveEntryExtractor;
+        this.archiveEntriesWithStreamPositions = archiveEntriesWithStreamPositions;
         this.context = context;
     }
 
     public Map<String, Object> processFileContent(String appArchiveId, Map.Entry<String, List<String>> fileManifestEntry) {
         String fileName = fileManifestEntry.getKey();
-        ArchiveEntryWithStreamPositions fileArchiveEntry = ArchiveEntryExtractorUtil.findEntry(fileName, context.getVariable(
-            Variables.ARCHIVE_ENTRIES_POSITIONS));
+        ArchiveEntryWithStreamPositions fileArchiveEntry = ArchiveEntryExtractorUtil.findEntry(fileName,
+                                                                                                   archiveEntriesWithStreamPositions);
         byte[] parametersFile = archiveEntryExtractor.extractEntryBytes(ImmutableFileEntryProperties.builder()
                                                                                                     .guid(appArchiveId)
                                                                                                     .name(fileArchiveEntry.getName())
@@ -0,0 +1,116 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * A thread pool which exports the sizes of its pool and queue, its active, completed and rejected tasks and the time its tasks wait in the
+ * queue and take to execute as Micrometer metrics. The tasks are measured by the pool itself instead of being wrapped, so subclasses can
+ * still rely on the type of the tasks in their queue.
+ */
+public class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+
+    public static final String METRICS_PREFIX = "multiapps.executor.";
+    private static final String METRICS_NAMESPACE = "multiapps";
+    private static final String NAME_TAG = "name";
+
+    private final Map<Runnable, Long> taskQueueTimes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final ThreadLocal<Long> taskStartTime = new ThreadLocal<>();
+    private final Timer queueWaitTimer;
+    private final Timer executionTimer;
+
+    public InstrumentedThreadPoolExecutor(String name, int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                          BlockingQueue<Runnable> workQueue) {
+        this(name, corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, new AbortPolicy());
+    }
+
+    public InstrumentedThreadPoolExecutor(String name, int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                          BlockingQueue<Runnable> workQueue, RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, Executors.defaultThreadFactory(),
+              countRejectedTasks(name, handler));
+        this.queueWaitTimer = Timer.builder(METRICS_PREFIX + "queue.wait")
+                                   .tag(NAME_TAG, name)
+                                   .publishPercentileHistogram()
+                                   .register(Metrics.globalRegistry);
+        this.executionTimer = Timer.builder(METRICS_PREFIX + "execution")
+                                   .tag(NAME_TAG, name)
+                                   .publishPercentileHistogram()
+                                   .register(Metrics.globalRegistry);
+        bindPoolMetrics(this, name);
+    }
+
+    /**
+     * Exports the sizes of the pool and queue and the active and completed tasks of an executor which is not created by this class.
+     */
+    public static void bindPoolMetrics(ExecutorService executor, String name) {
+        new ExecutorServiceMetrics(executor, name, METRICS_NAMESPACE, Tags.empty()).bindTo(Metrics.globalRegistry);
+    }
+
+    private static RejectedExecutionHandler countRejectedTasks(String name, RejectedExecutionHandler handler) {
+        Counter rejectedTasks = Counter.builder(METRICS_PREFIX + "rejected")
+                                       .tag(NAME_TAG, name)
+                                       .register(Metrics.globalRegistry);
+        return (task, executor) -> {
+            rejectedTasks.increment();
+            if (executor instanceof InstrumentedThreadPoolExecutor instrumentedExecutor) {
+                instrumentedExecutor.taskQueueTimes.remove(task);
+            }
+            handler.rejectedExecution(task, executor);
+        };
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        taskQueueTimes.put(command, System.nanoTime());
+        super.execute(command);
+    }
+
+    @Override
+    public boolean remove(Runnable task) {
+        taskQueueTimes.remove(task);
+        return super.remove(task);
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = super.shutdownNow();
+        tasks.forEach(taskQueueTimes::remove);
+        return tasks;
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable task) {
+        super.beforeExecute(thread, task);
+        long startTime = System.nanoTime();
+        Long queueTime = taskQueueTimes.remove(task);
+        if (queueTime != null) {
+            queueWaitTimer.record(startTime - queueTime, TimeUnit.NANOSECONDS);
+        }
+        taskStartTime.set(startTime);
+    }
+
+    @Override
+    protected void afterExecute(Runnable task, Throwable throwable) {
+        Long startTime = taskStartTime.get();
+        taskStartTime.remove();
+        if (startTime != null) {
+            executionTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+        super.afterExecute(task, throwable);
+    }
+
+}
@@ -14,6 +14,7 @@ import org.cloudfoundry.multiapps.controller.process.stream.LazyArchiveInputStre
 public class MergedArchiveStreamCreator {
 
     private static final String PART_POSTFIX = ".part.";
+    private static final int CHUNKS_TO_READ_AHEAD = 8;
 
     private final FileService fileService;
     private final StepLogger stepLogger;
@@ -33,11 +34,12 @@ public class MergedArchiveStreamCreator {
                                              .archiveStream(new LazyArchiveInputStream(fileService,
                                                                                        getSortedArchiveParts(),
                                                                                        stepLogger,
-                                                                                       archiveSize))
+                                                                                       archiveSize,
+                                                                                       CHUNKS_TO_READ_AHEAD))
                                              .build();
     }
 
-    List<FileEntry> getSortedArchiveParts() {
+    public List<FileEntry> getSortedArchiveParts() {
         return archiveParts.stream()
                            .sorted(Comparator.comparingInt(this::getArchivePartIndex))
                            .toList();
@@ -53,7 +55,7 @@ public class MergedArchiveStreamCreator {
         }
     }
 
-    private String getArchiveName() {
+    public String getArchiveName() {
         String archivePartName = archiveParts.get(0)
                                              .getName();
         if (!archivePartName.contains(PART_POSTFIX)) {
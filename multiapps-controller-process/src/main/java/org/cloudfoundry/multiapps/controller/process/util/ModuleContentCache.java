@@ -0,0 +1,144 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.cloudfoundry.multiapps.common.ConflictException;
+import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableModuleContentCacheEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ModuleContentCacheEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.ModuleContentCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Remembers the application digest and the last package uploaded for a module content in a space. The content is identified by the
+ * names, CRC-32 checksums and sizes of the module entries in the archive, so a module deployed again with the same content is recognized
+ * without downloading it. The cache is bounded by {@link org.cloudfoundry.multiapps.controller.process.jobs.ModuleContentCacheCleaner}.
+ */
+@Named
+public class ModuleContentCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModuleContentCache.class);
+
+    private static final String CONTENT_KEY_ALGORITHM = "SHA-256";
+
+    private final ModuleContentCacheService moduleContentCacheService;
+
+    @Inject
+    public ModuleContentCache(ModuleContentCacheService moduleContentCacheService) {
+        this.moduleContentCacheService = moduleContentCacheService;
+    }
+
+    /**
+     * @return the key of the module content, or an empty optional if the checksums of the module entries are unknown
+     */
+    public Optional<String> buildContentKey(String spaceGuid, String moduleFileName,
+                                            List<ArchiveEntryWithStreamPositions> archiveEntries) {
+        List<ArchiveEntryWithStreamPositions> moduleEntries = archiveEntries.stream()
+                                                                            .filter(entry -> isModuleEntry(entry, moduleFileName))
+                                                                            .filter(entry -> !entry.isDirectory())
+                                                                            .sorted(Comparator.comparing(
+                                                                                ArchiveEntryWithStreamPositions::getName))
+                                                                            .toList();
+        if (moduleEntries.isEmpty() || moduleEntries.stream()
+                                                    .anyMatch(this::isChecksumUnknown)) {
+            return Optional.empty();
+        }
+        DigestCalculator contentKeyCalculator = createContentKeyCalculator();
+        update(contentKeyCalculator, spaceGuid);
+        for (ArchiveEntryWithStreamPositions moduleEntry : moduleEntries) {
+            update(contentKeyCalculator, moduleEntry.getName());
+            update(contentKeyCalculator, Long.toHexString(moduleEntry.getCrc()));
+            update(contentKeyCalculator, Long.toString(moduleEntry.getUncompressedSize()));
+        }
+        return Optional.of(contentKeyCalculator.getDigest());
+    }
+
+    private boolean isModuleEntry(ArchiveEntryWithStreamPositions archiveEntry, String moduleFileName) {
+        String entryName = archiveEntry.getName();
+        String directoryName = moduleFileName.endsWith("/") ? moduleFileName : moduleFileName + "/";
+        return entryName.equals(moduleFileName) || entryName.startsWith(directoryName);
+    }
+
+    private boolean isChecksumUnknown(ArchiveEntryWithStreamPositions archiveEntry) {
+        return archiveEntry.getCrc() == null || archiveEntry.getUncompressedSize() == null;
+    }
+
+    private DigestCalculator createContentKeyCalculator() {
+        try {
+            return new DigestCalculator(MessageDigest.getInstance(CONTENT_KEY_ALGORITHM));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void update(DigestCalculator contentKeyCalculator, String value) {
+        // The terminating zero byte keeps the boundaries between the values unambiguous
+        byte[] bytes = (value + '\0').getBytes(StandardCharsets.UTF_8);
+        contentKeyCalculator.updateDigest(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Marks the returned entry as recently used, so that it is evicted after the entries which were not used since.
+     */
+    public Optional<ModuleContentCacheEntry> get(String contentKey) {
+        Optional<ModuleContentCacheEntry> cacheEntry = find(contentKey);
+        cacheEntry.ifPresent(entry -> update(entry, ImmutableModuleContentCacheEntry.copyOf(entry)
+                                                                                    .withLastAccessed(LocalDateTime.now())));
+        return cacheEntry;
+    }
+
+    public void putApplicationDigest(String contentKey, String spaceGuid, String applicationDigest) {
+        ModuleContentCacheEntry cacheEntry = ImmutableModuleContentCacheEntry.builder()
+                                                                             .contentKey(contentKey)
+                                                                             .spaceGuid(spaceGuid)
+                                                                             .applicationDigest(applicationDigest)
+                                                                             .build();
+        try {
+            moduleContentCacheService.add(cacheEntry);
+        } catch (ConflictException e) {
+            // Another deployment of the same content has already added the entry
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    public void putPackageGuid(String contentKey, UUID packageGuid) {
+        Optional<ModuleContentCacheEntry> cacheEntry = find(contentKey);
+        if (cacheEntry.isEmpty() || packageGuid.toString()
+                                               .equals(cacheEntry.get()
+                                                                 .getPackageGuid())) {
+            return;
+        }
+        update(cacheEntry.get(), ImmutableModuleContentCacheEntry.copyOf(cacheEntry.get())
+                                                                 .withPackageGuid(packageGuid.toString())
+                                                                 .withLastAccessed(LocalDateTime.now()));
+    }
+
+    private Optional<ModuleContentCacheEntry> find(String contentKey) {
+        return moduleContentCacheService.createQuery()
+                                        .contentKey(contentKey)
+                                        .list()
+                                        .stream()
+                                        .findFirst();
+    }
+
+    private void update(ModuleContentCacheEntry cacheEntry, ModuleContentCacheEntry updatedCacheEntry) {
+        try {
+            moduleContentCacheService.update(cacheEntry, updatedCacheEntry);
+        } catch (NotFoundException e) {
+            // The entry was evicted in the meantime
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+}
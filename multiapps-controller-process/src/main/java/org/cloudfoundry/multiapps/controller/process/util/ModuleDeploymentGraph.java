@@ -0,0 +1,172 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.cloudfoundry.multiapps.common.ContentException;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.mta.model.Module;
+
+/**
+ * The modules for deployment and the "deployed-after" dependencies between them. The longest chain of modules, which have to be deployed
+ * one after another, is the critical path of the graph and no parallel deployment can finish in fewer steps than its length.
+ * <p>
+ * Dependencies on modules, which are not part of the graph, are ignored. Circular dependencies between the modules of the graph are
+ * rejected, because none of the modules in such a cycle could ever be deployed.
+ */
+public class ModuleDeploymentGraph {
+
+    private static final int DEPLOYED_AFTER_MIN_SCHEMA_VERSION = 3;
+
+    private final Map<String, Integer> moduleIndexes = new LinkedHashMap<>();
+    private final Map<String, Set<String>> predecessorModules = new HashMap<>();
+    private final Map<String, List<String>> dependentModules = new HashMap<>();
+    private final Map<String, Integer> remainingPathLengths = new HashMap<>();
+    private final List<String> deploymentOrder;
+
+    public ModuleDeploymentGraph(List<Module> modulesToDeploy) {
+        modulesToDeploy.forEach(module -> moduleIndexes.putIfAbsent(module.getName(), moduleIndexes.size()));
+        modulesToDeploy.forEach(this::addDependencies);
+        List<String> topologicalOrder = sortTopologically(Comparator.comparing(moduleIndexes::get));
+        computeRemainingPathLengths(topologicalOrder);
+        deploymentOrder = sortTopologically(Comparator.comparing((String moduleName) -> remainingPathLengths.get(moduleName))
+                                                      .reversed()
+                                                      .thenComparing(moduleIndexes::get));
+    }
+
+    private void addDependencies(Module module) {
+        if (module.getMajorSchemaVersion() < DEPLOYED_AFTER_MIN_SCHEMA_VERSION || module.getDeployedAfter() == null) {
+            return;
+        }
+        for (String dependency : module.getDeployedAfter()) {
+            if (!moduleIndexes.containsKey(dependency)) {
+                continue;
+            }
+            boolean isNewDependency = predecessorModules.computeIfAbsent(module.getName(), key -> new LinkedHashSet<>())
+                                                        .add(dependency);
+            if (isNewDependency) {
+                dependentModules.computeIfAbsent(dependency, key -> new ArrayList<>())
+                                .add(module.getName());
+            }
+        }
+    }
+
+    /**
+     * Orders the modules so that every module comes after all of its predecessors. Among the modules, whose predecessors are already
+     * ordered, the one which comes first according to the comparator is taken next.
+     */
+    private List<String> sortTopologically(Comparator<String> comparator) {
+        Map<String, Integer> unorderedPredecessorsCounts = new HashMap<>();
+        PriorityQueue<String> modulesWithOrderedPredecessors = new PriorityQueue<>(comparator);
+        for (String moduleName : moduleIndexes.keySet()) {
+            int predecessorsCount = getPredecessorModules(moduleName).size();
+            unorderedPredecessorsCounts.put(moduleName, predecessorsCount);
+            if (predecessorsCount == 0) {
+                modulesWithOrderedPredecessors.add(moduleName);
+            }
+        }
+        List<String> orderedModules = new ArrayList<>();
+        while (!modulesWithOrderedPredecessors.isEmpty()) {
+            String moduleName = modulesWithOrderedPredecessors.poll();
+            orderedModules.add(moduleName);
+            for (String dependentModule : dependentModules.getOrDefault(moduleName, List.of())) {
+                if (unorderedPredecessorsCounts.merge(dependentModule, -1, Integer::sum) == 0) {
+                    modulesWithOrderedPredecessors.add(dependentModule);
+                }
+            }
+        }
+        if (orderedModules.size() < moduleIndexes.size()) {
+            throw new ContentException(Messages.CIRCULAR_DEPLOYED_AFTER_DEPENDENCIES_BETWEEN_MODULES_0,
+                                       getModulesNotInOrder(orderedModules));
+        }
+        return orderedModules;
+    }
+
+    private String getModulesNotInOrder(List<String> orderedModules) {
+        return moduleIndexes.keySet()
+                            .stream()
+                            .filter(moduleName -> !orderedModules.contains(moduleName))
+                            .collect(Collectors.joining(", "));
+    }
+
+    private void computeRemainingPathLengths(List<String> topologicalOrder) {
+        for (int i = topologicalOrder.size() - 1; i >= 0; i--) {
+            String moduleName = topologicalOrder.get(i);
+            int longestDependentPathLength = dependentModules.getOrDefault(moduleName, List.of())
+                                                             .stream()
+                                                             .mapToInt(remainingPathLengths::get)
+                                                             .max()
+                                                             .orElse(0);
+            remainingPathLengths.put(moduleName, longestDependentPathLength + 1);
+        }
+    }
+
+    public Set<String> getPredecessorModules(String moduleName) {
+        return predecessorModules.getOrDefault(moduleName, Set.of());
+    }
+
+    /**
+     * Returns the number of modules in the longest chain, which starts with the module and in which every module is deployed after the
+     * previous one.
+     */
+    public int getRemainingPathLength(String moduleName) {
+        return remainingPathLengths.get(moduleName);
+    }
+
+    /**
+     * Returns the modules in the order in which they are admitted for deployment. Every module comes after its predecessors and the
+     * modules with longer remaining paths come first.
+     */
+    public List<String> getDeploymentOrder() {
+        return deploymentOrder;
+    }
+
+    /**
+     * A module is ready for deployment as soon as all of its predecessors are deployed. To keep the number of parallel deployments within
+     * the limit, the module is also held back while there are as many not deployed modules before it in the deployment order as the limit
+     * allows. Each of the deployed modules had fewer such modules before it when it started, so no more modules than the limit are
+     * deployed at the same time. The first not deployed module in the order is always ready, so the deployment never gets stuck.
+     */
+    public boolean isReadyForDeployment(String moduleName, Set<String> deployedModules, int maxParallelDeployments) {
+        if (!deployedModules.containsAll(getPredecessorModules(moduleName))) {
+            return false;
+        }
+        long notDeployedModulesBefore = deploymentOrder.subList(0, deploymentOrder.indexOf(moduleName))
+                                                       .stream()
+                                                       .filter(module -> !deployedModules.contains(module))
+                                                       .count();
+        return notDeployedModulesBefore < maxParallelDeployments;
+    }
+
+    public List<String> getCriticalPath() {
+        List<String> criticalPath = new ArrayList<>();
+        String moduleName = getModuleWithLongestPath(deploymentOrder);
+        while (moduleName != null) {
+            criticalPath.add(moduleName);
+            moduleName = getModuleWithLongestPath(dependentModules.getOrDefault(moduleName, List.of()));
+        }
+        return criticalPath;
+    }
+
+    private String getModuleWithLongestPath(List<String> moduleNames) {
+        String moduleWithLongestPath = null;
+        int longestPathLength = 0;
+        for (String moduleName : moduleNames) {
+            int pathLength = getRemainingPathLength(moduleName);
+            if (pathLength > longestPathLength) {
+                moduleWithLongestPath = moduleName;
+                longestPathLength = pathLength;
+            }
+        }
+        return moduleWithLongestPath;
+    }
+
+}
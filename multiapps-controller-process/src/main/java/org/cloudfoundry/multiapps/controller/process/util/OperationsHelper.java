@@ -43,23 +43,39 @@ public class OperationsHelper {
 
     public Operation releaseLockIfNeeded(Operation operation) {
         // Fixes bug XSBUG-2035: Inconsistency in 'operation', 'act_hi_procinst' and 'act_ru_execution' tables
-        if (operation.hasAcquiredLock() && operation.getState()
-                                                    .isFinal()) {
-            operation = ImmutableOperation.builder()
-                                          .from(operation)
-                                          .hasAcquiredLock(false)
-                                          .build();
+        if (shouldReleaseLock(operation)) {
+            operation = withoutLock(operation);
             operationService.update(operation, operation);
         }
         return operation;
     }
 
     public List<Operation> releaseLocksIfNeeded(List<Operation> operations) {
+        List<String> processIds = operations.stream()
+                                            .filter(this::shouldReleaseLock)
+                                            .map(Operation::getProcessId)
+                                            .collect(Collectors.toList());
+        if (processIds.isEmpty()) {
+            return operations;
+        }
+        operationService.releaseLocks(processIds);
         return operations.stream()
-                         .map(this::releaseLockIfNeeded)
+                         .map(operation -> shouldReleaseLock(operation) ? withoutLock(operation) : operation)
                          .collect(Collectors.toList());
     }
 
+    private boolean shouldReleaseLock(Operation operation) {
+        return operation.hasAcquiredLock() && operation.getState()
+                                                       .isFinal();
+    }
+
+    private Operation withoutLock(Operation operation) {
+        return ImmutableOperation.builder()
+                                 .from(operation)
+                                 .hasAcquiredLock(false)
+                                 .build();
+    }
+
     private ErrorType getErrorType(Operation operation) {
         List<HistoricOperationEvent> historicEvents = processHelper.getHistoricOperationEventByProcessId(operation.getProcessId());
         if (historicEvents.isEmpty()) {
@@ -0,0 +1,222 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.cloudfoundry.multiapps.common.ContentException;
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableFileContentToProcess;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.stream.PrefetchingRangeInputStream;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveBufferPool.PooledBuffer;
+import org.cloudfoundry.multiapps.mta.util.EntryToInflate;
+import org.cloudfoundry.multiapps.mta.util.InflatorUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Downloads large archive entries with several concurrent ranged reads instead of a single stream. Stored entries are written directly
+ * at their position in a preallocated file, while deflated entries are inflated from chunks that are prefetched ahead of the inflater.
+ */
+@Named
+public class ParallelArchiveEntryDownloader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelArchiveEntryDownloader.class);
+
+    private final FileService fileService;
+    private final ApplicationConfiguration configuration;
+    private final ExecutorService moduleDownloadThreadPool;
+    private final ArchiveBufferPool archiveBufferPool;
+
+    @Inject
+    public ParallelArchiveEntryDownloader(FileService fileService, ApplicationConfiguration configuration,
+                                          ExecutorService moduleDownloadThreadPool, ArchiveBufferPool archiveBufferPool) {
+        this.fileService = fileService;
+        this.configuration = configuration;
+        this.moduleDownloadThreadPool = moduleDownloadThreadPool;
+        this.archiveBufferPool = archiveBufferPool;
+    }
+
+    public boolean shouldDownloadInParallel(ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions) {
+        return configuration.getThreadsForModuleDownload() > 1
+            && getCompressedSize(archiveEntryWithStreamPositions) > configuration.getModuleDownloadChunkSize();
+    }
+
+    public void downloadEntry(FileEntryProperties fileEntryProperties, ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions,
+                              Path targetPath)
+        throws IOException {
+        long chunksCount = Math.ceilDiv(getCompressedSize(archiveEntryWithStreamPositions), configuration.getModuleDownloadChunkSize());
+        LOGGER.debug(MessageFormat.format(Messages.DOWNLOADING_ENTRY_0_OF_ARCHIVE_1_IN_2_CHUNKS, fileEntryProperties.getName(),
+                                          fileEntryProperties.getGuid(), chunksCount));
+        if (archiveEntryWithStreamPositions.getCompressionMethod() == ArchiveEntryWithStreamPositions.CompressionMethod.STORED) {
+            downloadStoredEntry(fileEntryProperties, archiveEntryWithStreamPositions, targetPath);
+        } else {
+            downloadDeflatedEntry(fileEntryProperties, archiveEntryWithStreamPositions, targetPath);
+        }
+    }
+
+    private void downloadStoredEntry(FileEntryProperties fileEntryProperties,
+                                     ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions, Path targetPath)
+        throws IOException {
+        long entrySize = getCompressedSize(archiveEntryWithStreamPositions);
+        if (entrySize > fileEntryProperties.getMaxFileSizeInBytes()) {
+            throw new ContentException(org.cloudfoundry.multiapps.mta.Messages.ERROR_SIZE_OF_FILE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT,
+                                       entrySize,
+                                       fileEntryProperties.getName(),
+                                       fileEntryProperties.getMaxFileSizeInBytes());
+        }
+        List<FileContentToProcess> chunks = splitIntoChunks(fileEntryProperties, archiveEntryWithStreamPositions);
+        try (FileChannel fileChannel = FileChannel.open(targetPath, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+            preallocate(fileChannel, entrySize);
+            int threads = Math.min(configuration.getThreadsForModuleDownload(), chunks.size());
+            List<Future<?>> runningDownloads = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                List<FileContentToProcess> chunksForThread = getChunksForThread(chunks, thread, threads);
+                runningDownloads.add(moduleDownloadThreadPool.submit(() -> {
+                    downloadChunks(chunksForThread, archiveEntryWithStreamPositions.getStartPosition(), fileChannel);
+                    return null;
+                }));
+            }
+            awaitDownloads(runningDownloads);
+        }
+    }
+
+    private void preallocate(FileChannel fileChannel, long size) throws IOException {
+        if (size > 0) {
+            fileChannel.write(ByteBuffer.allocate(1), size - 1);
+        }
+    }
+
+    private List<FileContentToProcess> getChunksForThread(List<FileContentToProcess> chunks, int thread, int threads) {
+        List<FileContentToProcess> chunksForThread = new ArrayList<>();
+        for (int i = thread; i < chunks.size(); i += threads) {
+            chunksForThread.add(chunks.get(i));
+        }
+        return chunksForThread;
+    }
+
+    private void downloadChunks(List<FileContentToProcess> chunks, long entryStartOffset, FileChannel fileChannel)
+        throws FileStorageException {
+        for (FileContentToProcess chunk : chunks) {
+            fileService.consumeFileContentWithOffset(chunk, chunkStream -> writeChunk(chunk, chunkStream,
+                                                                                      chunk.getStartOffset() - entryStartOffset,
+                                                                                      fileChannel));
+        }
+    }
+
+    private void writeChunk(FileContentToProcess chunk, InputStream chunkStream, long filePosition, FileChannel fileChannel)
+        throws IOException {
+        long chunkLength = chunk.getEndOffset() - chunk.getStartOffset() + 1;
+        try (PooledBuffer pooledBuffer = archiveBufferPool.acquire()) {
+            byte[] buffer = pooledBuffer.get();
+            long writtenBytes = 0;
+            while (writtenBytes < chunkLength) {
+                int bytesRead = chunkStream.read(buffer, 0, (int) Math.min(buffer.length, chunkLength - writtenBytes));
+                if (bytesRead == -1) {
+                    throw new IOException(MessageFormat.format(Messages.INCOMPLETE_ARCHIVE_RANGE_OFFSET_0_EXPECTED_1_BYTES_READ_2,
+                                                               chunk.getStartOffset(), chunkLength, writtenBytes));
+                }
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    writtenBytes += fileChannel.write(byteBuffer, filePosition + writtenBytes);
+                }
+            }
+        }
+    }
+
+    private void awaitDownloads(List<Future<?>> runningDownloads) throws IOException {
+        try {
+            for (Future<?> runningDownload : runningDownloads) {
+                runningDownload.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            runningDownloads.forEach(runningDownload -> runningDownload.cancel(true));
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            runningDownloads.forEach(runningDownload -> runningDownload.cancel(true));
+            throw new IOException(e.getCause()
+                                   .getMessage(), e.getCause());
+        }
+    }
+
+    private void downloadDeflatedEntry(FileEntryProperties fileEntryProperties,
+                                       ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions, Path targetPath)
+        throws IOException {
+        try (InputStream entryStream = new PrefetchingRangeInputStream(fileService,
+                                                                       toFileContentToProcess(fileEntryProperties,
+                                                                                              archiveEntryWithStreamPositions),
+                                                                       getChunkSize(),
+                                                                       configuration.getThreadsForModuleDownload(),
+                                                                       moduleDownloadThreadPool);
+            OutputStream fileOutputStream = Files.newOutputStream(targetPath)) {
+            InflatorUtil.inflate(new EntryToInflate(fileEntryProperties.getName(),
+                                                    fileEntryProperties.getMaxFileSizeInBytes(),
+                                                    entryStream),
+                                 (bytesBuffer, bytesRead) -> writeInflatedContent(bytesBuffer, bytesRead, fileOutputStream));
+        }
+    }
+
+    private void writeInflatedContent(byte[] bytesBuffer, int bytesRead, OutputStream fileOutputStream) {
+        try {
+            fileOutputStream.write(bytesBuffer, 0, bytesRead);
+        } catch (IOException e) {
+            throw new SLException(e, e.getMessage());
+        }
+    }
+
+    private List<FileContentToProcess> splitIntoChunks(FileEntryProperties fileEntryProperties,
+                                                       ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions) {
+        FileContentToProcess entryRange = toFileContentToProcess(fileEntryProperties, archiveEntryWithStreamPositions);
+        int chunkSize = getChunkSize();
+        List<FileContentToProcess> chunks = new ArrayList<>();
+        for (long chunkStartOffset = entryRange.getStartOffset(); chunkStartOffset <= entryRange.getEndOffset();
+             chunkStartOffset += chunkSize) {
+            chunks.add(ImmutableFileContentToProcess.copyOf(entryRange)
+                                                    .withStartOffset(chunkStartOffset)
+                                                    .withEndOffset(Math.min(chunkStartOffset + chunkSize - 1, entryRange.getEndOffset())));
+        }
+        return chunks;
+    }
+
+    private FileContentToProcess toFileContentToProcess(FileEntryProperties fileEntryProperties,
+                                                        ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions) {
+        // The end offset of a ranged read is inclusive, while the end position of an entry points right after its data
+        return ImmutableFileContentToProcess.builder()
+                                            .guid(fileEntryProperties.getGuid())
+                                            .spaceGuid(fileEntryProperties.getSpaceGuid())
+                                            .startOffset(archiveEntryWithStreamPositions.getStartPosition())
+                                            .endOffset(archiveEntryWithStreamPositions.getEndPosition() - 1)
+                                            .build();
+    }
+
+    private int getChunkSize() {
+        return Math.toIntExact(configuration.getModuleDownloadChunkSize());
+    }
+
+    private long getCompressedSize(ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions) {
+        return archiveEntryWithStreamPositions.getEndPosition() - archiveEntryWithStreamPositions.getStartPosition();
+    }
+
+}
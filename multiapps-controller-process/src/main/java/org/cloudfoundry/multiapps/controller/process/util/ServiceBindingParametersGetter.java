@@ -34,11 +34,14 @@ public class ServiceBindingParametersGetter {
     private final ProcessContext context;
 
     private final ArchiveEntryExtractor archiveEntryExtractor;
+    private final ArchiveEntriesProvider archiveEntriesProvider;
     private final long maxManifestSize;
 
-    public ServiceBindingParametersGetter(ProcessContext context, ArchiveEntryExtractor archiveEntryExtractor, long maxManifestSize) {
+    public ServiceBindingParametersGetter(ProcessContext context, ArchiveEntryExtractor archiveEntryExtractor,
+                                          ArchiveEntriesProvider archiveEntriesProvider, long maxManifestSize) {
         this.context = context;
         this.archiveEntryExtractor = archiveEntryExtractor;
+        this.archiveEntriesProvider = archiveEntriesProvider;
         this.maxManifestSize = maxManifestSize;
     }
 
@@ -82,8 +85,9 @@ public class ServiceBindingParametersGetter {
             return Collections.emptyMap();
         }
         String appArchiveId = context.getRequiredVariable(Variables.APP_ARCHIVE_ID);
-        ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions = ArchiveEntryExtractorUtil.findEntry(fileName, context.getVariable(
-            Variables.ARCHIVE_ENTRIES_POSITIONS));
+        ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions = ArchiveEntryExtractorUtil.findEntry(fileName,
+                                                                                                              archiveEntriesProvider.getArchiveEntries(
+                                                                                                                  context));
         byte[] serviceBindingParametersFileContent = archiveEntryExtractor.extractEntryBytes(ImmutableFileEntryProperties.builder()
                                                                                                                          .guid(appArchiveId)
                                                                                                                          .name(
@@ -1,43 +1,78 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Named;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
-import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudEvent;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceInstance;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ServiceOperation;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudServiceInstanceExtended;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 @Named
 public class ServiceOperationGetter {
 
     private static final String USER_PROVIDED_SERVICE_EVENT_TYPE_DELETE = "audit.user_provided_service_instance.delete";
     private static final String SERVICE_EVENT_TYPE_DELETE = "audit.service_instance.delete";
+    private static final int MAX_CONCURRENT_DELETE_EVENT_CHECKS = 16;
+
+    /**
+     * The service instances are requested by name in batches, so the number of requests does not grow with the number of services. Only
+     * the services, which no longer exist, are checked one by one for delete events.
+     *
+     * @return the last operations of the services by their names, without the services for which there is no information about it
+     */
+    public Map<String, ServiceOperation> getLastServiceOperations(CloudControllerClient client,
+                                                                  List<CloudServiceInstanceExtended> services) {
+        List<String> serviceNames = services.stream()
+                                            .map(CloudServiceInstanceExtended::getName)
+                                            .toList();
+        Map<String, CloudServiceInstance> existingServices = client.getServiceInstancesWithoutAuxiliaryContentByNames(serviceNames)
+                                                                   .stream()
+                                                                   .collect(Collectors.toMap(CloudServiceInstance::getName,
+                                                                                             Function.identity(),
+                                                                                             (first, second) -> first));
+        CloudControllerAsyncClient asyncClient = client.getAsyncClient();
+        return Flux.fromIterable(services)
+                   .flatMap(service -> getLastServiceOperation(asyncClient, service, existingServices.get(service.getName()))
+                       .map(lastOperation -> Map.entry(service.getName(), lastOperation)), MAX_CONCURRENT_DELETE_EVENT_CHECKS)
+                   .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                   .block();
+    }
 
-    public ServiceOperation getLastServiceOperation(CloudControllerClient client, CloudServiceInstanceExtended service) {
-        CloudServiceInstance serviceInstance = client.getServiceInstance(service.getName(), false);
-        if (serviceInstance == null) {
-            return getLastDeleteServiceOperation(client, service);
+    private Mono<ServiceOperation> getLastServiceOperation(CloudControllerAsyncClient asyncClient, CloudServiceInstanceExtended service,
+                                                           CloudServiceInstance existingService) {
+        if (existingService != null) {
+            return Mono.justOrEmpty(existingService.getLastOperation());
         }
-        return serviceInstance.getLastOperation();
+        return getLastDeleteServiceOperation(asyncClient, service);
     }
 
-    private ServiceOperation getLastDeleteServiceOperation(CloudControllerClient client, CloudServiceInstanceExtended service) {
+    private Mono<ServiceOperation> getLastDeleteServiceOperation(CloudControllerAsyncClient asyncClient,
+                                                                 CloudServiceInstanceExtended service) {
         if (service.getMetadata() == null) {
-            return null;
+            return Mono.empty();
         }
-        boolean isServiceDeleted = isServiceDeleted(client, service.getMetadata()
-                                                                   .getGuid());
+        return isServiceDeleted(asyncClient, service.getMetadata()
+                                                    .getGuid()).map(this::createDeleteServiceOperation);
+    }
+
+    private ServiceOperation createDeleteServiceOperation(boolean isServiceDeleted) {
         ServiceOperation.State operationState = isServiceDeleted ? ServiceOperation.State.SUCCEEDED : ServiceOperation.State.IN_PROGRESS;
         return new ServiceOperation(ServiceOperation.Type.DELETE, ServiceOperation.Type.DELETE.name(), operationState);
     }
 
-    private boolean isServiceDeleted(CloudControllerClient client, UUID uuid) {
-        List<CloudEvent> serviceEvent = client.getEventsByActee(uuid);
-        return serviceEvent.stream()
-                           .anyMatch(cloudEvent -> isDeleteEvent(cloudEvent.getType()));
+    private Mono<Boolean> isServiceDeleted(CloudControllerAsyncClient asyncClient, UUID uuid) {
+        return asyncClient.getEventsByActee(uuid)
+                          .map(serviceEvents -> serviceEvents.stream()
+                                                             .anyMatch(cloudEvent -> isDeleteEvent(cloudEvent.getType())));
     }
 
     private boolean isDeleteEvent(String eventType) {
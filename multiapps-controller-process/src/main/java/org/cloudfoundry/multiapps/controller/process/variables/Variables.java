@@ -37,7 +37,6 @@ import org.cloudfoundry.multiapps.controller.persistence.model.ConfigurationSubs
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.process.DeployStrategy;
 import org.cloudfoundry.multiapps.controller.process.steps.StepPhase;
-import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.util.ServiceAction;
 import org.cloudfoundry.multiapps.controller.process.util.ServiceDeletionActions;
 import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
@@ -681,6 +680,12 @@ public interface Variables {
     Variable<LocalDateTime> UPLOAD_START_TIME = ImmutableSimpleVariable.<LocalDateTime> builder()
                                                                        .name("uploadStartTime")
                                                                        .build();
+    Variable<String> APP_UPLOAD_ID = ImmutableSimpleVariable.<String> builder()
+                                                            .name("appUploadId")
+                                                            .build();
+    Variable<String> APP_UPLOAD_OWNER = ImmutableSimpleVariable.<String> builder()
+                                                               .name("appUploadOwner")
+                                                               .build();
 
     // TODO: keep custom serializers only for one release, delete after
     // Variable<List<List<CloudServiceInstanceExtended>>> BATCHES_TO_PROCESS =
@@ -899,6 +904,9 @@ public interface Variables {
     Variable<String> CALCULATED_APPLICATION_DIGEST = ImmutableSimpleVariable.<String> builder()
                                                                             .name("calculatedApplicationDigest")
                                                                             .build();
+    Variable<String> MODULE_CONTENT_KEY = ImmutableSimpleVariable.<String> builder()
+                                                                 .name("moduleContentKey")
+                                                                 .build();
     Variable<Boolean> SHOULD_UPDATE_APPLICATION_DIGEST = ImmutableSimpleVariable.<Boolean> builder()
                                                                                 .name("shouldUpdateApplicationDigest")
                                                                                 .defaultValue(false)
@@ -907,13 +915,6 @@ public interface Variables {
                                                                               .name("shouldSkipApplicationUpload")
                                                                               .defaultValue(false)
                                                                               .build();
-
-    Variable<List<ArchiveEntryWithStreamPositions>> ARCHIVE_ENTRIES_POSITIONS = ImmutableJsonStringListVariable.<ArchiveEntryWithStreamPositions> builder()
-                                                                                                               .name(
-                                                                                                                   "archiveEntriesPositions")
-                                                                                                               .type(new TypeReference<>() {
-                                                                                                               })
-                                                                                                               .build();
     Variable<Boolean> MUST_RESET_TIMEOUT = ImmutableSimpleVariable.<Boolean> builder()
                                                                   .name("mustResetTimeout")
                                                                   .defaultValue(false)
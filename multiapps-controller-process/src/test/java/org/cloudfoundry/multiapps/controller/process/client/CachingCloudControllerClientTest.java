@@ -0,0 +1,166 @@
+package org.cloudfoundry.multiapps.controller.process.client;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.cloudfoundry.client.v3.Metadata;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudApplication;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingCloudControllerClientTest {
+
+    private static final String APP_NAME = "foo";
+    private static final String NEW_APP_NAME = "bar";
+    private static final UUID APP_GUID = UUID.randomUUID();
+    private static final String SERVICE_INSTANCE_NAME = "baz";
+    private static final UUID SERVICE_INSTANCE_GUID = UUID.randomUUID();
+    private static final String STACK_NAME = "cflinuxfs4";
+    private static final int CONCURRENT_READS = 100;
+
+    @Mock
+    private CloudControllerClient delegate;
+
+    private CloudControllerClientCache cache;
+    private CachingCloudControllerClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        cache = new CloudControllerClientCache();
+        client = new CachingCloudControllerClient(delegate, cache);
+    }
+
+    @Test
+    void testApplicationGuidIsRequestedOnce() {
+        when(delegate.getApplicationGuid(APP_NAME)).thenReturn(APP_GUID);
+
+        assertEquals(APP_GUID, client.getApplicationGuid(APP_NAME));
+        assertEquals(APP_GUID, client.getApplicationGuid(APP_NAME));
+
+        verify(delegate).getApplicationGuid(APP_NAME);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void testMissingStackIsNotCached() {
+        assertNull(client.getStack(STACK_NAME, false));
+        assertNull(client.getStack(STACK_NAME, false));
+
+        verify(delegate, times(2)).getStack(STACK_NAME, false);
+    }
+
+    @Test
+    void testApplicationIsNotCached() {
+        CloudApplication stoppedApplication = createApplication(CloudApplication.State.STOPPED);
+        CloudApplication startedApplication = createApplication(CloudApplication.State.STARTED);
+        when(delegate.getApplication(APP_NAME)).thenReturn(stoppedApplication, startedApplication);
+
+        client.getApplication(APP_NAME);
+
+        assertEquals(startedApplication, client.getApplication(APP_NAME));
+        verify(delegate, times(2)).getApplication(APP_NAME);
+    }
+
+    @Test
+    void testApplicationGuidReadDuringDeletionIsNotServedAfterIt() {
+        UUID newAppGuid = UUID.randomUUID();
+        when(delegate.getApplicationGuid(APP_NAME)).thenReturn(APP_GUID, newAppGuid);
+        // Simulates a read from another thread while the application is being deleted
+        doAnswer(invocation -> client.getApplicationGuid(APP_NAME)).when(delegate)
+                                                                    .deleteApplication(APP_NAME);
+
+        client.deleteApplication(APP_NAME);
+
+        assertEquals(newAppGuid, client.getApplicationGuid(APP_NAME));
+    }
+
+    @Test
+    void testApplicationGuidIsRequestedAgainAfterRename() {
+        when(delegate.getApplicationGuid(APP_NAME)).thenReturn(APP_GUID);
+        when(delegate.getApplicationName(APP_GUID)).thenReturn(APP_NAME, NEW_APP_NAME);
+
+        client.getApplicationGuid(APP_NAME);
+        client.getApplicationName(APP_GUID);
+        client.rename(APP_NAME, NEW_APP_NAME);
+        client.getApplicationGuid(APP_NAME);
+
+        assertEquals(NEW_APP_NAME, client.getApplicationName(APP_GUID));
+        verify(delegate, times(2)).getApplicationGuid(APP_NAME);
+    }
+
+    @Test
+    void testApplicationNameIsRequestedAgainAfterMetadataUpdate() {
+        when(delegate.getApplicationName(APP_GUID)).thenReturn(APP_NAME);
+
+        client.getApplicationName(APP_GUID);
+        client.updateApplicationMetadata(APP_GUID, Metadata.builder()
+                                                           .build());
+        client.getApplicationName(APP_GUID);
+
+        verify(delegate, times(2)).getApplicationName(APP_GUID);
+    }
+
+    @Test
+    void testServiceInstanceGuidIsRequestedAgainAfterBinding() {
+        when(delegate.getRequiredServiceInstanceGuid(SERVICE_INSTANCE_NAME)).thenReturn(SERVICE_INSTANCE_GUID);
+
+        client.getRequiredServiceInstanceGuid(SERVICE_INSTANCE_NAME);
+        client.bindServiceInstance("binding", APP_NAME, SERVICE_INSTANCE_NAME);
+        client.getRequiredServiceInstanceGuid(SERVICE_INSTANCE_NAME);
+        client.unbindServiceInstance(APP_NAME, SERVICE_INSTANCE_NAME);
+        client.getRequiredServiceInstanceGuid(SERVICE_INSTANCE_NAME);
+
+        verify(delegate, times(3)).getRequiredServiceInstanceGuid(SERVICE_INSTANCE_NAME);
+    }
+
+    @Test
+    void testDomainsAreRequestedAgainAfterDomainIsAdded() {
+        client.getDomains();
+        client.getDomains();
+        client.addDomain("example.com");
+        client.getDomains();
+
+        verify(delegate, times(2)).getDomains();
+    }
+
+    @Test
+    void testConcurrentReadsShareTheCache() throws Exception {
+        when(delegate.getApplicationGuid(APP_NAME)).thenReturn(APP_GUID);
+        List<Callable<UUID>> reads = Collections.nCopies(CONCURRENT_READS, () -> client.getApplicationGuid(APP_NAME));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Future<UUID> read : executor.invokeAll(reads)) {
+                assertEquals(APP_GUID, read.get());
+            }
+        }
+
+        assertEquals(CONCURRENT_READS, cache.getHits() + cache.getMisses());
+    }
+
+    private CloudApplication createApplication(CloudApplication.State state) {
+        return ImmutableCloudApplication.builder()
+                                        .name(APP_NAME)
+                                        .state(state)
+                                        .build();
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.cloudfoundry.multiapps.controller.process.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cloudfoundry.multiapps.controller.process.client.CloudControllerClientCache.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CloudControllerClientCacheFactoryTest {
+
+    private MeterRegistry registry;
+    private CloudControllerClientCacheFactory clientCacheFactory;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        clientCacheFactory = new CloudControllerClientCacheFactory(registry);
+    }
+
+    @Test
+    void testEachCacheIsNew() {
+        assertNotSame(clientCacheFactory.createCache(), clientCacheFactory.createCache());
+    }
+
+    @Test
+    void testHitsAndMissesOfAllCachesAreExported() {
+        CloudControllerClientCache cache = clientCacheFactory.createCache();
+        cache.get(EntityType.STACKS, "", () -> "stacks");
+        cache.get(EntityType.STACKS, "", () -> "stacks");
+        CloudControllerClientCache otherCache = clientCacheFactory.createCache();
+        otherCache.get(EntityType.STACKS, "", () -> "stacks");
+
+        assertEquals(1, getFunctionCount("hits"));
+        assertEquals(2, getFunctionCount("misses"));
+    }
+
+    private double getFunctionCount(String metricName) {
+        return registry.get(CloudControllerClientCacheFactory.METRICS_PREFIX + metricName)
+                       .functionCounter()
+                       .count();
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.cloudfoundry.multiapps.controller.core.test.MockBuilder;
+import org.cloudfoundry.multiapps.controller.persistence.query.ArchiveEntriesIndexQuery;
+import org.cloudfoundry.multiapps.controller.persistence.services.ArchiveEntriesIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ArchiveEntriesIndexCleanerTest {
+
+    private static final LocalDateTime EXPIRATION_TIME = LocalDateTime.ofInstant(Instant.ofEpochMilli(5000), ZoneId.systemDefault());
+
+    @Mock
+    private ArchiveEntriesIndexService archiveEntriesIndexService;
+    @Mock(answer = Answers.RETURNS_SELF)
+    private ArchiveEntriesIndexQuery archiveEntriesIndexQuery;
+    @InjectMocks
+    private ArchiveEntriesIndexCleaner cleaner;
+
+    @BeforeEach
+    void initMocks() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(archiveEntriesIndexService.createQuery()).thenReturn(archiveEntriesIndexQuery);
+        new MockBuilder<>(archiveEntriesIndexQuery).on(query -> query.olderThan(EXPIRATION_TIME))
+                                                   .build();
+    }
+
+    @Test
+    void testExecute() {
+        cleaner.execute(EXPIRATION_TIME);
+        verify(archiveEntriesIndexService.createQuery()
+                                         .olderThan(EXPIRATION_TIME)).delete();
+    }
+
+}
@@ -1,14 +1,29 @@
 package org.cloudfoundry.multiapps.controller.process.jobs;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.CleanerLeaseService;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
+import org.springframework.core.annotation.Order;
 
 class CleanUpJobTest {
 
+    private static final String EVERY_THIRTY_SECONDS = "*/30 * * * * *";
+
     @Test
     void testExecutionResilience() {
         Cleaner cleaner1 = Mockito.mock(Cleaner.class);
@@ -19,7 +34,7 @@ class CleanUpJobTest {
         Cleaner cleaner3 = Mockito.mock(Cleaner.class);
         List<Cleaner> cleaners = List.of(cleaner1, cleaner2, cleaner3);
 
-        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), cleaners);
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), cleaners, getMockedCleanerLeaseService(true));
         cleanUpJob.execute();
 
         Mockito.verify(cleaner1)
@@ -31,20 +46,168 @@ class CleanUpJobTest {
                .execute(Mockito.any());
     }
 
-    private CleanUpJob createCleanUpJob(ApplicationConfiguration applicationConfiguration, List<Cleaner> cleaners) {
+    @Test
+    void testCleanersLeasedByAnotherInstanceAreSkipped() {
+        Cleaner cleaner = Mockito.mock(Cleaner.class);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(cleaner),
+                                                 getMockedCleanerLeaseService(false));
+        cleanUpJob.execute();
+
+        Mockito.verify(cleaner, Mockito.never())
+               .execute(Mockito.any());
+    }
+
+    @Test
+    void testLeaseIsReleasedWhenCleanerFails() {
+        Cleaner cleaner = Mockito.mock(Cleaner.class);
+        Mockito.doThrow(new SLException("Will it work?"))
+               .when(cleaner)
+               .execute(Mockito.any());
+        CleanerLeaseService cleanerLeaseService = getMockedCleanerLeaseService(true);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(cleaner), cleanerLeaseService);
+        cleanUpJob.execute();
+
+        Mockito.verify(cleanerLeaseService)
+               .release(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testNextCleanersWaitUntilTheCleanersBeforeThemFinishOnAnotherInstance() {
+        FirstCleaner firstCleaner = Mockito.mock(FirstCleaner.class);
+        SecondCleaner secondCleaner = Mockito.mock(SecondCleaner.class);
+        CleanerLeaseService cleanerLeaseService = getMockedCleanerLeaseService(true);
+        Mockito.when(cleanerLeaseService.acquire(Mockito.eq("FirstCleaner"), Mockito.any(), Mockito.any(), Mockito.any()))
+               .thenReturn(false);
+        Mockito.when(cleanerLeaseService.areFinished(Mockito.eq(List.of("FirstCleaner")), Mockito.any()))
+               .thenReturn(false, false, true);
+        Mockito.when(cleanerLeaseService.isAnyLeased(List.of("FirstCleaner")))
+               .thenReturn(true);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(secondCleaner, firstCleaner),
+                                                 cleanerLeaseService);
+        cleanUpJob.execute();
+
+        InOrder inOrder = Mockito.inOrder(cleanerLeaseService, secondCleaner);
+        inOrder.verify(cleanerLeaseService, Mockito.times(3))
+               .areFinished(Mockito.eq(List.of("FirstCleaner")), Mockito.any());
+        inOrder.verify(secondCleaner)
+               .execute(Mockito.any());
+        Mockito.verify(firstCleaner, Mockito.never())
+               .execute(Mockito.any());
+    }
+
+    @Test
+    void testNextCleanersAreSkippedWhenTheCleanersBeforeThemAreAbandoned() {
+        FirstCleaner firstCleaner = Mockito.mock(FirstCleaner.class);
+        SecondCleaner secondCleaner = Mockito.mock(SecondCleaner.class);
+        CleanerLeaseService cleanerLeaseService = getMockedCleanerLeaseService(false);
+        Mockito.when(cleanerLeaseService.areFinished(Mockito.any(), Mockito.any()))
+               .thenReturn(false);
+        Mockito.when(cleanerLeaseService.isAnyLeased(Mockito.any()))
+               .thenReturn(false);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(firstCleaner, secondCleaner),
+                                                 cleanerLeaseService);
+        cleanUpJob.execute();
+
+        Mockito.verify(cleanerLeaseService, Mockito.never())
+               .acquire(Mockito.eq("SecondCleaner"), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testDeletedItemsAreCounted() {
+        Cleaner cleaner1 = Mockito.mock(Cleaner.class);
+        Mockito.when(cleaner1.execute(Mockito.any()))
+               .thenReturn(5L);
+        Cleaner cleaner2 = Mockito.mock(Cleaner.class);
+        Mockito.when(cleaner2.execute(Mockito.any()))
+               .thenReturn(3L);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(cleaner1, cleaner2),
+                                                     getMockedCleanerLeaseService(true));
+            cleanUpJob.execute();
+
+            double deletedItems = registry.find(CleanUpJob.METRICS_PREFIX + "deleted.items")
+                                          .counters()
+                                          .stream()
+                                          .mapToDouble(Counter::count)
+                                          .sum();
+            assertEquals(8, deletedItems);
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    @Test
+    void testLeaseDurationIsPositiveWhenRunsAreCloserThanClockSkewTolerance() {
+        Cleaner cleaner = Mockito.mock(Cleaner.class);
+        ApplicationConfiguration configuration = getMockedApplicationConfiguration();
+        Mockito.when(configuration.getCronExpressionForOldData())
+               .thenReturn(EVERY_THIRTY_SECONDS);
+        CleanerLeaseService cleanerLeaseService = getMockedCleanerLeaseService(true);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(configuration, List.of(cleaner), cleanerLeaseService);
+        cleanUpJob.execute();
+
+        ArgumentCaptor<Duration> leaseDuration = ArgumentCaptor.forClass(Duration.class);
+        Mockito.verify(cleanerLeaseService)
+               .acquire(Mockito.any(), Mockito.any(), Mockito.any(), leaseDuration.capture());
+        assertTrue(leaseDuration.getValue()
+                                .isPositive());
+    }
+
+    private CleanUpJob createCleanUpJob(ApplicationConfiguration applicationConfiguration, List<Cleaner> cleaners,
+                                        CleanerLeaseService cleanerLeaseService) {
         CleanUpJob cleanUpJob = new CleanUpJob();
         cleanUpJob.configuration = applicationConfiguration;
         cleanUpJob.cleaners = cleaners;
+        cleanUpJob.cleanerLeaseService = cleanerLeaseService;
+        cleanUpJob.finishedCleanersPollInterval = Duration.ZERO;
         return cleanUpJob;
     }
 
+    private CleanerLeaseService getMockedCleanerLeaseService(boolean isLeaseAcquired) {
+        CleanerLeaseService cleanerLeaseService = Mockito.mock(CleanerLeaseService.class);
+        Mockito.when(cleanerLeaseService.acquire(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+               .thenReturn(isLeaseAcquired);
+        Mockito.when(cleanerLeaseService.areFinished(Mockito.any(), Mockito.any()))
+               .thenReturn(true);
+        return cleanerLeaseService;
+    }
+
     private ApplicationConfiguration getMockedApplicationConfiguration() {
         ApplicationConfiguration configuration = Mockito.mock(ApplicationConfiguration.class);
         Mockito.when(configuration.getApplicationInstanceIndex())
                .thenReturn(0);
         Mockito.when(configuration.getMaxTtlForOldData())
                .thenReturn(ApplicationConfiguration.DEFAULT_MAX_TTL_FOR_OLD_DATA);
+        Mockito.when(configuration.getCronExpressionForOldData())
+               .thenReturn(ApplicationConfiguration.DEFAULT_CRON_EXPRESSION_FOR_OLD_DATA);
         return  configuration;
     }
 
+    @Order(1)
+    static class FirstCleaner implements Cleaner {
+
+        @Override
+        public long execute(LocalDateTime expirationTime) {
+            return 0;
+        }
+
+    }
+
+    @Order(2)
+    static class SecondCleaner implements Cleaner {
+
+        @Override
+        public long execute(LocalDateTime expirationTime) {
+            return 0;
+        }
+
+    }
+
 }
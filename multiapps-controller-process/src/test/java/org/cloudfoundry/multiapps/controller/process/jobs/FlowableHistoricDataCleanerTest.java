@@ -1,9 +1,11 @@
 package org.cloudfoundry.multiapps.controller.process.jobs;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,9 +58,9 @@ class FlowableHistoricDataCleanerTest {
         when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
 
         cleaner.execute(EXPIRATION_TIME);
-        verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_1);
-        verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_2);
-        verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_3);
+        verify(historyService).bulkDeleteHistoricProcessInstances(List.of(OPERATION_ID_1, OPERATION_ID_2));
+        verify(historyService).bulkDeleteHistoricProcessInstances(List.of(OPERATION_ID_3));
+        verify(historyService, never()).deleteHistoricProcessInstance(any());
     }
 
     private HistoricProcessInstance mockHistoricProcessInstanceWithId(String id) {
@@ -94,6 +96,9 @@ class FlowableHistoricDataCleanerTest {
 
         HistoricProcessInstanceQuery query = mockHistoricProcessInstanceQueryWithPages(List.of(page1, page2));
         when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
+        doThrow(new FlowableObjectNotFoundException("Oops! Someone was faster than you!")).when(historyService)
+                                                                                          .bulkDeleteHistoricProcessInstances(
+                                                                                              List.of(OPERATION_ID_1, OPERATION_ID_2));
         doThrow(new FlowableObjectNotFoundException("Oops! Someone was faster than you!")).when(historyService)
                                                                                           .deleteHistoricProcessInstance(OPERATION_ID_1);
 
@@ -0,0 +1,43 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.ModuleContentCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ModuleContentCacheCleanerTest {
+
+    private static final LocalDateTime EXPIRATION_TIME = LocalDateTime.ofInstant(Instant.ofEpochMilli(5000), ZoneId.systemDefault());
+    private static final int MAX_MODULE_CONTENT_CACHE_ENTRIES = 100;
+
+    @Mock
+    private ModuleContentCacheService moduleContentCacheService;
+    @Mock
+    private ApplicationConfiguration configuration;
+    @InjectMocks
+    private ModuleContentCacheCleaner cleaner;
+
+    @BeforeEach
+    void initMocks() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(configuration.getMaxModuleContentCacheEntries()).thenReturn(MAX_MODULE_CONTENT_CACHE_ENTRIES);
+    }
+
+    @Test
+    void testExecute() {
+        cleaner.execute(EXPIRATION_TIME);
+        verify(moduleContentCacheService).deleteLeastRecentlyUsed(MAX_MODULE_CONTENT_CACHE_ENTRIES);
+    }
+
+}
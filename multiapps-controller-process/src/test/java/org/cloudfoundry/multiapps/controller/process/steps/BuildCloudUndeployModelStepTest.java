@@ -35,6 +35,8 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
+import reactor.core.publisher.Mono;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -118,9 +120,11 @@ class BuildCloudUndeployModelStepTest extends SyncFlowableStepTest<BuildCloudUnd
     private DeploymentDescriptor deploymentDescriptor;
 
     private void prepareClient() {
+        Mockito.when(client.getAsyncClient())
+               .thenReturn(asyncClient);
         for (CloudApplicationExtended application : deployedApps) {
-            Mockito.when(client.getApplication(application.getName(), false))
-                   .thenReturn(application);
+            Mockito.when(asyncClient.getApplication(application.getName()))
+                   .thenReturn(Mono.just(application));
         }
         Mockito.when(clientProvider.getControllerClient(anyString(), anyString(), anyString()))
                .thenReturn(client);
@@ -22,6 +22,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 
+import reactor.core.publisher.Mono;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
@@ -101,7 +103,7 @@ class CheckServicesToDeleteStepTest extends SyncFlowableStepTest<CheckServicesTo
                                                                                                 .name(serviceName)
                                                                                                 .lastOperation(lastServiceOperation)
                                                                                                 .build();
-            when(client.getServiceInstance(serviceName, false)).thenReturn(returnedService);
+            when(asyncClient.getServiceInstance(serviceName)).thenReturn(Mono.just(returnedService));
         }
     }
 
@@ -136,8 +136,8 @@ class CreateServiceStepTest extends SyncFlowableStepTest<CreateServiceStep> {
 
     private void prepareServiceOperationsGetter(CloudServiceInstanceExtended service) {
         context.setVariable(Variables.SERVICES_TO_CREATE, List.of(service));
-        when(serviceOperationGetter.getLastServiceOperation(any(), any())).thenReturn(
-            new ServiceOperation(ServiceOperation.Type.CREATE, "create done", ServiceOperation.State.IN_PROGRESS));
+        when(serviceOperationGetter.getLastServiceOperations(any(), any())).thenReturn(
+            Map.of(service.getName(), new ServiceOperation(ServiceOperation.Type.CREATE, "create done", ServiceOperation.State.IN_PROGRESS)));
     }
 
     @Test
@@ -2,6 +2,7 @@ package org.cloudfoundry.multiapps.controller.process.steps;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -70,7 +71,7 @@ class DeleteServiceStepTest extends SyncFlowableStepTest<DeleteServiceStep> {
         CloudServiceInstance serviceInstance = createCloudService(serviceGuid);
         prepareClient(serviceInstance);
         ServiceOperation lastOp = new ServiceOperation(ServiceOperation.Type.DELETE, "", ServiceOperation.State.SUCCEEDED);
-        when(serviceOperationGetter.getLastServiceOperation(any(), any())).thenReturn(lastOp);
+        when(serviceOperationGetter.getLastServiceOperations(any(), any())).thenReturn(Map.of(SERVICE_NAME, lastOp));
 
         step.execute(context.getExecution());
         assertStepPhase(StepPhase.POLL);
@@ -8,7 +8,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.cloudfoundry.multiapps.common.SLException;
-import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudApplication;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudApplication;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableLifecycle;
@@ -29,6 +28,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 
+import reactor.core.publisher.Mono;
+
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -102,11 +103,8 @@ class DetectApplicationsToRenameStepTest extends SyncFlowableStepTest<DetectAppl
         DeployedMta deployedMta = createDeployedMta("a-live", "a");
         context.setVariable(Variables.DEPLOYED_MTA, deployedMta);
         SecretTokenStore secretTokenStore = Mockito.mock(SecretTokenStore.class);
-        CloudControllerClient client = Mockito.mock(CloudControllerClient.class);
-        Mockito.when(client.getApplication("a-live", false))
-               .thenReturn(createApplication("a-live"));
-        Mockito.when(clientProvider.getControllerClient(anyString(), anyString(), anyString()))
-               .thenReturn(client);
+        Mockito.when(asyncClient.getApplication("a-live"))
+               .thenReturn(Mono.just(createApplication("a-live")));
         Mockito.when(secretTokenKeyResolver.resolve(execution))
                .thenReturn("test-key");
         Mockito.when(secretTokenStoreFactory.createSecretTokenStore(eq("test-key")))
@@ -21,6 +21,7 @@ import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudSer
 import org.cloudfoundry.multiapps.controller.core.model.DynamicResolvableParameter;
 import org.cloudfoundry.multiapps.controller.core.model.ImmutableDynamicResolvableParameter;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntriesProvider;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ServiceAction;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -328,7 +329,7 @@ class DetermineServiceCreateUpdateServiceActionsStepTest extends SyncFlowableSte
     @Override
     protected DetermineServiceCreateUpdateServiceActionsStep createStep() {
         archiveEntryExtractor = Mockito.mock(ArchiveEntryExtractor.class);
-        return new DetermineServiceCreateUpdateServiceActionsStep(archiveEntryExtractor);
+        return new DetermineServiceCreateUpdateServiceActionsStep(archiveEntryExtractor, Mockito.mock(ArchiveEntriesProvider.class));
     }
 
     private static class StepInput {
@@ -26,7 +26,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -120,15 +119,16 @@ class PollServiceInProgressOperationsExecutionTest extends AsyncStepOperationTes
     private void prepareServiceOperationGetter(List<CloudServiceInstanceExtended> services,
                                                List<ServiceOperation.Type> servicesOperationTypes,
                                                List<ServiceOperation.State> servicesOperationStates) {
+        Map<String, ServiceOperation> lastServiceOperations = new HashMap<>();
         for (int i = 0; i < services.size(); i++) {
             CloudServiceInstanceExtended service = services.get(i);
             ServiceOperation.Type serviceOperationType = servicesOperationTypes.get(i);
             ServiceOperation.State serviceOperationState = servicesOperationStates.get(i);
             if (serviceOperationType != null && serviceOperationState != null) {
-                when(serviceOperationGetter.getLastServiceOperation(any(), eq(service))).thenReturn(
-                    new ServiceOperation(serviceOperationType, "", serviceOperationState));
+                lastServiceOperations.put(service.getName(), new ServiceOperation(serviceOperationType, "", serviceOperationState));
             }
         }
+        when(serviceOperationGetter.getLastServiceOperations(any(), any())).thenReturn(lastServiceOperations);
     }
 
     private void prepareTriggeredServiceOperations(List<String> serviceNames, List<ServiceOperation.Type> servicesOperationTypes) {
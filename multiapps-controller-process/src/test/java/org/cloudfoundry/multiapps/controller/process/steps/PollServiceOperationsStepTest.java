@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -26,7 +27,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 class PollServiceOperationsStepTest extends AsyncStepOperationTest<CreateServiceStep> {
@@ -102,6 +102,7 @@ class PollServiceOperationsStepTest extends AsyncStepOperationTest<CreateService
 
     @SuppressWarnings("unchecked")
     private void prepareServiceOperationGetter() {
+        Map<String, ServiceOperation> lastServiceOperations = new HashMap<>();
         for (Entry<String, Object> response : input.serviceInstanceResponse.entrySet()) {
             Map<String, Object> serviceInstanceResponse = (Map<String, Object>) response.getValue();
             if (serviceInstanceResponse == null) {
@@ -112,10 +113,9 @@ class PollServiceOperationsStepTest extends AsyncStepOperationTest<CreateService
             ServiceOperation lastOp = new ServiceOperation(ServiceOperation.Type.fromString((String) serviceOperationAsMap.get("type")),
                                                            (String) serviceOperationAsMap.get("description"),
                                                            ServiceOperation.State.fromString((String) serviceOperationAsMap.get("state")));
-
-            when(serviceOperationGetter.getLastServiceOperation(any(), eq(service))).thenReturn(lastOp);
-
+            lastServiceOperations.put(service.getName(), lastOp);
         }
+        when(serviceOperationGetter.getLastServiceOperations(any(), any())).thenReturn(lastServiceOperations);
     }
 
     private CloudServiceInstanceExtended getCloudServiceExtended(Entry<String, Object> response) {
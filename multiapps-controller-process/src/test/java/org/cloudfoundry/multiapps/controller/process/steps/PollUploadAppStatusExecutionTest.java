@@ -14,15 +14,19 @@ import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableUploa
 import org.cloudfoundry.multiapps.controller.client.facade.domain.Status;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.Upload;
 import org.cloudfoundry.multiapps.controller.process.steps.ScaleAppStepTest.SimpleApplication;
+import org.cloudfoundry.multiapps.controller.process.util.ModuleContentCache;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
 import org.springframework.http.HttpStatus;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PollUploadAppStatusExecutionTest extends AsyncStepOperationTest<UploadAppStep> {
@@ -32,8 +36,12 @@ class PollUploadAppStatusExecutionTest extends AsyncStepOperationTest<UploadAppS
     private static final CloudOperationException CLOUD_OPERATION_EXCEPTION_NOT_FOUND = new CloudOperationException(HttpStatus.NOT_FOUND);
     private static final UUID PACKAGE_GUID = UUID.fromString("20886182-1802-11e9-ab14-d663bd873d93");
     private static final String APP_NAME = "test-app-1";
+    private static final String MODULE_CONTENT_KEY = "4C64A36CDC073B5D07947005F630DACC";
     private final SimpleApplication application = new SimpleApplication(APP_NAME, 2);
 
+    @Mock
+    private ModuleContentCache moduleContentCache;
+
     private AsyncExecutionState expectedStatus;
 
     public static Stream<Arguments> testPollStatus() {
@@ -72,6 +80,16 @@ class PollUploadAppStatusExecutionTest extends AsyncStepOperationTest<UploadAppS
         testExecuteOperations();
     }
 
+    @Test
+    void testPackageOfModuleContentIsRemembered() {
+        this.expectedStatus = AsyncExecutionState.FINISHED;
+        initializeParameters(Status.READY, null);
+        context.setVariable(Variables.MODULE_CONTENT_KEY, MODULE_CONTENT_KEY);
+        step.initializeStepLogger(execution);
+        testExecuteOperations();
+        verify(moduleContentCache).putPackageGuid(MODULE_CONTENT_KEY, PACKAGE_GUID);
+    }
+
     public void initializeParameters(Status uploadState, Exception expectedCfException) {
         prepareContext();
         prepareClient(uploadState, expectedCfException);
@@ -123,7 +141,7 @@ class PollUploadAppStatusExecutionTest extends AsyncStepOperationTest<UploadAppS
 
         @Override
         protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
-            return List.of(new PollUploadAppStatusExecution());
+            return List.of(new PollUploadAppStatusExecution(moduleContentCache));
         }
     }
 
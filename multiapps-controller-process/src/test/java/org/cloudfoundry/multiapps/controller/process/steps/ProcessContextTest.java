@@ -0,0 +1,77 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
+import org.cloudfoundry.multiapps.controller.process.client.CloudControllerClientCache;
+import org.cloudfoundry.multiapps.controller.process.client.CloudControllerClientCacheFactory;
+import org.cloudfoundry.multiapps.controller.process.util.MockDelegateExecution;
+import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ProcessContextTest {
+
+    private static final String CORRELATION_ID = "operation";
+    private static final String SPACE_GUID = "space";
+
+    @Mock
+    private StepLogger stepLogger;
+    @Mock
+    private CloudControllerClientProvider clientProvider;
+    @Mock
+    private CloudControllerClient client;
+    @Mock
+    private CloudControllerClientCacheFactory clientCacheFactory;
+
+    private ProcessContext context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(clientProvider.getControllerClient(any(), any(), any())).thenReturn(client);
+        when(clientCacheFactory.createCache()).thenAnswer(invocation -> new CloudControllerClientCache());
+        context = createContext();
+    }
+
+    @Test
+    void testCacheIsSharedByTheClientsOfAStep() {
+        context.getControllerClient();
+        context.getControllerClient(SPACE_GUID);
+
+        verify(clientCacheFactory).createCache();
+    }
+
+    @Test
+    void testCacheIsSeparatePerSpace() {
+        context.getControllerClient();
+        context.getControllerClient("other-space");
+
+        verify(clientCacheFactory, times(2)).createCache();
+    }
+
+    @Test
+    void testCacheIsNotSharedWithTheNextStep() {
+        context.getControllerClient();
+        createContext().getControllerClient();
+
+        verify(clientCacheFactory, times(2)).createCache();
+    }
+
+    private ProcessContext createContext() {
+        ProcessContext processContext = new ProcessContext(MockDelegateExecution.createSpyInstance(), stepLogger, clientProvider,
+                                                           clientCacheFactory);
+        processContext.setVariable(Variables.CORRELATION_ID, CORRELATION_ID);
+        processContext.setVariable(Variables.SPACE_GUID, SPACE_GUID);
+        return processContext;
+    }
+
+}
@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -22,7 +21,10 @@ import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.core.helpers.DescriptorParserFacadeFactory;
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveHelper;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.ArchiveEntriesIndexService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveBufferPool;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntriesProvider;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryStreamWithStreamPositionsDeterminer;
 import org.cloudfoundry.multiapps.controller.process.util.ProcessConflictPreventer;
@@ -40,6 +42,7 @@ class ProcessMtaArchiveStepTest extends SyncFlowableStepTest<ProcessMtaArchiveSt
 
     private static final String FILE_ID = "0";
 
+    private final ArchiveBufferPool archiveBufferPool = new ArchiveBufferPool(ApplicationConfiguration.DEFAULT_ARCHIVE_BUFFER_SIZE);
     private final StepInput input;
 
     private final ArchiveEntryExtractor archiveEntryExtractor = Mockito.mock(ArchiveEntryExtractor.class);
@@ -77,7 +80,8 @@ class ProcessMtaArchiveStepTest extends SyncFlowableStepTest<ProcessMtaArchiveSt
 
         }).when(fileService)
           .processFileContent(any(), any(), any());
-        step.archiveEntryStreamWithStreamPositionsDeterminer = spy(new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService));
+        step.archiveEntriesProvider = new ArchiveEntriesProvider(fileService, mock(ArchiveEntriesIndexService.class),
+                                                                 new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService, archiveBufferPool));
     }
 
     @Test
@@ -10,6 +10,7 @@ import java.util.stream.Stream;
 
 import org.cloudfoundry.client.v3.Metadata;
 import org.cloudfoundry.multiapps.common.test.Tester;
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudMetadata;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
@@ -52,6 +53,8 @@ import org.mockito.MockitoAnnotations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import reactor.core.publisher.Mono;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -93,6 +96,8 @@ public abstract class SyncFlowableStepTest<T extends SyncFlowableStep> {
     @Mock
     protected CloudControllerClient client;
     @Mock
+    protected CloudControllerAsyncClient asyncClient;
+    @Mock
     protected CloudControllerClientProvider clientProvider;
     @Mock
     protected SecretTokenStoreFactory secretTokenStoreFactory;
@@ -129,6 +134,9 @@ public abstract class SyncFlowableStepTest<T extends SyncFlowableStep> {
         context.setVariable(Variables.USER_GUID, USER_GUID);
         context.setVariable(Variables.ORGANIZATION_NAME, ORG_NAME);
         when(clientProvider.getControllerClient(any(), any(), any())).thenReturn(client);
+        when(client.getAsyncClient()).thenReturn(asyncClient);
+        when(asyncClient.getApplication(any())).thenReturn(Mono.empty());
+        when(asyncClient.getServiceInstance(any())).thenReturn(Mono.empty());
         execution.setVariable("correlationId", getCorrelationId());
         execution.setVariable("__TASK_ID", getTaskId());
         prepareProcessEngineConfiguration();
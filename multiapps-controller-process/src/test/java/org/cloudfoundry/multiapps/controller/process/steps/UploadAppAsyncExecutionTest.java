@@ -2,16 +2,16 @@ package org.cloudfoundry.multiapps.controller.process.steps;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.cloudfoundry.multiapps.common.SLException;
@@ -26,17 +26,26 @@ import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationE
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveElements;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableLockOwnerEntry;
+import org.cloudfoundry.multiapps.controller.persistence.query.LockOwnersQuery;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.LockOwnerService;
+import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveIterator;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationUploadRegistry;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveBufferPool;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntriesProvider;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.util.ImmutableArchiveEntryWithStreamPositions;
+import org.cloudfoundry.multiapps.controller.process.util.ParallelArchiveEntryDownloader;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
 import org.springframework.http.HttpStatus;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -49,7 +58,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep> {
@@ -69,6 +80,9 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
                                                                                                                                            false)
                                                                                                                                        .build();
     private static final String SPACE = "space";
+    private static final Duration UPLOAD_TIMEOUT = Duration.ofMinutes(30);
+    private static final String UPLOAD_OWNER = "app-guid[0]-owner";
+    private static final String OTHER_UPLOAD_OWNER = "app-guid[1]-owner";
     private static final String APP_ARCHIVE = "sample-app.mtar";
     private static final CloudOperationException CO_EXCEPTION = new CloudOperationException(HttpStatus.BAD_REQUEST);
     private static final UUID APP_GUID = UUID.randomUUID();
@@ -84,8 +98,16 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
                                                                                                     .build())
                                                                            .status(Status.AWAITING_UPLOAD)
                                                                            .build();
+    private final ArchiveBufferPool archiveBufferPool = new ArchiveBufferPool(ApplicationConfiguration.DEFAULT_ARCHIVE_BUFFER_SIZE);
     private final MtaArchiveElements mtaArchiveElements = new MtaArchiveElements();
     private final ExecutorService appUploaderThreadPool = mock(ExecutorService.class);
+    private final FlowableFacade flowableFacade = mock(FlowableFacade.class, Answers.RETURNS_DEEP_STUBS);
+    private final LockOwnerService lockOwnerService = mock(LockOwnerService.class);
+    private final LockOwnersQuery lockOwnersQuery = mock(LockOwnersQuery.class, Answers.RETURNS_SELF);
+    private final ApplicationUploadRegistry applicationUploadRegistry = new ApplicationUploadRegistry(appUploaderThreadPool,
+                                                                                                      flowableFacade,
+                                                                                                      lockOwnerService);
+    private final ArchiveEntriesProvider archiveEntriesProvider = mock(ArchiveEntriesProvider.class);
 
     @TempDir
     Path tempDir;
@@ -95,11 +117,16 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
 
     @BeforeEach
     public void setUp() throws Exception {
+        when(flowableFacade.getProcessEngine()
+                           .getProcessEngineConfiguration()
+                           .getAsyncExecutor()
+                           .getLockOwner()).thenReturn(UPLOAD_OWNER);
+        when(lockOwnerService.createQuery()).thenReturn(lockOwnersQuery);
         prepareFileService();
         prepareContext();
         step.applicationZipBuilder = spy(new ApplicationZipBuilderMock(fileService,
                                                                        new ApplicationArchiveIterator(),
-                                                                       new ArchiveEntryExtractor(fileService)));
+                                                                       new ArchiveEntryExtractor(fileService, archiveBufferPool)));
     }
 
     @SuppressWarnings("rawtypes")
@@ -139,9 +166,10 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
     @Test
     void testFailedUploadWithException() {
         prepareExecutorService();
-        context.setVariable(Variables.ARCHIVE_ENTRIES_POSITIONS, List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        mockArchiveEntries(List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
         when(client.asyncUploadApplicationWithExponentialBackoff(eq(APP_NAME), eq(appFile), any(UploadStatusCallback.class),
                                                                  any())).thenThrow(CO_EXCEPTION);
+        startUpload();
         expectedStatus = AsyncExecutionState.ERROR;
         Exception exception = assertThrows(SLException.class, this::testExecuteOperations);
         assertEquals("org.cloudfoundry.multiapps.common.SLException: Error while starting async upload of app with name sample-app-backend",
@@ -151,21 +179,31 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
         assertNull(context.getVariable(Variables.CLOUD_PACKAGE));
     }
 
+    private void mockArchiveEntries(List<ArchiveEntryWithStreamPositions> archiveEntries) {
+        when(archiveEntriesProvider.getArchiveEntries(any(ProcessContext.class))).thenReturn(archiveEntries);
+    }
+
     private void prepareExecutorService() {
-        when(appUploaderThreadPool.submit(any(Callable.class))).thenAnswer(invocation -> {
-            Callable<?> callable = invocation.getArgument(0);
-            FutureTask<?> futureTask = new FutureTask<>(callable);
-            futureTask.run();
-            return futureTask;
-        });
+        doAnswer(invocation -> {
+            Runnable upload = invocation.getArgument(0);
+            upload.run();
+            return null;
+        }).when(appUploaderThreadPool)
+          .execute(any());
+    }
+
+    private void startUpload() {
+        expectedStatus = AsyncExecutionState.RUNNING;
+        testExecuteOperations();
     }
 
     @Test
     void testExtractionOfAppFails() {
         prepareExecutorService();
-        context.setVariable(Variables.ARCHIVE_ENTRIES_POSITIONS, Collections.emptyList());
+        mockArchiveEntries(Collections.emptyList());
         doThrow(new SLException("Error while reading blob input stream")).when(step.applicationZipBuilder)
                                                                          .extractApplicationInNewArchive(any());
+        startUpload();
         expectedStatus = AsyncExecutionState.ERROR;
         Exception exception = assertThrows(SLException.class, this::testExecuteOperations);
         assertEquals("org.cloudfoundry.multiapps.common.SLException: Error while reading blob input stream", exception.getMessage());
@@ -173,24 +211,111 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
 
     @Test
     void testUploadExecutorCapacityIsFull() {
-        context.setVariable(Variables.ARCHIVE_ENTRIES_POSITIONS, Collections.emptyList());
-        when(appUploaderThreadPool.submit((Callable<Object>) any())).thenThrow(new RejectedExecutionException("Capacity is full"));
-        expectedStatus = AsyncExecutionState.RUNNING;
+        mockArchiveEntries(List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        doThrow(new RejectedExecutionException("Capacity is full")).when(appUploaderThreadPool)
+                                                                   .execute(any());
+        when(client.asyncUploadApplicationWithExponentialBackoff(eq(APP_NAME), eq(appFile), any(UploadStatusCallback.class),
+                                                                 any())).thenReturn(CLOUD_PACKAGE);
+        startUpload();
         testExecuteOperations();
+        verify(client, never()).asyncUploadApplicationWithExponentialBackoff(any(), any(Path.class), any(), any());
+
+        prepareExecutorService();
+        testExecuteOperations();
+        expectedStatus = AsyncExecutionState.FINISHED;
+        testExecuteOperations();
+        assertEquals(CLOUD_PACKAGE, context.getVariable(Variables.CLOUD_PACKAGE));
+    }
+
+    @Test
+    void testUploadIsNotWaitedFor() {
+        mockArchiveEntries(List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        startUpload();
+        verify(appUploaderThreadPool).execute(any());
+        testExecuteOperations();
+        verify(client, never()).asyncUploadApplicationWithExponentialBackoff(any(), any(Path.class), any(), any());
+    }
+
+    @Test
+    void testUploadIsRestartedWhenItsOwnerIsNotRunning() {
+        prepareExecutorService();
+        mockArchiveEntries(List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        when(client.asyncUploadApplicationWithExponentialBackoff(eq(APP_NAME), eq(appFile), any(UploadStatusCallback.class),
+                                                                 any())).thenReturn(CLOUD_PACKAGE);
+        LocalDateTime uploadStartTime = LocalDateTime.now()
+                                                     .minusMinutes(1);
+        context.setVariable(Variables.UPLOAD_START_TIME, uploadStartTime);
+        context.setVariable(Variables.APP_UPLOAD_ID, UUID.randomUUID()
+                                                         .toString());
+        context.setVariable(Variables.APP_UPLOAD_OWNER, OTHER_UPLOAD_OWNER);
+        when(lockOwnersQuery.list()).thenReturn(Collections.emptyList());
+        startUpload();
+        assertEquals(UPLOAD_OWNER, context.getVariable(Variables.APP_UPLOAD_OWNER));
+        expectedStatus = AsyncExecutionState.FINISHED;
+        testExecuteOperations();
+        assertEquals(CLOUD_PACKAGE, context.getVariable(Variables.CLOUD_PACKAGE));
+        assertEquals(uploadStartTime, context.getVariable(Variables.UPLOAD_START_TIME));
+    }
+
+    @Test
+    void testUploadIsNotRestartedWhenItsOwnerIsRunning() {
+        mockArchiveEntries(List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        context.setVariable(Variables.APP_UPLOAD_ID, UUID.randomUUID()
+                                                         .toString());
+        context.setVariable(Variables.APP_UPLOAD_OWNER, OTHER_UPLOAD_OWNER);
+        when(lockOwnersQuery.list()).thenReturn(List.of(ImmutableLockOwnerEntry.builder()
+                                                                               .lockOwner(OTHER_UPLOAD_OWNER)
+                                                                               .timestamp(LocalDateTime.now())
+                                                                               .build()));
+        startUpload();
+        verify(appUploaderThreadPool, never()).execute(any());
+        assertEquals(OTHER_UPLOAD_OWNER, context.getVariable(Variables.APP_UPLOAD_OWNER));
     }
 
     @Test
     void testSuccessfulUpload() {
         prepareExecutorService();
-        context.setVariable(Variables.ARCHIVE_ENTRIES_POSITIONS, List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        mockArchiveEntries(List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
         when(client.asyncUploadApplicationWithExponentialBackoff(eq(APP_NAME), eq(appFile), any(UploadStatusCallback.class),
                                                                  any())).thenReturn(CLOUD_PACKAGE);
+        startUpload();
         expectedStatus = AsyncExecutionState.FINISHED;
         testExecuteOperations();
         assertEquals(CLOUD_PACKAGE, context.getVariable(Variables.CLOUD_PACKAGE));
         assertTrue(context.getVariable(Variables.APP_CONTENT_CHANGED));
     }
 
+    @Test
+    void testSuccessfulUploadOfStoredModuleArchive() {
+        prepareExecutorService();
+        mockArchiveEntries(List.of(ImmutableArchiveEntryWithStreamPositions.copyOf(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS)
+                                                                           .withCompressionMethod(
+                                                                               ArchiveEntryWithStreamPositions.CompressionMethod.STORED)));
+        when(client.asyncUploadApplication(eq(APP_NAME), any(InputStream.class), any(UploadStatusCallback.class),
+                                           eq(UPLOAD_TIMEOUT))).thenReturn(CLOUD_PACKAGE);
+        startUpload();
+        expectedStatus = AsyncExecutionState.FINISHED;
+        testExecuteOperations();
+        assertEquals(CLOUD_PACKAGE, context.getVariable(Variables.CLOUD_PACKAGE));
+        verify(step.applicationZipBuilder, never()).extractApplicationInNewArchive(any());
+    }
+
+    @Test
+    void testFailedUploadOfStoredModuleArchiveFallsBackToExtraction() {
+        prepareExecutorService();
+        mockArchiveEntries(List.of(ImmutableArchiveEntryWithStreamPositions.copyOf(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS)
+                                                                           .withCompressionMethod(
+                                                                               ArchiveEntryWithStreamPositions.CompressionMethod.STORED)));
+        when(client.asyncUploadApplication(eq(APP_NAME), any(InputStream.class), any(UploadStatusCallback.class), any())).thenThrow(
+            CO_EXCEPTION);
+        when(client.asyncUploadApplicationWithExponentialBackoff(eq(APP_NAME), eq(appFile), any(UploadStatusCallback.class),
+                                                                 any())).thenReturn(CLOUD_PACKAGE);
+        startUpload();
+        expectedStatus = AsyncExecutionState.FINISHED;
+        testExecuteOperations();
+        assertEquals(CLOUD_PACKAGE, context.getVariable(Variables.CLOUD_PACKAGE));
+    }
+
     @Test
     void testSkippingUpload() {
         context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
@@ -218,9 +343,12 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
         @Override
         protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
             return List.of(new UploadAppAsyncExecution(applicationZipBuilder,
+                                                       archiveEntriesProvider,
                                                        getProcessLogsPersister(),
                                                        configuration,
-                                                       appUploaderThreadPool) {
+                                                       applicationUploadRegistry,
+                                                       clientProvider,
+                                                       UPLOAD_TIMEOUT) {
 
             });
         }
@@ -230,7 +358,8 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
 
         public ApplicationZipBuilderMock(FileService fileService, ApplicationArchiveIterator applicationArchiveIterator,
                                          ArchiveEntryExtractor archiveEntryExtractor) {
-            super(fileService, applicationArchiveIterator, archiveEntryExtractor);
+            super(fileService, applicationArchiveIterator, archiveEntryExtractor, mock(ParallelArchiveEntryDownloader.class),
+                  archiveBufferPool);
         }
 
         @Override
@@ -29,15 +29,21 @@ import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApp
 import org.cloudfoundry.multiapps.controller.core.Constants;
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveElements;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableModuleContentCacheEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ModuleContentCacheEntry;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveIterator;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationDigestCalculator;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveBufferPool;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntriesProvider;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.util.CloudPackagesGetter;
 import org.cloudfoundry.multiapps.controller.process.util.ImmutableArchiveEntryWithStreamPositions;
+import org.cloudfoundry.multiapps.controller.process.util.ModuleContentCache;
+import org.cloudfoundry.multiapps.controller.process.util.ParallelArchiveEntryDownloader;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,7 +59,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
@@ -76,6 +84,7 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
     private static final String APP_ARCHIVE = "sample-app.mtar";
     private static final String CURRENT_MODULE_DIGEST = "439B99DFFD0583200D5D21F4CD1BF035";
     private static final String NEW_MODULE_DIGEST = "539B99DFFD0583200D5D21F4CD1BF035";
+    private static final String MODULE_CONTENT_KEY = "9F86D081884C7D659A2FEAA0C55AD015A3BF4F1B2B0B822CD15D6C15B0F00A08";
     private static final UUID APP_GUID = UUID.randomUUID();
     private static final UUID PACKAGE_GUID = UUID.randomUUID();
     private static final UUID DROPLET_GUID = UUID.randomUUID();
@@ -90,6 +99,7 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
                                                                                                     .build())
                                                                            .status(Status.AWAITING_UPLOAD)
                                                                            .build();
+    private final ArchiveBufferPool archiveBufferPool = new ArchiveBufferPool(ApplicationConfiguration.DEFAULT_ARCHIVE_BUFFER_SIZE);
     private final MtaArchiveElements mtaArchiveElements = new MtaArchiveElements();
     private final CloudPackagesGetter cloudPackagesGetter = mock(CloudPackagesGetter.class);
     @TempDir
@@ -135,8 +145,13 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
         prepareFileService();
         prepareContext();
         step.applicationZipBuilder = spy(
-            new ApplicationZipBuilderMock(fileService, new ApplicationArchiveIterator(), new ArchiveEntryExtractor(fileService)));
+            new ApplicationZipBuilderMock(fileService, new ApplicationArchiveIterator(),
+                                          new ArchiveEntryExtractor(fileService, archiveBufferPool)));
         step.applicationDigestCalculator = mock(ApplicationDigestCalculator.class);
+        step.archiveEntriesProvider = mock(ArchiveEntriesProvider.class);
+        step.moduleContentCache = mock(ModuleContentCache.class);
+        when(step.archiveEntriesProvider.getArchiveEntries(any(ProcessContext.class))).thenReturn(
+            List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
     }
 
     @SuppressWarnings("rawtypes")
@@ -171,7 +186,6 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
         context.setVariable(Variables.VCAP_APP_PROPERTIES_CHANGED, false);
         when(configuration.getMaxResourceFileSize()).thenReturn(ApplicationConfiguration.DEFAULT_MAX_RESOURCE_FILE_SIZE);
         context.setVariable(Variables.DEPLOYMENT_DESCRIPTOR, descriptor);
-        context.setVariable(Variables.ARCHIVE_ENTRIES_POSITIONS, List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
     }
 
     @AfterEach
@@ -241,6 +255,56 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
         assertEquals(stepPhase.toString(), getExecutionStatus());
     }
 
+    @Test
+    void testCalculatedDigestIsCached() {
+        prepareClients(NEW_MODULE_DIGEST);
+        when(step.moduleContentCache.buildContentKey(SPACE, APP_FILE, List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS))).thenReturn(
+            Optional.of(MODULE_CONTENT_KEY));
+        step.execute(execution);
+        assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+        assertEquals(MODULE_CONTENT_KEY, context.getVariable(Variables.MODULE_CONTENT_KEY));
+        verify(step.moduleContentCache).putApplicationDigest(MODULE_CONTENT_KEY, SPACE, NEW_MODULE_DIGEST);
+    }
+
+    @Test
+    void testDigestOfCachedModuleContentIsNotCalculated() {
+        prepareClients(CURRENT_MODULE_DIGEST);
+        mockModuleContentCache(createModuleContentCacheEntry(NEW_MODULE_DIGEST, null));
+        step.execute(execution);
+        assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+        assertEquals(NEW_MODULE_DIGEST, context.getVariable(Variables.CALCULATED_APPLICATION_DIGEST));
+        verify(step.applicationDigestCalculator, never()).calculateApplicationDigest(any());
+    }
+
+    @Test
+    void testUploadIsSkippedWithPackageOfCachedModuleContent() {
+        prepareClients(CURRENT_MODULE_DIGEST);
+        step.cloudPackagesGetter = cloudPackagesGetter;
+        mockCloudPackagesGetter(createCloudPackage(Status.READY));
+        mockModuleContentCache(createModuleContentCacheEntry(NEW_MODULE_DIGEST, PACKAGE_GUID.toString()));
+        step.execute(execution);
+        assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+        assertTrue(context.getVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD));
+        assertEquals(PACKAGE_GUID, context.getVariable(Variables.CLOUD_PACKAGE)
+                                          .getGuid());
+        assertEquals(NEW_MODULE_DIGEST, context.getVariable(Variables.CALCULATED_APPLICATION_DIGEST));
+    }
+
+    private void mockModuleContentCache(ModuleContentCacheEntry moduleContentCacheEntry) {
+        when(step.moduleContentCache.buildContentKey(SPACE, APP_FILE, List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS))).thenReturn(
+            Optional.of(MODULE_CONTENT_KEY));
+        when(step.moduleContentCache.get(MODULE_CONTENT_KEY)).thenReturn(Optional.of(moduleContentCacheEntry));
+    }
+
+    private ModuleContentCacheEntry createModuleContentCacheEntry(String applicationDigest, String packageGuid) {
+        return ImmutableModuleContentCacheEntry.builder()
+                                               .contentKey(MODULE_CONTENT_KEY)
+                                               .spaceGuid(SPACE)
+                                               .applicationDigest(applicationDigest)
+                                               .packageGuid(packageGuid)
+                                               .build();
+    }
+
     private CloudPackage createCloudPackage(Status status) {
         ImmutableCloudMetadata cloudMetadata = ImmutableCloudMetadata.builder()
                                                                      .guid(PACKAGE_GUID)
@@ -294,7 +358,8 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
 
         public ApplicationZipBuilderMock(FileService fileService, ApplicationArchiveIterator applicationArchiveIterator,
                                          ArchiveEntryExtractor archiveEntryExtractor) {
-            super(fileService, applicationArchiveIterator, archiveEntryExtractor);
+            super(fileService, applicationArchiveIterator, archiveEntryExtractor, mock(ParallelArchiveEntryDownloader.class),
+                  archiveBufferPool);
         }
 
         @Override
@@ -7,9 +7,9 @@ import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
-import org.cloudfoundry.multiapps.controller.process.util.FilePartsMerger;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.cloudfoundry.multiapps.mta.model.VersionRule;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -22,6 +22,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.MessageFormat;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.FutureTask;
@@ -31,7 +32,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -108,12 +111,34 @@ class ValidateDeployParametersStepTest extends SyncFlowableStepTest<ValidateDepl
         validate();
     }
 
+    @Test
+    void testChunkedArchiveIsComposedInFileStorage() throws Exception {
+        initializeComponents(new StepInput(MERGED_ARCHIVE_NAME + ".part.1," + MERGED_ARCHIVE_NAME + ".part.0", null, 1,
+                                           VersionRule.HIGHER.toString()),
+                             true);
+        when(fileService.supportsFileComposition()).thenReturn(true);
+        when(fileService.composeFile(any(FileEntry.class), anyList()))
+            .thenReturn(createFileEntry(EXISTING_FILE_ID, MERGED_ARCHIVE_NAME, 1024 * 1024 * 1024L));
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+        List<String> sortedPartNames = List.of(MERGED_ARCHIVE_NAME + ".part.0", MERGED_ARCHIVE_NAME + ".part.1");
+        Mockito.verify(fileService)
+               .composeFile(any(FileEntry.class), argThat(parts -> sortedPartNames.equals(parts.stream()
+                                                                                              .map(FileEntry::getName)
+                                                                                              .toList())));
+        Mockito.verify(fileService, Mockito.never())
+               .addFile(any(FileEntry.class), any(InputStream.class));
+        Mockito.verify(execution)
+               .setVariable(Variables.APP_ARCHIVE_ID.getName(), EXISTING_FILE_ID);
+    }
+
     private void initializeComponents(StepInput stepInput, boolean isArchiveChunked) throws FileStorageException {
         this.stepInput = stepInput;
         this.isArchiveChunked = isArchiveChunked;
         prepareContext();
         prepareFileService();
-        prepareArchiveMerger();
         prepareConfiguration();
     }
 
@@ -162,11 +187,6 @@ class ValidateDeployParametersStepTest extends SyncFlowableStepTest<ValidateDepl
             .thenReturn(createFileEntry(EXISTING_FILE_ID, MERGED_ARCHIVE_TEST_MTAR, 1024 * 1024 * 1024L));
     }
 
-    private void prepareArchiveMerger() {
-        FilePartsMerger merger = Mockito.mock(FilePartsMerger.class);
-        when(merger.getMergedFilePath()).thenReturn(Paths.get(MERGED_ARCHIVE_TEST_MTAR));
-    }
-
     private void prepareConfiguration() {
         when(configuration.getMaxMtaDescriptorSize())
             .thenReturn(ApplicationConfiguration.DEFAULT_MAX_MTA_DESCRIPTOR_SIZE);
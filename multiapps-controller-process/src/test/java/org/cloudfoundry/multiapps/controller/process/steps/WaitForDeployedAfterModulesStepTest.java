@@ -0,0 +1,97 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.controller.core.cf.DeploymentMode;
+import org.cloudfoundry.multiapps.controller.process.Constants;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.cloudfoundry.multiapps.mta.model.Module;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WaitForDeployedAfterModulesStepTest extends SyncFlowableStepTest<WaitForDeployedAfterModulesStep> {
+
+    private static final Module MODULE_A = createModule("a");
+    private static final Module MODULE_B = createModule("b");
+    private static final Module MODULE_C = createModule("c", "a", "b");
+
+    @BeforeEach
+    void setUp() {
+        context.setVariable(Variables.DEPLOYMENT_MODE, DeploymentMode.PARALLEL);
+        context.setVariable(Variables.MODULES_TO_ITERATE_IN_PARALLEL, List.of(MODULE_A, MODULE_B, MODULE_C));
+        when(configuration.getMaxParallelModuleDeployments()).thenReturn(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void testModuleWithoutDeployedAfterModulesIsReady() {
+        context.setVariable(Variables.MODULE_TO_DEPLOY, MODULE_A);
+        when(flowableFacadeFacade.getVariablesInParentProcess(any(), any())).thenReturn(Map.of());
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+    }
+
+    @Test
+    void testModuleWaitsForItsDeployedAfterModules() {
+        context.setVariable(Variables.MODULE_TO_DEPLOY, MODULE_C);
+        when(flowableFacadeFacade.getVariablesInParentProcess(any(), any())).thenReturn(Map.of(Constants.VAR_IS_MODULE_DEPLOYED_VAR_PREFIX
+            + "a", true));
+
+        step.execute(execution);
+
+        assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+    }
+
+    @Test
+    void testModuleIsReadyWhenItsDeployedAfterModulesAreDeployed() {
+        context.setVariable(Variables.MODULE_TO_DEPLOY, MODULE_C);
+        when(flowableFacadeFacade.getVariablesInParentProcess(any(), any())).thenReturn(Map.of(Constants.VAR_IS_MODULE_DEPLOYED_VAR_PREFIX
+            + "a", true, Constants.VAR_IS_MODULE_DEPLOYED_VAR_PREFIX + "b", true));
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+    }
+
+    @Test
+    void testModuleWaitsForFreeParallelDeploymentSlot() {
+        context.setVariable(Variables.MODULE_TO_DEPLOY, MODULE_B);
+        when(configuration.getMaxParallelModuleDeployments()).thenReturn(1);
+        when(flowableFacadeFacade.getVariablesInParentProcess(any(), any())).thenReturn(Map.of());
+
+        step.execute(execution);
+
+        assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+    }
+
+    @Test
+    void testSequentialDeploymentDoesNotWait() {
+        context.setVariable(Variables.DEPLOYMENT_MODE, DeploymentMode.SEQUENTIAL);
+        context.setVariable(Variables.MODULE_TO_DEPLOY, MODULE_C);
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+        verify(flowableFacadeFacade, never()).getVariablesInParentProcess(any(), any());
+    }
+
+    private static Module createModule(String name, String... deployedAfter) {
+        return Module.createV3()
+                     .setName(name)
+                     .setDeployedAfter(List.of(deployedAfter));
+    }
+
+    @Override
+    protected WaitForDeployedAfterModulesStep createStep() {
+        return new WaitForDeployedAfterModulesStep(flowableFacadeFacade);
+    }
+
+}
@@ -1,12 +1,18 @@
 package org.cloudfoundry.multiapps.controller.process.stream;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
@@ -15,10 +21,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -105,6 +118,105 @@ class LazyArchiveInputStreamTest {
         verify(firstPartInputStream).close();
     }
 
+    @Test
+    void readAllPartsWithReadAhead() throws IOException, FileStorageException {
+        mockPartsContent(Map.of(FILE_ID_1, new byte[] { 1, 2 }, FILE_ID_2, new byte[] { 3 }));
+        lazyArchiveInputStream = new LazyArchiveInputStream(fileService, buildFileEntries(2, 1), stepLogger, 3, 2);
+        assertEquals(1, lazyArchiveInputStream.read());
+        verify(fileService, timeout(1000)).processFileContentWithOffset(argThat(range -> range.getGuid()
+                                                                                              .equals(FILE_ID_2)),
+                                                                        any());
+        assertArrayEquals(new byte[] { 2, 3 }, lazyArchiveInputStream.readAllBytes());
+        assertEquals(0, lazyArchiveInputStream.available());
+        verify(fileService, never()).openInputStream(any(), any());
+        lazyArchiveInputStream.close();
+    }
+
+    @Test
+    void readAheadIsBoundedByChunksToReadAhead() throws IOException, FileStorageException {
+        mockPartsContent(Map.of(FILE_ID_1, new byte[] { 1, 2 }, FILE_ID_2, new byte[] { 3 }));
+        lazyArchiveInputStream = new LazyArchiveInputStream(fileService, buildFileEntries(2, 1), stepLogger, 3, 1);
+        assertEquals(1, lazyArchiveInputStream.read());
+        verify(fileService, never()).processFileContentWithOffset(argThat(range -> range.getGuid()
+                                                                                       .equals(FILE_ID_2)),
+                                                                  any());
+        assertArrayEquals(new byte[] { 2, 3 }, lazyArchiveInputStream.readAllBytes());
+        lazyArchiveInputStream.close();
+    }
+
+    @Test
+    void largePartIsReadAheadInChunks() throws IOException, FileStorageException {
+        byte[] largePartContent = new byte[LazyArchiveInputStream.READ_AHEAD_CHUNK_SIZE + 1];
+        largePartContent[LazyArchiveInputStream.READ_AHEAD_CHUNK_SIZE] = 1;
+        mockPartsContent(Map.of(FILE_ID_1, largePartContent, FILE_ID_2, new byte[] { 2 }));
+        lazyArchiveInputStream = new LazyArchiveInputStream(fileService, buildFileEntries(largePartContent.length, 1), stepLogger,
+                                                            largePartContent.length + 1, 2);
+        byte[] archiveContent = lazyArchiveInputStream.readAllBytes();
+        assertEquals(largePartContent.length + 1, archiveContent.length);
+        assertEquals(1, archiveContent[LazyArchiveInputStream.READ_AHEAD_CHUNK_SIZE]);
+        assertEquals(2, archiveContent[largePartContent.length]);
+        verify(fileService, times(3)).processFileContentWithOffset(any(), any());
+        lazyArchiveInputStream.close();
+    }
+
+    @Test
+    void partsWithoutSizeAreNotReadAhead() throws IOException, FileStorageException {
+        when(fileService.openInputStream(CUSTOM_SPACE, FILE_ID_1)).thenReturn(new ByteArrayInputStream(new byte[] { 1 }));
+        when(fileService.openInputStream(CUSTOM_SPACE, FILE_ID_2)).thenReturn(new ByteArrayInputStream(new byte[] { 2 }));
+        List<FileEntry> fileEntries = List.of(buildFileEntry(FILE_ID_1, CUSTOM_SPACE, BigInteger.ONE),
+                                              buildFileEntry(FILE_ID_2, CUSTOM_SPACE, null));
+        lazyArchiveInputStream = new LazyArchiveInputStream(fileService, fileEntries, stepLogger, 2, 2);
+        assertArrayEquals(new byte[] { 1, 2 }, lazyArchiveInputStream.readAllBytes());
+        verify(fileService, never()).processFileContentWithOffset(any(), any());
+        lazyArchiveInputStream.close();
+    }
+
+    @Test
+    void closeCancelsChunksReadAhead() throws Exception {
+        CountDownLatch readingSecondPart = new CountDownLatch(1);
+        CountDownLatch secondPartReadInterrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            FileContentToProcess range = invocation.getArgument(0);
+            if (range.getGuid()
+                     .equals(FILE_ID_2)) {
+                readingSecondPart.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    secondPartReadInterrupted.countDown();
+                    throw e;
+                }
+            }
+            FileContentProcessor<?> fileContentProcessor = invocation.getArgument(1);
+            return fileContentProcessor.process(new ByteArrayInputStream(new byte[] { 1 }));
+        }).when(fileService)
+          .processFileContentWithOffset(any(), any());
+        lazyArchiveInputStream = new LazyArchiveInputStream(fileService, buildFileEntries(1, 1), stepLogger, 2, 2);
+        assertEquals(1, lazyArchiveInputStream.read());
+        assertTrue(readingSecondPart.await(1, TimeUnit.SECONDS));
+
+        lazyArchiveInputStream.close();
+
+        assertTrue(secondPartReadInterrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    private void mockPartsContent(Map<String, byte[]> partsContent) throws FileStorageException {
+        doAnswer(invocation -> {
+            FileContentToProcess range = invocation.getArgument(0);
+            byte[] partContent = partsContent.get(range.getGuid());
+            int startOffset = (int) range.getStartOffset();
+            int length = (int) (range.getEndOffset() - range.getStartOffset() + 1);
+            FileContentProcessor<?> fileContentProcessor = invocation.getArgument(1);
+            return fileContentProcessor.process(new ByteArrayInputStream(partContent, startOffset, length));
+        }).when(fileService)
+          .processFileContentWithOffset(any(), any());
+    }
+
+    private List<FileEntry> buildFileEntries(int firstPartSize, int secondPartSize) {
+        return List.of(buildFileEntry(FILE_ID_1, CUSTOM_SPACE, BigInteger.valueOf(firstPartSize)),
+                       buildFileEntry(FILE_ID_2, CUSTOM_SPACE, BigInteger.valueOf(secondPartSize)));
+    }
+
     private void prepareStream(int archiveSize) {
         lazyArchiveInputStream = new LazyArchiveInputStream(fileService, buildMockedFileEntries(), stepLogger, archiveSize);
     }
@@ -116,10 +228,14 @@ class LazyArchiveInputStreamTest {
     }
 
     private FileEntry buildFileEntry(String id, String space) {
+        return buildFileEntry(id, space, BigInteger.valueOf(1));
+    }
+
+    private FileEntry buildFileEntry(String id, String space, BigInteger size) {
         return ImmutableFileEntry.builder()
                                  .id(id)
                                  .space(space)
-                                 .size(BigInteger.valueOf(1))
+                                 .size(size)
                                  .build();
     }
 
@@ -0,0 +1,39 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ApplicationDigestCacheTest {
+
+    private static final String APP_ARCHIVE_ID = "archive";
+    private static final String MODULE_FILE_NAME = "web/web-server.zip";
+    private static final String DIGEST = "4C64A36CDC073B5D07947005F630DACC";
+
+    private ApplicationDigestCache applicationDigestCache;
+
+    @BeforeEach
+    void setUp() {
+        applicationDigestCache = new ApplicationDigestCache();
+    }
+
+    @Test
+    void testPutDigest() {
+        applicationDigestCache.putDigest(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST);
+
+        assertEquals(Optional.of(DIGEST), applicationDigestCache.getDigest(APP_ARCHIVE_ID, MODULE_FILE_NAME));
+    }
+
+    @Test
+    void testDigestsAreKeptPerArchive() {
+        applicationDigestCache.putDigest(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST);
+
+        assertTrue(applicationDigestCache.getDigest("other-archive", MODULE_FILE_NAME)
+                                         .isEmpty());
+    }
+
+}
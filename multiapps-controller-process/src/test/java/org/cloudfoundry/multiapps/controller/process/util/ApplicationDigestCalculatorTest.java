@@ -1,17 +1,23 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
+import static org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions.CompressionMethod.STORED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.ObjIntConsumer;
 
 import org.apache.commons.io.input.BoundedInputStream;
 import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.mta.util.EntryToInflate;
@@ -28,10 +34,16 @@ class ApplicationDigestCalculatorTest {
     private static final String DB_DIRECTORY_MODULE_DIGEST = "71017C6429E2E1FA4ED2AD97ABF321A0";
     private static final String WEB_SERVER_MODULE_DIGEST = "4C64A36CDC073B5D07947005F630DACC";
 
+    private final ArchiveBufferPool archiveBufferPool = new ArchiveBufferPool(ApplicationConfiguration.DEFAULT_ARCHIVE_BUFFER_SIZE);
+
     @Mock
     private FileService fileService;
     @Mock
     private ArchiveEntryExtractor archiveEntryExtractor;
+    @Mock
+    private ParallelArchiveEntryDownloader parallelArchiveEntryDownloader;
+    @Mock
+    private ApplicationDigestCache applicationDigestCache;
 
     private ApplicationDigestCalculator applicationDigestCalculator;
 
@@ -60,7 +72,12 @@ class ApplicationDigestCalculatorTest {
             return null;
         }).when(archiveEntryExtractor)
           .processFileEntryBytes(any(), any(), any());
-        applicationDigestCalculator = new ApplicationDigestCalculator(fileService, new ApplicationArchiveIterator(), archiveEntryExtractor);
+        ApplicationZipBuilder applicationZipBuilder = new ApplicationZipBuilder(fileService,
+                                                                                new ApplicationArchiveIterator(),
+                                                                                archiveEntryExtractor,
+                                                                                parallelArchiveEntryDownloader,
+                                                                                archiveBufferPool);
+        applicationDigestCalculator = new ApplicationDigestCalculator(applicationZipBuilder, applicationDigestCache);
     }
 
     @Test
@@ -74,6 +91,19 @@ class ApplicationDigestCalculatorTest {
                                                                                             APP_ARCHIVE_ID);
         String appDigest = applicationDigestCalculator.calculateApplicationDigest(applicationArchiveContext);
         assertEquals(DB_DIRECTORY_MODULE_DIGEST, appDigest);
+        verify(applicationDigestCache).putDigest(APP_ARCHIVE_ID, "db/", DB_DIRECTORY_MODULE_DIGEST);
+    }
+
+    @Test
+    void testDigestCalculationReusesCachedDigest() throws Exception {
+        when(applicationDigestCache.getDigest(APP_ARCHIVE_ID, "db/")).thenReturn(Optional.of(DB_DIRECTORY_MODULE_DIGEST));
+        ApplicationArchiveContext applicationArchiveContext = new ApplicationArchiveContext("db/",
+                                                                                            Integer.MAX_VALUE,
+                                                                                            List.of(buildDbModule()),
+                                                                                            SPACE_GUID,
+                                                                                            APP_ARCHIVE_ID);
+        assertEquals(DB_DIRECTORY_MODULE_DIGEST, applicationDigestCalculator.calculateApplicationDigest(applicationArchiveContext));
+        verify(fileService, never()).consumeFileContent(any(), any(), any());
     }
 
     private ArchiveEntryWithStreamPositions buildDbModule() {
@@ -111,6 +141,33 @@ class ApplicationDigestCalculatorTest {
                                                                                             APP_ARCHIVE_ID);
         String appDigest = applicationDigestCalculator.calculateApplicationDigest(applicationArchiveContext);
         assertEquals(WEB_SERVER_MODULE_DIGEST, appDigest);
+        verify(applicationDigestCache).putDigest(APP_ARCHIVE_ID, "web/web-server.zip", WEB_SERVER_MODULE_DIGEST);
+    }
+
+    @Test
+    void testDigestCalculationStreamsModuleWhichIsDownloadedInParallelForUpload() throws Exception {
+        when(parallelArchiveEntryDownloader.shouldDownloadInParallel(any())).thenReturn(true);
+        ApplicationArchiveContext applicationArchiveContext = new ApplicationArchiveContext("web/web-server.zip",
+                                                                                            Integer.MAX_VALUE,
+                                                                                            List.of(buildWebServerModule()),
+                                                                                            SPACE_GUID,
+                                                                                            APP_ARCHIVE_ID);
+        assertEquals(WEB_SERVER_MODULE_DIGEST, applicationDigestCalculator.calculateApplicationDigest(applicationArchiveContext));
+        verify(parallelArchiveEntryDownloader, never()).downloadEntry(any(), any(), any());
+    }
+
+    @Test
+    void testDigestCalculationWhenModuleIsStoredArchive() {
+        ArchiveEntryWithStreamPositions storedModuleEntry = ImmutableArchiveEntryWithStreamPositions.copyOf(buildWebServerModule())
+                                                                                                   .withCompressionMethod(STORED);
+        ApplicationArchiveContext applicationArchiveContext = new ApplicationArchiveContext("web/web-server.zip",
+                                                                                            Integer.MAX_VALUE,
+                                                                                            List.of(storedModuleEntry),
+                                                                                            SPACE_GUID,
+                                                                                            APP_ARCHIVE_ID);
+        String appDigest = applicationDigestCalculator.calculateApplicationDigest(applicationArchiveContext);
+        assertEquals(WEB_SERVER_MODULE_DIGEST, appDigest);
+        verify(applicationDigestCache).putDigest(APP_ARCHIVE_ID, "web/web-server.zip", WEB_SERVER_MODULE_DIGEST);
     }
 
     private ArchiveEntryWithStreamPositions buildWebServerModule() {
@@ -0,0 +1,227 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudPackage;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableLockOwnerEntry;
+import org.cloudfoundry.multiapps.controller.persistence.query.LockOwnersQuery;
+import org.cloudfoundry.multiapps.controller.persistence.services.LockOwnerService;
+import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationUploadRegistry.ApplicationUpload;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+class ApplicationUploadRegistryTest {
+
+    private static final String UPLOAD_ID = "1:app";
+    private static final String OTHER_UPLOAD_ID = "1:other-app";
+    private static final String PROCESS_INSTANCE_ID = "process-instance";
+    private static final String OWNER = "app-guid[0]-owner";
+    private static final String OTHER_OWNER = "app-guid[1]-owner";
+
+    private final ExecutorService appUploaderThreadPool = mock(ExecutorService.class);
+    private final FlowableFacade flowableFacade = mock(FlowableFacade.class, Answers.RETURNS_DEEP_STUBS);
+    private final LockOwnerService lockOwnerService = mock(LockOwnerService.class);
+    private final LockOwnersQuery lockOwnersQuery = mock(LockOwnersQuery.class, Answers.RETURNS_SELF);
+    private final CloudPackage cloudPackage = mock(CloudPackage.class);
+    private final List<Runnable> acceptedTasks = new ArrayList<>();
+    private ApplicationUploadRegistry applicationUploadRegistry;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> acceptedTasks.add(invocation.getArgument(0))).when(appUploaderThreadPool)
+                                                                            .execute(any());
+        when(flowableFacade.getProcessEngine()
+                           .getProcessEngineConfiguration()
+                           .getAsyncExecutor()
+                           .getLockOwner()).thenReturn(OWNER);
+        when(lockOwnerService.createQuery()).thenReturn(lockOwnersQuery);
+        applicationUploadRegistry = new ApplicationUploadRegistry(appUploaderThreadPool, flowableFacade, lockOwnerService);
+    }
+
+    @Test
+    void testStartUpload() throws Exception {
+        ApplicationUpload upload = applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> cloudPackage);
+
+        assertFalse(upload.isStarted());
+        acceptedTasks.get(0)
+                     .run();
+
+        assertTrue(upload.isDone());
+        assertSame(cloudPackage, upload.getResult()
+                                       .get());
+        assertSame(upload, applicationUploadRegistry.getUpload(UPLOAD_ID)
+                                                    .get());
+    }
+
+    @Test
+    void testStartUploadIsIdempotent() {
+        ApplicationUpload upload = applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> cloudPackage);
+
+        assertSame(upload, applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> cloudPackage));
+        assertEquals(1, acceptedTasks.size());
+    }
+
+    @Test
+    void testFailedUpload() {
+        ApplicationUpload upload = applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> {
+            throw new SLException("Upload failed");
+        });
+        acceptedTasks.get(0)
+                     .run();
+
+        assertTrue(upload.isDone());
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> upload.getResult()
+                                                                                           .get());
+        assertEquals("Upload failed", exception.getCause()
+                                               .getMessage());
+    }
+
+    @Test
+    void testRejectedUploadIsStartedByBusyThread() {
+        applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> cloudPackage);
+        doThrow(new RejectedExecutionException("Capacity is full")).when(appUploaderThreadPool)
+                                                                   .execute(any());
+        ApplicationUpload rejectedUpload = applicationUploadRegistry.startUpload(OTHER_UPLOAD_ID, PROCESS_INSTANCE_ID,
+                                                                                 applicationUpload -> cloudPackage);
+
+        assertFalse(rejectedUpload.isStarted());
+        acceptedTasks.get(0)
+                     .run();
+
+        assertTrue(rejectedUpload.isDone());
+    }
+
+    @Test
+    void testRejectedUploadIsDispatchedAgain() {
+        doThrow(new RejectedExecutionException("Capacity is full")).when(appUploaderThreadPool)
+                                                                   .execute(any());
+        ApplicationUpload upload = applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> cloudPackage);
+        doAnswer(invocation -> acceptedTasks.add(invocation.getArgument(0))).when(appUploaderThreadPool)
+                                                                            .execute(any());
+
+        applicationUploadRegistry.dispatchPendingUploads();
+        acceptedTasks.get(0)
+                     .run();
+
+        assertTrue(upload.isDone());
+    }
+
+    @Test
+    void testRemovedPendingUploadIsNotStarted() {
+        doThrow(new RejectedExecutionException("Capacity is full")).when(appUploaderThreadPool)
+                                                                   .execute(any());
+        applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> cloudPackage);
+
+        applicationUploadRegistry.removeUpload(UPLOAD_ID);
+        applicationUploadRegistry.dispatchPendingUploads();
+
+        assertTrue(applicationUploadRegistry.getUpload(UPLOAD_ID)
+                                            .isEmpty());
+        verify(appUploaderThreadPool).execute(any());
+    }
+
+    @Test
+    void testPendingUploadOfEndedProcessIsRemoved() {
+        doThrow(new RejectedExecutionException("Capacity is full")).when(appUploaderThreadPool)
+                                                                   .execute(any());
+        applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> cloudPackage);
+        when(flowableFacade.getProcessInstance(PROCESS_INSTANCE_ID)).thenReturn(null);
+
+        applicationUploadRegistry.removeExpiredUploads();
+        applicationUploadRegistry.dispatchPendingUploads();
+
+        assertTrue(applicationUploadRegistry.getUpload(UPLOAD_ID)
+                                            .isEmpty());
+        verify(appUploaderThreadPool).execute(any());
+    }
+
+    @Test
+    void testDoneUploadOfEndedProcessIsRemoved() {
+        applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> cloudPackage);
+        acceptedTasks.get(0)
+                     .run();
+        when(flowableFacade.getProcessInstance(PROCESS_INSTANCE_ID)).thenReturn(null);
+
+        applicationUploadRegistry.removeExpiredUploads();
+
+        assertTrue(applicationUploadRegistry.getUpload(UPLOAD_ID)
+                                            .isEmpty());
+    }
+
+    @Test
+    void testRunningUploadOfEndedProcessIsNotRemoved() {
+        applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> {
+            applicationUploadRegistry.removeExpiredUploads();
+            return cloudPackage;
+        });
+        when(flowableFacade.getProcessInstance(PROCESS_INSTANCE_ID)).thenReturn(null);
+
+        acceptedTasks.get(0)
+                     .run();
+
+        assertTrue(applicationUploadRegistry.getUpload(UPLOAD_ID)
+                                            .isPresent());
+    }
+
+    @Test
+    void testUploadOfActiveProcessIsNotRemoved() {
+        applicationUploadRegistry.startUpload(UPLOAD_ID, PROCESS_INSTANCE_ID, applicationUpload -> cloudPackage);
+        when(flowableFacade.getProcessInstance(PROCESS_INSTANCE_ID)).thenReturn(mock(ProcessInstance.class));
+
+        applicationUploadRegistry.removeExpiredUploads();
+
+        assertTrue(applicationUploadRegistry.getUpload(UPLOAD_ID)
+                                            .isPresent());
+    }
+
+    @Test
+    void testUploadOwnedByThisInstance() {
+        assertEquals(OWNER, applicationUploadRegistry.getOwner());
+        assertFalse(applicationUploadRegistry.isOwnedByAnotherRunningInstance(OWNER));
+    }
+
+    @Test
+    void testUploadOwnedByAnotherRunningInstance() {
+        mockLockOwnerTimestamp(LocalDateTime.now()
+                                            .minusMinutes(1));
+
+        assertTrue(applicationUploadRegistry.isOwnedByAnotherRunningInstance(OTHER_OWNER));
+    }
+
+    @Test
+    void testUploadOwnedByStoppedInstance() {
+        mockLockOwnerTimestamp(LocalDateTime.now()
+                                            .minusMinutes(10));
+
+        assertFalse(applicationUploadRegistry.isOwnedByAnotherRunningInstance(OTHER_OWNER));
+    }
+
+    private void mockLockOwnerTimestamp(LocalDateTime timestamp) {
+        when(lockOwnersQuery.list()).thenReturn(List.of(ImmutableLockOwnerEntry.builder()
+                                                                               .lockOwner(OTHER_OWNER)
+                                                                               .timestamp(timestamp)
+                                                                               .build()));
+    }
+
+}
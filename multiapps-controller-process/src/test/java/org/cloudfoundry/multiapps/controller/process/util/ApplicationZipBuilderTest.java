@@ -22,6 +22,7 @@ import java.util.zip.ZipInputStream;
 
 import org.apache.commons.io.input.BoundedInputStream;
 import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
@@ -44,8 +45,12 @@ class ApplicationZipBuilderTest {
     private static final String SAMPLE_FLAT_MTAR = "com.sap.mta.sample-1.2.1-beta-flat.mtar";
     private static final long MAX_UPLOAD_FILE_SIZE = 1024 * 1024 * 1024L; // 1gb
 
+    private final ArchiveBufferPool archiveBufferPool = new ArchiveBufferPool(ApplicationConfiguration.DEFAULT_ARCHIVE_BUFFER_SIZE);
+
     @Mock
     private FileService fileService;
+    @Mock
+    private ParallelArchiveEntryDownloader parallelArchiveEntryDownloader;
 
     private Path appPath = null;
 
@@ -83,7 +88,9 @@ class ApplicationZipBuilderTest {
         ApplicationArchiveContext applicationArchiveContext = getApplicationArchiveContext(mtar, fileName);
         ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(fileService,
                                                                      new ApplicationArchiveIterator(),
-                                                                     new ArchiveEntryExtractor(fileService));
+                                                                     new ArchiveEntryExtractor(fileService, archiveBufferPool),
+                                                                     parallelArchiveEntryDownloader,
+                                                                     archiveBufferPool);
         appPath = zipBuilder.extractApplicationInNewArchive(applicationArchiveContext);
         assertTrue(Files.exists(appPath));
         try (InputStream zipStream = Files.newInputStream(appPath)) {
@@ -96,7 +103,7 @@ class ApplicationZipBuilderTest {
         mockProcessingOfFileContent(mtar);
         mockConsumptionOfFileContent(mtar);
         mockConsumptionOfFileContentWithOffset(mtar);
-        ArchiveEntryStreamWithStreamPositionsDeterminer archiveEntryStreamWithStreamPositionsDeterminer = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService);
+        ArchiveEntryStreamWithStreamPositionsDeterminer archiveEntryStreamWithStreamPositionsDeterminer = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService, archiveBufferPool);
         List<ArchiveEntryWithStreamPositions> archiveEntriesWithStreamPositions = archiveEntryStreamWithStreamPositionsDeterminer.determineArchiveEntries("123",
                                                                                                                                                           "123");
         return new ApplicationArchiveContext(fileName, MAX_UPLOAD_FILE_SIZE, archiveEntriesWithStreamPositions, "123", "123");
@@ -153,7 +160,9 @@ class ApplicationZipBuilderTest {
         ApplicationArchiveContext applicationArchiveContext = getApplicationArchiveContext(mtar, fileName);
         ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(fileService,
                                                                      new ApplicationArchiveIterator(),
-                                                                     new ArchiveEntryExtractor(fileService));
+                                                                     new ArchiveEntryExtractor(fileService, archiveBufferPool),
+                                                                     parallelArchiveEntryDownloader,
+                                                                     archiveBufferPool);
         appPath = zipBuilder.extractApplicationInNewArchive(applicationArchiveContext);
         assertTrue(Files.exists(appPath));
         Set<String> relativizedFilePaths = relativizeUploadedFilesPaths(fileName, alreadyUploadedFiles);
@@ -187,7 +196,9 @@ class ApplicationZipBuilderTest {
         String fileName = "db/";
         ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(fileService,
                                                                      new ApplicationArchiveIterator(),
-                                                                     new ArchiveEntryExtractor(fileService)) {
+                                                                     new ArchiveEntryExtractor(fileService, archiveBufferPool),
+                                                                     parallelArchiveEntryDownloader,
+                                                                     archiveBufferPool) {
             @Override
             protected void copy(InputStream input, OutputStream output, ApplicationArchiveContext applicationArchiveContext)
                 throws IOException {
@@ -0,0 +1,79 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveBufferPool.PooledBuffer;
+import org.junit.jupiter.api.Test;
+
+class ArchiveBufferPoolTest {
+
+    private static final int BUFFER_SIZE = 16;
+
+    private final ArchiveBufferPool archiveBufferPool = new ArchiveBufferPool(BUFFER_SIZE);
+
+    @Test
+    void testAcquire() {
+        try (PooledBuffer pooledBuffer = archiveBufferPool.acquire()) {
+            assertEquals(BUFFER_SIZE, pooledBuffer.get().length);
+        }
+    }
+
+    @Test
+    void testReleasedBufferIsReused() {
+        byte[] buffer;
+        try (PooledBuffer pooledBuffer = archiveBufferPool.acquire()) {
+            buffer = pooledBuffer.get();
+        }
+        try (PooledBuffer pooledBuffer = archiveBufferPool.acquire()) {
+            assertSame(buffer, pooledBuffer.get());
+        }
+    }
+
+    @Test
+    void testAcquiredBuffersAreNotShared() {
+        try (PooledBuffer firstBuffer = archiveBufferPool.acquire(); PooledBuffer secondBuffer = archiveBufferPool.acquire()) {
+            assertNotSame(firstBuffer.get(), secondBuffer.get());
+        }
+    }
+
+    @Test
+    void testBufferReleasedTwiceIsNotShared() {
+        PooledBuffer pooledBuffer = archiveBufferPool.acquire();
+        pooledBuffer.close();
+        pooledBuffer.close();
+        try (PooledBuffer firstBuffer = archiveBufferPool.acquire(); PooledBuffer secondBuffer = archiveBufferPool.acquire()) {
+            assertNotSame(firstBuffer.get(), secondBuffer.get());
+        }
+    }
+
+    @Test
+    void testBuffer() throws IOException {
+        byte[] content = new byte[BUFFER_SIZE * 3 + 1];
+        content[content.length - 1] = 1;
+        try (InputStream bufferedStream = archiveBufferPool.buffer(new ByteArrayInputStream(content))) {
+            assertArrayEquals(content, bufferedStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void testBufferOfClosedStreamIsReused() throws IOException {
+        byte[] buffer;
+        try (PooledBuffer pooledBuffer = archiveBufferPool.acquire()) {
+            buffer = pooledBuffer.get();
+        }
+        try (InputStream bufferedStream = archiveBufferPool.buffer(new ByteArrayInputStream(new byte[BUFFER_SIZE]))) {
+            bufferedStream.readAllBytes();
+        }
+        try (PooledBuffer pooledBuffer = archiveBufferPool.acquire()) {
+            assertSame(buffer, pooledBuffer.get());
+        }
+    }
+
+}
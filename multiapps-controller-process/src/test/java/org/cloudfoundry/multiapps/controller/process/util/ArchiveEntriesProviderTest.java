@@ -0,0 +1,146 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.cloudfoundry.multiapps.common.ConflictException;
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.persistence.model.ArchiveEntriesIndex;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableArchiveEntriesIndex;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.query.ArchiveEntriesIndexQuery;
+import org.cloudfoundry.multiapps.controller.persistence.services.ArchiveEntriesIndexService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ArchiveEntriesProviderTest {
+
+    private static final String SPACE_GUID = "space";
+    private static final String ARCHIVE_ID = "archive";
+    private static final String DIGEST = "4C64A36CDC073B5D07947005F630DACC";
+    private static final List<ArchiveEntryWithStreamPositions> ARCHIVE_ENTRIES = List.of(buildArchiveEntry("web/index.html", 100),
+                                                                                         buildArchiveEntry("web-server.zip", 200));
+
+    @Mock
+    private FileService fileService;
+    @Mock
+    private ArchiveEntriesIndexService archiveEntriesIndexService;
+    @Mock(answer = Answers.RETURNS_SELF)
+    private ArchiveEntriesIndexQuery archiveEntriesIndexQuery;
+    @Mock
+    private ArchiveEntryStreamWithStreamPositionsDeterminer archiveEntryStreamWithStreamPositionsDeterminer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(archiveEntriesIndexService.createQuery()).thenReturn(archiveEntriesIndexQuery);
+        when(archiveEntryStreamWithStreamPositionsDeterminer.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID)).thenReturn(ARCHIVE_ENTRIES);
+    }
+
+    @Test
+    void testReusePersistedArchiveEntries() throws Exception {
+        mockArchiveDigest(DIGEST);
+        when(archiveEntriesIndexQuery.list()).thenReturn(List.of(buildArchiveEntriesIndex(ARCHIVE_ENTRIES)));
+
+        assertEquals(ARCHIVE_ENTRIES, createArchiveEntriesProvider().getArchiveEntries(SPACE_GUID, ARCHIVE_ID));
+        verify(archiveEntriesIndexQuery).fileId(ARCHIVE_ID);
+        verify(archiveEntriesIndexQuery).digest(DIGEST);
+        verify(archiveEntryStreamWithStreamPositionsDeterminer, never()).determineArchiveEntries(any(), any());
+        verify(archiveEntriesIndexService, never()).add(any());
+    }
+
+    @Test
+    void testPersistDeterminedArchiveEntries() throws Exception {
+        mockArchiveDigest(DIGEST);
+
+        assertEquals(ARCHIVE_ENTRIES, createArchiveEntriesProvider().getArchiveEntries(SPACE_GUID, ARCHIVE_ID));
+        ArgumentCaptor<ArchiveEntriesIndex> archiveEntriesIndexCaptor = ArgumentCaptor.forClass(ArchiveEntriesIndex.class);
+        verify(archiveEntriesIndexService).add(archiveEntriesIndexCaptor.capture());
+        assertEquals(ARCHIVE_ID, archiveEntriesIndexCaptor.getValue()
+                                                          .getFileId());
+        assertEquals(DIGEST, archiveEntriesIndexCaptor.getValue()
+                                                      .getDigest());
+        assertArrayEquals(JsonUtil.toJsonBinary(ARCHIVE_ENTRIES), archiveEntriesIndexCaptor.getValue()
+                                                                                           .getContent());
+    }
+
+    @Test
+    void testConcurrentPersistenceOfArchiveEntries() throws Exception {
+        mockArchiveDigest(DIGEST);
+        // Both instances look up the index before either of them has persisted it
+        when(archiveEntriesIndexService.add(any())).thenAnswer(invocation -> invocation.getArgument(0))
+                                                   .thenThrow(new ConflictException("Archive entries index already exists"));
+        ArchiveEntriesProvider archiveEntriesProvider = createArchiveEntriesProvider();
+        ArchiveEntriesProvider otherArchiveEntriesProvider = createArchiveEntriesProvider();
+
+        assertEquals(ARCHIVE_ENTRIES, archiveEntriesProvider.getArchiveEntries(SPACE_GUID, ARCHIVE_ID));
+        assertEquals(ARCHIVE_ENTRIES, otherArchiveEntriesProvider.getArchiveEntries(SPACE_GUID, ARCHIVE_ID));
+        verify(archiveEntriesIndexService, times(2)).add(any());
+    }
+
+    @Test
+    void testArchiveEntriesAreNotPersistedWithoutDigest() throws Exception {
+        mockArchiveDigest(null);
+
+        assertEquals(ARCHIVE_ENTRIES, createArchiveEntriesProvider().getArchiveEntries(SPACE_GUID, ARCHIVE_ID));
+        verify(archiveEntriesIndexService, never()).createQuery();
+        verify(archiveEntriesIndexService, never()).add(any());
+    }
+
+    @Test
+    void testArchiveEntriesAreLoadedOncePerInstance() throws Exception {
+        mockArchiveDigest(DIGEST);
+        ArchiveEntriesProvider archiveEntriesProvider = createArchiveEntriesProvider();
+
+        archiveEntriesProvider.getArchiveEntries(SPACE_GUID, ARCHIVE_ID);
+        archiveEntriesProvider.getArchiveEntries(SPACE_GUID, ARCHIVE_ID);
+
+        verify(archiveEntryStreamWithStreamPositionsDeterminer).determineArchiveEntries(SPACE_GUID, ARCHIVE_ID);
+    }
+
+    private ArchiveEntriesProvider createArchiveEntriesProvider() {
+        return new ArchiveEntriesProvider(fileService, archiveEntriesIndexService, archiveEntryStreamWithStreamPositionsDeterminer);
+    }
+
+    private void mockArchiveDigest(String digest) throws Exception {
+        when(fileService.getFile(SPACE_GUID, ARCHIVE_ID)).thenReturn(ImmutableFileEntry.builder()
+                                                                                       .id(ARCHIVE_ID)
+                                                                                       .space(SPACE_GUID)
+                                                                                       .digest(digest)
+                                                                                       .build());
+    }
+
+    private ArchiveEntriesIndex buildArchiveEntriesIndex(List<ArchiveEntryWithStreamPositions> archiveEntries) {
+        return ImmutableArchiveEntriesIndex.builder()
+                                           .fileId(ARCHIVE_ID)
+                                           .digest(DIGEST)
+                                           .content(JsonUtil.toJsonBinary(archiveEntries))
+                                           .build();
+    }
+
+    private static ArchiveEntryWithStreamPositions buildArchiveEntry(String name, long startPosition) {
+        return ImmutableArchiveEntryWithStreamPositions.builder()
+                                                       .name(name)
+                                                       .startPosition(startPosition)
+                                                       .endPosition(startPosition + 50)
+                                                       .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.DEFLATED)
+                                                       .isDirectory(false)
+                                                       .crc(1L)
+                                                       .uncompressedSize(100L)
+                                                       .build();
+    }
+
+}
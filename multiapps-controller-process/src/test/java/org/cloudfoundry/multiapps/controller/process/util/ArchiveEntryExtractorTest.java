@@ -8,6 +8,7 @@ import java.util.stream.Stream;
 
 import org.apache.commons.io.input.BoundedInputStream;
 import org.cloudfoundry.multiapps.common.ContentException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
@@ -52,6 +53,8 @@ class ArchiveEntryExtractorTest {
                                                                                                                                           false)
                                                                                                                                       .build();
 
+    private final ArchiveBufferPool archiveBufferPool = new ArchiveBufferPool(ApplicationConfiguration.DEFAULT_ARCHIVE_BUFFER_SIZE);
+
     @Mock
     private FileService fileService;
 
@@ -61,7 +64,7 @@ class ArchiveEntryExtractorTest {
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this)
                           .close();
-        archiveEntryExtractor = new ArchiveEntryExtractor(fileService);
+        archiveEntryExtractor = new ArchiveEntryExtractor(fileService, archiveBufferPool);
     }
 
     static Stream<Arguments> readFullDeploymentDescriptorFile() {
@@ -0,0 +1,127 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ArchiveEntryStreamWithStreamPositionsDeterminerTest {
+
+    private static final String SPACE_GUID = "space";
+    private static final String ARCHIVE_ID = "archive";
+
+    private final ArchiveBufferPool archiveBufferPool = new ArchiveBufferPool(ApplicationConfiguration.DEFAULT_ARCHIVE_BUFFER_SIZE);
+
+    @Mock
+    private FileService fileService;
+
+    private ArchiveEntryStreamWithStreamPositionsDeterminer determiner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        determiner = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService, archiveBufferPool);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "com.sap.mta.sample-1.2.1-beta.mtar", "com.sap.mta.sample-1.2.1-beta-flat.mtar", "stored-mta.mtar",
+        "deflated-mta.mtar" })
+    void testDetermineArchiveEntriesFromCentralDirectory(String mtar) throws Exception {
+        byte[] archive = readArchive(mtar);
+        mockProcessingOfFileContent(archive);
+        List<ArchiveEntryWithStreamPositions> streamedEntries = determiner.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID);
+
+        mockArchiveSize(archive.length);
+        mockProcessingOfFileContentWithOffset(archive);
+        List<ArchiveEntryWithStreamPositions> centralDirectoryEntries = determiner.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID);
+
+        assertFalse(centralDirectoryEntries.isEmpty());
+        assertEquals(streamedEntries, centralDirectoryEntries);
+        assertTrue(centralDirectoryEntries.stream()
+                                          .map(ArchiveEntryWithStreamPositions::getCrc)
+                                          .allMatch(Objects::nonNull));
+    }
+
+    @Test
+    void testDetermineArchiveEntriesWithoutFileSizeUsesStreaming() throws Exception {
+        byte[] archive = readArchive("stored-mta.mtar");
+        mockProcessingOfFileContent(archive);
+
+        assertFalse(determiner.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID)
+                              .isEmpty());
+        verify(fileService, never()).processFileContentWithOffset(any(), any());
+    }
+
+    @Test
+    void testDetermineArchiveEntriesWithBrokenCentralDirectoryFallsBackToStreaming() throws Exception {
+        byte[] archive = readArchive("deflated-mta.mtar");
+        byte[] archiveWithoutEndOfCentralDirectory = Arrays.copyOf(archive, archive.length - 1);
+        mockProcessingOfFileContent(archive);
+        List<ArchiveEntryWithStreamPositions> streamedEntries = determiner.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID);
+
+        mockArchiveSize(archiveWithoutEndOfCentralDirectory.length);
+        mockProcessingOfFileContentWithOffset(archiveWithoutEndOfCentralDirectory);
+
+        assertEquals(streamedEntries, determiner.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID));
+    }
+
+    private byte[] readArchive(String mtar) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(mtar)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private void mockArchiveSize(long size) throws Exception {
+        when(fileService.getFile(SPACE_GUID, ARCHIVE_ID)).thenReturn(ImmutableFileEntry.builder()
+                                                                                       .id(ARCHIVE_ID)
+                                                                                       .space(SPACE_GUID)
+                                                                                       .size(BigInteger.valueOf(size))
+                                                                                       .build());
+    }
+
+    private void mockProcessingOfFileContent(byte[] archive) throws Exception {
+        doAnswer(answer -> {
+            FileContentProcessor<?> fileContentProcessor = answer.getArgument(2);
+            return fileContentProcessor.process(new ByteArrayInputStream(archive));
+        }).when(fileService)
+          .processFileContent(eq(SPACE_GUID), eq(ARCHIVE_ID), any());
+    }
+
+    private void mockProcessingOfFileContentWithOffset(byte[] archive) throws Exception {
+        doAnswer(answer -> {
+            FileContentToProcess fileContentToProcess = answer.getArgument(0);
+            FileContentProcessor<?> fileContentProcessor = answer.getArgument(1);
+            int startOffset = (int) fileContentToProcess.getStartOffset();
+            int endOffset = (int) Math.min(fileContentToProcess.getEndOffset(), archive.length - 1);
+            return fileContentProcessor.process(new ByteArrayInputStream(archive, startOffset, endOffset - startOffset + 1));
+        }).when(fileService)
+          .processFileContentWithOffset(any(), any());
+    }
+
+}
@@ -43,18 +43,17 @@ public class ExternalFileProcessorTest {
                           .close();
         Mockito.when(context.getRequiredVariable(Variables.SPACE_GUID))
                .thenReturn("SPACE_GUID");
-        externalFileProcessor = new ExternalFileProcessor(new ContentLengthTracker(), configuration, archiveEntryExtractor, context);
+        ArchiveEntryWithStreamPositions mockStreamPositions = Mockito.mock(ArchiveEntryWithStreamPositions.class);
+        Mockito.when(mockStreamPositions.getName())
+               .thenReturn(FILENAME);
+        externalFileProcessor = new ExternalFileProcessor(new ContentLengthTracker(), configuration, archiveEntryExtractor,
+                                                          List.of(mockStreamPositions), context);
     }
 
     @Test
     void testFileProcessor() {
         Mockito.when(configuration.getMaxResolvedExternalContentSize())
                .thenReturn(66L);
-        ArchiveEntryWithStreamPositions mockStreamPositions = Mockito.mock(ArchiveEntryWithStreamPositions.class);
-        Mockito.when(mockStreamPositions.getName())
-               .thenReturn(FILENAME);
-        Mockito.when(context.getVariable(Variables.ARCHIVE_ENTRIES_POSITIONS))
-               .thenReturn(List.of(mockStreamPositions));
         Map<String, Object> expectedParameters = Map.of("param1", "value1");
         when(archiveEntryExtractor.extractEntryBytes(any(), any())).thenReturn(JsonUtil.toJson(expectedParameters)
                                                                                        .getBytes());
@@ -70,11 +69,6 @@ public class ExternalFileProcessorTest {
     void testFileProcessorExceedMaxSize() {
         Mockito.when(configuration.getMaxResolvedExternalContentSize())
                .thenReturn(65L);
-        ArchiveEntryWithStreamPositions mockStreamPositions = Mockito.mock(ArchiveEntryWithStreamPositions.class);
-        Mockito.when(mockStreamPositions.getName())
-               .thenReturn(FILENAME);
-        Mockito.when(context.getVariable(Variables.ARCHIVE_ENTRIES_POSITIONS))
-               .thenReturn(List.of(mockStreamPositions));
         when(archiveEntryExtractor.extractEntryBytes(any(), any())).thenReturn(JsonUtil.toJson(Map.of(RESOURCE_NAME, RESOURCE_NAME_2))
                                                                                        .getBytes());
         Map<String, List<String>> archiveRequiresDependenciesAttributes = Map.of(FILENAME, List.of(RESOURCE_NAME, RESOURCE_NAME_2));
@@ -0,0 +1,114 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedThreadPoolExecutorTest {
+
+    private static final String EXECUTOR_RESULT = "result";
+    private static final long QUEUE_WAIT_IN_MILLIS = 100;
+
+    // The meters of the global registry outlive the tests, so every executor has its own name
+    private final String executorName = "test-executor-" + UUID.randomUUID();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private InstrumentedThreadPoolExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+        executor = new InstrumentedThreadPoolExecutor(executorName, 1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        Metrics.removeRegistry(registry);
+        registry.close();
+    }
+
+    @Test
+    void testExecutedTasksAreTimed() throws Exception {
+        executor.submit(() -> EXECUTOR_RESULT)
+                .get();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1, registry.get(InstrumentedThreadPoolExecutor.METRICS_PREFIX + "execution")
+                                .tag("name", executorName)
+                                .timer()
+                                .count());
+        assertEquals(1.0, registry.get(InstrumentedThreadPoolExecutor.METRICS_PREFIX + "completed")
+                                  .tag("name", executorName)
+                                  .functionCounter()
+                                  .count());
+    }
+
+    @Test
+    void testRejectedTasksAreCounted() throws Exception {
+        CountDownLatch taskStarted = new CountDownLatch(1);
+        CountDownLatch blockingTaskReleased = new CountDownLatch(1);
+        executor.execute(() -> {
+            taskStarted.countDown();
+            awaitQuietly(blockingTaskReleased);
+        });
+        assertTrue(taskStarted.await(10, TimeUnit.SECONDS));
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(taskStarted::countDown));
+        blockingTaskReleased.countDown();
+
+        assertEquals(1.0, registry.get(InstrumentedThreadPoolExecutor.METRICS_PREFIX + "rejected")
+                                  .tag("name", executorName)
+                                  .counter()
+                                  .count());
+    }
+
+    @Test
+    void testQueueWaitOfTasksIsTimed() throws Exception {
+        executor.shutdownNow();
+        executor = new InstrumentedThreadPoolExecutor(executorName, 1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        CountDownLatch taskStarted = new CountDownLatch(1);
+        CountDownLatch blockingTaskReleased = new CountDownLatch(1);
+        executor.execute(() -> {
+            taskStarted.countDown();
+            awaitQuietly(blockingTaskReleased);
+        });
+        assertTrue(taskStarted.await(10, TimeUnit.SECONDS));
+        executor.execute(() -> {
+        });
+        Thread.sleep(QUEUE_WAIT_IN_MILLIS);
+        blockingTaskReleased.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        Timer queueWaitTimer = registry.get(InstrumentedThreadPoolExecutor.METRICS_PREFIX + "queue.wait")
+                                       .tag("name", executorName)
+                                       .timer();
+        assertEquals(2, queueWaitTimer.count());
+        assertTrue(queueWaitTimer.max(TimeUnit.MILLISECONDS) >= QUEUE_WAIT_IN_MILLIS);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableModuleContentCacheEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ModuleContentCacheEntry;
+import org.cloudfoundry.multiapps.controller.persistence.query.ModuleContentCacheQuery;
+import org.cloudfoundry.multiapps.controller.persistence.services.ModuleContentCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ModuleContentCacheTest {
+
+    private static final String SPACE_GUID = "space";
+    private static final String MODULE_FILE_NAME = "web/";
+    private static final String CONTENT_KEY = "content-key";
+    private static final String DIGEST = "4C64A36CDC073B5D07947005F630DACC";
+    private static final UUID PACKAGE_GUID = UUID.fromString("20886182-1802-11e9-ab14-d663bd873d93");
+
+    @Mock
+    private ModuleContentCacheService moduleContentCacheService;
+    @Mock(answer = Answers.RETURNS_SELF)
+    private ModuleContentCacheQuery moduleContentCacheQuery;
+
+    private ModuleContentCache moduleContentCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(moduleContentCacheService.createQuery()).thenReturn(moduleContentCacheQuery);
+        moduleContentCache = new ModuleContentCache(moduleContentCacheService);
+    }
+
+    @Test
+    void testContentKeyDoesNotDependOnEntryPositions() {
+        List<ArchiveEntryWithStreamPositions> archiveEntries = List.of(buildArchiveEntry("web/index.html", 100, 1L),
+                                                                       buildArchiveEntry("web/app.js", 200, 2L));
+        List<ArchiveEntryWithStreamPositions> movedArchiveEntries = List.of(buildArchiveEntry("web/app.js", 5000, 2L),
+                                                                            buildArchiveEntry("web/index.html", 7000, 1L));
+
+        assertEquals(moduleContentCache.buildContentKey(SPACE_GUID, MODULE_FILE_NAME, archiveEntries),
+                     moduleContentCache.buildContentKey(SPACE_GUID, MODULE_FILE_NAME, movedArchiveEntries));
+    }
+
+    @Test
+    void testContentKeyDependsOnModuleContent() {
+        List<ArchiveEntryWithStreamPositions> archiveEntries = List.of(buildArchiveEntry("web/index.html", 100, 1L));
+        List<ArchiveEntryWithStreamPositions> changedArchiveEntries = List.of(buildArchiveEntry("web/index.html", 100, 3L));
+
+        assertNotEquals(moduleContentCache.buildContentKey(SPACE_GUID, MODULE_FILE_NAME, archiveEntries),
+                        moduleContentCache.buildContentKey(SPACE_GUID, MODULE_FILE_NAME, changedArchiveEntries));
+        assertNotEquals(moduleContentCache.buildContentKey(SPACE_GUID, MODULE_FILE_NAME, archiveEntries),
+                        moduleContentCache.buildContentKey("other-space", MODULE_FILE_NAME, archiveEntries));
+    }
+
+    @Test
+    void testContentKeyIgnoresEntriesOfOtherModules() {
+        List<ArchiveEntryWithStreamPositions> archiveEntries = List.of(buildArchiveEntry("web/index.html", 100, 1L));
+        List<ArchiveEntryWithStreamPositions> archiveEntriesWithOtherModule = List.of(buildArchiveEntry("web/index.html", 100, 1L),
+                                                                                      buildArchiveEntry("web-server.zip", 200, 2L));
+
+        assertEquals(moduleContentCache.buildContentKey(SPACE_GUID, MODULE_FILE_NAME, archiveEntries),
+                     moduleContentCache.buildContentKey(SPACE_GUID, MODULE_FILE_NAME, archiveEntriesWithOtherModule));
+    }
+
+    @Test
+    void testContentKeyOfEntriesWithoutChecksum() {
+        List<ArchiveEntryWithStreamPositions> archiveEntries = List.of(buildArchiveEntry("web/index.html", 100, 1L),
+                                                                       buildArchiveEntry("web/app.js", 200, null));
+
+        assertTrue(moduleContentCache.buildContentKey(SPACE_GUID, MODULE_FILE_NAME, archiveEntries)
+                                     .isEmpty());
+    }
+
+    @Test
+    void testGetMarksEntryAsRecentlyUsed() {
+        ModuleContentCacheEntry cacheEntry = buildCacheEntry(null);
+        when(moduleContentCacheQuery.list()).thenReturn(List.of(cacheEntry));
+
+        assertEquals(Optional.of(cacheEntry), moduleContentCache.get(CONTENT_KEY));
+        verify(moduleContentCacheService).update(eq(cacheEntry), argThat(updatedCacheEntry -> updatedCacheEntry.getLastAccessed()
+                                                                                                                .isAfter(
+                                                                                                                    cacheEntry.getLastAccessed())));
+    }
+
+    @Test
+    void testPutPackageGuid() {
+        ModuleContentCacheEntry cacheEntry = buildCacheEntry(null);
+        when(moduleContentCacheQuery.list()).thenReturn(List.of(cacheEntry));
+
+        moduleContentCache.putPackageGuid(CONTENT_KEY, PACKAGE_GUID);
+
+        verify(moduleContentCacheService).update(eq(cacheEntry), argThat(updatedCacheEntry -> PACKAGE_GUID.toString()
+                                                                                                           .equals(
+                                                                                                               updatedCacheEntry.getPackageGuid())));
+    }
+
+    @Test
+    void testPutSamePackageGuid() {
+        when(moduleContentCacheQuery.list()).thenReturn(List.of(buildCacheEntry(PACKAGE_GUID.toString())));
+
+        moduleContentCache.putPackageGuid(CONTENT_KEY, PACKAGE_GUID);
+
+        verify(moduleContentCacheService, never()).update(any(), any());
+    }
+
+    private ArchiveEntryWithStreamPositions buildArchiveEntry(String name, long startPosition, Long crc) {
+        return ImmutableArchiveEntryWithStreamPositions.builder()
+                                                       .name(name)
+                                                       .startPosition(startPosition)
+                                                       .endPosition(startPosition + 10)
+                                                       .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.DEFLATED)
+                                                       .isDirectory(false)
+                                                       .crc(crc)
+                                                       .uncompressedSize(20L)
+                                                       .build();
+    }
+
+    private ModuleContentCacheEntry buildCacheEntry(String packageGuid) {
+        return ImmutableModuleContentCacheEntry.builder()
+                                               .contentKey(CONTENT_KEY)
+                                               .spaceGuid(SPACE_GUID)
+                                               .applicationDigest(DIGEST)
+                                               .packageGuid(packageGuid)
+                                               .lastAccessed(LocalDateTime.now()
+                                                                          .minusMinutes(1))
+                                               .build();
+    }
+
+}
@@ -0,0 +1,167 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.cloudfoundry.multiapps.common.ContentException;
+import org.cloudfoundry.multiapps.mta.model.Module;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuleDeploymentGraphTest {
+
+    @Test
+    void testRemainingPathLength() {
+        ModuleDeploymentGraph graph = new ModuleDeploymentGraph(List.of(createModule("a"), createModule("b", "a"), createModule("c", "b"),
+                                                                        createModule("d", "a"), createModule("e")));
+
+        assertEquals(3, graph.getRemainingPathLength("a"));
+        assertEquals(2, graph.getRemainingPathLength("b"));
+        assertEquals(1, graph.getRemainingPathLength("c"));
+        assertEquals(1, graph.getRemainingPathLength("d"));
+        assertEquals(1, graph.getRemainingPathLength("e"));
+    }
+
+    @Test
+    void testCriticalPath() {
+        ModuleDeploymentGraph graph = new ModuleDeploymentGraph(List.of(createModule("e"), createModule("a"), createModule("d", "a"),
+                                                                        createModule("b", "a"), createModule("c", "b")));
+
+        assertEquals(List.of("a", "b", "c"), graph.getCriticalPath());
+    }
+
+    @Test
+    void testDeploymentOrder() {
+        ModuleDeploymentGraph graph = new ModuleDeploymentGraph(List.of(createModule("e"), createModule("d", "a"), createModule("c", "b"),
+                                                                        createModule("b", "a"), createModule("a")));
+
+        assertEquals(List.of("a", "b", "e", "d", "c"), graph.getDeploymentOrder());
+    }
+
+    @Test
+    void testDependenciesOutsideOfTheDeploymentAreIgnored() {
+        ModuleDeploymentGraph graph = new ModuleDeploymentGraph(List.of(createModule("a", "not-deployed"), createModule("b", "a")));
+
+        assertEquals(List.of("a", "b"), graph.getCriticalPath());
+        assertTrue(graph.isReadyForDeployment("a", Set.of(), Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testCircularDependencies() {
+        List<Module> modules = List.of(createModule("a", "c"), createModule("b", "a"), createModule("c", "b"), createModule("d"),
+                                       createModule("e", "c"));
+
+        ContentException exception = assertThrows(ContentException.class, () -> new ModuleDeploymentGraph(modules));
+
+        assertTrue(exception.getMessage()
+                            .contains("a, b, c, e"), exception.getMessage());
+    }
+
+    @Test
+    void testDependencyOnItself() {
+        List<Module> modules = List.of(createModule("a", "a"));
+
+        assertThrows(ContentException.class, () -> new ModuleDeploymentGraph(modules));
+    }
+
+    @Test
+    void testModuleIsReadyWhenItsPredecessorsAreDeployed() {
+        ModuleDeploymentGraph graph = new ModuleDeploymentGraph(List.of(createModule("a"), createModule("b"), createModule("c", "a", "b")));
+
+        assertFalse(graph.isReadyForDeployment("c", Set.of(), Integer.MAX_VALUE));
+        assertFalse(graph.isReadyForDeployment("c", Set.of("a"), Integer.MAX_VALUE));
+        assertTrue(graph.isReadyForDeployment("c", Set.of("a", "b"), Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testModuleIsHeldBackByTheParallelDeploymentsLimit() {
+        ModuleDeploymentGraph graph = new ModuleDeploymentGraph(List.of(createModule("a"), createModule("b"), createModule("c")));
+
+        assertTrue(graph.isReadyForDeployment("b", Set.of(), 2));
+        assertFalse(graph.isReadyForDeployment("c", Set.of(), 2));
+        assertTrue(graph.isReadyForDeployment("c", Set.of("b"), 2));
+    }
+
+    @Test
+    void testModulesStartAsSoonAsTheirPredecessorsFinish() {
+        // a -> b -> c is a long chain, d waits only for the short module e and f waits for d and b
+        List<Module> modules = List.of(createModule("a"), createModule("b", "a"), createModule("c", "b"), createModule("e"),
+                                       createModule("d", "e"), createModule("f", "d", "b"));
+        Map<String, Integer> durations = Map.of("a", 10, "b", 10, "c", 10, "d", 5, "e", 1, "f", 1);
+
+        Map<String, Integer> startTimes = simulateDeployment(modules, durations, Integer.MAX_VALUE);
+
+        assertEquals(Map.of("a", 0, "b", 10, "c", 20, "e", 0, "d", 1, "f", 20), startTimes);
+    }
+
+    @Test
+    void testParallelDeploymentsDoNotExceedTheLimit() {
+        List<Module> modules = new ArrayList<>();
+        Map<String, Integer> durations = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            modules.add(createModule("root-" + i));
+            modules.add(createModule("leaf-" + i, "root-" + i));
+            durations.put("root-" + i, i + 1);
+            durations.put("leaf-" + i, 10 - i);
+        }
+
+        Map<String, Integer> startTimes = simulateDeployment(modules, durations, 3);
+
+        assertEquals(20, startTimes.size());
+        for (Module module : modules) {
+            int startTime = startTimes.get(module.getName());
+            long modulesRunningAtStart = startTimes.entrySet()
+                                                   .stream()
+                                                   .filter(entry -> entry.getValue() <= startTime
+                                                       && startTime < entry.getValue() + durations.get(entry.getKey()))
+                                                   .count();
+            assertTrue(modulesRunningAtStart <= 3, module.getName() + " started with " + modulesRunningAtStart + " running modules");
+            for (String predecessor : module.getDeployedAfter()) {
+                assertTrue(startTimes.get(predecessor) + durations.get(predecessor) <= startTime,
+                           module.getName() + " started before " + predecessor + " finished");
+            }
+        }
+    }
+
+    /**
+     * Deploys the modules the way the deploy processes do: at every point of time, each not started module checks on its own whether it
+     * is ready for deployment. Returns the time at which each module was started.
+     */
+    private static Map<String, Integer> simulateDeployment(List<Module> modules, Map<String, Integer> durations,
+                                                           int maxParallelDeployments) {
+        ModuleDeploymentGraph graph = new ModuleDeploymentGraph(modules);
+        Map<String, Integer> startTimes = new HashMap<>();
+        Set<String> deployedModules = new HashSet<>();
+        for (int time = 0; deployedModules.size() < modules.size(); time++) {
+            for (Map.Entry<String, Integer> startTime : startTimes.entrySet()) {
+                if (startTime.getValue() + durations.get(startTime.getKey()) == time) {
+                    deployedModules.add(startTime.getKey());
+                }
+            }
+            Set<String> deployedModulesSnapshot = Set.copyOf(deployedModules);
+            for (Module module : modules) {
+                String moduleName = module.getName();
+                if (!startTimes.containsKey(moduleName)
+                    && graph.isReadyForDeployment(moduleName, deployedModulesSnapshot, maxParallelDeployments)) {
+                    startTimes.put(moduleName, time);
+                }
+            }
+        }
+        return startTimes;
+    }
+
+    private static Module createModule(String name, String... deployedAfter) {
+        return Module.createV3()
+                     .setName(name)
+                     .setDeployedAfter(List.of(deployedAfter));
+    }
+
+}
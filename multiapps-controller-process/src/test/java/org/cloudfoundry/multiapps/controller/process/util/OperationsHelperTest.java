@@ -123,10 +123,21 @@ class OperationsHelperTest {
         Assertions.assertEquals(Operation.State.ABORTED, updatedOperation.getState());
         Assertions.assertFalse(updatedOperation.hasAcquiredLock());
         Mockito.verify(operationService, Mockito.times(1))
-               .update(updatedOperation, updatedOperation);
+               .releaseLocks(List.of(PROCESS_ID));
         Assertions.assertEquals(mockedNonFinalOperation, notUpdatedOperation);
         Mockito.verify(operationService, Mockito.never())
-               .update(notUpdatedOperation, notUpdatedOperation);
+               .update(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testReleaseLocksIfNeededWithoutLockedFinalOperations() {
+        Operation mockedNonFinalOperation = createMockedOperation(PROCESS_ID, ProcessType.DEPLOY, Operation.State.RUNNING);
+        Mockito.when(mockedNonFinalOperation.hasAcquiredLock())
+               .thenReturn(true);
+        List<Operation> operations = List.of(mockedNonFinalOperation);
+        Assertions.assertEquals(operations, operationsHelper.releaseLocksIfNeeded(operations));
+        Mockito.verify(operationService, Mockito.never())
+               .releaseLocks(Mockito.any());
     }
 
     private Operation createMockedOperation(String processId, ProcessType processType, Operation.State state) {
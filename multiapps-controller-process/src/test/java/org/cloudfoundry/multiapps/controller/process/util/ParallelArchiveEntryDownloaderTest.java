@@ -0,0 +1,175 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.cloudfoundry.multiapps.common.ContentException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ParallelArchiveEntryDownloaderTest {
+
+    private static final String SPACE_GUID = "space";
+    private static final String ARCHIVE_ID = "archive";
+    private static final long CHUNK_SIZE = 7;
+    private static final int THREADS = 3;
+
+    private final ArchiveBufferPool archiveBufferPool = new ArchiveBufferPool(ApplicationConfiguration.DEFAULT_ARCHIVE_BUFFER_SIZE);
+
+    @Mock
+    private FileService fileService;
+    @Mock
+    private ApplicationConfiguration configuration;
+    @TempDir
+    Path tempDir;
+
+    private final ExecutorService moduleDownloadThreadPool = Executors.newFixedThreadPool(THREADS);
+    private ParallelArchiveEntryDownloader downloader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(configuration.getModuleDownloadChunkSize()).thenReturn(CHUNK_SIZE);
+        when(configuration.getThreadsForModuleDownload()).thenReturn(THREADS);
+        downloader = new ParallelArchiveEntryDownloader(fileService, configuration, moduleDownloadThreadPool, archiveBufferPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        moduleDownloadThreadPool.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "com.sap.mta.sample-1.2.1-beta.mtar", "stored-mta.mtar", "deflated-mta.mtar" })
+    void testDownloadEntry(String mtar) throws Exception {
+        byte[] archive = readArchive(mtar);
+        mockFileContent(archive);
+        Map<String, byte[]> expectedEntriesContent = readEntriesContent(archive);
+        List<ArchiveEntryWithStreamPositions> archiveEntries = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService, archiveBufferPool).determineArchiveEntries(SPACE_GUID,
+                                                                                                                                                      ARCHIVE_ID);
+        for (ArchiveEntryWithStreamPositions archiveEntry : archiveEntries) {
+            if (archiveEntry.isDirectory()) {
+                continue;
+            }
+            Path targetPath = Files.createTempFile(tempDir, null, null);
+            downloader.downloadEntry(buildFileEntryProperties(archiveEntry, Long.MAX_VALUE), archiveEntry, targetPath);
+            assertArrayEquals(expectedEntriesContent.get(archiveEntry.getName()), Files.readAllBytes(targetPath), archiveEntry.getName());
+        }
+    }
+
+    @Test
+    void testDownloadStoredEntryExceedingMaxSize() throws Exception {
+        mockFileContent(readArchive("stored-mta.mtar"));
+        ArchiveEntryWithStreamPositions archiveEntry = ImmutableArchiveEntryWithStreamPositions.builder()
+                                                                                               .name("META-INF/mtad.yaml")
+                                                                                               .startPosition(0)
+                                                                                               .endPosition(49)
+                                                                                               .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.STORED)
+                                                                                               .isDirectory(false)
+                                                                                               .build();
+        Path targetPath = Files.createTempFile(tempDir, null, null);
+
+        assertThrows(ContentException.class,
+                     () -> downloader.downloadEntry(buildFileEntryProperties(archiveEntry, 48), archiveEntry, targetPath));
+    }
+
+    @Test
+    void testShouldDownloadInParallel() {
+        assertTrue(downloader.shouldDownloadInParallel(buildArchiveEntry(CHUNK_SIZE + 1)));
+        assertFalse(downloader.shouldDownloadInParallel(buildArchiveEntry(CHUNK_SIZE)));
+        when(configuration.getThreadsForModuleDownload()).thenReturn(1);
+        assertFalse(downloader.shouldDownloadInParallel(buildArchiveEntry(CHUNK_SIZE + 1)));
+    }
+
+    private ArchiveEntryWithStreamPositions buildArchiveEntry(long size) {
+        return ImmutableArchiveEntryWithStreamPositions.builder()
+                                                       .name("module.zip")
+                                                       .startPosition(100)
+                                                       .endPosition(100 + size)
+                                                       .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.DEFLATED)
+                                                       .isDirectory(false)
+                                                       .build();
+    }
+
+    private FileEntryProperties buildFileEntryProperties(ArchiveEntryWithStreamPositions archiveEntry, long maxFileSizeInBytes) {
+        return ImmutableFileEntryProperties.builder()
+                                           .guid(ARCHIVE_ID)
+                                           .spaceGuid(SPACE_GUID)
+                                           .name(archiveEntry.getName())
+                                           .maxFileSizeInBytes(maxFileSizeInBytes)
+                                           .build();
+    }
+
+    private byte[] readArchive(String mtar) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(mtar)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private Map<String, byte[]> readEntriesContent(byte[] archive) throws IOException {
+        Map<String, byte[]> entriesContent = new HashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            for (ZipEntry zipEntry; (zipEntry = zipInputStream.getNextEntry()) != null;) {
+                entriesContent.put(zipEntry.getName(), zipInputStream.readAllBytes());
+            }
+        }
+        return entriesContent;
+    }
+
+    private void mockFileContent(byte[] archive) throws Exception {
+        doAnswer(answer -> {
+            FileContentProcessor<?> fileContentProcessor = answer.getArgument(2);
+            return fileContentProcessor.process(new ByteArrayInputStream(archive));
+        }).when(fileService)
+          .processFileContent(eq(SPACE_GUID), eq(ARCHIVE_ID), any());
+        doAnswer(answer -> {
+            FileContentProcessor<?> fileContentProcessor = answer.getArgument(1);
+            return fileContentProcessor.process(getRangeStream(archive, answer.getArgument(0)));
+        }).when(fileService)
+          .processFileContentWithOffset(any(), any());
+        doAnswer(answer -> {
+            FileContentConsumer fileContentConsumer = answer.getArgument(1);
+            fileContentConsumer.consume(getRangeStream(archive, answer.getArgument(0)));
+            return null;
+        }).when(fileService)
+          .consumeFileContentWithOffset(any(), any());
+    }
+
+    private InputStream getRangeStream(byte[] archive, FileContentToProcess fileContentToProcess) {
+        int startOffset = (int) fileContentToProcess.getStartOffset();
+        int endOffset = (int) Math.min(fileContentToProcess.getEndOffset(), archive.length - 1);
+        return new ByteArrayInputStream(archive, startOffset, endOffset - startOffset + 1);
+    }
+
+}
@@ -70,6 +70,8 @@ class ServiceBindingParametersGetterTest {
     @Mock
     private ArchiveEntryExtractor archiveEntryExtractor;
     @Mock
+    private ArchiveEntriesProvider archiveEntriesProvider;
+    @Mock
     private MtaArchiveElements mtaArchiveElements;
     @Mock
     private CloudControllerClient client;
@@ -79,7 +81,7 @@ class ServiceBindingParametersGetterTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        serviceBindingParametersGetter = new ServiceBindingParametersGetter(context, archiveEntryExtractor, 0);
+        serviceBindingParametersGetter = new ServiceBindingParametersGetter(context, archiveEntryExtractor, archiveEntriesProvider, 0);
 
     }
 
@@ -205,7 +207,7 @@ class ServiceBindingParametersGetterTest {
         when(context.getVariable(Variables.SERVICES_TO_BIND)).thenReturn(Collections.singletonList(serviceInstance));
         when(context.getRequiredVariable(Variables.APP_ARCHIVE_ID)).thenReturn(APP_ARCHIVE_ID);
         when(context.getVariable(Variables.MTA_ARCHIVE_ELEMENTS)).thenReturn(mtaArchiveElements);
-        when(context.getVariable(Variables.ARCHIVE_ENTRIES_POSITIONS)).thenReturn(List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        when(archiveEntriesProvider.getArchiveEntries(context)).thenReturn(List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
         when(context.getVariable(Variables.SPACE_GUID)).thenReturn(TEST_SPACE_GUID);
         when(context.getRequiredVariable(Variables.SPACE_GUID)).thenReturn(TEST_SPACE_GUID);
         when(context.getControllerClient()).thenReturn(client);
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerAsyncClient;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudEvent;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudEvent;
@@ -18,6 +19,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import reactor.core.publisher.Mono;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.when;
@@ -33,6 +36,8 @@ class ServiceOperationGetterTest {
     private CloudServiceInstanceExtended service;
     @Mock
     private CloudControllerClient client;
+    @Mock
+    private CloudControllerAsyncClient asyncClient;
 
     private ServiceOperationGetter serviceOperationGetter;
 
@@ -40,10 +45,11 @@ class ServiceOperationGetterTest {
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this)
                           .close();
+        when(client.getAsyncClient()).thenReturn(asyncClient);
         serviceOperationGetter = new ServiceOperationGetter();
     }
 
-    static Stream<Arguments> testGetLastServiceOperation() {
+    static Stream<Arguments> testGetLastServiceOperations() {
         return Stream.of(
             // (1) Test with create succeeded operation
             Arguments.of(ServiceOperation.Type.CREATE, ServiceOperation.State.SUCCEEDED, "created",
@@ -57,16 +63,17 @@ class ServiceOperationGetterTest {
 
     @ParameterizedTest
     @MethodSource
-    void testGetLastServiceOperation(ServiceOperation.Type serviceOperationType, ServiceOperation.State serviceOperationState,
+    void testGetLastServiceOperations(ServiceOperation.Type serviceOperationType, ServiceOperation.State serviceOperationState,
                                      String description, ServiceOperation expectedServiceOperation) {
         when(service.getName()).thenReturn(SERVICE_NAME);
         if (serviceOperationState != null && serviceOperationType != null) {
             when(service.getLastOperation()).thenReturn(new ServiceOperation(serviceOperationType, description, serviceOperationState));
         }
-        when(client.getServiceInstance(SERVICE_NAME, false)).thenReturn(service);
+        when(client.getServiceInstancesWithoutAuxiliaryContentByNames(List.of(SERVICE_NAME))).thenReturn(List.of(service));
         when(context.getControllerClient()).thenReturn(client);
 
-        ServiceOperation serviceOperation = serviceOperationGetter.getLastServiceOperation(context.getControllerClient(), service);
+        ServiceOperation serviceOperation = serviceOperationGetter.getLastServiceOperations(context.getControllerClient(), List.of(service))
+                                                                  .get(SERVICE_NAME);
 
         assertServiceOperation(expectedServiceOperation, serviceOperation);
     }
@@ -97,9 +104,12 @@ class ServiceOperationGetterTest {
                                            ServiceOperation expectedOperation) {
         prepareService(missingServiceMetadata);
         prepareEvents(containsDeleteEvent);
+        when(service.getName()).thenReturn(SERVICE_NAME);
+        when(client.getServiceInstancesWithoutAuxiliaryContentByNames(List.of(SERVICE_NAME))).thenReturn(List.of());
         when(context.getControllerClient()).thenReturn(client);
 
-        ServiceOperation serviceOperation = serviceOperationGetter.getLastServiceOperation(context.getControllerClient(), service);
+        ServiceOperation serviceOperation = serviceOperationGetter.getLastServiceOperations(context.getControllerClient(), List.of(service))
+                                                                  .get(SERVICE_NAME);
 
         assertEquals(expectedOperation, serviceOperation);
     }
@@ -121,7 +131,7 @@ class ServiceOperationGetterTest {
                                        .type("audit.service_instance.create")
                                        .build();
         }
-        when(client.getEventsByActee(SERVICE_GUID)).thenReturn(List.of(event));
+        when(asyncClient.getEventsByActee(SERVICE_GUID)).thenReturn(Mono.just(List.of(event)));
     }
 
 }
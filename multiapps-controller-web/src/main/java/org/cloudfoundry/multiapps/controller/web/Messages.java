@@ -13,6 +13,11 @@ public final class Messages {
     public static final String NO_FILES_TO_UPLOAD = "Request has no files to upload!";
     public static final String ACTION_0_CANNOT_BE_EXECUTED_OVER_OPERATION_1_IN_STATE_2 = "Action \"{0}\" cannot be executed over operation \"{1}\" in state \"{2}\".";
     public static final String OPERATION_0_NOT_FOUND = "Operation \"{0}\" was not found.";
+    public static final String LOG_CONTENT_OFFSET_0_MUST_NOT_BE_NEGATIVE = "Log content offset \"{0}\" must not be negative.";
+    public static final String PAGE_SIZE_0_MUST_BE_POSITIVE = "Page size \"{0}\" must be positive.";
+    public static final String PAGE_SIZE_IS_REQUIRED_FOR_CONTINUATION_TOKEN = "Page size is required when a continuation token is provided.";
+    public static final String PAGE_SIZE_CANNOT_BE_COMBINED_WITH_LAST = "Page size cannot be combined with the number of last operations.";
+    public static final String INVALID_CONTINUATION_TOKEN_0 = "Invalid continuation token \"{0}\".";
     public static final String TEMPORARY_PROBLEM_WITH_PERSISTENCE_LAYER = "Temporary problem with persistence layer of the service";
     public static final String FILE_URL_RESPONSE_DID_NOT_RETURN_CONTENT_LENGTH_FOR_JOB_WITH_ID = "File URL response did not return Content-Length header. Job id: {0}";
     public static final String ERROR_FROM_REMOTE_MTAR_ENDPOINT_FOR_JOB_WITH_ID = "Error from remote MTAR endpoint {0} with status code {1}, message: {2}. Job id: {3}";
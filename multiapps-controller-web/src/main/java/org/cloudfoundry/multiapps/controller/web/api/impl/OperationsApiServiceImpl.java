@@ -4,9 +4,11 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.persistence.NoResultException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.collections4.ListUtils;
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.controller.api.Constants.Headers;
 import org.cloudfoundry.multiapps.controller.api.OperationsApiService;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableLog;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableMessage;
@@ -46,15 +48,22 @@ import org.cloudfoundry.multiapps.controller.web.util.SecurityContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -63,6 +72,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import static org.cloudfoundry.multiapps.controller.persistence.Constants.VARIABLE_NAME_SERVICE_ID;
 import static org.cloudfoundry.multiapps.controller.web.Constants.NAMES_OF_SERVICE_PARAMETERS;
@@ -71,6 +81,9 @@ import static org.cloudfoundry.multiapps.controller.web.Constants.NAMES_OF_SERVI
 public class OperationsApiServiceImpl implements OperationsApiService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OperationsApiServiceImpl.class);
+    private static final String LOG_CONTENT_TYPE = MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8";
+    private static final String GZIP_ENCODING = "gzip";
+    private static final int LOG_CONTENT_BUFFER_SIZE = 8 * 1024;
 
     private final CloudControllerClientFactory clientFactory;
     private final TokenService tokenService;
@@ -109,9 +122,14 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     }
 
     @Override
-    public ResponseEntity<List<Operation>> getOperations(String spaceGuid, String mtaId, List<String> stateStrings, Integer last) {
+    public ResponseEntity<List<Operation>> getOperations(String spaceGuid, String mtaId, List<String> stateStrings, Integer last,
+                                                         Integer pageSize, String continuationToken) {
         operationsApiServiceAuditLog.logGetOperations(SecurityContextUtil.getUsername(), spaceGuid, mtaId);
         List<Operation.State> states = getStates(stateStrings);
+        if (pageSize != null || continuationToken != null) {
+            validatePaginationParameters(last, pageSize);
+            return getOperationsPage(states, spaceGuid, mtaId, pageSize, continuationToken);
+        }
         List<Operation> operations = filterByQueryParameters(last, states, spaceGuid, mtaId);
         return ResponseEntity.ok()
                              .body(operations);
@@ -156,18 +174,55 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     }
 
     @Override
-    public ResponseEntity<String> getOperationLogContent(String spaceGuid, String operationId, String logId) {
+    public void getOperationLogContent(String spaceGuid, String operationId, String logId, Long offset, HttpServletResponse response) {
+        operationsApiServiceAuditLog.logGetOperationLogContent(SecurityContextUtil.getUsername(), spaceGuid, operationId, logId);
+        long bytesToSkip = offset == null ? 0 : offset;
+        if (bytesToSkip < 0) {
+            throw new IllegalArgumentException(MessageFormat.format(Messages.LOG_CONTENT_OFFSET_0_MUST_NOT_BE_NEGATIVE, offset));
+        }
+        boolean isGzipAccepted = isGzipAccepted();
         try {
-            operationsApiServiceAuditLog.logGetOperationLogContent(SecurityContextUtil.getUsername(), spaceGuid, operationId, logId);
-            String content = logsService.getOperationLog(spaceGuid, operationId, logId);
-
-            return ResponseEntity.ok()
-                                 .body(content);
+            logsService.consumeOperationLog(spaceGuid, operationId, logId,
+                                            logContent -> writeLogContent(logContent, bytesToSkip, isGzipAccepted, response));
         } catch (FileStorageException e) {
             throw new ContentException(e, e.getMessage());
         }
     }
 
+    private boolean isGzipAccepted() {
+        String acceptEncoding = httpServletRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase()
+                                                       .contains(GZIP_ENCODING);
+    }
+
+    private void writeLogContent(InputStream logContent, long bytesToSkip, boolean isGzipAccepted, HttpServletResponse response)
+        throws IOException {
+        skip(logContent, bytesToSkip);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(LOG_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!isGzipAccepted) {
+            logContent.transferTo(response.getOutputStream());
+            return;
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(response.getOutputStream(), LOG_CONTENT_BUFFER_SIZE);
+        logContent.transferTo(gzipOutputStream);
+        gzipOutputStream.finish();
+    }
+
+    private void skip(InputStream inputStream, long bytesToSkip) throws IOException {
+        long remainingBytesToSkip = bytesToSkip;
+        while (remainingBytesToSkip > 0) {
+            long skippedBytes = inputStream.skip(remainingBytesToSkip);
+            if (skippedBytes <= 0) {
+                // The log is not longer than the offset, so there is no new content to return
+                return;
+            }
+            remainingBytesToSkip -= skippedBytes;
+        }
+    }
+
     @Override
     public ResponseEntity<Operation> startOperation(String spaceGuid, Operation operation, HttpServletRequest httpServletRequest) {
         apiUsageLogger.logOperationsMutatingCall(spaceGuid, Constants.ApiEndpointsNames.START_OPERATION, null,
@@ -217,20 +272,63 @@ public class OperationsApiServiceImpl implements OperationsApiService {
 
     private List<Operation> filterByQueryParameters(Integer lastRequestedOperationsCount, List<Operation.State> states, String spaceGuid,
                                                     String mtaId) {
+        OperationQuery operationQuery = createOperationQuery(states, spaceGuid, mtaId).orderByStartTime(OrderDirection.ASCENDING);
+        if (lastRequestedOperationsCount != null) {
+            operationQuery.limitOnSelect(lastRequestedOperationsCount)
+                          .orderByStartTime(OrderDirection.DESCENDING);
+        }
+        return operationsHelper.releaseLocksIfNeeded(operationQuery.list());
+    }
+
+    private OperationQuery createOperationQuery(List<Operation.State> states, String spaceGuid, String mtaId) {
         OperationQuery operationQuery = operationService.createQuery()
-                                                        .orderByStartTime(OrderDirection.ASCENDING)
                                                         .spaceId(spaceGuid);
         if (mtaId != null) {
             operationQuery.mtaId(mtaId);
         }
-        if (lastRequestedOperationsCount != null) {
-            operationQuery.limitOnSelect(lastRequestedOperationsCount)
-                          .orderByStartTime(OrderDirection.DESCENDING);
-        }
         if (!states.isEmpty()) {
             operationQuery.withStateAnyOf(states);
         }
-        return operationsHelper.releaseLocksIfNeeded(operationQuery.list());
+        return operationQuery;
+    }
+
+    private void validatePaginationParameters(Integer lastRequestedOperationsCount, Integer pageSize) {
+        if (pageSize == null) {
+            throw new IllegalArgumentException(Messages.PAGE_SIZE_IS_REQUIRED_FOR_CONTINUATION_TOKEN);
+        }
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException(MessageFormat.format(Messages.PAGE_SIZE_0_MUST_BE_POSITIVE, pageSize));
+        }
+        if (lastRequestedOperationsCount != null) {
+            throw new IllegalArgumentException(Messages.PAGE_SIZE_CANNOT_BE_COMBINED_WITH_LAST);
+        }
+    }
+
+    /**
+     * Selects the operations with keyset pagination, so that the database seeks directly to the start of the page instead of skipping the
+     * previous pages. The order by start time and process ID is total, so no operation is missed or repeated between pages.
+     */
+    private ResponseEntity<List<Operation>> getOperationsPage(List<Operation.State> states, String spaceGuid, String mtaId, int pageSize,
+                                                              String continuationToken) {
+        // One more operation is selected only to find out whether there is a next page
+        OperationQuery operationQuery = createOperationQuery(states, spaceGuid, mtaId);
+        operationQuery.orderByStartTimeAndProcessId(OrderDirection.ASCENDING)
+                      .limitOnSelect(pageSize + 1);
+        if (continuationToken != null) {
+            OperationsPageCursor cursor = OperationsPageCursor.decode(continuationToken);
+            operationQuery.startedAfterOperation(cursor.startedAt(), cursor.processId());
+        }
+        List<Operation> operations = operationQuery.list();
+        if (operations.size() <= pageSize) {
+            return ResponseEntity.ok()
+                                 .body(operationsHelper.releaseLocksIfNeeded(operations));
+        }
+        List<Operation> page = operationsHelper.releaseLocksIfNeeded(operations.subList(0, pageSize));
+        Operation lastOperation = page.get(pageSize - 1);
+        return ResponseEntity.ok()
+                             .header(Headers.CONTINUATION_TOKEN,
+                                     new OperationsPageCursor(lastOperation.getStartedAt(), lastOperation.getProcessId()).encode())
+                             .body(page);
     }
 
     @Override
@@ -399,4 +497,36 @@ public class OperationsApiServiceImpl implements OperationsApiService {
                         .anyMatch(message -> message.getType() == MessageType.ERROR);
     }
 
+    /**
+     * The position of the last operation of a page. The continuation token contains its start time in milliseconds and its process ID.
+     */
+    private record OperationsPageCursor(ZonedDateTime startedAt, String processId) {
+
+        private static final String SEPARATOR = ":";
+
+        String encode() {
+            String cursor = startedAt.toInstant()
+                                     .toEpochMilli()
+                + SEPARATOR + processId;
+            return Base64.getUrlEncoder()
+                         .withoutPadding()
+                         .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static OperationsPageCursor decode(String continuationToken) {
+            try {
+                String cursor = new String(Base64.getUrlDecoder()
+                                                 .decode(continuationToken), StandardCharsets.UTF_8);
+                int separatorIndex = cursor.indexOf(SEPARATOR);
+                if (separatorIndex < 0) {
+                    throw new IllegalArgumentException(MessageFormat.format(Messages.INVALID_CONTINUATION_TOKEN_0, continuationToken));
+                }
+                Instant startedAt = Instant.ofEpochMilli(Long.parseLong(cursor.substring(0, separatorIndex)));
+                return new OperationsPageCursor(ZonedDateTime.ofInstant(startedAt, ZoneId.of("UTC")), cursor.substring(separatorIndex + 1));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(MessageFormat.format(Messages.INVALID_CONTINUATION_TOKEN_0, continuationToken), e);
+            }
+        }
+    }
+
 }
@@ -6,6 +6,7 @@ import java.util.function.Supplier;
 import javax.sql.DataSource;
 
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.process.util.InstrumentedThreadPoolExecutor;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
@@ -32,6 +33,7 @@ public class FlowableConfiguration {
     private static final int JOB_EXECUTOR_LOCK_TIME_IN_MILLIS = (int) TimeUnit.MINUTES.toMillis(30);
     private static final long JOB_EXECUTOR_SHUTDOWN_AWAIT_TIME_IN_SECONDS = TimeUnit.MINUTES.toSeconds(8);
     private static final String JOB_EXECUTOR_ID_TEMPLATE = "ds-%s/%d/%s";
+    private static final String FLOWABLE_TASK_EXECUTOR_NAME = "flowable-async-task-executor";
 
     @Value("classpath*:/org/cloudfoundry/multiapps/controller/process/*.bpmn")
     private Resource[] flowableResources;
@@ -91,6 +93,7 @@ public class FlowableConfiguration {
             @Override
             protected void initAsyncJobExecutionThreadPool() {
                 asyncTaskExecutor.start();
+                InstrumentedThreadPoolExecutor.bindPoolMetrics(asyncTaskExecutor.getExecutorService(), FLOWABLE_TASK_EXECUTOR_NAME);
                 this.taskExecutor = asyncTaskExecutor;
                 this.shutdownTaskExecutor = true;
             }
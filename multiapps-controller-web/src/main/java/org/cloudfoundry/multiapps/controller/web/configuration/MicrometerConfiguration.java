@@ -5,11 +5,20 @@ import java.time.Duration;
 
 import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.jmx.JmxConfig;
 import io.micrometer.jmx.JmxMeterRegistry;
+import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.AuditLoggingFacadeSLImpl;
+import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
+import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.util.EnvironmentServicesFinder;
+import org.cloudfoundry.multiapps.controller.process.client.CloudControllerClientCacheFactory;
+import org.cloudfoundry.multiapps.controller.process.jobs.CleanUpJob;
+import org.cloudfoundry.multiapps.controller.process.util.InstrumentedThreadPoolExecutor;
+import org.cloudfoundry.multiapps.controller.web.monitoring.FssMonitor;
+import org.cloudfoundry.multiapps.controller.web.security.AuthorizationChecker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
@@ -21,6 +30,7 @@ public class MicrometerConfiguration {
     private static final Logger LOGGER = LoggerFactory.getLogger(MicrometerConfiguration.class);
     public static final String DYNATRACE_SERVICE_NAME = "deploy-service-dynatrace";
     private static final String CLIENT_CONNECTIONS_METRICS_PREFIX = "reactor.netty.connection.provider.cloudfoundry-client.";
+    private static final String THREADS_METRICS_PREFIX = "jvm.threads.";
 
     @Bean
     public JmxMeterRegistry jmxMeterRegistry(ApplicationConfiguration configuration, EnvironmentServicesFinder vcapServiceFinder) {
@@ -50,7 +60,18 @@ public class MicrometerConfiguration {
         JmxMeterRegistry registry = new JmxMeterRegistry(jmxConfig, Clock.SYSTEM);
         registry.config()
                 .meterFilter(MeterFilter.acceptNameStartsWith(CLIENT_CONNECTIONS_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(AuthorizationChecker.CACHE_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(TokenService.CACHE_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(CloudControllerClientProvider.CACHE_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(CloudControllerClientCacheFactory.METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(InstrumentedThreadPoolExecutor.METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(THREADS_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(FssMonitor.TEMP_FILES_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(AuditLoggingFacadeSLImpl.METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(CleanUpJob.METRICS_PREFIX))
                 .meterFilter(MeterFilter.deny());
+        // The thread states are counted by the ThreadMXBean without capturing the stack traces of the threads
+        new JvmThreadMetrics().bindTo(registry);
         Metrics.globalRegistry.add(registry);
         return registry;
     }
@@ -1,23 +1,40 @@
 package org.cloudfoundry.multiapps.controller.web.monitoring;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
-import org.apache.commons.io.FileUtils;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.core.util.TempFileUsageTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Calculates the used space of a directory. The directory is walked at most once per update timeout, in between the space of the temporary
+ * files in the directory which were created or deleted since the walk is taken from the {@link TempFileUsageTracker}.
+ */
 @Named
 public class FssMonitor {
 
+    public static final String TEMP_FILES_METRICS_PREFIX = "multiapps.temp.files.";
+    static final int MAX_VISITED_FILES = 100000;
+
     final Map<File, Long> usedSpaceMap = new ConcurrentHashMap<>(1);
     final Map<File, LocalDateTime> updateTimesMap = new ConcurrentHashMap<>(1);
+    final Map<File, Long> trackedSpaceMap = new ConcurrentHashMap<>(1);
     private static final Logger LOGGER = LoggerFactory.getLogger(FssMonitor.class);
 
     private final Integer updateTimeoutMinutes;
@@ -25,6 +42,17 @@ public class FssMonitor {
     @Inject
     public FssMonitor(ApplicationConfiguration appConfigurations) {
         this.updateTimeoutMinutes = appConfigurations.getFssCacheUpdateTimeoutMinutes();
+        registerTempFilesMetrics();
+    }
+
+    private static void registerTempFilesMetrics() {
+        for (TempFileUsageTracker.Category category : TempFileUsageTracker.Category.values()) {
+            Gauge.builder(TEMP_FILES_METRICS_PREFIX + "used.space", () -> TempFileUsageTracker.getUsedSpace(category))
+                 .tag("category", category.name()
+                                          .toLowerCase())
+                 .baseUnit(BaseUnits.BYTES)
+                 .register(io.micrometer.core.instrument.Metrics.globalRegistry);
+        }
     }
 
     public long calculateUsedSpace(String path) {
@@ -33,11 +61,19 @@ public class FssMonitor {
             return getUsedSpace(filePath);
         }
         if (isCacheValid(filePath)) {
-            return usedSpaceMap.get(filePath);
+            return Math.max(0, usedSpaceMap.get(filePath) + getTrackedSpaceChange(filePath));
         }
         return getUsedSpace(filePath);
     }
 
+    private long getTrackedSpaceChange(File filePath) {
+        Long trackedSpace = trackedSpaceMap.get(filePath);
+        if (trackedSpace == null) {
+            return 0;
+        }
+        return TempFileUsageTracker.getUsedSpaceIn(filePath.toPath()) - trackedSpace;
+    }
+
     private boolean isCacheValid(File filePath) {
         LocalDateTime lastChecked = updateTimesMap.get(filePath);
         LocalDateTime invalidateDeadline = LocalDateTime.now()
@@ -48,11 +84,52 @@ public class FssMonitor {
     private long getUsedSpace(File path) {
         LOGGER.debug("Calculating space for path {}.", path);
         updateTimesMap.put(path, LocalDateTime.now());
+        long trackedSpace = TempFileUsageTracker.getUsedSpaceIn(path.toPath());
         long startTime = System.currentTimeMillis();
-        long usedSpace = FileUtils.sizeOf(path);
+        long usedSpace = sizeOf(path.toPath());
         long endTime = System.currentTimeMillis();
         LOGGER.info("Calculated space for path {} : {} bytes in {} ms", path, usedSpace, endTime - startTime);
+        trackedSpaceMap.put(path, trackedSpace);
         usedSpaceMap.put(path, usedSpace);
         return usedSpace;
     }
+
+    private long sizeOf(Path path) {
+        SizeCalculatingVisitor visitor = new SizeCalculatingVisitor();
+        try {
+            Files.walkFileTree(path, visitor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (visitor.visitedFiles >= MAX_VISITED_FILES) {
+            LOGGER.warn("Stopped calculating space for path {} after {} files, the used space is at least {} bytes", path,
+                        visitor.visitedFiles, visitor.size);
+        }
+        return visitor.size;
+    }
+
+    private static class SizeCalculatingVisitor extends SimpleFileVisitor<Path> {
+
+        private long size;
+        private int visitedFiles;
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            if (attributes.isRegularFile()) {
+                size += attributes.size();
+            }
+            return ++visitedFiles < MAX_VISITED_FILES ? FileVisitResult.CONTINUE : FileVisitResult.TERMINATE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException e) {
+            // Temporary files may be deleted while the directory is walked
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path directory, IOException e) {
+            return FileVisitResult.CONTINUE;
+        }
+    }
 }
@@ -3,21 +3,27 @@ package org.cloudfoundry.multiapps.controller.web.monitoring;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
 import java.text.MessageFormat;
-import java.util.Map;
 
 public abstract class ThreadInformation {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ThreadInformation.class);
 
     protected void processThreadsInformation() {
-        LOGGER.trace("Fetching stack trace information...");
+        LOGGER.trace("Fetching thread information...");
         long beforeTime = System.currentTimeMillis();
-        Map<Thread, StackTraceElement[]> allThreads = Thread.getAllStackTraces();
-        LOGGER.trace(MessageFormat.format("Stack trace information retrieved in {0} milliseconds.",
-                                          System.currentTimeMillis() - beforeTime));
-        for (Thread thread : allThreads.keySet()) {
-            processThreadInformation(thread.getName(), thread.getState());
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        // Only the names and states of the threads are needed, so their stack traces are not captured
+        ThreadInfo[] allThreads = threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds(), 0);
+        LOGGER.trace(MessageFormat.format("Thread information retrieved in {0} milliseconds.", System.currentTimeMillis() - beforeTime));
+        for (ThreadInfo thread : allThreads) {
+            // The threads which terminated after their IDs were fetched have no information
+            if (thread != null) {
+                processThreadInformation(thread.getThreadName(), thread.getThreadState());
+            }
         }
     }
 
@@ -2,6 +2,7 @@ package org.cloudfoundry.multiapps.controller.web.security;
 
 import java.text.MessageFormat;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Set;
 import java.util.UUID;
 
@@ -18,6 +19,7 @@ import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactor
 import org.cloudfoundry.multiapps.controller.core.cf.clients.CfRolesGetter;
 import org.cloudfoundry.multiapps.controller.core.cf.clients.WebClientFactory;
 import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
+import org.cloudfoundry.multiapps.controller.core.model.CachedMapMetrics;
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.core.util.UserInfo;
@@ -29,12 +31,22 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+/**
+ * Checks whether users may operate in spaces. The roles of the users and the GUIDs of the spaces are cached, so that frequent requests of
+ * the same user, such as polling of operations, do not reach the Cloud Controller each time. Roles without space developer are cached for
+ * a shorter time, so that newly granted roles take effect soon.
+ */
 @Named
 public class AuthorizationChecker implements DisposableBean {
 
+    public static final String CACHE_METRICS_PREFIX = "multiapps.authorization.cache.";
     private static final Logger LOGGER = LoggerFactory.getLogger(AuthorizationChecker.class);
-    private CachedMap<SpaceWithUser, Set<UserRole>> userRolesCache = null;
+    private static final int MAX_CACHED_USER_ROLES = 10000;
+    private static final int MAX_CACHED_SPACE_GUIDS = 10000;
 
+    private final CachedMap<SpaceWithUser, CachedUserRoles> userRolesCache;
+    private final CachedMap<SpaceName, UUID> spaceGuidsCache;
+    private final Duration negativeUserRolesCacheExpiration;
     private final CloudControllerClientFactory clientFactory;
     private final TokenService tokenService;
     private final ApplicationConfiguration configuration;
@@ -47,15 +59,12 @@ public class AuthorizationChecker implements DisposableBean {
         this.tokenService = tokenService;
         this.webClientFactory = webClientFactory;
         this.configuration = configuration;
-        initSpaceDevelopersCache(configuration);
-    }
-
-    private void initSpaceDevelopersCache(ApplicationConfiguration applicationConfiguration) {
-        if (userRolesCache != null) {
-            return;
-        }
-        Integer cacheExpirationInSeconds = applicationConfiguration.getSpaceDeveloperCacheExpirationInSeconds();
-        userRolesCache = new CachedMap<>(Duration.ofSeconds(cacheExpirationInSeconds));
+        Duration cacheExpiration = Duration.ofSeconds(configuration.getSpaceDeveloperCacheExpirationInSeconds());
+        this.userRolesCache = new CachedMap<>(cacheExpiration, MAX_CACHED_USER_ROLES);
+        this.spaceGuidsCache = new CachedMap<>(cacheExpiration, MAX_CACHED_SPACE_GUIDS);
+        this.negativeUserRolesCacheExpiration = Duration.ofSeconds(configuration.getSpaceRolesNegativeCacheExpirationInSeconds());
+        CachedMapMetrics.register(CACHE_METRICS_PREFIX, "user-roles", userRolesCache);
+        CachedMapMetrics.register(CACHE_METRICS_PREFIX, "space-guids", spaceGuidsCache);
     }
 
     public void ensureUserIsAuthorized(HttpServletRequest request, UserInfo userInfo, CloudTarget target, String action) {
@@ -93,12 +102,17 @@ public class AuthorizationChecker implements DisposableBean {
             return true;
         }
         var userToken = tokenService.getToken(userInfo.getId());
-        var spaceClient = clientFactory.createSpaceClient(userToken);
-        var space = spaceClient.getSpace(orgName, spaceName);
-
-        CfRolesGetter rolesGetter = getRolesGetter(userToken);
+        // The GUID of a space is the same for all users, whether they may access it is decided by their roles
+        UUID spaceGuid = spaceGuidsCache.computeIfAbsent(new SpaceName(orgName, spaceName),
+                                                         () -> getSpaceGuid(userToken, orgName, spaceName));
         UUID userGuid = UUID.fromString(userInfo.getId());
-        return hasPermissions(rolesGetter, getSpaceWithUser(userGuid, space.getGuid()), readOnly);
+        return hasPermissions(userToken, getSpaceWithUser(userGuid, spaceGuid), readOnly);
+    }
+
+    private UUID getSpaceGuid(OAuth2AccessTokenWithAdditionalInfo userToken, String orgName, String spaceName) {
+        return clientFactory.createSpaceClient(userToken)
+                            .getSpace(orgName, spaceName)
+                            .getGuid();
     }
 
     protected CfRolesGetter getRolesGetter(OAuth2AccessTokenWithAdditionalInfo token) {
@@ -110,10 +124,9 @@ public class AuthorizationChecker implements DisposableBean {
             return true;
         }
         var userToken = tokenService.getToken(userInfo.getId());
-        CfRolesGetter rolesGetter = getRolesGetter(userToken);
         UUID userGuid = UUID.fromString(userInfo.getId());
         UUID spaceGuid = convertSpaceIdToUUID(spaceId);
-        return hasPermissions(rolesGetter, getSpaceWithUser(userGuid, spaceGuid), readOnly);
+        return hasPermissions(userToken, getSpaceWithUser(userGuid, spaceGuid), readOnly);
     }
 
     private UUID convertSpaceIdToUUID(String spaceId) {
@@ -126,11 +139,8 @@ public class AuthorizationChecker implements DisposableBean {
         return spaceGuid;
     }
 
-    private boolean hasPermissions(CfRolesGetter rolesGetter, SpaceWithUser spaceWithUser, boolean readOnly) {
-        if (isSpaceDeveloperUsingCache(spaceWithUser)) {
-            return true;
-        }
-        Set<UserRole> userRoles = refreshUserRoles(rolesGetter, spaceWithUser);
+    private boolean hasPermissions(OAuth2AccessTokenWithAdditionalInfo userToken, SpaceWithUser spaceWithUser, boolean readOnly) {
+        Set<UserRole> userRoles = getUserRoles(userToken, spaceWithUser);
         if (userRoles.contains(UserRole.SPACE_DEVELOPER)) {
             return true;
         }
@@ -141,15 +151,23 @@ public class AuthorizationChecker implements DisposableBean {
         return new SpaceWithUser(userGuid, spaceGuid);
     }
 
-    private boolean isSpaceDeveloperUsingCache(SpaceWithUser spaceWithUser) {
-        Set<UserRole> userRoles = userRolesCache.get(spaceWithUser);
-        return userRoles != null && userRoles.contains(UserRole.SPACE_DEVELOPER);
+    private Set<UserRole> getUserRoles(OAuth2AccessTokenWithAdditionalInfo userToken, SpaceWithUser spaceWithUser) {
+        return userRolesCache.computeIfAbsent(spaceWithUser, this::isValid, () -> loadUserRoles(userToken, spaceWithUser))
+                             .roles();
+    }
+
+    private boolean isValid(CachedUserRoles cachedUserRoles) {
+        return cachedUserRoles.roles()
+                              .contains(UserRole.SPACE_DEVELOPER)
+            || Instant.now()
+                      .isBefore(cachedUserRoles.loadTime()
+                                               .plus(negativeUserRolesCacheExpiration));
     }
 
-    private Set<UserRole> refreshUserRoles(CfRolesGetter rolesGetter, SpaceWithUser spaceWithUser) {
+    private CachedUserRoles loadUserRoles(OAuth2AccessTokenWithAdditionalInfo userToken, SpaceWithUser spaceWithUser) {
+        CfRolesGetter rolesGetter = getRolesGetter(userToken);
         Set<UserRole> userRoles = rolesGetter.getRoles(spaceWithUser.getSpaceGuid(), spaceWithUser.getUserGuid());
-        userRolesCache.put(spaceWithUser, userRoles);
-        return userRoles;
+        return new CachedUserRoles(userRoles, Instant.now());
     }
 
     private boolean hasAdminScope(UserInfo userInfo) {
@@ -179,5 +197,12 @@ public class AuthorizationChecker implements DisposableBean {
     @Override
     public void destroy() {
         userRolesCache.clear();
+        spaceGuidsCache.clear();
+    }
+
+    private record CachedUserRoles(Set<UserRole> roles, Instant loadTime) {
+    }
+
+    private record SpaceName(String organizationName, String spaceName) {
     }
 }
@@ -1,18 +1,32 @@
 package org.cloudfoundry.multiapps.controller.web.api.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import jakarta.persistence.NoResultException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.controller.api.Constants.Headers;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
@@ -25,7 +39,9 @@ import org.cloudfoundry.multiapps.controller.client.util.TokenProperties;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.OperationsApiServiceAuditLog;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
 import org.cloudfoundry.multiapps.controller.persistence.query.OperationQuery;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogsPersistenceService;
@@ -48,6 +64,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
@@ -56,6 +73,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import static org.cloudfoundry.multiapps.controller.core.util.SecurityUtil.USER_INFO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -89,6 +107,8 @@ class OperationsApiServiceImplTest {
     private ApiUsageLogger apiUsageLogger;
     @Mock
     private HttpServletRequest httpServletRequest;
+    @Mock
+    private HttpServletResponse httpServletResponse;
 
     private OperationsApiServiceImpl operationsApiService;
 
@@ -106,8 +126,15 @@ class OperationsApiServiceImplTest {
     private static final String RUNNING_PROCESS = "2";
     private static final String ERROR_PROCESS = "3";
     private static final String ABORTED_PROCESS = "4";
+    private static final String LOG_NAME = "OPERATION.log";
+
+    private static final Comparator<Operation> OPERATIONS_PAGING_ORDER = Comparator.comparing((Operation operation) -> operation.getStartedAt()
+                                                                                                                             .toInstant())
+                                                                                   .thenComparing(Operation::getProcessId);
 
     private List<Operation> operations;
+    private Operation pageCursor;
+    private int selectLimit;
     private String processId;
     private List<Operation.State> operationStatesToFilter;
 
@@ -136,7 +163,8 @@ class OperationsApiServiceImplTest {
     void testGetOperations() {
         ResponseEntity<List<Operation>> response = operationsApiService.getOperations(SPACE_GUID, null,
                                                                                       List.of(Operation.State.FINISHED.toString(),
-                                                                                              Operation.State.ABORTED.toString()), 1);
+                                                                                              Operation.State.ABORTED.toString()), 1,
+                                                                                      null, null);
 
         List<Operation> operations = response.getBody();
         assertEquals(2, operations.size());
@@ -149,13 +177,75 @@ class OperationsApiServiceImplTest {
     @Test
     void testGetOperationsNotFound() {
         ResponseEntity<List<Operation>> response = operationsApiService.getOperations(SPACE_GUID, MTA_ID, Collections.singletonList(
-            Operation.State.ACTION_REQUIRED.toString()), 1);
+            Operation.State.ACTION_REQUIRED.toString()), 1, null, null);
 
         List<Operation> operations = response.getBody();
         assertTrue(operations.isEmpty());
 
     }
 
+    @Test
+    void testGetOperationsPage() {
+        ZonedDateTime startedAt = ZonedDateTime.parse("2010-10-08T10:00:00.000Z[UTC]");
+        operations.replaceAll(operation -> ImmutableOperation.copyOf(operation)
+                                                             .withStartedAt(startedAt));
+        List<String> states = List.of(Operation.State.FINISHED.toString(), Operation.State.ABORTED.toString());
+
+        ResponseEntity<List<Operation>> response = operationsApiService.getOperations(SPACE_GUID, null, states, null, 1, null);
+        assertEquals(List.of(operations.get(0)), response.getBody());
+        String continuationToken = response.getHeaders()
+                                           .getFirst(Headers.CONTINUATION_TOKEN);
+        Mockito.verify(operationQuery)
+               .orderByStartTimeAndProcessId(OrderDirection.ASCENDING);
+        Mockito.verify(operationQuery)
+               .limitOnSelect(2);
+
+        response = operationsApiService.getOperations(SPACE_GUID, null, states, null, 2, continuationToken);
+        assertEquals(2, response.getBody()
+                                .size());
+        assertNull(response.getHeaders()
+                           .getFirst(Headers.CONTINUATION_TOKEN));
+        Mockito.verify(operationQuery)
+               .startedAfterOperation(startedAt, FINISHED_PROCESS);
+    }
+
+    @Test
+    void testGetAllOperationsPagesWithEqualStartTimes() {
+        ZonedDateTime startedAt = ZonedDateTime.parse("2010-10-08T10:00:00.000Z[UTC]");
+        operations.clear();
+        for (int i = 0; i < 17; i++) {
+            operations.add(ImmutableOperation.copyOf(createOperation(UUID.randomUUID()
+                                                                         .toString(), Operation.State.FINISHED, Collections.emptyMap()))
+                                             .withStartedAt(startedAt.plusSeconds(i / 6)));
+        }
+        mockOperationsPaging();
+
+        List<Operation> pagedOperations = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            ResponseEntity<List<Operation>> response = operationsApiService.getOperations(SPACE_GUID, null, null, null, 4,
+                                                                                          continuationToken);
+            pagedOperations.addAll(response.getBody());
+            continuationToken = response.getHeaders()
+                                        .getFirst(Headers.CONTINUATION_TOKEN);
+        } while (continuationToken != null);
+
+        assertEquals(operations.stream()
+                               .sorted(OPERATIONS_PAGING_ORDER)
+                               .collect(Collectors.toList()), pagedOperations);
+    }
+
+    @Test
+    void testGetOperationsPageWithInvalidContinuationToken() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> operationsApiService.getOperations(SPACE_GUID, null, null, null, 1, "invalid-token"));
+    }
+
+    @Test
+    void testGetOperationsPageWithLast() {
+        assertThrows(IllegalArgumentException.class, () -> operationsApiService.getOperations(SPACE_GUID, null, null, 1, 1, null));
+    }
+
     @Test
     void testGetOperation() {
         String processId = FINISHED_PROCESS;
@@ -272,23 +362,86 @@ class OperationsApiServiceImplTest {
 
     @Test
     void testGetOperationLogContent() throws Exception {
-        String processId = FINISHED_PROCESS;
-        String logName = "OPERATION.log";
         String expectedLogContent = "somelogcontentstring\n1234";
-        Mockito.when(logsService.getOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName)))
-               .thenReturn(expectedLogContent);
-        ResponseEntity<String> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName);
-        String logContent = response.getBody();
-        assertEquals(expectedLogContent, logContent);
+        mockOperationLogContent(expectedLogContent);
+        ByteArrayServletOutputStream outputStream = mockResponseOutputStream();
+
+        operationsApiService.getOperationLogContent(SPACE_GUID, FINISHED_PROCESS, LOG_NAME, null, httpServletResponse);
+
+        assertEquals(expectedLogContent, outputStream.toString(StandardCharsets.UTF_8));
+        Mockito.verify(httpServletResponse)
+               .setContentType("text/plain;charset=UTF-8");
+        Mockito.verify(httpServletResponse, Mockito.never())
+               .setHeader(Mockito.eq(HttpHeaders.CONTENT_ENCODING), Mockito.anyString());
     }
 
     @Test
-    void testGetOperationLogContentNotFound() throws Exception {
-        String processId = FINISHED_PROCESS;
-        String logName = "OPERATION.log";
-        Mockito.when(logsService.getOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName)))
-               .thenThrow(new NoResultException("log file not found"));
-        Assertions.assertThrows(NoResultException.class, () -> operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName));
+    void testGetOperationLogContentFromOffset() throws Exception {
+        mockOperationLogContent("somelogcontentstring\n1234");
+        ByteArrayServletOutputStream outputStream = mockResponseOutputStream();
+
+        operationsApiService.getOperationLogContent(SPACE_GUID, FINISHED_PROCESS, LOG_NAME, 21L, httpServletResponse);
+
+        assertEquals("1234", outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testGetOperationLogContentWithOffsetAfterTheEnd() throws Exception {
+        mockOperationLogContent("somelogcontentstring\n1234");
+        ByteArrayServletOutputStream outputStream = mockResponseOutputStream();
+
+        operationsApiService.getOperationLogContent(SPACE_GUID, FINISHED_PROCESS, LOG_NAME, 100L, httpServletResponse);
+
+        assertEquals("", outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testGetOperationLogContentWithNegativeOffset() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> operationsApiService.getOperationLogContent(SPACE_GUID, FINISHED_PROCESS, LOG_NAME, -1L, httpServletResponse));
+    }
+
+    @Test
+    void testGetOperationLogContentCompressed() throws Exception {
+        String expectedLogContent = "somelogcontentstring\n1234";
+        mockOperationLogContent(expectedLogContent);
+        Mockito.when(httpServletRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))
+               .thenReturn("gzip, deflate");
+        ByteArrayServletOutputStream outputStream = mockResponseOutputStream();
+
+        operationsApiService.getOperationLogContent(SPACE_GUID, FINISHED_PROCESS, LOG_NAME, null, httpServletResponse);
+
+        try (InputStream logContent = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(expectedLogContent, new String(logContent.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Mockito.verify(httpServletResponse)
+               .setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
+    @Test
+    void testGetOperationLogContentServiceException() throws Exception {
+        Mockito.doThrow(new FileStorageException("something went wrong"))
+               .when(logsService)
+               .consumeOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(FINISHED_PROCESS), Mockito.eq(LOG_NAME), Mockito.any());
+        assertThrows(ContentException.class,
+                     () -> operationsApiService.getOperationLogContent(SPACE_GUID, FINISHED_PROCESS, LOG_NAME, null, httpServletResponse));
+    }
+
+    private void mockOperationLogContent(String logContent) throws FileStorageException {
+        Mockito.doAnswer(invocation -> {
+                   FileContentConsumer logContentConsumer = invocation.getArgument(3);
+                   logContentConsumer.consume(new ByteArrayInputStream(logContent.getBytes(StandardCharsets.UTF_8)));
+                   return null;
+               })
+               .when(logsService)
+               .consumeOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(FINISHED_PROCESS), Mockito.eq(LOG_NAME), Mockito.any());
+    }
+
+    private ByteArrayServletOutputStream mockResponseOutputStream() throws IOException {
+        ByteArrayServletOutputStream outputStream = new ByteArrayServletOutputStream();
+        Mockito.when(httpServletResponse.getOutputStream())
+               .thenReturn(outputStream);
+        return outputStream;
     }
 
     @Test
@@ -440,6 +593,40 @@ class OperationsApiServiceImplTest {
                .list();
     }
 
+    /**
+     * Selects the operations like the database does for the (started_at, process_id) cursor.
+     */
+    private void mockOperationsPaging() {
+        Mockito.when(operationService.createQuery())
+               .thenAnswer(invocation -> {
+                   pageCursor = null;
+                   selectLimit = Integer.MAX_VALUE;
+                   return operationQuery;
+               });
+        Mockito.doAnswer(invocation -> {
+                   pageCursor = ImmutableOperation.copyOf(operations.get(0))
+                                                  .withStartedAt(invocation.getArgument(0))
+                                                  .withProcessId(invocation.<String> getArgument(1));
+                   return operationQuery;
+               })
+               .when(operationQuery)
+               .startedAfterOperation(Mockito.any(), Mockito.anyString());
+        Mockito.doAnswer(invocation -> {
+                   selectLimit = invocation.getArgument(0);
+                   return operationQuery;
+               })
+               .when(operationQuery)
+               .limitOnSelect(Mockito.anyInt());
+        Mockito.doAnswer(invocation -> operations.stream()
+                                                 .filter(operation -> pageCursor == null
+                                                     || OPERATIONS_PAGING_ORDER.compare(operation, pageCursor) > 0)
+                                                 .sorted(OPERATIONS_PAGING_ORDER)
+                                                 .limit(selectLimit)
+                                                 .collect(Collectors.toList()))
+               .when(operationQuery)
+               .list();
+    }
+
     @SuppressWarnings("unchecked")
     private void setupOperationsHelperMock() {
         Mockito.when(operationsHelper.addErrorType(Mockito.any()))
@@ -459,4 +646,33 @@ class OperationsApiServiceImplTest {
                                  .parameters(parameters)
                                  .build();
     }
+
+    private static class ByteArrayServletOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int b) {
+            content.write(b);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            // Not needed for blocking writes
+        }
+
+        byte[] toByteArray() {
+            return content.toByteArray();
+        }
+
+        String toString(Charset charset) {
+            return content.toString(charset);
+        }
+    }
+
 }
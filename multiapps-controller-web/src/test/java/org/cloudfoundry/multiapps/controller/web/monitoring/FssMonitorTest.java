@@ -7,20 +7,27 @@ import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.stream.Stream;
 
-import org.apache.commons.io.FileUtils;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.core.util.TempFileUsageTracker;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.MockitoAnnotations;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class FssMonitorTest {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(FssMonitorTest.class);
+    private static final int TEMP_FILE_SIZE = 1024;
+
     private static Path tempDir;
 
     private FssMonitor fssMonitor;
@@ -51,6 +58,37 @@ class FssMonitorTest {
         assertEquals(expectedResult, actualResult);
     }
 
+    @Test
+    void testGetUsedSpaceWithTrackedTempFile() throws IOException {
+        File path = tempDir.toFile();
+        fssMonitor.calculateUsedSpace(path.getAbsolutePath());
+        Path tempFile = Files.createTempFile(tempDir, null, null);
+        try {
+            Files.write(tempFile, new byte[TEMP_FILE_SIZE]);
+            TempFileUsageTracker.track(TempFileUsageTracker.Category.EXTRACTED_APPLICATION, tempFile);
+
+            assertEquals(TEMP_FILE_SIZE, fssMonitor.calculateUsedSpace(path.getAbsolutePath()));
+        } finally {
+            FileUtils.cleanUp(tempFile, LOGGER);
+        }
+        assertEquals(0, fssMonitor.calculateUsedSpace(path.getAbsolutePath()));
+    }
+
+    @Test
+    void testGetUsedSpaceWithTrackedTempFileOutsideOfPath() throws IOException {
+        File path = tempDir.toFile();
+        fssMonitor.calculateUsedSpace(path.getAbsolutePath());
+        Path tempFile = Files.createTempFile(null, null);
+        try {
+            Files.write(tempFile, new byte[TEMP_FILE_SIZE]);
+            TempFileUsageTracker.track(TempFileUsageTracker.Category.EXTRACTED_APPLICATION, tempFile);
+
+            assertEquals(0, fssMonitor.calculateUsedSpace(path.getAbsolutePath()));
+        } finally {
+            FileUtils.cleanUp(tempFile, LOGGER);
+        }
+    }
+
     static Stream<Arguments> testGetUsedSpace() throws IOException {
         return Stream.of(Arguments.of(tempDir.toFile(), LocalDateTime.now(), 10, 10), Arguments.of(tempDir.toFile(), LocalDateTime.now()
                                                                                                                                   .minusMinutes(
@@ -62,7 +100,7 @@ class FssMonitorTest {
     }
 
     private static long getSizeOfDir(Path filePath) {
-        return FileUtils.sizeOf(filePath.toFile());
+        return org.apache.commons.io.FileUtils.sizeOf(filePath.toFile());
     }
 
 }
@@ -36,9 +36,12 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.server.ResponseStatusException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AuthorizationCheckerTest {
@@ -151,6 +154,28 @@ class AuthorizationCheckerTest {
         assertEquals(HttpStatus.NOT_FOUND, resultException.getStatusCode());
     }
 
+    @Test
+    void testRolesWithoutSpaceDeveloperAreCached() {
+        setUpMocks(EnumSet.of(UserRole.SPACE_AUDITOR), null);
+        authorizationChecker.checkPermissions(getUserInfo(), SPACE_ID.toString(), true);
+        boolean isAuthorized = authorizationChecker.checkPermissions(getUserInfo(), SPACE_ID.toString(), false);
+
+        assertFalse(isAuthorized);
+        verify(rolesGetter).getRoles(SPACE_ID, USER_ID);
+    }
+
+    @Test
+    void testSpaceGuidIsCached() {
+        setUpMocks(EnumSet.of(UserRole.SPACE_DEVELOPER), null);
+        CloudSpaceClient spaceClient = mockSpace();
+        authorizationChecker.checkPermissions(getUserInfo(), ORG, SPACE, false);
+        boolean isAuthorized = authorizationChecker.checkPermissions(getUserInfo(), ORG, SPACE, false);
+
+        assertTrue(isAuthorized);
+        verify(spaceClient).getSpace(ORG, SPACE);
+        verify(rolesGetter).getRoles(SPACE_ID, USER_ID);
+    }
+
     private void setUpMocks(Set<UserRole> spaceRoles, Exception exception) {
         var token = Mockito.mock(OAuth2AccessTokenWithAdditionalInfo.class);
         when(tokenService.getToken(anyString())).thenReturn(token);
@@ -161,12 +186,13 @@ class AuthorizationCheckerTest {
         }
     }
 
-    private void mockSpace() {
+    private CloudSpaceClient mockSpace() {
         CloudOrganization organization = getOrganization();
 
         var spaceClient = Mockito.mock(CloudSpaceClient.class);
         when(spaceClient.getSpace(anyString(), anyString())).thenReturn(getCloudSpace(organization));
         when(clientFactory.createSpaceClient(any())).thenReturn(spaceClient);
+        return spaceClient;
     }
 
     private ImmutableCloudOrganization getOrganization() {